@@ -0,0 +1,100 @@
+package com.limport.tms.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limport.tms.application.event.ExternalEvent;
+import com.limport.tms.domain.event.EventTypes;
+import com.limport.tms.domain.event.IDomainEvent;
+import com.limport.tms.domain.event.states.TransportRequestAssignedEvent;
+import com.limport.tms.domain.event.states.TransportRequestCancelledEvent;
+import com.limport.tms.domain.event.states.TransportRequestCompletedEvent;
+import com.limport.tms.domain.event.states.TransportRequestCreatedEvent;
+import com.limport.tms.domain.event.states.TransportRequestReMatchingTriggeredEvent;
+import com.limport.tms.domain.event.states.TransportRequestUpdatedEvent;
+import com.limport.tms.domain.event.states.TransportRouteOptimizedEvent;
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.infrastructure.config.JacksonConfig;
+import com.limport.tms.infrastructure.event.UnifiedEventSerializer;
+import com.limport.tms.infrastructure.event.consumer.deserializer.ProviderAssignmentResponseEventDeserializer;
+import com.limport.tms.infrastructure.event.consumer.deserializer.ProviderCapacityChangedEventDeserializer;
+import com.limport.tms.infrastructure.event.consumer.deserializer.ProviderMatchedEventDeserializer;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Shared, representative inputs for the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    static final UUID TRANSPORT_REQUEST_ID = UUID.fromString("5b3f8a2e-1c4d-4e6f-9a8b-7c6d5e4f3a2b");
+    static final UUID PROVIDER_ID = UUID.fromString("9e8d7c6b-5a4f-4e3d-8c2b-1a0f9e8d7c6b");
+
+    private BenchmarkFixtures() {
+    }
+
+    static ObjectMapper objectMapper() {
+        return new JacksonConfig().eventObjectMapper();
+    }
+
+    static UnifiedEventSerializer serializer(ObjectMapper objectMapper) {
+        return new UnifiedEventSerializer(objectMapper, List.of(
+            new ProviderMatchedEventDeserializer(),
+            new ProviderAssignmentResponseEventDeserializer(),
+            new ProviderCapacityChangedEventDeserializer()));
+    }
+
+    static IDomainEvent domainEvent(String eventType) {
+        return switch (eventType) {
+            case EventTypes.Transport.Request.CREATED -> new TransportRequestCreatedEvent(
+                TRANSPORT_REQUEST_ID, "user-1", "Johannesburg", "Durban",
+                Map.of("weightKg", 1200.0, "volumeM3", 8.5, "priority", "HIGH"));
+            case EventTypes.Transport.Request.UPDATED -> new TransportRequestUpdatedEvent(
+                TRANSPORT_REQUEST_ID, "user-1", TransportRequestStatus.REQUESTED, TransportRequestStatus.PLANNED,
+                Map.of("pickupWindow", "2025-01-10T08:00Z/2025-01-10T12:00Z"), "Pickup window changed");
+            case EventTypes.Transport.Request.CANCELLED -> new TransportRequestCancelledEvent(
+                TRANSPORT_REQUEST_ID, "user-1", TransportRequestStatus.PLANNED, "Customer cancelled", "user-1");
+            case EventTypes.Transport.Request.COMPLETED -> new TransportRequestCompletedEvent(
+                TRANSPORT_REQUEST_ID, "user-1", TransportRequestStatus.IN_TRANSIT, "Delivered on time");
+            case EventTypes.Transport.Request.ASSIGNED -> new TransportRequestAssignedEvent(
+                TRANSPORT_REQUEST_ID, "user-1", TransportRequestStatus.REQUESTED, PROVIDER_ID,
+                UUID.fromString("0f1e2d3c-4b5a-4968-8776-655443322110"), "Assigned via PMS match");
+            case EventTypes.Transport.Request.REMATCHING_TRIGGERED -> new TransportRequestReMatchingTriggeredEvent(
+                TRANSPORT_REQUEST_ID, "user-1", UUID.fromString("1a2b3c4d-5e6f-4a7b-8c9d-0e1f2a3b4c5d"),
+                PROVIDER_ID, "Acme Haulage", "Vehicle unavailable", 2, 3);
+            case EventTypes.Transport.Route.OPTIMIZED -> new TransportRouteOptimizedEvent(
+                TRANSPORT_REQUEST_ID, "user-1", List.of("Johannesburg", "Harrismith", "Pietermaritzburg", "Durban"),
+                568.4, 372L, "nearest-neighbour");
+            default -> throw new IllegalArgumentException("No fixture for domain event type " + eventType);
+        };
+    }
+
+    static String externalPayload(String eventType) {
+        String occurredOn = Instant.parse("2025-01-10T10:15:30Z").toString();
+        return switch (eventType) {
+            case EventTypes.Provider.MATCHED -> """
+                {"eventId":"%s","eventType":"%s","occurredOn":"%s","transportRequestId":"%s",
+                 "providerId":"%s","providerName":"Acme Haulage","vehicleId":"0f1e2d3c-4b5a-4968-8776-655443322110",
+                 "vehicleType":"RIGID_8T","matchScore":0.92,"estimatedCostZAR":18450.0,"availableCapacityKg":8000.0}
+                """.formatted(UUID.randomUUID(), eventType, occurredOn, TRANSPORT_REQUEST_ID, PROVIDER_ID);
+            case EventTypes.Provider.ASSIGNMENT_RESPONSE -> """
+                {"eventId":"%s","eventType":"%s","occurredOn":"%s","transportRequestId":"%s",
+                 "assignmentId":"1a2b3c4d-5e6f-4a7b-8c9d-0e1f2a3b4c5d","providerId":"%s","providerName":"Acme Haulage",
+                 "response":"ACCEPTED","responseReason":null,"respondedAt":"%s"}
+                """.formatted(UUID.randomUUID(), eventType, occurredOn, TRANSPORT_REQUEST_ID, PROVIDER_ID, occurredOn);
+            case EventTypes.Provider.CAPACITY_CHANGED -> """
+                {"eventId":"%s","eventType":"%s","occurredOn":"%s","providerId":"%s","providerName":"Acme Haulage",
+                 "previousCapacityKg":8000.0,"newCapacityKg":6500.0,"changeReason":"Vehicle in maintenance"}
+                """.formatted(UUID.randomUUID(), eventType, occurredOn, PROVIDER_ID);
+            default -> throw new IllegalArgumentException("No fixture for external event type " + eventType);
+        };
+    }
+
+    /**
+     * Minimal external event used to exercise registries without deserialization cost.
+     */
+    record SyntheticExternalEvent(UUID eventId, String eventType, Instant occurredOn, String sourceService)
+            implements ExternalEvent {
+    }
+}
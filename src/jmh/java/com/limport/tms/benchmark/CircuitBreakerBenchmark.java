@@ -0,0 +1,50 @@
+package com.limport.tms.benchmark;
+
+import com.limport.tms.infrastructure.event.CircuitBreaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-circuit overhead of the breaker guarding the Kafka publisher,
+ * uncontended and with every publisher thread sharing one circuit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CircuitBreakerBenchmark {
+
+    private static final String SERVICE = "kafka-publisher";
+
+    private CircuitBreaker circuitBreaker;
+
+    @Setup
+    public void setUp() {
+        circuitBreaker = new CircuitBreaker(5, 3, 60000);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer executeSingleThread() throws Exception {
+        return circuitBreaker.execute(SERVICE, () -> 1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer executeContended() throws Exception {
+        return circuitBreaker.execute(SERVICE, () -> 1);
+    }
+}
@@ -0,0 +1,61 @@
+package com.limport.tms.benchmark;
+
+import com.limport.tms.domain.event.CorrelationIdContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-event cost of setting up, reading and clearing the correlation context,
+ * and of handing it to another thread through a wrapped task.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CorrelationIdContextBenchmark {
+
+    private static final String CORRELATION_ID = "c0a80101-0000-4000-8000-000000000001";
+    private static final String CAUSATION_ID = "c0a80101-0000-4000-8000-000000000002";
+
+    @Benchmark
+    public String setReadClear() {
+        CorrelationIdContext.setIds(CORRELATION_ID, CAUSATION_ID);
+        try {
+            return CorrelationIdContext.getOrGenerateCorrelationId();
+        } finally {
+            CorrelationIdContext.clear();
+        }
+    }
+
+    @Benchmark
+    public String generateWhenAbsent() {
+        try {
+            return CorrelationIdContext.getOrGenerateCorrelationId();
+        } finally {
+            CorrelationIdContext.clear();
+        }
+    }
+
+    @Benchmark
+    public String wrapAndRun() {
+        CorrelationIdContext.setIds(CORRELATION_ID, CAUSATION_ID);
+        try {
+            Supplier<String> task = CorrelationIdContext::getCorrelationId;
+            return CorrelationIdContext.wrap(task).get();
+        } finally {
+            CorrelationIdContext.clear();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.limport.tms.benchmark;
+
+import com.limport.tms.application.cqrs.ICommand;
+import com.limport.tms.application.cqrs.ICommandHandler;
+import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.cqrs.IQueryHandler;
+import com.limport.tms.infrastructure.cqrs.CommandBus;
+import com.limport.tms.infrastructure.cqrs.QueryBus;
+import com.limport.tms.infrastructure.cqrs.StripedCommandExecutor;
+import com.limport.tms.infrastructure.cqrs.TimingPipelineBehavior;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed overhead the command and query buses add around a trivial handler,
+ * bare and with the timing behavior in the pipeline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CqrsBusBenchmark {
+
+    private CommandBus commandBus;
+    private QueryBus queryBus;
+    private CommandBus timedCommandBus;
+    private QueryBus timedQueryBus;
+    private StripedCommandExecutor asyncExecutor;
+    private final PingCommand command = new PingCommand(42);
+    private final PingQuery query = new PingQuery(42);
+
+    @Setup
+    @SuppressWarnings("rawtypes")
+    public void setUp() {
+        asyncExecutor = new StripedCommandExecutor(new SimpleMeterRegistry(), 1, 16, false);
+        commandBus = new CommandBus(List.<ICommandHandler>of(new PingCommandHandler()), List.of(), asyncExecutor);
+        queryBus = new QueryBus(List.<IQueryHandler>of(new PingQueryHandler()), List.of());
+
+        TimingPipelineBehavior timing = new TimingPipelineBehavior(new SimpleMeterRegistry(), Duration.ofSeconds(1));
+        timedCommandBus = new CommandBus(List.<ICommandHandler>of(new PingCommandHandler()), List.of(timing), asyncExecutor);
+        timedQueryBus = new QueryBus(List.<IQueryHandler>of(new PingQueryHandler()), List.of(timing));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        asyncExecutor.shutdown();
+    }
+
+    @Benchmark
+    public Integer dispatchCommand() {
+        return commandBus.dispatch(command);
+    }
+
+    @Benchmark
+    public Integer dispatchQuery() {
+        return queryBus.dispatch(query);
+    }
+
+    @Benchmark
+    public Integer dispatchCommandTimed() {
+        return timedCommandBus.dispatch(command);
+    }
+
+    @Benchmark
+    public Integer dispatchQueryTimed() {
+        return timedQueryBus.dispatch(query);
+    }
+
+    record PingCommand(int value) implements ICommand<Integer> {
+    }
+
+    record PingQuery(int value) implements IQuery<Integer> {
+    }
+
+    static final class PingCommandHandler implements ICommandHandler<PingCommand, Integer> {
+
+        @Override
+        public Integer handle(PingCommand command) {
+            return command.value();
+        }
+
+        @Override
+        public Class<PingCommand> getCommandType() {
+            return PingCommand.class;
+        }
+    }
+
+    static final class PingQueryHandler implements IQueryHandler<PingQuery, Integer> {
+
+        @Override
+        public Integer handle(PingQuery query) {
+            return query.value();
+        }
+
+        @Override
+        public Class<PingQuery> getQueryType() {
+            return PingQuery.class;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.limport.tms.benchmark;
+
+import com.limport.tms.domain.event.CorrelationIdContext;
+import com.limport.tms.domain.event.states.TransportRequestCreatedEvent;
+import com.limport.tms.domain.service.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating a domain event: event ID generation under contention
+ * (UUID.randomUUID() vs UuidV7Generator) and a full event constructor, which
+ * includes the correlation context lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventConstructionBenchmark {
+
+    private static final UUID TRANSPORT_REQUEST_ID = UUID.fromString("7d444840-9dc0-11d1-b245-5ffdce74fad2");
+    private static final Map<String, Object> DETAILS = Map.of("weightKg", 1200, "priority", "HIGH");
+
+    @Setup
+    public void setUp() {
+        CorrelationIdContext.setIds("c0a80101-0000-4000-8000-000000000001", "c0a80101-0000-4000-8000-000000000002");
+    }
+
+    @TearDown
+    public void tearDown() {
+        CorrelationIdContext.clear();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID randomUuidContended() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID uuidV7Contended() {
+        return UuidV7Generator.next();
+    }
+
+    @Benchmark
+    public TransportRequestCreatedEvent createWithContextLookup() {
+        return new TransportRequestCreatedEvent(TRANSPORT_REQUEST_ID, "user-1", "Johannesburg", "Durban", DETAILS);
+    }
+}
@@ -0,0 +1,119 @@
+package com.limport.tms.benchmark;
+
+import com.limport.tms.application.event.ExternalEvent;
+import com.limport.tms.application.event.ExternalEventHandlerRegistry;
+import com.limport.tms.application.event.IExternalEventHandler;
+import com.limport.tms.application.event.IInternalEventHandler;
+import com.limport.tms.application.event.InternalEventHandlerRegistry;
+import com.limport.tms.domain.event.EventTypes;
+import com.limport.tms.domain.event.IDomainEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handler lookup and dispatch cost as the number of registered handlers grows.
+ * Events target the last registered handler, the worst case for a linear scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventHandlerRegistryBenchmark {
+
+    @Param({"3", "10", "50"})
+    public int handlerCount;
+
+    private ExternalEventHandlerRegistry externalRegistry;
+    private InternalEventHandlerRegistry internalRegistry;
+    private ExternalEvent externalEvent;
+    private IDomainEvent domainEvent;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        List<IExternalEventHandler<? extends ExternalEvent>> externalHandlers = new ArrayList<>();
+        List<IInternalEventHandler<? extends IDomainEvent>> internalHandlers = new ArrayList<>();
+        for (int i = 0; i < handlerCount - 1; i++) {
+            externalHandlers.add(new ExternalHandler("Synthetic.External." + i, blackhole));
+            internalHandlers.add(new InternalHandler("Synthetic.Internal." + i, blackhole));
+        }
+        externalHandlers.add(new ExternalHandler(EventTypes.Provider.MATCHED, blackhole));
+        internalHandlers.add(new InternalHandler(EventTypes.Transport.Request.ASSIGNED, blackhole));
+
+        externalRegistry = new ExternalEventHandlerRegistry(externalHandlers);
+        internalRegistry = new InternalEventHandlerRegistry(internalHandlers);
+        externalEvent = new BenchmarkFixtures.SyntheticExternalEvent(
+            UUID.randomUUID(), EventTypes.Provider.MATCHED, Instant.now(), "pms");
+        domainEvent = BenchmarkFixtures.domainEvent(EventTypes.Transport.Request.ASSIGNED);
+    }
+
+    @Benchmark
+    public boolean dispatchExternal() {
+        return externalRegistry.dispatch(externalEvent);
+    }
+
+    @Benchmark
+    public boolean dispatchInternal() {
+        return internalRegistry.dispatch(domainEvent);
+    }
+
+    @Benchmark
+    public boolean hasExternalHandler() {
+        return externalRegistry.hasHandler(EventTypes.Provider.MATCHED);
+    }
+
+    private record ExternalHandler(String eventType, Blackhole blackhole)
+            implements IExternalEventHandler<ExternalEvent> {
+
+        @Override
+        public void handle(ExternalEvent event) {
+            blackhole.consume(event);
+        }
+
+        @Override
+        public String getSupportedEventType() {
+            return eventType;
+        }
+
+        @Override
+        public Class<ExternalEvent> getEventClass() {
+            return ExternalEvent.class;
+        }
+    }
+
+    private record InternalHandler(String eventType, Blackhole blackhole)
+            implements IInternalEventHandler<IDomainEvent> {
+
+        @Override
+        public void handle(IDomainEvent event) {
+            blackhole.consume(event);
+        }
+
+        @Override
+        public String getSupportedEventType() {
+            return eventType;
+        }
+
+        @Override
+        public Class<IDomainEvent> getEventClass() {
+            return IDomainEvent.class;
+        }
+    }
+}
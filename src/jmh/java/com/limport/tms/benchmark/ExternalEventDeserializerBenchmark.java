@@ -0,0 +1,73 @@
+package com.limport.tms.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limport.tms.application.event.ExternalEvent;
+import com.limport.tms.domain.event.EventTypes;
+import com.limport.tms.infrastructure.event.UnifiedEventSerializer;
+import com.limport.tms.infrastructure.event.consumer.IEventDeserializer;
+import com.limport.tms.infrastructure.event.consumer.deserializer.ProviderAssignmentResponseEventDeserializer;
+import com.limport.tms.infrastructure.event.consumer.deserializer.ProviderCapacityChangedEventDeserializer;
+import com.limport.tms.infrastructure.event.consumer.deserializer.ProviderMatchedEventDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inbound path for external events: full payload parsing through the serializer,
+ * and the field-mapping cost of each deserializer on a pre-parsed tree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExternalEventDeserializerBenchmark {
+
+    @Param({
+        EventTypes.Provider.MATCHED,
+        EventTypes.Provider.ASSIGNMENT_RESPONSE,
+        EventTypes.Provider.CAPACITY_CHANGED
+    })
+    public String eventType;
+
+    private UnifiedEventSerializer serializer;
+    private IEventDeserializer<? extends ExternalEvent> deserializer;
+    private String payload;
+    private JsonNode tree;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        serializer = BenchmarkFixtures.serializer(objectMapper);
+        deserializer = switch (eventType) {
+            case EventTypes.Provider.MATCHED -> new ProviderMatchedEventDeserializer();
+            case EventTypes.Provider.ASSIGNMENT_RESPONSE -> new ProviderAssignmentResponseEventDeserializer();
+            default -> new ProviderCapacityChangedEventDeserializer();
+        };
+        payload = BenchmarkFixtures.externalPayload(eventType);
+        tree = objectMapper.readTree(payload);
+    }
+
+    @Benchmark
+    public Optional<ExternalEvent> deserializeFromPayload() {
+        return serializer.deserializeExternalEvent(payload);
+    }
+
+    @Benchmark
+    public ExternalEvent deserializeFromTree() {
+        return deserializer.deserialize(tree);
+    }
+}
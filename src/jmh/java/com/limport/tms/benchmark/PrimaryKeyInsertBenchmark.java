@@ -0,0 +1,121 @@
+package com.limport.tms.benchmark;
+
+import com.limport.tms.domain.event.EventTypes;
+import com.limport.tms.domain.service.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput and primary key index size on Postgres for random (v4)
+ * vs time-ordered (v7) UUID keys, on a table shaped like outbox_events.
+ *
+ * Each operation inserts one JDBC batch; rows/s = ops/s x batchSize. The table keeps
+ * growing across iterations, so later iterations measure inserts into a large index.
+ * Index size and leaf density (pgstattuple's pgstatindex) are printed at the end of each trial.
+ *
+ * Needs Docker for the Testcontainers Postgres instance.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimaryKeyInsertBenchmark {
+
+    @Param({"v4", "v7"})
+    public String idVersion;
+
+    @Param({"500"})
+    public int batchSize;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+    private String payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        payload = BenchmarkFixtures.serializer(BenchmarkFixtures.objectMapper())
+            .serialize(BenchmarkFixtures.domainEvent(EventTypes.Transport.Request.CREATED));
+
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+            ddl.execute("""
+                CREATE TABLE bench_events (
+                    id UUID PRIMARY KEY,
+                    event_type VARCHAR(255) NOT NULL,
+                    payload TEXT NOT NULL,
+                    created_at TIMESTAMP NOT NULL
+                )""");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement(
+            "INSERT INTO bench_events (id, event_type, payload, created_at) VALUES (?, ?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement stats = connection.createStatement();
+             ResultSet rs = stats.executeQuery("""
+                 SELECT count(*), pg_relation_size('bench_events_pkey'), pg_relation_size('bench_events'),
+                        (SELECT avg_leaf_density FROM pgstatindex('bench_events_pkey'))
+                 FROM bench_events""")) {
+            rs.next();
+            long rows = rs.getLong(1);
+            long indexBytes = rs.getLong(2);
+            System.out.printf("%n[%s] rows=%d pkeyIndex=%d kB (%.1f B/row) leafDensity=%.1f%% table=%d kB%n",
+                idVersion, rows, indexBytes / 1024, (double) indexBytes / Math.max(rows, 1), rs.getDouble(4),
+                rs.getLong(3) / 1024);
+        } finally {
+            connection.close();
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int i = 0; i < batchSize; i++) {
+            insert.setObject(1, nextId());
+            insert.setString(2, EventTypes.Transport.Request.CREATED);
+            insert.setString(3, payload);
+            insert.setTimestamp(4, now);
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    private UUID nextId() {
+        return "v7".equals(idVersion) ? UuidV7Generator.next() : UUID.randomUUID();
+    }
+}
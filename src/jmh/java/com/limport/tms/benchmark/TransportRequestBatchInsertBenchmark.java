@@ -0,0 +1,154 @@
+package com.limport.tms.benchmark;
+
+import com.limport.tms.domain.event.EventTypes;
+import com.limport.tms.domain.model.entity.OutboxEvent;
+import com.limport.tms.domain.model.entity.TransportRequest;
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.service.UuidV7Generator;
+import com.limport.tms.infrastructure.repository.OutboxEventRepositoryAdapter;
+import com.limport.tms.infrastructure.repository.TransportRequestRepositoryAdapter;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to persist a 10k-item manifest (transport requests plus one outbox row each) on
+ * Postgres with the real Flyway schema: chunked JDBC batch inserts, one transaction per
+ * chunk, vs one transaction per item as the single-create endpoint does.
+ *
+ * The per-item variant uses the same JDBC inserts, so it understates the single-create
+ * cost (which also pays a JPA merge SELECT and an outbox COUNT per item).
+ *
+ * Needs Docker for the Testcontainers Postgres instance.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransportRequestBatchInsertBenchmark {
+
+    @Param({"10000"})
+    public int items;
+
+    @Param({"500"})
+    public int chunkSize;
+
+    private PostgreSQLContainer<?> postgres;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private TransportRequestRepositoryAdapter requestRepository;
+    private OutboxEventRepositoryAdapter outboxRepository;
+    private String payload;
+
+    private List<TransportRequest> requests;
+    private List<OutboxEvent> outboxEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            postgres.getJdbcUrl() + "&reWriteBatchedInserts=true", postgres.getUsername(), postgres.getPassword());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        // insertAll only needs JDBC; the JPA collaborators are not used
+        requestRepository = new TransportRequestRepositoryAdapter(null, null, null, jdbcTemplate, null, 0);
+        outboxRepository = new OutboxEventRepositoryAdapter(null, null, jdbcTemplate);
+        payload = BenchmarkFixtures.serializer(BenchmarkFixtures.objectMapper())
+            .serialize(BenchmarkFixtures.domainEvent(EventTypes.Transport.Request.CREATED));
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareManifest() {
+        jdbcTemplate.execute("TRUNCATE transport_requests, outbox_events CASCADE");
+        requests = new ArrayList<>(items);
+        outboxEvents = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            TransportRequest request = newRequest(i);
+            requests.add(request);
+            outboxEvents.add(new OutboxEvent(EventTypes.Transport.Request.CREATED, "TransportRequest",
+                request.getId().toString(), payload, Instant.now()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        postgres.stop();
+    }
+
+    @Benchmark
+    public int chunkedBatch() {
+        for (int from = 0; from < items; from += chunkSize) {
+            int to = Math.min(from + chunkSize, items);
+            List<TransportRequest> requestChunk = requests.subList(from, to);
+            List<OutboxEvent> outboxChunk = outboxEvents.subList(from, to);
+            transactionTemplate.executeWithoutResult(status -> {
+                requestRepository.insertAll(requestChunk);
+                outboxRepository.insertAll(outboxChunk);
+            });
+        }
+        return items;
+    }
+
+    @Benchmark
+    public int transactionPerItem() {
+        for (int i = 0; i < items; i++) {
+            List<TransportRequest> request = List.of(requests.get(i));
+            List<OutboxEvent> outboxEvent = List.of(outboxEvents.get(i));
+            transactionTemplate.executeWithoutResult(status -> {
+                requestRepository.insertAll(request);
+                outboxRepository.insertAll(outboxEvent);
+            });
+        }
+        return items;
+    }
+
+    private static TransportRequest newRequest(int i) {
+        LocalDateTime pickup = LocalDateTime.of(2026, 3, 1, 8, 0).plusMinutes(i);
+        Instant now = Instant.now();
+        TransportRequest request = new TransportRequest();
+        request.setId(UuidV7Generator.next());
+        request.setReference("TR-BENCH-" + i);
+        request.setCustomerId("customer-" + (i % 50));
+        request.setOriginLocationCode("JNB");
+        request.setDestinationLocationCode("DUR");
+        request.setPickupFrom(pickup);
+        request.setPickupUntil(pickup.plusHours(4));
+        request.setDeliveryFrom(pickup.plusHours(22));
+        request.setDeliveryUntil(pickup.plusHours(24));
+        request.setTotalWeight(new BigDecimal("1250.50"));
+        request.setTotalPackages(12);
+        request.setStatus(TransportRequestStatus.REQUESTED);
+        request.setCreatedAt(now);
+        request.setLastUpdatedAt(now);
+        return request;
+    }
+}
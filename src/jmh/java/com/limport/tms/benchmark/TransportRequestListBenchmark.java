@@ -0,0 +1,170 @@
+package com.limport.tms.benchmark;
+
+import com.limport.tms.application.dto.response.TransportRequestResponse;
+import com.limport.tms.application.mapper.TransportRequestMapper;
+import com.limport.tms.domain.model.entity.TransportRequest;
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.port.repository.TransportRequestSearchCriteria;
+import com.limport.tms.domain.service.UuidV7Generator;
+import com.limport.tms.infrastructure.persistence.entity.TransportRequestJpaEntity;
+import com.limport.tms.infrastructure.persistence.mapper.TransportRequestEntityMapper;
+import com.limport.tms.infrastructure.repository.TransportRequestRepositoryAdapter;
+import com.limport.tms.infrastructure.repository.jpa.TransportRequestSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.flywaydb.core.Flyway;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Time to read one page of GET /api/transport-requests on Postgres with the real Flyway
+ * schema: managed entities mapped to domain objects and then to responses (the previous
+ * read path), vs constructor-expression views mapped straight to responses.
+ *
+ * Both run in a read-only session with manual flush, as @Transactional(readOnly = true)
+ * configures it, so the difference is hydration, persistence context bookkeeping and the
+ * extra mapping step rather than dirty checking.
+ *
+ * Needs Docker for the Testcontainers Postgres instance.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransportRequestListBenchmark {
+
+    @Param({"50", "200"})
+    public int pageSize;
+
+    @Param({"10000"})
+    public int rows;
+
+    private PostgreSQLContainer<?> postgres;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private TransportRequestRepositoryAdapter repository;
+    private final TransportRequestEntityMapper entityMapper = new TransportRequestEntityMapper();
+    private final TransportRequestMapper responseMapper = new TransportRequestMapper();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            postgres.getJdbcUrl() + "&reWriteBatchedInserts=true", postgres.getUsername(), postgres.getPassword());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        // Seeding only needs JDBC
+        TransportRequestRepositoryAdapter seeder =
+            new TransportRequestRepositoryAdapter(null, null, null, new JdbcTemplate(dataSource), null, 0);
+        List<TransportRequest> requests = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            requests.add(newRequest(i));
+        }
+        seeder.insertAll(requests);
+
+        Configuration configuration = new Configuration()
+            .addAnnotatedClass(TransportRequestJpaEntity.class);
+        configuration.getProperties().put("hibernate.connection.datasource", dataSource);
+        sessionFactory = configuration.buildSessionFactory();
+        entityManager = sessionFactory.createEntityManager();
+        Session session = entityManager.unwrap(Session.class);
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+
+        // The view queries only need the entity manager
+        repository = new TransportRequestRepositoryAdapter(null, entityMapper, null, null, entityManager, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<TransportRequestResponse> managedEntities() {
+        return readOnly(() -> {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<TransportRequestJpaEntity> query = cb.createQuery(TransportRequestJpaEntity.class);
+            Root<TransportRequestJpaEntity> root = query.from(TransportRequestJpaEntity.class);
+            query.where(TransportRequestSpecifications.matching(TransportRequestSearchCriteria.NONE)
+                    .toPredicate(root, query, cb))
+                .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+            return entityManager.createQuery(query).setMaxResults(pageSize).getResultList().stream()
+                .map(entityMapper::toDomain)
+                .map(responseMapper::toResponse)
+                .toList();
+        });
+    }
+
+    @Benchmark
+    public List<TransportRequestResponse> projectedViews() {
+        return readOnly(() -> repository.searchViews(TransportRequestSearchCriteria.NONE, null, pageSize).stream()
+            .map(responseMapper::toResponse)
+            .toList());
+    }
+
+    private <T> T readOnly(Supplier<T> work) {
+        entityManager.getTransaction().begin();
+        try {
+            return work.get();
+        } finally {
+            entityManager.getTransaction().rollback();
+            entityManager.clear();
+        }
+    }
+
+    private static TransportRequest newRequest(int i) {
+        LocalDateTime pickup = LocalDateTime.of(2026, 3, 1, 8, 0).plusMinutes(i);
+        Instant now = Instant.now();
+        TransportRequest request = new TransportRequest();
+        request.setId(UuidV7Generator.next());
+        request.setReference("TR-LIST-" + i);
+        request.setCustomerId("customer-" + (i % 50));
+        request.setOriginLocationCode("JNB");
+        request.setDestinationLocationCode("DUR");
+        request.setPickupFrom(pickup);
+        request.setPickupUntil(pickup.plusHours(4));
+        request.setDeliveryFrom(pickup.plusHours(22));
+        request.setDeliveryUntil(pickup.plusHours(24));
+        request.setTotalWeight(new BigDecimal("1250.50"));
+        request.setTotalPackages(12);
+        request.setStatus(TransportRequestStatus.REQUESTED);
+        request.setCreatedAt(now);
+        request.setLastUpdatedAt(now);
+        return request;
+    }
+}
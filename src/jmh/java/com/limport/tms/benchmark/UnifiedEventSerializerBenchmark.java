@@ -0,0 +1,55 @@
+package com.limport.tms.benchmark;
+
+import com.limport.tms.domain.event.EventTypes;
+import com.limport.tms.domain.event.IDomainEvent;
+import com.limport.tms.infrastructure.event.UnifiedEventSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox write path: serializing every domain event type into its outbox payload.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnifiedEventSerializerBenchmark {
+
+    @Param({
+        EventTypes.Transport.Request.CREATED,
+        EventTypes.Transport.Request.UPDATED,
+        EventTypes.Transport.Request.CANCELLED,
+        EventTypes.Transport.Request.COMPLETED,
+        EventTypes.Transport.Request.ASSIGNED,
+        EventTypes.Transport.Request.REMATCHING_TRIGGERED,
+        EventTypes.Transport.Route.OPTIMIZED
+    })
+    public String eventType;
+
+    private UnifiedEventSerializer serializer;
+    private IDomainEvent event;
+
+    @Setup
+    public void setUp() {
+        serializer = BenchmarkFixtures.serializer(BenchmarkFixtures.objectMapper());
+        event = BenchmarkFixtures.domainEvent(eventType);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return serializer.serialize(event);
+    }
+}
@@ -1,6 +1,6 @@
 package com.limport.tms.application.command;
 
-import com.limport.tms.application.cqrs.ICommand;
+import com.limport.tms.application.cqrs.IAggregateCommand;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
 
 import java.util.UUID;
@@ -8,7 +8,7 @@ import java.util.UUID;
 /**
  * Command to assign a provider to a transport request.
  */
-public class AssignProviderCommand implements ICommand<TransportRequestResponse> {
+public class AssignProviderCommand implements IAggregateCommand<TransportRequestResponse> {
 
     private UUID transportRequestId;
     private UUID providerId;
@@ -45,4 +45,9 @@ public class AssignProviderCommand implements ICommand<TransportRequestResponse>
     public void setVehicleId(UUID vehicleId) {
         this.vehicleId = vehicleId;
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return transportRequestId;
+    }
 }
@@ -1,6 +1,6 @@
 package com.limport.tms.application.command;
 
-import com.limport.tms.application.cqrs.ICommand;
+import com.limport.tms.application.cqrs.IAggregateCommand;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
 
 import java.time.LocalDateTime;
@@ -9,7 +9,7 @@ import java.util.UUID;
 /**
  * Command to assign an existing transport request to a provider and vehicle.
  */
-public class AssignProviderToTransportRequestCommand implements ICommand<TransportRequestResponse> {
+public class AssignProviderToTransportRequestCommand implements IAggregateCommand<TransportRequestResponse> {
 
     private UUID transportRequestId;
     private String providerId;
@@ -65,4 +65,9 @@ public class AssignProviderToTransportRequestCommand implements ICommand<Transpo
     public void setAssignmentNotes(String assignmentNotes) {
         this.assignmentNotes = assignmentNotes;
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return transportRequestId;
+    }
 }
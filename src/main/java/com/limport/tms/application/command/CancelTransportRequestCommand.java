@@ -1,6 +1,6 @@
 package com.limport.tms.application.command;
 
-import com.limport.tms.application.cqrs.ICommand;
+import com.limport.tms.application.cqrs.IAggregateCommand;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
 
 import java.util.UUID;
@@ -8,7 +8,7 @@ import java.util.UUID;
 /**
  * Command representing the intent to cancel a transport request.
  */
-public class CancelTransportRequestCommand implements ICommand<TransportRequestResponse> {
+public class CancelTransportRequestCommand implements IAggregateCommand<TransportRequestResponse> {
 
     private UUID transportRequestId;
     private String reason;
@@ -28,4 +28,9 @@ public class CancelTransportRequestCommand implements ICommand<TransportRequestR
     public void setReason(String reason) {
         this.reason = reason;
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return transportRequestId;
+    }
 }
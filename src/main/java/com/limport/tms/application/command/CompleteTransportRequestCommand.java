@@ -1,6 +1,6 @@
 package com.limport.tms.application.command;
 
-import com.limport.tms.application.cqrs.ICommand;
+import com.limport.tms.application.cqrs.IAggregateCommand;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
 
 import java.time.Instant;
@@ -9,7 +9,7 @@ import java.util.UUID;
 /**
  * Command representing the completion of a transport request.
  */
-public class CompleteTransportRequestCommand implements ICommand<TransportRequestResponse> {
+public class CompleteTransportRequestCommand implements IAggregateCommand<TransportRequestResponse> {
 
     private UUID transportRequestId;
     private Instant completedAt;
@@ -29,4 +29,9 @@ public class CompleteTransportRequestCommand implements ICommand<TransportReques
     public void setCompletedAt(Instant completedAt) {
         this.completedAt = completedAt;
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return transportRequestId;
+    }
 }
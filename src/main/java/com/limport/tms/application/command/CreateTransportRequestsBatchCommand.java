@@ -0,0 +1,23 @@
+package com.limport.tms.application.command;
+
+import com.limport.tms.application.cqrs.ICommand;
+import com.limport.tms.application.dto.request.CreateTransportRequest;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse;
+
+import java.util.List;
+
+/**
+ * Command representing the intent to create many transport requests in one call.
+ */
+public class CreateTransportRequestsBatchCommand implements ICommand<BatchCreateTransportRequestsResponse> {
+
+    private List<CreateTransportRequest> items;
+
+    public List<CreateTransportRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CreateTransportRequest> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,10 @@
+package com.limport.tms.application.command;
+
+import com.limport.tms.application.cqrs.ICommand;
+
+/**
+ * Command representing the intent to discard and recompute the dashboard read model.
+ * Result is the number of transport requests in the rebuilt model.
+ */
+public class RebuildDashboardReadModelCommand implements ICommand<Integer> {
+}
@@ -0,0 +1,26 @@
+package com.limport.tms.application.command;
+
+import com.limport.tms.application.cqrs.ICommand;
+
+/**
+ * Command representing the intent to reset a projection and replay the event log into it.
+ * Result is the number of events replayed.
+ */
+public class RebuildProjectionCommand implements ICommand<Long> {
+
+    private final String projectionName;
+    private final int partitions;
+
+    public RebuildProjectionCommand(String projectionName, int partitions) {
+        this.projectionName = projectionName;
+        this.partitions = partitions;
+    }
+
+    public String getProjectionName() {
+        return projectionName;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+}
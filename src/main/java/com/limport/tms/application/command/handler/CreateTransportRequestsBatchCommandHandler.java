@@ -0,0 +1,32 @@
+package com.limport.tms.application.command.handler;
+
+import com.limport.tms.application.command.CreateTransportRequestsBatchCommand;
+import com.limport.tms.application.cqrs.ICommandHandler;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse;
+import com.limport.tms.application.service.interfaces.ITransportRequestCommandService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler for CreateTransportRequestsBatchCommand.
+ * Delegates to the command service, which validates every item and persists them in chunks.
+ */
+@Component
+public class CreateTransportRequestsBatchCommandHandler
+        implements ICommandHandler<CreateTransportRequestsBatchCommand, BatchCreateTransportRequestsResponse> {
+
+    private final ITransportRequestCommandService commandService;
+
+    public CreateTransportRequestsBatchCommandHandler(ITransportRequestCommandService commandService) {
+        this.commandService = commandService;
+    }
+
+    @Override
+    public BatchCreateTransportRequestsResponse handle(CreateTransportRequestsBatchCommand command) {
+        return commandService.createTransportRequests(command.getItems());
+    }
+
+    @Override
+    public Class<CreateTransportRequestsBatchCommand> getCommandType() {
+        return CreateTransportRequestsBatchCommand.class;
+    }
+}
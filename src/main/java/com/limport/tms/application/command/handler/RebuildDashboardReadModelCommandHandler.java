@@ -0,0 +1,30 @@
+package com.limport.tms.application.command.handler;
+
+import com.limport.tms.application.command.RebuildDashboardReadModelCommand;
+import com.limport.tms.application.cqrs.ICommandHandler;
+import com.limport.tms.application.service.interfaces.IReadModelUpdater;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler for RebuildDashboardReadModelCommand.
+ */
+@Component
+public class RebuildDashboardReadModelCommandHandler
+        implements ICommandHandler<RebuildDashboardReadModelCommand, Integer> {
+
+    private final IReadModelUpdater readModelUpdater;
+
+    public RebuildDashboardReadModelCommandHandler(IReadModelUpdater readModelUpdater) {
+        this.readModelUpdater = readModelUpdater;
+    }
+
+    @Override
+    public Integer handle(RebuildDashboardReadModelCommand command) {
+        return readModelUpdater.rebuild();
+    }
+
+    @Override
+    public Class<RebuildDashboardReadModelCommand> getCommandType() {
+        return RebuildDashboardReadModelCommand.class;
+    }
+}
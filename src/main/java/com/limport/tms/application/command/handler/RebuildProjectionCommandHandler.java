@@ -0,0 +1,29 @@
+package com.limport.tms.application.command.handler;
+
+import com.limport.tms.application.command.RebuildProjectionCommand;
+import com.limport.tms.application.cqrs.ICommandHandler;
+import com.limport.tms.application.projection.ProjectionEngine;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler for RebuildProjectionCommand.
+ */
+@Component
+public class RebuildProjectionCommandHandler implements ICommandHandler<RebuildProjectionCommand, Long> {
+
+    private final ProjectionEngine projectionEngine;
+
+    public RebuildProjectionCommandHandler(ProjectionEngine projectionEngine) {
+        this.projectionEngine = projectionEngine;
+    }
+
+    @Override
+    public Long handle(RebuildProjectionCommand command) {
+        return projectionEngine.rebuild(command.getProjectionName(), command.getPartitions());
+    }
+
+    @Override
+    public Class<RebuildProjectionCommand> getCommandType() {
+        return RebuildProjectionCommand.class;
+    }
+}
@@ -0,0 +1,28 @@
+package com.limport.tms.application.cqrs;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caps how many calls of a command or query handler may run at once.
+ * Callers over the limit wait up to {@link #acquireTimeoutMs()} and are then rejected
+ * with {@link ConcurrencyLimitExceededException}.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimit {
+
+    /**
+     * Maximum concurrent executions.
+     */
+    int value();
+
+    /**
+     * How long a caller waits for a slot before being rejected.
+     */
+    long acquireTimeoutMs() default 0;
+}
@@ -0,0 +1,11 @@
+package com.limport.tms.application.cqrs;
+
+/**
+ * Thrown when a handler annotated with {@link ConcurrencyLimit} has no free slot.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
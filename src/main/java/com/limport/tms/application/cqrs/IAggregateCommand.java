@@ -0,0 +1,17 @@
+package com.limport.tms.application.cqrs;
+
+import java.util.UUID;
+
+/**
+ * A command that targets one existing aggregate.
+ * Asynchronous dispatch runs commands for the same aggregate one at a time, in order.
+ *
+ * @param <R> The result type
+ */
+public interface IAggregateCommand<R> extends ICommand<R> {
+
+    /**
+     * The aggregate this command changes.
+     */
+    UUID getAggregateId();
+}
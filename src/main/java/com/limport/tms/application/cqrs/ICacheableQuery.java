@@ -0,0 +1,15 @@
+package com.limport.tms.application.cqrs;
+
+/**
+ * A query whose result may be cached by the query bus.
+ *
+ * @param <R> The result type
+ */
+public interface ICacheableQuery<R> extends IQuery<R> {
+
+    /**
+     * Identifies the result within this query type, usually the aggregate ID.
+     * Its toString() must identify it too, as that is what is broadcast to other nodes.
+     */
+    Object cacheKey();
+}
@@ -0,0 +1,21 @@
+package com.limport.tms.application.cqrs;
+
+/**
+ * Cross-cutting middleware for the command bus (timing, limits, ...).
+ *
+ * Behaviors are applied once per command type when the bus starts, so dispatch only
+ * walks an already-built chain. Ordered by @Order / Ordered; the first behavior is outermost.
+ */
+public interface ICommandBehavior {
+
+    /**
+     * Wrap the rest of the pipeline for one command type.
+     *
+     * @param commandType The command class the pipeline is built for
+     * @param handler The handler at the end of the pipeline
+     * @param next The rest of the pipeline
+     * @return The wrapped pipeline, or {@code next} if the behavior does not apply
+     */
+    IPipelineInvoker<ICommand<?>> wrap(
+        Class<?> commandType, ICommandHandler<?, ?> handler, IPipelineInvoker<ICommand<?>> next);
+}
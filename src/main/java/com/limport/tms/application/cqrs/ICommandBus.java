@@ -1,5 +1,7 @@
 package com.limport.tms.application.cqrs;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Dispatches commands to their appropriate handlers.
  * Acts as a mediator in the CQRS pattern.
@@ -14,4 +16,15 @@ public interface ICommandBus {
      * @return The result of handling the command
      */
     <R> R dispatch(ICommand<R> command);
+
+    /**
+     * Dispatch a command on a background executor.
+     * Commands implementing {@link IAggregateCommand} are serialized per aggregate;
+     * the future fails with a RejectedExecutionException if the aggregate's queue is full.
+     *
+     * @param command The command to dispatch
+     * @param <R> The result type
+     * @return Future completing with the result of handling the command
+     */
+    <R> CompletableFuture<R> dispatchAsync(ICommand<R> command);
 }
@@ -0,0 +1,18 @@
+package com.limport.tms.application.cqrs;
+
+/**
+ * One step of a precompiled command or query pipeline.
+ * Invokes the next behavior, or the handler itself at the end of the chain.
+ *
+ * @param <M> The command or query type
+ */
+@FunctionalInterface
+public interface IPipelineInvoker<M> {
+
+    /**
+     * Run this step for the given command or query.
+     *
+     * @return The handler result
+     */
+    Object invoke(M request);
+}
@@ -0,0 +1,21 @@
+package com.limport.tms.application.cqrs;
+
+/**
+ * Cross-cutting middleware for the query bus (timing, caching, limits, ...).
+ *
+ * Behaviors are applied once per query type when the bus starts, so dispatch only
+ * walks an already-built chain. Ordered by @Order / Ordered; the first behavior is outermost.
+ */
+public interface IQueryBehavior {
+
+    /**
+     * Wrap the rest of the pipeline for one query type.
+     *
+     * @param queryType The query class the pipeline is built for
+     * @param handler The handler at the end of the pipeline
+     * @param next The rest of the pipeline
+     * @return The wrapped pipeline, or {@code next} if the behavior does not apply
+     */
+    IPipelineInvoker<IQuery<?>> wrap(
+        Class<?> queryType, IQueryHandler<?, ?> handler, IPipelineInvoker<IQuery<?>> next);
+}
@@ -0,0 +1,21 @@
+package com.limport.tms.application.cqrs;
+
+/**
+ * Hook for evicting cached query results when the underlying data changes.
+ *
+ * Inside a transaction, entries are evicted immediately and again after commit,
+ * so a read racing the write cannot re-cache the old value. Other nodes are told
+ * to evict once the change is committed.
+ */
+public interface IQueryCacheInvalidator {
+
+    /**
+     * Evict one cached result.
+     */
+    void invalidate(Class<? extends ICacheableQuery<?>> queryType, Object cacheKey);
+
+    /**
+     * Evict every cached result of a query type.
+     */
+    void invalidateAll(Class<? extends ICacheableQuery<?>> queryType);
+}
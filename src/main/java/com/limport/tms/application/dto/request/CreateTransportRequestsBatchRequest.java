@@ -0,0 +1,28 @@
+package com.limport.tms.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request payload for creating many transport requests at once (e.g. a shipment manifest).
+ *
+ * Items are deliberately not cascaded with @Valid: each item is validated on its own
+ * and reported in the per-item results, so one bad row does not reject the manifest.
+ */
+public class CreateTransportRequestsBatchRequest {
+
+    public static final int MAX_ITEMS = 10_000;
+
+    @NotEmpty
+    @Size(max = MAX_ITEMS)
+    private List<CreateTransportRequest> items;
+
+    public List<CreateTransportRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CreateTransportRequest> items) {
+        this.items = items;
+    }
+}
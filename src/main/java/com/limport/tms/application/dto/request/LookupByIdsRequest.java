@@ -0,0 +1,28 @@
+package com.limport.tms.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request payload for batch lookups: the IDs of the rows a list view is about to render.
+ * Duplicates are allowed and answered once.
+ */
+public class LookupByIdsRequest {
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty
+    @Size(max = MAX_IDS)
+    private List<@NotNull UUID> ids;
+
+    public List<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<UUID> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,66 @@
+package com.limport.tms.application.dto.response;
+
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Row of the operational dashboard: a transport request that is planned or in transit.
+ */
+public class ActiveAssignmentResponse {
+
+    private final UUID transportRequestId;
+    private final String customerId;
+    private final String originLocationCode;
+    private final String destinationLocationCode;
+    private final TransportRequestStatus status;
+    private final UUID providerId;
+    private final UUID vehicleId;
+    private final Instant assignedAt;
+
+    public ActiveAssignmentResponse(UUID transportRequestId, String customerId, String originLocationCode,
+                                    String destinationLocationCode, TransportRequestStatus status,
+                                    UUID providerId, UUID vehicleId, Instant assignedAt) {
+        this.transportRequestId = transportRequestId;
+        this.customerId = customerId;
+        this.originLocationCode = originLocationCode;
+        this.destinationLocationCode = destinationLocationCode;
+        this.status = status;
+        this.providerId = providerId;
+        this.vehicleId = vehicleId;
+        this.assignedAt = assignedAt;
+    }
+
+    public UUID getTransportRequestId() {
+        return transportRequestId;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public String getOriginLocationCode() {
+        return originLocationCode;
+    }
+
+    public String getDestinationLocationCode() {
+        return destinationLocationCode;
+    }
+
+    public TransportRequestStatus getStatus() {
+        return status;
+    }
+
+    public UUID getProviderId() {
+        return providerId;
+    }
+
+    public UUID getVehicleId() {
+        return vehicleId;
+    }
+
+    public Instant getAssignedAt() {
+        return assignedAt;
+    }
+}
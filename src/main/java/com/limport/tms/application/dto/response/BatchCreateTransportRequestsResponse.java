@@ -0,0 +1,109 @@
+package com.limport.tms.application.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a batch create: one result per submitted item, in submission order.
+ */
+public class BatchCreateTransportRequestsResponse {
+
+    /**
+     * CREATED - persisted; REJECTED - failed validation; FAILED - its chunk could not be persisted.
+     */
+    public enum ItemStatus {
+        CREATED,
+        REJECTED,
+        FAILED
+    }
+
+    private final int total;
+    private final int created;
+    private final int rejected;
+    private final int failed;
+    private final List<ItemResult> results;
+
+    public BatchCreateTransportRequestsResponse(List<ItemResult> results) {
+        this.results = List.copyOf(results);
+        this.total = results.size();
+        this.created = count(results, ItemStatus.CREATED);
+        this.rejected = count(results, ItemStatus.REJECTED);
+        this.failed = count(results, ItemStatus.FAILED);
+    }
+
+    private static int count(List<ItemResult> results, ItemStatus status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<ItemResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Result for the item at {@code index} in the request.
+     */
+    public static class ItemResult {
+
+        private final int index;
+        private final ItemStatus status;
+        private final UUID id;
+        private final String reference;
+        private final List<String> errors;
+
+        private ItemResult(int index, ItemStatus status, UUID id, String reference, List<String> errors) {
+            this.index = index;
+            this.status = status;
+            this.id = id;
+            this.reference = reference;
+            this.errors = errors;
+        }
+
+        public static ItemResult created(int index, UUID id, String reference) {
+            return new ItemResult(index, ItemStatus.CREATED, id, reference, List.of());
+        }
+
+        public static ItemResult rejected(int index, List<String> errors) {
+            return new ItemResult(index, ItemStatus.REJECTED, null, null, List.copyOf(errors));
+        }
+
+        public static ItemResult failed(int index, String error) {
+            return new ItemResult(index, ItemStatus.FAILED, null, null, List.of(error));
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public ItemStatus getStatus() {
+            return status;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getReference() {
+            return reference;
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.limport.tms.application.dto.response;
+
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transport request counts for the dashboard header and lane table.
+ */
+public class DashboardSummaryResponse {
+
+    private final Map<TransportRequestStatus, Long> countsByStatus;
+    private final List<LaneSummary> busiestLanes;
+
+    public DashboardSummaryResponse(Map<TransportRequestStatus, Long> countsByStatus, List<LaneSummary> busiestLanes) {
+        this.countsByStatus = countsByStatus;
+        this.busiestLanes = busiestLanes;
+    }
+
+    public Map<TransportRequestStatus, Long> getCountsByStatus() {
+        return countsByStatus;
+    }
+
+    public List<LaneSummary> getBusiestLanes() {
+        return busiestLanes;
+    }
+
+    /**
+     * Counts for one origin -> destination lane.
+     */
+    public static class LaneSummary {
+
+        private final String originLocationCode;
+        private final String destinationLocationCode;
+        private final long total;
+        private final Map<TransportRequestStatus, Long> countsByStatus;
+
+        public LaneSummary(String originLocationCode, String destinationLocationCode,
+                           Map<TransportRequestStatus, Long> countsByStatus) {
+            this.originLocationCode = originLocationCode;
+            this.destinationLocationCode = destinationLocationCode;
+            this.countsByStatus = countsByStatus;
+            this.total = countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public String getOriginLocationCode() {
+            return originLocationCode;
+        }
+
+        public String getDestinationLocationCode() {
+            return destinationLocationCode;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public Map<TransportRequestStatus, Long> getCountsByStatus() {
+            return countsByStatus;
+        }
+    }
+}
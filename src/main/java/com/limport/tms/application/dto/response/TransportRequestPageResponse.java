@@ -0,0 +1,27 @@
+package com.limport.tms.application.dto.response;
+
+import java.util.List;
+
+/**
+ * One page of transport requests, newest first.
+ * Pass {@code nextCursor} back as {@code cursor} to fetch the following page;
+ * it is null on the last page.
+ */
+public class TransportRequestPageResponse {
+
+    private final List<TransportRequestResponse> items;
+    private final String nextCursor;
+
+    public TransportRequestPageResponse(List<TransportRequestResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TransportRequestResponse> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,73 @@
+package com.limport.tms.application.dto.response;
+
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One server-sent event on a transport request stream: the request as it is after a committed change.
+ */
+public class TransportRequestUpdateResponse {
+
+    private final String eventType;
+    private final UUID transportRequestId;
+    private final String customerId;
+    private final String originLocationCode;
+    private final String destinationLocationCode;
+    private final TransportRequestStatus status;
+    private final UUID providerId;
+    private final UUID vehicleId;
+    private final Instant lastUpdatedAt;
+
+    public TransportRequestUpdateResponse(String eventType, UUID transportRequestId, String customerId,
+                                          String originLocationCode, String destinationLocationCode,
+                                          TransportRequestStatus status, UUID providerId, UUID vehicleId,
+                                          Instant lastUpdatedAt) {
+        this.eventType = eventType;
+        this.transportRequestId = transportRequestId;
+        this.customerId = customerId;
+        this.originLocationCode = originLocationCode;
+        this.destinationLocationCode = destinationLocationCode;
+        this.status = status;
+        this.providerId = providerId;
+        this.vehicleId = vehicleId;
+        this.lastUpdatedAt = lastUpdatedAt;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public UUID getTransportRequestId() {
+        return transportRequestId;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public String getOriginLocationCode() {
+        return originLocationCode;
+    }
+
+    public String getDestinationLocationCode() {
+        return destinationLocationCode;
+    }
+
+    public TransportRequestStatus getStatus() {
+        return status;
+    }
+
+    public UUID getProviderId() {
+        return providerId;
+    }
+
+    public UUID getVehicleId() {
+        return vehicleId;
+    }
+
+    public Instant getLastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+}
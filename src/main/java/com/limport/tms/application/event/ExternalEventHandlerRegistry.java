@@ -2,68 +2,103 @@ package com.limport.tms.application.event;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Registry that routes external events to appropriate handlers.
  * Follows Strategy Pattern + Registry Pattern.
- * 
+ *
  * Spring automatically injects all IExternalEventHandler beans.
+ *
+ * The routing table (eventType -> handlers) is built once at startup and never changes,
+ * so dispatch is a single map lookup and an array walk with no per-event allocation.
+ * Several handlers may subscribe to the same event type; they run in @Order / Ordered
+ * order, falling back to bean registration order.
+ *
+ * Trade-offs:
+ * - Routing is by getSupportedEventType(); supports() overrides are not consulted
+ * - If one handler fails, later handlers for the event are skipped and the whole event is
+ *   retried, so fan-out handlers must be idempotent
  */
 @Component
 public class ExternalEventHandlerRegistry {
-    
+
     private static final Logger log = LoggerFactory.getLogger(ExternalEventHandlerRegistry.class);
-    
-    private final List<IExternalEventHandler<? extends ExternalEvent>> handlers;
+
+    private final Map<String, IExternalEventHandler<?>[]> routes;
 
     public ExternalEventHandlerRegistry(List<IExternalEventHandler<? extends ExternalEvent>> handlers) {
-        this.handlers = handlers;
-        log.info("Registered {} external event handlers: {}", 
-            handlers.size(),
-            handlers.stream().map(h -> h.getSupportedEventType()).toList()
-        );
+        List<IExternalEventHandler<? extends ExternalEvent>> ordered = new ArrayList<>(handlers);
+        AnnotationAwareOrderComparator.sort(ordered);
+
+        Map<String, List<IExternalEventHandler<?>>> grouped = new LinkedHashMap<>();
+        for (IExternalEventHandler<?> handler : ordered) {
+            grouped.computeIfAbsent(handler.getSupportedEventType(), type -> new ArrayList<>()).add(handler);
+        }
+
+        Map<String, IExternalEventHandler<?>[]> table = new LinkedHashMap<>();
+        grouped.forEach((eventType, group) -> table.put(eventType, group.toArray(IExternalEventHandler<?>[]::new)));
+        this.routes = Map.copyOf(table);
+
+        log.info("Registered {} external event handlers for {} event types", handlers.size(), grouped.size());
+        grouped.forEach((eventType, group) -> log.info("  {} -> {}", eventType,
+            group.stream().map(h -> h.getClass().getSimpleName()).toList()));
     }
 
     /**
-     * Find handler for given event type.
+     * Find the first handler for given event type.
      */
     @SuppressWarnings("unchecked")
     public <T extends ExternalEvent> Optional<IExternalEventHandler<T>> findHandler(String eventType) {
-        return handlers.stream()
-                .filter(handler -> handler.supports(eventType))
-                .map(handler -> (IExternalEventHandler<T>) handler)
-                .findFirst();
+        IExternalEventHandler<?>[] handlers = routes.get(eventType);
+        return handlers == null ? Optional.empty() : Optional.of((IExternalEventHandler<T>) handlers[0]);
+    }
+
+    /**
+     * All handlers for given event type, in dispatch order.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ExternalEvent> List<IExternalEventHandler<T>> findHandlers(String eventType) {
+        IExternalEventHandler<?>[] handlers = routes.get(eventType);
+        return handlers == null ? List.of() : List.of((IExternalEventHandler<T>[]) handlers);
     }
 
     /**
-     * Dispatch event to appropriate handler.
-     * @return true if handler found and executed, false otherwise
+     * Dispatch event to every handler registered for its type.
+     * @return true if at least one handler was found and executed, false otherwise
      */
+    @SuppressWarnings("unchecked")
     public <T extends ExternalEvent> boolean dispatch(T event) {
         String eventType = event.eventType();
-        
-        Optional<IExternalEventHandler<T>> handler = findHandler(eventType);
-        
-        if (handler.isPresent()) {
-            log.debug("Dispatching event {} to handler {}", 
-                eventType, handler.get().getClass().getSimpleName());
-            handler.get().handle(event);
-            return true;
-        } else {
-            log.warn("No handler found for event type: {} from {}", 
+        IExternalEventHandler<?>[] handlers = routes.get(eventType);
+
+        if (handlers == null) {
+            log.warn("No handler found for event type: {} from {}",
                 eventType, event.sourceService());
             return false;
         }
+
+        for (IExternalEventHandler<?> handler : handlers) {
+            if (log.isDebugEnabled()) {
+                log.debug("Dispatching event {} to handler {}",
+                    eventType, handler.getClass().getSimpleName());
+            }
+            ((IExternalEventHandler<T>) handler).handle(event);
+        }
+        return true;
     }
-    
+
     /**
      * Check if a handler exists for the given event type.
      */
     public boolean hasHandler(String eventType) {
-        return handlers.stream().anyMatch(h -> h.supports(eventType));
+        return routes.containsKey(eventType);
     }
 }
@@ -0,0 +1,18 @@
+package com.limport.tms.application.event;
+
+/**
+ * When an internal event handler runs relative to the command transaction.
+ */
+public enum HandlerPhase {
+
+    /**
+     * Runs synchronously inside the command transaction; a failure rolls the command back.
+     */
+    IN_TRANSACTION,
+
+    /**
+     * Runs asynchronously once the transaction has committed, serialized per aggregate.
+     * Failures are logged and counted but do not affect the committed command.
+     */
+    AFTER_COMMIT
+}
@@ -3,17 +3,20 @@ package com.limport.tms.application.event;
 import com.limport.tms.domain.event.IDomainEvent;
 
 /**
- * Interface for synchronous internal event handlers.
- * These handlers process domain events immediately within the same transaction
- * for internal business logic, read model updates, etc.
+ * Interface for internal event handlers.
+ * These handlers process domain events raised by commands for internal business logic,
+ * read model updates, etc. By default they run within the command transaction;
+ * handlers that only have side effects outside the aggregate can opt into
+ * {@link HandlerPhase#AFTER_COMMIT} to keep that work off the transaction.
  *
  * @param <T> The specific domain event type this handler supports
  */
 public interface IInternalEventHandler<T extends IDomainEvent> {
 
     /**
-     * Handle the domain event synchronously.
-     * Called immediately after event collection in the same transaction.
+     * Handle the domain event.
+     * Called immediately after event collection in the same transaction, or after commit
+     * on the event handler executor, depending on {@link #getPhase()}.
      *
      * @param event The domain event to handle
      */
@@ -39,4 +42,11 @@ public interface IInternalEventHandler<T extends IDomainEvent> {
     default boolean supports(String eventType) {
         return getSupportedEventType().equals(eventType);
     }
-}
\ No newline at end of file
+
+    /**
+     * The phase this handler runs in.
+     */
+    default HandlerPhase getPhase() {
+        return HandlerPhase.IN_TRANSACTION;
+    }
+}
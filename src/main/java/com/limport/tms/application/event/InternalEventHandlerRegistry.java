@@ -3,72 +3,136 @@ package com.limport.tms.application.event;
 import com.limport.tms.domain.event.IDomainEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
- * Registry that routes domain events to synchronous internal handlers.
+ * Registry that routes domain events to internal handlers.
  * Enables immediate processing of domain events for internal business logic.
  *
  * Spring automatically injects all IInternalEventHandler beans.
+ *
+ * Like ExternalEventHandlerRegistry, the eventType -> handlers tables are built once at
+ * startup; several handlers may subscribe to one event type and run in @Order / Ordered
+ * order, falling back to bean registration order. Handlers are split by
+ * {@link HandlerPhase}: {@link #dispatch} runs the in-transaction ones and
+ * {@link #dispatchAfterCommit} the after-commit ones.
  */
 @Component
 public class InternalEventHandlerRegistry {
 
     private static final Logger log = LoggerFactory.getLogger(InternalEventHandlerRegistry.class);
 
-    private final List<IInternalEventHandler<? extends IDomainEvent>> handlers;
+    private final Map<String, IInternalEventHandler<?>[]> routes;
+    private final Map<String, IInternalEventHandler<?>[]> inTransactionRoutes;
+    private final Map<String, IInternalEventHandler<?>[]> afterCommitRoutes;
 
     public InternalEventHandlerRegistry(List<IInternalEventHandler<? extends IDomainEvent>> handlers) {
-        this.handlers = handlers;
-        log.info("Registered {} internal event handlers: {}",
-            handlers.size(),
-            handlers.stream().map(h -> h.getSupportedEventType()).toList()
-        );
+        List<IInternalEventHandler<? extends IDomainEvent>> ordered = new ArrayList<>(handlers);
+        AnnotationAwareOrderComparator.sort(ordered);
+
+        this.routes = buildRoutes(ordered, null);
+        this.inTransactionRoutes = buildRoutes(ordered, HandlerPhase.IN_TRANSACTION);
+        this.afterCommitRoutes = buildRoutes(ordered, HandlerPhase.AFTER_COMMIT);
+
+        log.info("Registered {} internal event handlers for {} event types", handlers.size(), routes.size());
+        for (IInternalEventHandler<?> handler : ordered) {
+            log.info("  {} -> {} ({})", handler.getSupportedEventType(),
+                handler.getClass().getSimpleName(), handler.getPhase());
+        }
+    }
+
+    private static Map<String, IInternalEventHandler<?>[]> buildRoutes(
+            List<IInternalEventHandler<? extends IDomainEvent>> ordered, HandlerPhase phase) {
+        Map<String, List<IInternalEventHandler<?>>> grouped = new LinkedHashMap<>();
+        for (IInternalEventHandler<?> handler : ordered) {
+            if (phase == null || handler.getPhase() == phase) {
+                grouped.computeIfAbsent(handler.getSupportedEventType(), type -> new ArrayList<>()).add(handler);
+            }
+        }
+
+        Map<String, IInternalEventHandler<?>[]> table = new LinkedHashMap<>();
+        grouped.forEach((eventType, group) -> table.put(eventType, group.toArray(IInternalEventHandler<?>[]::new)));
+        return Map.copyOf(table);
     }
 
     /**
-     * Find handler for given event type.
+     * Find the first handler for given event type, in any phase.
      */
     @SuppressWarnings("unchecked")
     public <T extends IDomainEvent> Optional<IInternalEventHandler<T>> findHandler(String eventType) {
-        return handlers.stream()
-                .filter(handler -> handler.supports(eventType))
-                .map(handler -> (IInternalEventHandler<T>) handler)
-                .findFirst();
+        IInternalEventHandler<?>[] handlers = routes.get(eventType);
+        return handlers == null ? Optional.empty() : Optional.of((IInternalEventHandler<T>) handlers[0]);
+    }
+
+    /**
+     * All handlers for given event type, in any phase, in dispatch order.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends IDomainEvent> List<IInternalEventHandler<T>> findHandlers(String eventType) {
+        IInternalEventHandler<?>[] handlers = routes.get(eventType);
+        return handlers == null ? List.of() : List.of((IInternalEventHandler<T>[]) handlers);
     }
 
     /**
-     * Dispatch event to synchronous internal handler.
-     * @return true if handler found and executed, false otherwise
+     * Dispatch event to every in-transaction handler registered for its type.
+     * @return true if at least one handler was found and executed, false otherwise
      */
     public <T extends IDomainEvent> boolean dispatch(T event) {
+        return dispatch(event, inTransactionRoutes);
+    }
+
+    /**
+     * Dispatch event to every after-commit handler registered for its type, on the calling thread.
+     * @return true if at least one handler was found and executed, false otherwise
+     */
+    public <T extends IDomainEvent> boolean dispatchAfterCommit(T event) {
+        return dispatch(event, afterCommitRoutes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends IDomainEvent> boolean dispatch(T event, Map<String, IInternalEventHandler<?>[]> table) {
         String eventType = event.eventType();
+        IInternalEventHandler<?>[] handlers = table.get(eventType);
 
-        Optional<IInternalEventHandler<T>> handler = findHandler(eventType);
+        if (handlers == null) {
+            log.debug("No internal handler found for event type: {}", eventType);
+            return false;
+        }
 
-        if (handler.isPresent()) {
-            log.debug("Dispatching event {} to internal handler {}", eventType, handler.get().getClass().getSimpleName());
+        for (IInternalEventHandler<?> handler : handlers) {
+            if (log.isDebugEnabled()) {
+                log.debug("Dispatching event {} to internal handler {}", eventType, handler.getClass().getSimpleName());
+            }
             try {
-                handler.get().handle(event);
-                return true;
+                ((IInternalEventHandler<T>) handler).handle(event);
             } catch (Exception e) {
-                log.error("Failed to handle internal event {}: {}", eventType, e.getMessage(), e);
+                log.error("Failed to handle internal event {} in {}: {}",
+                    eventType, handler.getClass().getSimpleName(), e.getMessage(), e);
                 // For internal handlers, we might want to fail the transaction
                 throw new RuntimeException("Internal event handling failed: " + e.getMessage(), e);
             }
-        } else {
-            log.debug("No internal handler found for event type: {}", eventType);
-            return false;
         }
+        return true;
     }
 
     /**
      * Check if a handler exists for the given event type.
      */
     public boolean hasHandler(String eventType) {
-        return handlers.stream().anyMatch(h -> h.supports(eventType));
+        return routes.containsKey(eventType);
+    }
+
+    /**
+     * Check if any after-commit handler exists for the given event type.
+     */
+    public boolean hasAfterCommitHandler(String eventType) {
+        return afterCommitRoutes.containsKey(eventType);
     }
-}
\ No newline at end of file
+}
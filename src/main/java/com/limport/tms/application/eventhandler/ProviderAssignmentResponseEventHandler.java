@@ -9,14 +9,19 @@ import com.limport.tms.domain.model.entity.TransportRequest;
 import com.limport.tms.domain.model.enums.TransportRequestStatus;
 import com.limport.tms.domain.port.repository.IAssignmentRepository;
 import com.limport.tms.domain.port.repository.ITransportRequestRepository;
+import com.limport.tms.application.service.interfaces.IAfterCommitEventDispatcher;
 import com.limport.tms.application.service.interfaces.IDomainEventService;
 import com.limport.tms.domain.event.states.TransportRequestReMatchingTriggeredEvent;
+import com.limport.tms.domain.event.states.TransportRequestUpdatedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,6 +41,7 @@ public class ProviderAssignmentResponseEventHandler implements IExternalEventHan
     private final IAssignmentRepository assignmentRepository;
     private final ITransportRequestRepository transportRequestRepository;
     private final IDomainEventService domainEventService;
+    private final IAfterCommitEventDispatcher afterCommitEventDispatcher;
     
     @Value("${tms.assignment.max-attempts:3}")
     int maxAssignmentAttempts;
@@ -48,10 +54,12 @@ public class ProviderAssignmentResponseEventHandler implements IExternalEventHan
     public ProviderAssignmentResponseEventHandler(
             IAssignmentRepository assignmentRepository,
             ITransportRequestRepository transportRequestRepository,
-            IDomainEventService domainEventService) {
+            IDomainEventService domainEventService,
+            IAfterCommitEventDispatcher afterCommitEventDispatcher) {
         this.assignmentRepository = assignmentRepository;
         this.transportRequestRepository = transportRequestRepository;
         this.domainEventService = domainEventService;
+        this.afterCommitEventDispatcher = afterCommitEventDispatcher;
     }
     
     @Override
@@ -95,8 +103,12 @@ public class ProviderAssignmentResponseEventHandler implements IExternalEventHan
         
         // Update assignment status to CONFIRMED
         assignment.setStatus(AssignmentStatus.CONFIRMED);
+        assignment.setLastUpdatedAt(Instant.now());
         assignmentRepository.save(assignment);
         
+        // The request keeps its status; only its active assignment changed
+        refreshAfterCommit(event.transportRequestId(), null, null, "Assignment confirmed by provider");
+        
         log.info("Assignment {} confirmed for provider {}", event.assignmentId(), event.providerId());
     }
     
@@ -109,6 +121,7 @@ public class ProviderAssignmentResponseEventHandler implements IExternalEventHan
         
         // Update assignment status to CANCELLED
         assignment.setStatus(AssignmentStatus.CANCELLED);
+        assignment.setLastUpdatedAt(Instant.now());
         assignmentRepository.save(assignment);
         
         // Handle re-matching with retry limit
@@ -125,6 +138,7 @@ public class ProviderAssignmentResponseEventHandler implements IExternalEventHan
         
         // Update assignment status to CANCELLED
         assignment.setStatus(AssignmentStatus.CANCELLED);
+        assignment.setLastUpdatedAt(Instant.now());
         assignmentRepository.save(assignment);
         
         // Handle re-matching with retry limit
@@ -152,17 +166,22 @@ public class ProviderAssignmentResponseEventHandler implements IExternalEventHan
         }
         
         TransportRequest transportRequest = transportRequestOpt.get();
+        TransportRequestStatus previousStatus = transportRequest.getStatus();
         int attempts = transportRequest.incrementAssignmentAttempts();
         
         if (attempts >= maxAssignmentAttempts) {
             // Max retries exceeded - mark as unassignable for manual intervention
             transportRequest.setStatus(TransportRequestStatus.UNASSIGNABLE);
+            transportRequest.setLastUpdatedAt(Instant.now());
             transportRequestRepository.save(transportRequest);
+            refreshAfterCommit(transportRequestId, previousStatus, TransportRequestStatus.UNASSIGNABLE,
+                "Marked unassignable after provider " + reason);
             log.warn("Transport request {} marked as UNASSIGNABLE after {} failed assignment attempts. Manual intervention required.",
                 transportRequestId, attempts);
         } else {
             // Set back to REQUESTED for another matching attempt
             transportRequest.setStatus(TransportRequestStatus.REQUESTED);
+            transportRequest.setLastUpdatedAt(Instant.now());
             transportRequestRepository.save(transportRequest);
             
             // Publish event to trigger re-matching
@@ -177,12 +196,26 @@ public class ProviderAssignmentResponseEventHandler implements IExternalEventHan
                 maxAssignmentAttempts
             );
             domainEventService.publishToOutbox(reMatchingEvent, "TransportRequest", transportRequestId.toString());
+            refreshAfterCommit(transportRequestId, previousStatus, TransportRequestStatus.REQUESTED,
+                "Returned for re-matching after provider " + reason);
             
             log.info("Transport request {} set back to REQUESTED for re-matching after provider {} (attempt {}/{})",
                 transportRequestId, reason, attempts, maxAssignmentAttempts);
         }
     }
     
+    /**
+     * Has the dashboard read model and live subscribers pick up the change once this
+     * transaction commits, in order with the request's other after-commit events.
+     * The event is not stored in the outbox, so external consumers are unaffected.
+     */
+    private void refreshAfterCommit(UUID transportRequestId, TransportRequestStatus previousStatus,
+                                    TransportRequestStatus newStatus, String description) {
+        TransportRequestUpdatedEvent updated = new TransportRequestUpdatedEvent(
+            transportRequestId, null, previousStatus, newStatus, Map.of(), description);
+        afterCommitEventDispatcher.dispatchAfterCommit("TransportRequest:" + transportRequestId, List.of(updated));
+    }
+    
     @Override
     public String getSupportedEventType() {
         return Provider.ASSIGNMENT_RESPONSE;
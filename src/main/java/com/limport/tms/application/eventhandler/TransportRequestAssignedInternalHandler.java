@@ -1,10 +1,12 @@
 package com.limport.tms.application.eventhandler;
 
+import com.limport.tms.application.event.HandlerPhase;
 import com.limport.tms.application.event.IInternalEventHandler;
 import com.limport.tms.application.service.interfaces.IAssignmentTrackingService;
 import com.limport.tms.application.service.interfaces.ICapacityPlanningService;
 import com.limport.tms.application.service.interfaces.IInternalNotificationService;
 import com.limport.tms.application.service.interfaces.IReadModelUpdater;
+import com.limport.tms.application.service.interfaces.ITransportRequestUpdatePublisher;
 import com.limport.tms.domain.event.EventTypes;
 import com.limport.tms.domain.event.states.TransportRequestAssignedEvent;
 import org.slf4j.Logger;
@@ -13,7 +15,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * Internal handler for TransportRequestAssignedEvent.
- * Performs synchronous internal processing when transport requests are assigned.
+ * Performs internal processing after transport requests are assigned and the change has committed.
  */
 @Component
 public class TransportRequestAssignedInternalHandler implements IInternalEventHandler<TransportRequestAssignedEvent> {
@@ -24,24 +26,27 @@ public class TransportRequestAssignedInternalHandler implements IInternalEventHa
     private final ICapacityPlanningService capacityService;
     private final IInternalNotificationService notificationService;
     private final IReadModelUpdater readModelUpdater;
+    private final ITransportRequestUpdatePublisher updatePublisher;
 
     public TransportRequestAssignedInternalHandler(
             IAssignmentTrackingService trackingService,
             ICapacityPlanningService capacityService,
             IInternalNotificationService notificationService,
-            IReadModelUpdater readModelUpdater) {
+            IReadModelUpdater readModelUpdater,
+            ITransportRequestUpdatePublisher updatePublisher) {
         this.trackingService = trackingService;
         this.capacityService = capacityService;
         this.notificationService = notificationService;
         this.readModelUpdater = readModelUpdater;
+        this.updatePublisher = updatePublisher;
     }
 
     @Override
     public void handle(TransportRequestAssignedEvent event) {
-        log.info("Processing TransportRequestAssignedEvent synchronously: requestId={}, providerId={}, vehicleId={}",
+        log.info("Processing TransportRequestAssignedEvent after commit: requestId={}, providerId={}, vehicleId={}",
             event.getTransportRequestId(), event.getProviderId(), event.getVehicleId());
 
-        // Internal business logic that should happen immediately:
+        // Internal business logic that follows a committed change:
 
         // 1. Update assignment tracking
         trackingService.recordAssignment(event.getTransportRequestId(), event.getProviderId(), event.getVehicleId());
@@ -52,8 +57,10 @@ public class TransportRequestAssignedInternalHandler implements IInternalEventHa
         // 3. Trigger internal notifications
         notificationService.notifyProviderTeam("Transport request assigned", event);
 
-        // 4. Update operational dashboards
-        readModelUpdater.updateActiveAssignments(event.getTransportRequestId());
+        // 4. Update operational dashboards and push the change to live subscribers
+        readModelUpdater.refreshTransportRequest(event.getTransportRequestId())
+            .ifPresent(refreshed -> updatePublisher.publish(
+                getSupportedEventType(), refreshed.summary(), refreshed.previousProviderId()));
 
         log.debug("Internal processing completed for transport request assignment: {}", event.getTransportRequestId());
     }
@@ -67,4 +74,10 @@ public class TransportRequestAssignedInternalHandler implements IInternalEventHa
     public Class<TransportRequestAssignedEvent> getEventClass() {
         return TransportRequestAssignedEvent.class;
     }
+
+    @Override
+    public HandlerPhase getPhase() {
+        // Only side effects outside the aggregate; keep them off the command transaction
+        return HandlerPhase.AFTER_COMMIT;
+    }
 }
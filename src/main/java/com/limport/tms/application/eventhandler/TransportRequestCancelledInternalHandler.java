@@ -0,0 +1,58 @@
+package com.limport.tms.application.eventhandler;
+
+import com.limport.tms.application.event.HandlerPhase;
+import com.limport.tms.application.event.IInternalEventHandler;
+import com.limport.tms.application.service.interfaces.IReadModelUpdater;
+import com.limport.tms.application.service.interfaces.ITransportRequestUpdatePublisher;
+import com.limport.tms.domain.event.EventTypes;
+import com.limport.tms.domain.event.states.TransportRequestCancelledEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Internal handler for TransportRequestCancelledEvent.
+ * Moves the request out of the active dashboard counts and assignments.
+ */
+@Component
+public class TransportRequestCancelledInternalHandler implements IInternalEventHandler<TransportRequestCancelledEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(TransportRequestCancelledInternalHandler.class);
+
+    private final IReadModelUpdater readModelUpdater;
+    private final ITransportRequestUpdatePublisher updatePublisher;
+
+    public TransportRequestCancelledInternalHandler(
+            IReadModelUpdater readModelUpdater,
+            ITransportRequestUpdatePublisher updatePublisher) {
+        this.readModelUpdater = readModelUpdater;
+        this.updatePublisher = updatePublisher;
+    }
+
+    @Override
+    public void handle(TransportRequestCancelledEvent event) {
+        log.debug("Processing TransportRequestCancelledEvent after commit: requestId={}, reason={}",
+            event.getTransportRequestId(), event.getCancellationReason());
+
+        // Update operational dashboards and push the change to live subscribers
+        readModelUpdater.refreshTransportRequest(event.getTransportRequestId())
+            .ifPresent(refreshed -> updatePublisher.publish(
+                getSupportedEventType(), refreshed.summary(), refreshed.previousProviderId()));
+    }
+
+    @Override
+    public String getSupportedEventType() {
+        return EventTypes.Transport.Request.CANCELLED;
+    }
+
+    @Override
+    public Class<TransportRequestCancelledEvent> getEventClass() {
+        return TransportRequestCancelledEvent.class;
+    }
+
+    @Override
+    public HandlerPhase getPhase() {
+        // Only side effects outside the aggregate; keep them off the command transaction
+        return HandlerPhase.AFTER_COMMIT;
+    }
+}
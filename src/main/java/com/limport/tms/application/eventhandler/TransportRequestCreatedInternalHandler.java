@@ -1,8 +1,10 @@
 package com.limport.tms.application.eventhandler;
 
+import com.limport.tms.application.event.HandlerPhase;
 import com.limport.tms.application.event.IInternalEventHandler;
 import com.limport.tms.application.service.interfaces.IInternalNotificationService;
 import com.limport.tms.application.service.interfaces.IReadModelUpdater;
+import com.limport.tms.application.service.interfaces.ITransportRequestUpdatePublisher;
 import com.limport.tms.application.service.interfaces.IWorkflowService;
 import com.limport.tms.domain.event.EventTypes;
 import com.limport.tms.domain.event.states.TransportRequestCreatedEvent;
@@ -12,7 +14,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * Internal handler for TransportRequestCreatedEvent.
- * Performs synchronous internal processing when transport requests are created.
+ * Performs internal processing after transport requests are created and the change has committed.
  *
  * Example internal processing:
  * - Update internal metrics
@@ -26,27 +28,32 @@ public class TransportRequestCreatedInternalHandler implements IInternalEventHan
     private static final Logger log = LoggerFactory.getLogger(TransportRequestCreatedInternalHandler.class);
 
     private final IReadModelUpdater readModelUpdater;
+    private final ITransportRequestUpdatePublisher updatePublisher;
     private final IWorkflowService workflowService;
     private final IInternalNotificationService notificationService;
 
     public TransportRequestCreatedInternalHandler(
             IReadModelUpdater readModelUpdater,
             IWorkflowService workflowService,
-            IInternalNotificationService notificationService) {
+            IInternalNotificationService notificationService,
+            ITransportRequestUpdatePublisher updatePublisher) {
         this.readModelUpdater = readModelUpdater;
+        this.updatePublisher = updatePublisher;
         this.workflowService = workflowService;
         this.notificationService = notificationService;
     }
 
     @Override
     public void handle(TransportRequestCreatedEvent event) {
-        log.info("Processing TransportRequestCreatedEvent synchronously: requestId={}, origin={}, destination={}",
+        log.info("Processing TransportRequestCreatedEvent after commit: requestId={}, origin={}, destination={}",
             event.getTransportRequestId(), event.getOrigin(), event.getDestination());
 
-        // Internal business logic that should happen immediately:
+        // Internal business logic that follows a committed change:
 
-        // 1. Update read models for internal dashboards
-        readModelUpdater.updateTransportRequestSummary(event.getTransportRequestId(), event.getOrigin(), event.getDestination());
+        // 1. Update read models for internal dashboards and push the change to live subscribers
+        readModelUpdater.refreshTransportRequest(event.getTransportRequestId())
+            .ifPresent(refreshed -> updatePublisher.publish(
+                getSupportedEventType(), refreshed.summary(), refreshed.previousProviderId()));
 
         // 2. Trigger internal workflows (e.g., capacity planning, route optimization scheduling)
         workflowService.scheduleRouteOptimization(event.getTransportRequestId());
@@ -66,4 +73,10 @@ public class TransportRequestCreatedInternalHandler implements IInternalEventHan
     public Class<TransportRequestCreatedEvent> getEventClass() {
         return TransportRequestCreatedEvent.class;
     }
+
+    @Override
+    public HandlerPhase getPhase() {
+        // Only side effects outside the aggregate; keep them off the command transaction
+        return HandlerPhase.AFTER_COMMIT;
+    }
 }
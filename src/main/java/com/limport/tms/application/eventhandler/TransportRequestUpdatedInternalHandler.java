@@ -0,0 +1,58 @@
+package com.limport.tms.application.eventhandler;
+
+import com.limport.tms.application.event.HandlerPhase;
+import com.limport.tms.application.event.IInternalEventHandler;
+import com.limport.tms.application.service.interfaces.IReadModelUpdater;
+import com.limport.tms.application.service.interfaces.ITransportRequestUpdatePublisher;
+import com.limport.tms.domain.event.EventTypes;
+import com.limport.tms.domain.event.states.TransportRequestUpdatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Internal handler for TransportRequestUpdatedEvent.
+ * Keeps the dashboard read model current for status changes such as the start of transit.
+ */
+@Component
+public class TransportRequestUpdatedInternalHandler implements IInternalEventHandler<TransportRequestUpdatedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(TransportRequestUpdatedInternalHandler.class);
+
+    private final IReadModelUpdater readModelUpdater;
+    private final ITransportRequestUpdatePublisher updatePublisher;
+
+    public TransportRequestUpdatedInternalHandler(
+            IReadModelUpdater readModelUpdater,
+            ITransportRequestUpdatePublisher updatePublisher) {
+        this.readModelUpdater = readModelUpdater;
+        this.updatePublisher = updatePublisher;
+    }
+
+    @Override
+    public void handle(TransportRequestUpdatedEvent event) {
+        log.debug("Processing TransportRequestUpdatedEvent after commit: requestId={}, newStatus={}",
+            event.getTransportRequestId(), event.getNewStatus());
+
+        // Update operational dashboards and push the change to live subscribers
+        readModelUpdater.refreshTransportRequest(event.getTransportRequestId())
+            .ifPresent(refreshed -> updatePublisher.publish(
+                getSupportedEventType(), refreshed.summary(), refreshed.previousProviderId()));
+    }
+
+    @Override
+    public String getSupportedEventType() {
+        return EventTypes.Transport.Request.UPDATED;
+    }
+
+    @Override
+    public Class<TransportRequestUpdatedEvent> getEventClass() {
+        return TransportRequestUpdatedEvent.class;
+    }
+
+    @Override
+    public HandlerPhase getPhase() {
+        // Only side effects outside the aggregate; keep them off the command transaction
+        return HandlerPhase.AFTER_COMMIT;
+    }
+}
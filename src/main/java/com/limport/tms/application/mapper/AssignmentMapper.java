@@ -2,6 +2,7 @@ package com.limport.tms.application.mapper;
 
 import com.limport.tms.application.dto.response.AssignmentResponse;
 import com.limport.tms.domain.model.entity.Assignment;
+import com.limport.tms.domain.port.repository.AssignmentView;
 import org.springframework.stereotype.Component;
 
 /**
@@ -29,4 +30,20 @@ public class AssignmentMapper {
             assignment.getLastUpdatedAt()
         );
     }
+
+    public AssignmentResponse toResponse(AssignmentView view) {
+        return new AssignmentResponse(
+            view.id(),
+            view.transportRequestId(),
+            view.providerId(),
+            view.vehicleId(),
+            view.scheduledPickupTime(),
+            view.estimatedDeliveryTime(),
+            view.assignmentNotes(),
+            view.status() != null ? view.status().name() : null,
+            view.assignedBy(),
+            view.assignedAt(),
+            view.lastUpdatedAt()
+        );
+    }
 }
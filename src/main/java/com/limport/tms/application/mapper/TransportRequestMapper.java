@@ -4,6 +4,7 @@ import com.limport.tms.application.command.CreateTransportRequestCommand;
 import com.limport.tms.application.dto.request.CreateTransportRequest;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
 import com.limport.tms.domain.model.entity.TransportRequest;
+import com.limport.tms.domain.port.repository.TransportRequestView;
 import org.springframework.stereotype.Component;
 
 /**
@@ -43,4 +44,23 @@ public class TransportRequestMapper {
         response.setLastUpdatedAt(transportRequest.getLastUpdatedAt());
         return response;
     }
+
+    public TransportRequestResponse toResponse(TransportRequestView view) {
+        TransportRequestResponse response = new TransportRequestResponse();
+        response.setId(view.id());
+        response.setReference(view.reference());
+        response.setCustomerId(view.customerId());
+        response.setOriginLocationCode(view.originLocationCode());
+        response.setDestinationLocationCode(view.destinationLocationCode());
+        response.setPickupFrom(view.pickupFrom());
+        response.setPickupUntil(view.pickupUntil());
+        response.setDeliveryFrom(view.deliveryFrom());
+        response.setDeliveryUntil(view.deliveryUntil());
+        response.setTotalWeight(view.totalWeight());
+        response.setTotalPackages(view.totalPackages());
+        response.setStatus(view.status());
+        response.setCreatedAt(view.createdAt());
+        response.setLastUpdatedAt(view.lastUpdatedAt());
+        return response;
+    }
 }
@@ -0,0 +1,56 @@
+package com.limport.tms.application.projection;
+
+import com.limport.tms.application.service.interfaces.IReadModelUpdater;
+import com.limport.tms.domain.event.EventTypes;
+import com.limport.tms.domain.model.entity.OutboxEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Replays transport request events into the dashboard read model.
+ *
+ * Live updates already come from the after-commit event handlers, so this projection is
+ * only used to replay the log, e.g. to repair drift after a handler outage. A refresh
+ * re-reads the write model, which makes replay idempotent and needs no reset.
+ */
+@Component
+public class DashboardReadModelProjection implements IProjection {
+
+    public static final String NAME = "dashboard-read-model";
+
+    private static final Set<String> EVENT_TYPES = Set.of(
+        EventTypes.Transport.Request.CREATED,
+        EventTypes.Transport.Request.UPDATED,
+        EventTypes.Transport.Request.ASSIGNED,
+        EventTypes.Transport.Request.CANCELLED,
+        EventTypes.Transport.Request.COMPLETED
+    );
+
+    private final IReadModelUpdater readModelUpdater;
+
+    public DashboardReadModelProjection(IReadModelUpdater readModelUpdater) {
+        this.readModelUpdater = readModelUpdater;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Set<String> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public void apply(OutboxEvent event) {
+        readModelUpdater.refreshTransportRequest(UUID.fromString(event.getAggregateId()));
+    }
+
+    @Override
+    public boolean isLive() {
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package com.limport.tms.application.projection;
+
+import com.limport.tms.domain.model.entity.OutboxEvent;
+
+import java.util.Set;
+
+/**
+ * A read model built by folding outbox events, registered with the ProjectionEngine.
+ *
+ * Events are handed over as raw outbox records in log order. Events of one aggregate
+ * always arrive in order on one thread, also during a partitioned rebuild, but
+ * {@link #apply} must be idempotent because a batch is replayed if its checkpoint
+ * could not be saved.
+ */
+public interface IProjection {
+
+    /**
+     * Unique name, used as the checkpoint key.
+     */
+    String getName();
+
+    /**
+     * Event types this projection consumes; all others are never read.
+     */
+    Set<String> getEventTypes();
+
+    /**
+     * Applies one event, inside the transaction that advances the checkpoint.
+     */
+    void apply(OutboxEvent event);
+
+    /**
+     * Discards the projected state before a rebuild replays the log from the start.
+     */
+    default void reset() {
+    }
+
+    /**
+     * Whether the engine should keep this projection caught up with the log on a schedule.
+     * Projections already maintained by event handlers return false and are only replayed.
+     */
+    default boolean isLive() {
+        return true;
+    }
+}
@@ -0,0 +1,226 @@
+package com.limport.tms.application.projection;
+
+import com.limport.tms.domain.port.repository.EventLogEntry;
+import com.limport.tms.domain.port.repository.EventLogPosition;
+import com.limport.tms.domain.port.repository.IOutboxEventRepository;
+import com.limport.tms.domain.port.repository.IProjectionCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.limport.tms.domain.port.repository.IProjectionCheckpointRepository.LIVE;
+
+/**
+ * Drives projections from the outbox event log.
+ *
+ * The log is read in log order (writing transaction, then occurredOn and id) in batches of
+ * tms.projection.batch-size. Each batch is applied in one transaction that also locks and
+ * advances the projection's checkpoint, so the projected state and the checkpoint never
+ * diverge and several nodes can poll without applying a batch twice. Only events of
+ * transactions older than every running one are read, so however late a transaction
+ * commits, its events land after the checkpoint rather than behind it.
+ *
+ * A rebuild claims the projection with a lease renewed while it runs, so only one node
+ * rebuilds it at a time. It pauses live catch-up, resets the projection, fixes a high-water
+ * mark and replays the log up to it on N partitions in parallel. Partitions split by
+ * aggregate ID, so the events of one aggregate stay ordered. Once every partition reaches
+ * the mark, the live checkpoint jumps to it and catch-up resumes from there.
+ *
+ * Trade-offs:
+ * - Replay only covers events still in the outbox; set tms.outbox.retention-mode=retain
+ *   for projections that must be rebuildable from the start
+ * - A long-running write transaction anywhere in the database holds projections back
+ *   until it ends
+ */
+@Component
+public class ProjectionEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectionEngine.class);
+
+    private final Map<String, IProjection> projections = new LinkedHashMap<>();
+    private final IOutboxEventRepository eventLog;
+    private final IProjectionCheckpointRepository checkpoints;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration rebuildLease;
+
+    public ProjectionEngine(
+            List<IProjection> projections,
+            IOutboxEventRepository eventLog,
+            IProjectionCheckpointRepository checkpoints,
+            PlatformTransactionManager transactionManager,
+            @Value("${tms.projection.batch-size:500}") int batchSize,
+            @Value("${tms.projection.rebuild-lease:5m}") Duration rebuildLease) {
+        for (IProjection projection : projections) {
+            if (this.projections.putIfAbsent(projection.getName(), projection) != null) {
+                throw new IllegalStateException("Duplicate projection name: " + projection.getName());
+            }
+        }
+        this.eventLog = eventLog;
+        this.checkpoints = checkpoints;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.rebuildLease = rebuildLease;
+    }
+
+    /**
+     * Catches up every live projection. Failures are logged per projection.
+     */
+    public void catchUpAll() {
+        for (IProjection projection : projections.values()) {
+            if (!projection.isLive()) {
+                continue;
+            }
+            try {
+                catchUp(projection);
+            } catch (Exception e) {
+                log.error("Catch-up of projection {} failed: {}", projection.getName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Applies every settled event after the projection's live checkpoint.
+     *
+     * @return the number of events applied; 0 if another node holds the checkpoint
+     *         or the projection is being rebuilt
+     */
+    public long catchUp(String projectionName) {
+        return catchUp(projection(projectionName));
+    }
+
+    /**
+     * Resets the projection and replays the event log on {@code partitions} parallel workers.
+     * If the rebuild fails, live catch-up stays paused until a rebuild succeeds.
+     *
+     * @return the number of events replayed
+     * @throws ProjectionRebuildInProgressException if another rebuild of the projection is running
+     */
+    public long rebuild(String projectionName, int partitions) {
+        IProjection projection = projection(projectionName);
+        int workers = Math.max(1, partitions);
+        String name = projection.getName();
+
+        if (!checkpoints.tryStartRebuild(name, rebuildLease)) {
+            throw new ProjectionRebuildInProgressException(name);
+        }
+        boolean completed = false;
+        try {
+            checkpoints.deletePartitions(name);
+            transactionTemplate.executeWithoutResult(status -> projection.reset());
+
+            EventLogPosition highWater = eventLog.findLastLogPosition(projection.getEventTypes());
+            log.info("Rebuilding projection {} on {} partitions up to {}", name, workers, highWater);
+            long replayed = highWater.isStart() ? 0 : replay(projection, workers, highWater);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                checkpoints.save(name, LIVE, highWater);
+                checkpoints.deletePartitions(name);
+                checkpoints.endRebuild(name, true);
+            });
+            completed = true;
+            log.info("Rebuilt projection {} from {} events", name, replayed);
+            return replayed;
+        } finally {
+            if (!completed) {
+                checkpoints.endRebuild(name, false);
+            }
+        }
+    }
+
+    private long replay(IProjection projection, int workers, EventLogPosition highWater) {
+        ExecutorService pool = Executors.newFixedThreadPool(workers,
+            new CustomizableThreadFactory("projection-rebuild-" + projection.getName() + "-"));
+        try {
+            List<CompletableFuture<Long>> futures = new ArrayList<>(workers);
+            for (int partition = 0; partition < workers; partition++) {
+                int current = partition;
+                futures.add(CompletableFuture.supplyAsync(
+                    () -> drain(projection, current, workers, highWater), pool));
+            }
+            awaitRenewingClaim(projection.getName(), CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)));
+            return futures.stream().mapToLong(CompletableFuture::join).sum();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Waits for the replay, renewing the rebuild claim well before it expires.
+     */
+    private void awaitRenewingClaim(String name, CompletableFuture<Void> replay) {
+        long renewEveryMillis = Math.max(1, rebuildLease.toMillis() / 3);
+        while (true) {
+            try {
+                replay.get(renewEveryMillis, TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                checkpoints.renewRebuild(name, rebuildLease);
+            } catch (ExecutionException e) {
+                throw new CompletionException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while rebuilding projection " + name, e);
+            }
+        }
+    }
+
+    private long catchUp(IProjection projection) {
+        return drain(projection, LIVE, 1, null);
+    }
+
+    private long drain(IProjection projection, int partition, int partitions, EventLogPosition upTo) {
+        long total = 0;
+        int applied;
+        do {
+            applied = applyBatch(projection, partition, partitions, upTo);
+            total += applied;
+        } while (applied == batchSize);
+        return total;
+    }
+
+    private int applyBatch(IProjection projection, int partition, int partitions, EventLogPosition upTo) {
+        Integer applied = transactionTemplate.execute(status -> {
+            Optional<EventLogPosition> position = checkpoints.tryLock(projection.getName(), partition);
+            if (position.isEmpty()) {
+                return 0;
+            }
+            List<EventLogEntry> entries = eventLog.findInLog(
+                projection.getEventTypes(), position.get(), upTo, partition, partitions, batchSize);
+            for (EventLogEntry entry : entries) {
+                projection.apply(entry.event());
+            }
+            if (!entries.isEmpty()) {
+                checkpoints.save(projection.getName(), partition, entries.get(entries.size() - 1).position());
+            }
+            return entries.size();
+        });
+        return applied != null ? applied : 0;
+    }
+
+    private IProjection projection(String name) {
+        IProjection projection = projections.get(name);
+        if (projection == null) {
+            throw new IllegalArgumentException("Unknown projection: " + name);
+        }
+        return projection;
+    }
+}
@@ -0,0 +1,11 @@
+package com.limport.tms.application.projection;
+
+/**
+ * Thrown when a projection is already being rebuilt, on this node or another.
+ */
+public class ProjectionRebuildInProgressException extends RuntimeException {
+
+    public ProjectionRebuildInProgressException(String projectionName) {
+        super("Projection " + projectionName + " is already being rebuilt");
+    }
+}
@@ -1,14 +1,16 @@
 package com.limport.tms.application.query;
 
-import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.cqrs.ICacheableQuery;
 import com.limport.tms.application.dto.response.AssignmentResponse;
 
 import java.util.UUID;
 
 /**
  * Query to get the active assignment for a transport request.
+ * Results are cached per transport request and evicted when it raises events or one of its
+ * assignments is saved.
  */
-public class GetActiveAssignmentQuery implements IQuery<AssignmentResponse> {
+public class GetActiveAssignmentQuery implements ICacheableQuery<AssignmentResponse> {
 
     private UUID transportRequestId;
 
@@ -23,4 +25,9 @@ public class GetActiveAssignmentQuery implements IQuery<AssignmentResponse> {
     public void setTransportRequestId(UUID transportRequestId) {
         this.transportRequestId = transportRequestId;
     }
+
+    @Override
+    public Object cacheKey() {
+        return transportRequestId;
+    }
 }
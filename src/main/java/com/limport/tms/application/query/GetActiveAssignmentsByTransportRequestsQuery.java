@@ -0,0 +1,29 @@
+package com.limport.tms.application.query;
+
+import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.dto.response.AssignmentResponse;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Query to get the active assignment of many transport requests in one round trip,
+ * keyed by transport request ID.
+ */
+public class GetActiveAssignmentsByTransportRequestsQuery implements IQuery<Map<UUID, AssignmentResponse>> {
+
+    private Set<UUID> transportRequestIds;
+
+    public GetActiveAssignmentsByTransportRequestsQuery(Set<UUID> transportRequestIds) {
+        this.transportRequestIds = transportRequestIds;
+    }
+
+    public Set<UUID> getTransportRequestIds() {
+        return transportRequestIds;
+    }
+
+    public void setTransportRequestIds(Set<UUID> transportRequestIds) {
+        this.transportRequestIds = transportRequestIds;
+    }
+}
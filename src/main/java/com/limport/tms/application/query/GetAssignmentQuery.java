@@ -1,14 +1,15 @@
 package com.limport.tms.application.query;
 
-import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.cqrs.ICacheableQuery;
 import com.limport.tms.application.dto.response.AssignmentResponse;
 
 import java.util.UUID;
 
 /**
  * Query to get a single assignment by ID.
+ * Results are cached per ID and evicted whenever the assignment is saved.
  */
-public class GetAssignmentQuery implements IQuery<AssignmentResponse> {
+public class GetAssignmentQuery implements ICacheableQuery<AssignmentResponse> {
 
     private UUID id;
 
@@ -23,4 +24,9 @@ public class GetAssignmentQuery implements IQuery<AssignmentResponse> {
     public void setId(UUID id) {
         this.id = id;
     }
+
+    @Override
+    public Object cacheKey() {
+        return id;
+    }
 }
@@ -0,0 +1,20 @@
+package com.limport.tms.application.query;
+
+import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.dto.response.DashboardSummaryResponse;
+
+/**
+ * Query for status counts and the busiest lanes from the dashboard read model.
+ */
+public class GetDashboardSummaryQuery implements IQuery<DashboardSummaryResponse> {
+
+    private final int laneLimit;
+
+    public GetDashboardSummaryQuery(int laneLimit) {
+        this.laneLimit = laneLimit;
+    }
+
+    public int getLaneLimit() {
+        return laneLimit;
+    }
+}
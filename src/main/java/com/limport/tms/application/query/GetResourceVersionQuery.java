@@ -0,0 +1,36 @@
+package com.limport.tms.application.query;
+
+import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.domain.port.repository.EntityVersion;
+
+import java.util.UUID;
+
+/**
+ * Query for the current version of a single-resource GET, used to answer conditional
+ * requests without loading and mapping the resource. Result is null if it does not exist.
+ */
+public class GetResourceVersionQuery implements IQuery<EntityVersion> {
+
+    public enum Resource {
+        TRANSPORT_REQUEST,
+        ASSIGNMENT,
+        /** Keyed by transport request ID */
+        ACTIVE_ASSIGNMENT
+    }
+
+    private final Resource resource;
+    private final UUID id;
+
+    public GetResourceVersionQuery(Resource resource, UUID id) {
+        this.resource = resource;
+        this.id = id;
+    }
+
+    public Resource getResource() {
+        return resource;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
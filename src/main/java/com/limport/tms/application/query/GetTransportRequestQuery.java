@@ -1,14 +1,15 @@
 package com.limport.tms.application.query;
 
-import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.cqrs.ICacheableQuery;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
 
 import java.util.UUID;
 
 /**
  * Query to load a single transport request by id.
+ * Results are cached per id and evicted whenever the transport request is saved.
  */
-public class GetTransportRequestQuery implements IQuery<TransportRequestResponse> {
+public class GetTransportRequestQuery implements ICacheableQuery<TransportRequestResponse> {
 
     private UUID id;
 
@@ -23,4 +24,9 @@ public class GetTransportRequestQuery implements IQuery<TransportRequestResponse
     public void setId(UUID id) {
         this.id = id;
     }
+
+    @Override
+    public Object cacheKey() {
+        return id;
+    }
 }
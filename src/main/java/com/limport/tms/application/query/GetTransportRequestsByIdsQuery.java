@@ -0,0 +1,29 @@
+package com.limport.tms.application.query;
+
+import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.dto.response.TransportRequestResponse;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Query to get many transport requests by ID in one round trip, for list views.
+ * Not cached: the hit ratio of arbitrary ID sets would be low.
+ */
+public class GetTransportRequestsByIdsQuery implements IQuery<Map<UUID, TransportRequestResponse>> {
+
+    private Set<UUID> ids;
+
+    public GetTransportRequestsByIdsQuery(Set<UUID> ids) {
+        this.ids = ids;
+    }
+
+    public Set<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(Set<UUID> ids) {
+        this.ids = ids;
+    }
+}
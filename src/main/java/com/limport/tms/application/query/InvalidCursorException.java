@@ -0,0 +1,11 @@
+package com.limport.tms.application.query;
+
+/**
+ * Thrown when a list query's cursor was not produced by a previous page.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super("Invalid cursor: " + cursor, cause);
+    }
+}
@@ -0,0 +1,29 @@
+package com.limport.tms.application.query;
+
+import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.dto.response.ActiveAssignmentResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Query for active assignments from the dashboard read model, optionally for one provider.
+ */
+public class ListActiveAssignmentsQuery implements IQuery<List<ActiveAssignmentResponse>> {
+
+    private final UUID providerId;
+    private final int limit;
+
+    public ListActiveAssignmentsQuery(UUID providerId, int limit) {
+        this.providerId = providerId;
+        this.limit = limit;
+    }
+
+    public UUID getProviderId() {
+        return providerId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
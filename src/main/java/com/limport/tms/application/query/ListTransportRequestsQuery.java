@@ -1,30 +1,54 @@
 package com.limport.tms.application.query;
 
 import com.limport.tms.application.cqrs.IQuery;
-import com.limport.tms.application.dto.response.TransportRequestResponse;
-import com.limport.tms.domain.model.enums.TransportRequestStatus;
-
-import java.util.List;
+import com.limport.tms.application.dto.response.TransportRequestPageResponse;
+import com.limport.tms.domain.port.repository.TransportRequestSearchCriteria;
 
 /**
- * Query to list transport requests, optionally filtered by status.
+ * Query to list one page of transport requests matching the given filters.
  */
-public class ListTransportRequestsQuery implements IQuery<List<TransportRequestResponse>> {
+public class ListTransportRequestsQuery implements IQuery<TransportRequestPageResponse> {
 
-    private TransportRequestStatus status;
+    private TransportRequestSearchCriteria criteria = TransportRequestSearchCriteria.NONE;
+    private String cursor;
+    private Integer limit;
 
     public ListTransportRequestsQuery() {
     }
 
-    public ListTransportRequestsQuery(TransportRequestStatus status) {
-        this.status = status;
+    public ListTransportRequestsQuery(TransportRequestSearchCriteria criteria, String cursor, Integer limit) {
+        this.criteria = criteria;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    public TransportRequestSearchCriteria getCriteria() {
+        return criteria;
+    }
+
+    public void setCriteria(TransportRequestSearchCriteria criteria) {
+        this.criteria = criteria;
+    }
+
+    /**
+     * Opaque cursor from a previous page's nextCursor; null for the first page.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
     }
 
-    public TransportRequestStatus getStatus() {
-        return status;
+    /**
+     * Requested page size; null uses the default, larger values are capped.
+     */
+    public Integer getLimit() {
+        return limit;
     }
 
-    public void setStatus(TransportRequestStatus status) {
-        this.status = status;
+    public void setLimit(Integer limit) {
+        this.limit = limit;
     }
 }
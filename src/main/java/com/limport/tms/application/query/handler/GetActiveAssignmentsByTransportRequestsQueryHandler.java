@@ -0,0 +1,35 @@
+package com.limport.tms.application.query.handler;
+
+import com.limport.tms.application.cqrs.IQueryHandler;
+import com.limport.tms.application.dto.response.AssignmentResponse;
+import com.limport.tms.application.query.GetActiveAssignmentsByTransportRequestsQuery;
+import com.limport.tms.application.service.interfaces.IAssignmentQueryService;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Handler for GetActiveAssignmentsByTransportRequestsQuery.
+ * Retrieves the active assignments of many transport requests with a single IN query.
+ */
+@Component
+public class GetActiveAssignmentsByTransportRequestsQueryHandler
+        implements IQueryHandler<GetActiveAssignmentsByTransportRequestsQuery, Map<UUID, AssignmentResponse>> {
+
+    private final IAssignmentQueryService assignmentQueryService;
+
+    public GetActiveAssignmentsByTransportRequestsQueryHandler(IAssignmentQueryService assignmentQueryService) {
+        this.assignmentQueryService = assignmentQueryService;
+    }
+
+    @Override
+    public Map<UUID, AssignmentResponse> handle(GetActiveAssignmentsByTransportRequestsQuery query) {
+        return assignmentQueryService.getActiveAssignments(query.getTransportRequestIds());
+    }
+
+    @Override
+    public Class<GetActiveAssignmentsByTransportRequestsQuery> getQueryType() {
+        return GetActiveAssignmentsByTransportRequestsQuery.class;
+    }
+}
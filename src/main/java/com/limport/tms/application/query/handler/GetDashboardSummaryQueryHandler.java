@@ -0,0 +1,31 @@
+package com.limport.tms.application.query.handler;
+
+import com.limport.tms.application.cqrs.IQueryHandler;
+import com.limport.tms.application.dto.response.DashboardSummaryResponse;
+import com.limport.tms.application.query.GetDashboardSummaryQuery;
+import com.limport.tms.application.service.interfaces.IDashboardQueryService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler for GetDashboardSummaryQuery.
+ */
+@Component
+public class GetDashboardSummaryQueryHandler
+        implements IQueryHandler<GetDashboardSummaryQuery, DashboardSummaryResponse> {
+
+    private final IDashboardQueryService queryService;
+
+    public GetDashboardSummaryQueryHandler(IDashboardQueryService queryService) {
+        this.queryService = queryService;
+    }
+
+    @Override
+    public DashboardSummaryResponse handle(GetDashboardSummaryQuery query) {
+        return queryService.getSummary(query.getLaneLimit());
+    }
+
+    @Override
+    public Class<GetDashboardSummaryQuery> getQueryType() {
+        return GetDashboardSummaryQuery.class;
+    }
+}
@@ -0,0 +1,39 @@
+package com.limport.tms.application.query.handler;
+
+import com.limport.tms.application.cqrs.IQueryHandler;
+import com.limport.tms.application.query.GetResourceVersionQuery;
+import com.limport.tms.application.service.interfaces.IAssignmentQueryService;
+import com.limport.tms.application.service.interfaces.ITransportRequestQueryService;
+import com.limport.tms.domain.port.repository.EntityVersion;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler for GetResourceVersionQuery.
+ */
+@Component
+public class GetResourceVersionQueryHandler implements IQueryHandler<GetResourceVersionQuery, EntityVersion> {
+
+    private final ITransportRequestQueryService transportRequestQueryService;
+    private final IAssignmentQueryService assignmentQueryService;
+
+    public GetResourceVersionQueryHandler(
+            ITransportRequestQueryService transportRequestQueryService,
+            IAssignmentQueryService assignmentQueryService) {
+        this.transportRequestQueryService = transportRequestQueryService;
+        this.assignmentQueryService = assignmentQueryService;
+    }
+
+    @Override
+    public EntityVersion handle(GetResourceVersionQuery query) {
+        return switch (query.getResource()) {
+            case TRANSPORT_REQUEST -> transportRequestQueryService.getVersion(query.getId());
+            case ASSIGNMENT -> assignmentQueryService.getVersion(query.getId());
+            case ACTIVE_ASSIGNMENT -> assignmentQueryService.getActiveAssignmentVersion(query.getId());
+        };
+    }
+
+    @Override
+    public Class<GetResourceVersionQuery> getQueryType() {
+        return GetResourceVersionQuery.class;
+    }
+}
@@ -0,0 +1,35 @@
+package com.limport.tms.application.query.handler;
+
+import com.limport.tms.application.cqrs.IQueryHandler;
+import com.limport.tms.application.dto.response.TransportRequestResponse;
+import com.limport.tms.application.query.GetTransportRequestsByIdsQuery;
+import com.limport.tms.application.service.interfaces.ITransportRequestQueryService;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Handler for GetTransportRequestsByIdsQuery.
+ * Retrieves the requested transport requests with a single IN query.
+ */
+@Component
+public class GetTransportRequestsByIdsQueryHandler
+        implements IQueryHandler<GetTransportRequestsByIdsQuery, Map<UUID, TransportRequestResponse>> {
+
+    private final ITransportRequestQueryService queryService;
+
+    public GetTransportRequestsByIdsQueryHandler(ITransportRequestQueryService queryService) {
+        this.queryService = queryService;
+    }
+
+    @Override
+    public Map<UUID, TransportRequestResponse> handle(GetTransportRequestsByIdsQuery query) {
+        return queryService.getByIds(query.getIds());
+    }
+
+    @Override
+    public Class<GetTransportRequestsByIdsQuery> getQueryType() {
+        return GetTransportRequestsByIdsQuery.class;
+    }
+}
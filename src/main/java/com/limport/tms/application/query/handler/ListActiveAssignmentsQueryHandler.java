@@ -0,0 +1,33 @@
+package com.limport.tms.application.query.handler;
+
+import com.limport.tms.application.cqrs.IQueryHandler;
+import com.limport.tms.application.dto.response.ActiveAssignmentResponse;
+import com.limport.tms.application.query.ListActiveAssignmentsQuery;
+import com.limport.tms.application.service.interfaces.IDashboardQueryService;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Handler for ListActiveAssignmentsQuery.
+ */
+@Component
+public class ListActiveAssignmentsQueryHandler
+        implements IQueryHandler<ListActiveAssignmentsQuery, List<ActiveAssignmentResponse>> {
+
+    private final IDashboardQueryService queryService;
+
+    public ListActiveAssignmentsQueryHandler(IDashboardQueryService queryService) {
+        this.queryService = queryService;
+    }
+
+    @Override
+    public List<ActiveAssignmentResponse> handle(ListActiveAssignmentsQuery query) {
+        return queryService.listActiveAssignments(query.getProviderId(), query.getLimit());
+    }
+
+    @Override
+    public Class<ListActiveAssignmentsQuery> getQueryType() {
+        return ListActiveAssignmentsQuery.class;
+    }
+}
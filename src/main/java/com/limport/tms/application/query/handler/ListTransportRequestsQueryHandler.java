@@ -1,20 +1,21 @@
 package com.limport.tms.application.query.handler;
 
+import com.limport.tms.application.cqrs.ConcurrencyLimit;
 import com.limport.tms.application.cqrs.IQueryHandler;
-import com.limport.tms.application.dto.response.TransportRequestResponse;
+import com.limport.tms.application.dto.response.TransportRequestPageResponse;
 import com.limport.tms.application.query.ListTransportRequestsQuery;
 import com.limport.tms.application.service.interfaces.ITransportRequestQueryService;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 /**
  * Handler for ListTransportRequestsQuery.
- * Lists transport requests, optionally filtered by status.
+ * Lists one keyset page of transport requests matching the query's filters.
+ * Filters on unindexed columns still scan, so concurrent executions stay capped.
  */
 @Component
+@ConcurrencyLimit(value = 8, acquireTimeoutMs = 1000)
 public class ListTransportRequestsQueryHandler 
-        implements IQueryHandler<ListTransportRequestsQuery, List<TransportRequestResponse>> {
+        implements IQueryHandler<ListTransportRequestsQuery, TransportRequestPageResponse> {
 
     private final ITransportRequestQueryService queryService;
 
@@ -23,11 +24,8 @@ public class ListTransportRequestsQueryHandler
     }
 
     @Override
-    public List<TransportRequestResponse> handle(ListTransportRequestsQuery query) {
-        if (query.getStatus() != null) {
-            return queryService.listByStatus(query.getStatus());
-        }
-        return queryService.listAll();
+    public TransportRequestPageResponse handle(ListTransportRequestsQuery query) {
+        return queryService.search(query.getCriteria(), query.getCursor(), query.getLimit());
     }
 
     @Override
@@ -4,16 +4,22 @@ import com.limport.tms.application.dto.response.AssignmentResponse;
 import com.limport.tms.application.mapper.AssignmentMapper;
 import com.limport.tms.application.service.interfaces.IAssignmentQueryService;
 import com.limport.tms.domain.model.entity.Assignment;
+import com.limport.tms.domain.port.repository.AssignmentView;
+import com.limport.tms.domain.port.repository.EntityVersion;
 import com.limport.tms.domain.port.repository.IAssignmentRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Query service implementation for assignments.
+ * Lists read AssignmentView rows projected by the repository instead of loading entities.
  */
 @Service
 @Transactional(readOnly = true)
@@ -35,9 +41,14 @@ public class AssignmentQueryServiceImpl implements IAssignmentQueryService {
         return assignmentMapper.toResponse(assignment);
     }
 
+    @Override
+    public EntityVersion getVersion(UUID id) {
+        return assignmentRepository.findVersionById(id).orElse(null);
+    }
+
     @Override
     public List<AssignmentResponse> listByTransportRequest(UUID transportRequestId) {
-        return assignmentRepository.findByTransportRequestId(transportRequestId)
+        return assignmentRepository.findViewsByTransportRequestId(transportRequestId)
             .stream()
             .map(assignmentMapper::toResponse)
             .collect(Collectors.toList());
@@ -45,7 +56,7 @@ public class AssignmentQueryServiceImpl implements IAssignmentQueryService {
 
     @Override
     public List<AssignmentResponse> listByProvider(UUID providerId) {
-        return assignmentRepository.findByProviderId(providerId)
+        return assignmentRepository.findViewsByProviderId(providerId)
             .stream()
             .map(assignmentMapper::toResponse)
             .collect(Collectors.toList());
@@ -67,4 +78,23 @@ public class AssignmentQueryServiceImpl implements IAssignmentQueryService {
             
         return assignmentMapper.toResponse(latest);
     }
+
+    @Override
+    public Map<UUID, AssignmentResponse> getActiveAssignments(Collection<UUID> transportRequestIds) {
+        Map<UUID, AssignmentView> latest =
+            assignmentRepository.findLatestActiveViewsByTransportRequestIds(transportRequestIds);
+        Map<UUID, AssignmentResponse> responses = new LinkedHashMap<>();
+        for (UUID transportRequestId : transportRequestIds) {
+            AssignmentView view = latest.get(transportRequestId);
+            if (view != null) {
+                responses.put(transportRequestId, assignmentMapper.toResponse(view));
+            }
+        }
+        return responses;
+    }
+
+    @Override
+    public EntityVersion getActiveAssignmentVersion(UUID transportRequestId) {
+        return assignmentRepository.findActiveVersionByTransportRequestId(transportRequestId).orElse(null);
+    }
 }
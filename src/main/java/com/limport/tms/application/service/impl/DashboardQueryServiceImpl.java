@@ -0,0 +1,66 @@
+package com.limport.tms.application.service.impl;
+
+import com.limport.tms.application.dto.response.ActiveAssignmentResponse;
+import com.limport.tms.application.dto.response.DashboardSummaryResponse;
+import com.limport.tms.application.service.interfaces.IDashboardQueryService;
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.port.repository.IDashboardReadModelRepository;
+import com.limport.tms.domain.port.repository.IDashboardReadModelRepository.LaneCount;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Application service handling dashboard queries against the dashboard read model.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DashboardQueryServiceImpl implements IDashboardQueryService {
+
+    private final IDashboardReadModelRepository repository;
+
+    public DashboardQueryServiceImpl(IDashboardReadModelRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public DashboardSummaryResponse getSummary(int laneLimit) {
+        // Rows arrive busiest lane first, one per lane and status
+        Map<String, List<LaneCount>> byLane = new LinkedHashMap<>();
+        for (LaneCount count : repository.findBusiestLanes(laneLimit)) {
+            byLane.computeIfAbsent(count.originLocationCode() + "->" + count.destinationLocationCode(),
+                lane -> new ArrayList<>()).add(count);
+        }
+
+        List<DashboardSummaryResponse.LaneSummary> lanes = new ArrayList<>(byLane.size());
+        for (List<LaneCount> counts : byLane.values()) {
+            Map<TransportRequestStatus, Long> countsByStatus = new EnumMap<>(TransportRequestStatus.class);
+            counts.forEach(count -> countsByStatus.put(count.status(), count.count()));
+            LaneCount first = counts.get(0);
+            lanes.add(new DashboardSummaryResponse.LaneSummary(
+                first.originLocationCode(), first.destinationLocationCode(), countsByStatus));
+        }
+        return new DashboardSummaryResponse(repository.countByStatus(), lanes);
+    }
+
+    @Override
+    public List<ActiveAssignmentResponse> listActiveAssignments(UUID providerId, int limit) {
+        return repository.findActiveAssignments(providerId, limit).stream()
+            .map(summary -> new ActiveAssignmentResponse(
+                summary.transportRequestId(),
+                summary.customerId(),
+                summary.originLocationCode(),
+                summary.destinationLocationCode(),
+                summary.status(),
+                summary.providerId(),
+                summary.vehicleId(),
+                summary.assignedAt()))
+            .toList();
+    }
+}
@@ -1,10 +1,14 @@
 package com.limport.tms.application.service.impl;
 
+import com.limport.tms.application.cqrs.IQueryCacheInvalidator;
 import com.limport.tms.application.event.InternalEventHandlerRegistry;
+import com.limport.tms.application.query.GetActiveAssignmentQuery;
+import com.limport.tms.application.query.GetTransportRequestQuery;
 import com.limport.tms.domain.event.IDomainEvent;
 import com.limport.tms.domain.model.aggregate.AggregateRoot;
 import com.limport.tms.domain.model.entity.OutboxEvent;
 import com.limport.tms.domain.port.repository.IOutboxEventRepository;
+import com.limport.tms.application.service.interfaces.IAfterCommitEventDispatcher;
 import com.limport.tms.application.service.interfaces.IDomainEventService;
 import com.limport.tms.application.service.interfaces.IUnifiedEventSerializer;
 import org.slf4j.Logger;
@@ -15,22 +19,35 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Implementation of domain event service using the transactional outbox pattern.
  * 
  * Flow:
- * 1. collectAndStore: Saves events to outbox table (same transaction as aggregate)
+ * 1. collectAndStore: Runs in-transaction internal handlers
+ * 2. collectAndStore: Saves events to outbox table (same transaction as aggregate)
+ * 3. collectAndStore: Queues events with after-commit handlers, per aggregate, for once the transaction commits
+ * 4. collectAndStore: Evicts cached query results for the aggregate, now and again after commit
+ *
+ * collectAndStoreAll does the same for a batch of aggregates with one backpressure
+ * check and one batched outbox insert.
  */
 @Service
 public class DomainEventServiceImpl implements IDomainEventService {
     
     private static final Logger log = LoggerFactory.getLogger(DomainEventServiceImpl.class);
+
+    private static final String TRANSPORT_REQUEST = "TransportRequest";
     
     private final IOutboxEventRepository outboxRepository;
     private final IUnifiedEventSerializer eventSerializer;
     private final InternalEventHandlerRegistry internalEventHandlerRegistry;
+    private final IAfterCommitEventDispatcher afterCommitEventDispatcher;
+    private final IQueryCacheInvalidator queryCacheInvalidator;
     
     @Value("${tms.outbox.backpressure-threshold:5000}")
     private long backpressureThreshold;
@@ -38,10 +55,14 @@ public class DomainEventServiceImpl implements IDomainEventService {
     public DomainEventServiceImpl(
             IOutboxEventRepository outboxRepository,
             IUnifiedEventSerializer eventSerializer,
-            InternalEventHandlerRegistry internalEventHandlerRegistry) {
+            InternalEventHandlerRegistry internalEventHandlerRegistry,
+            IAfterCommitEventDispatcher afterCommitEventDispatcher,
+            IQueryCacheInvalidator queryCacheInvalidator) {
         this.outboxRepository = outboxRepository;
         this.eventSerializer = eventSerializer;
         this.internalEventHandlerRegistry = internalEventHandlerRegistry;
+        this.afterCommitEventDispatcher = afterCommitEventDispatcher;
+        this.queryCacheInvalidator = queryCacheInvalidator;
     }
     
     @Override
@@ -51,21 +72,18 @@ public class DomainEventServiceImpl implements IDomainEventService {
             return;
         }
 
-        // Check for backpressure - if outbox is too full, log warning but continue
-        // This prevents unbounded growth while still allowing the transaction to complete
-        long pendingCount = outboxRepository.countPendingEvents();
-        if (pendingCount > backpressureThreshold) {
-            log.warn("Outbox queue size {} exceeds backpressure threshold {}. " +
-                "Event processing may be delayed. Aggregate: {} ({})",
-                pendingCount, backpressureThreshold, aggregateType, aggregate.getId());
-        }
+        checkBackpressure(aggregateType, aggregate.getId());
 
         // Get events from aggregate
         List<IDomainEvent> events = new ArrayList<>(aggregate.getDomainEvents());
 
-        // Dispatch events to synchronous internal handlers
+        // Dispatch events to in-transaction internal handlers
+        List<IDomainEvent> afterCommitEvents = new ArrayList<>();
         for (IDomainEvent event : events) {
             internalEventHandlerRegistry.dispatch(event);
+            if (internalEventHandlerRegistry.hasAfterCommitHandler(event.eventType())) {
+                afterCommitEvents.add(event);
+            }
         }
 
         // Store events in outbox for asynchronous external publishing
@@ -73,38 +91,97 @@ public class DomainEventServiceImpl implements IDomainEventService {
         String aggregateId = aggregate.getId().toString();
 
         for (IDomainEvent event : events) {
-            String payload = eventSerializer.serialize(event);
-            OutboxEvent outboxEvent = new OutboxEvent(
-                event.eventType(),
-                aggregateType,
-                aggregateId,
-                payload,
-                event.occurredOn()
-            );
-            outboxEvents.add(outboxEvent);
+            outboxEvents.add(toOutboxEvent(event, aggregateType, aggregateId));
         }
 
         outboxRepository.saveAll(outboxEvents);
         aggregate.clearDomainEvents();
+        evictCachedQueries(aggregateType, aggregate.getId());
+
+        // Handled once the transaction commits, serially per aggregate
+        afterCommitEventDispatcher.dispatchAfterCommit(aggregateType + ":" + aggregateId, afterCommitEvents);
 
-        log.debug("Processed {} events for aggregate {} ({}): {} handled internally, {} stored for external publishing",
-            events.size(), aggregateType, aggregateId, events.size(), outboxEvents.size());
+        log.debug("Processed {} events for aggregate {} ({}): {} queued for after-commit handlers, {} stored for external publishing",
+            events.size(), aggregateType, aggregateId, afterCommitEvents.size(), outboxEvents.size());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void collectAndStoreAll(List<? extends AggregateRoot> aggregates, String aggregateType) {
+        if (aggregates.isEmpty()) {
+            return;
+        }
+
+        checkBackpressure(aggregateType, aggregates.size() + " aggregates");
+
+        List<OutboxEvent> outboxEvents = new ArrayList<>();
+        Map<String, List<IDomainEvent>> afterCommitEvents = new LinkedHashMap<>();
+
+        for (AggregateRoot aggregate : aggregates) {
+            if (!aggregate.hasPendingEvents()) {
+                continue;
+            }
+            String aggregateId = aggregate.getId().toString();
+
+            for (IDomainEvent event : aggregate.getDomainEvents()) {
+                internalEventHandlerRegistry.dispatch(event);
+                if (internalEventHandlerRegistry.hasAfterCommitHandler(event.eventType())) {
+                    afterCommitEvents.computeIfAbsent(aggregateType + ":" + aggregateId, key -> new ArrayList<>())
+                        .add(event);
+                }
+                outboxEvents.add(toOutboxEvent(event, aggregateType, aggregateId));
+            }
+            aggregate.clearDomainEvents();
+            evictCachedQueries(aggregateType, aggregate.getId());
+        }
+
+        outboxRepository.insertAll(outboxEvents);
+        afterCommitEvents.forEach(afterCommitEventDispatcher::dispatchAfterCommit);
+
+        log.debug("Stored {} events for {} {} aggregates; {} aggregates queued for after-commit handlers",
+            outboxEvents.size(), aggregates.size(), aggregateType, afterCommitEvents.size());
     }
 
     @Override
     @Transactional(propagation = Propagation.MANDATORY)
     public void publishToOutbox(IDomainEvent event, String aggregateType, String aggregateId) {
-        String payload = eventSerializer.serialize(event);
-        OutboxEvent outboxEvent = new OutboxEvent(
+        outboxRepository.save(toOutboxEvent(event, aggregateType, aggregateId));
+        
+        log.debug("Stored event {} for aggregate {} ({})", 
+            event.eventType(), aggregateType, aggregateId);
+    }
+
+    /**
+     * If the outbox is too full, log a warning but continue.
+     * This flags unbounded growth while still allowing the transaction to complete.
+     */
+    private void checkBackpressure(String aggregateType, Object aggregate) {
+        long pendingCount = outboxRepository.countPendingEvents();
+        if (pendingCount > backpressureThreshold) {
+            log.warn("Outbox queue size {} exceeds backpressure threshold {}. " +
+                "Event processing may be delayed. Aggregate: {} ({})",
+                pendingCount, backpressureThreshold, aggregateType, aggregate);
+        }
+    }
+
+    /**
+     * Any event means the aggregate changed, so this is the one place query results
+     * cached for it need to be evicted, whichever command raised the event.
+     */
+    private void evictCachedQueries(String aggregateType, UUID aggregateId) {
+        if (TRANSPORT_REQUEST.equals(aggregateType)) {
+            queryCacheInvalidator.invalidate(GetTransportRequestQuery.class, aggregateId);
+            queryCacheInvalidator.invalidate(GetActiveAssignmentQuery.class, aggregateId);
+        }
+    }
+
+    private OutboxEvent toOutboxEvent(IDomainEvent event, String aggregateType, String aggregateId) {
+        return new OutboxEvent(
             event.eventType(),
             aggregateType,
             aggregateId,
-            payload,
+            eventSerializer.serialize(event),
             event.occurredOn()
         );
-        outboxRepository.save(outboxEvent);
-        
-        log.debug("Stored event {} for aggregate {} ({})", 
-            event.eventType(), aggregateType, aggregateId);
     }
 }
@@ -0,0 +1,223 @@
+package com.limport.tms.application.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.limport.tms.application.dto.response.AssignmentResponse;
+import com.limport.tms.application.dto.response.TransportRequestResponse;
+import com.limport.tms.application.mapper.AssignmentMapper;
+import com.limport.tms.application.mapper.TransportRequestMapper;
+import com.limport.tms.application.service.interfaces.IExportService;
+import com.limport.tms.domain.port.repository.IAssignmentRepository;
+import com.limport.tms.domain.port.repository.ITransportRequestRepository;
+import com.limport.tms.domain.port.repository.TransportRequestSearchCriteria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Streams transport requests and assignments to CSV or NDJSON.
+ *
+ * Each export runs in one read-only transaction so the repositories can read through a
+ * database cursor; rows are mapped to the same response DTOs as the API and written
+ * immediately, nothing is collected.
+ *
+ * Trade-offs:
+ * - The transaction (and its connection) stays open for the whole download, so a slow
+ *   client holds a pooled connection
+ * - Failures after the first row can only truncate the output, not change the status code
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements IExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportServiceImpl.class);
+
+    private static final List<Column<TransportRequestResponse>> TRANSPORT_REQUEST_COLUMNS = List.of(
+        new Column<>("id", TransportRequestResponse::getId),
+        new Column<>("reference", TransportRequestResponse::getReference),
+        new Column<>("customerId", TransportRequestResponse::getCustomerId),
+        new Column<>("originLocationCode", TransportRequestResponse::getOriginLocationCode),
+        new Column<>("destinationLocationCode", TransportRequestResponse::getDestinationLocationCode),
+        new Column<>("pickupFrom", TransportRequestResponse::getPickupFrom),
+        new Column<>("pickupUntil", TransportRequestResponse::getPickupUntil),
+        new Column<>("deliveryFrom", TransportRequestResponse::getDeliveryFrom),
+        new Column<>("deliveryUntil", TransportRequestResponse::getDeliveryUntil),
+        new Column<>("totalWeight", TransportRequestResponse::getTotalWeight),
+        new Column<>("totalPackages", TransportRequestResponse::getTotalPackages),
+        new Column<>("status", TransportRequestResponse::getStatus),
+        new Column<>("createdAt", TransportRequestResponse::getCreatedAt),
+        new Column<>("lastUpdatedAt", TransportRequestResponse::getLastUpdatedAt));
+
+    private static final List<Column<AssignmentResponse>> ASSIGNMENT_COLUMNS = List.of(
+        new Column<>("id", AssignmentResponse::getId),
+        new Column<>("transportRequestId", AssignmentResponse::getTransportRequestId),
+        new Column<>("providerId", AssignmentResponse::getProviderId),
+        new Column<>("vehicleId", AssignmentResponse::getVehicleId),
+        new Column<>("scheduledPickupTime", AssignmentResponse::getScheduledPickupTime),
+        new Column<>("estimatedDeliveryTime", AssignmentResponse::getEstimatedDeliveryTime),
+        new Column<>("assignmentNotes", AssignmentResponse::getAssignmentNotes),
+        new Column<>("status", AssignmentResponse::getStatus),
+        new Column<>("assignedBy", AssignmentResponse::getAssignedBy),
+        new Column<>("assignedAt", AssignmentResponse::getAssignedAt),
+        new Column<>("lastUpdatedAt", AssignmentResponse::getLastUpdatedAt));
+
+    private final ITransportRequestRepository transportRequestRepository;
+    private final IAssignmentRepository assignmentRepository;
+    private final TransportRequestMapper transportRequestMapper;
+    private final AssignmentMapper assignmentMapper;
+    private final ObjectMapper objectMapper;
+
+    public ExportServiceImpl(
+            ITransportRequestRepository transportRequestRepository,
+            IAssignmentRepository assignmentRepository,
+            TransportRequestMapper transportRequestMapper,
+            AssignmentMapper assignmentMapper,
+            ObjectMapper objectMapper) {
+        this.transportRequestRepository = transportRequestRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.transportRequestMapper = transportRequestMapper;
+        this.assignmentMapper = assignmentMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void exportTransportRequests(TransportRequestSearchCriteria criteria, Format format, OutputStream out)
+            throws IOException {
+        try (RowWriter<TransportRequestResponse> writer = open(format, out, TRANSPORT_REQUEST_COLUMNS)) {
+            transportRequestRepository.forEachMatching(criteria,
+                request -> writer.write(transportRequestMapper.toResponse(request)));
+            log.info("Exported {} transport requests as {}", writer.rows, format);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public void exportAssignments(Format format, OutputStream out) throws IOException {
+        try (RowWriter<AssignmentResponse> writer = open(format, out, ASSIGNMENT_COLUMNS)) {
+            assignmentRepository.forEach(assignment -> writer.write(assignmentMapper.toResponse(assignment)));
+            log.info("Exported {} assignments as {}", writer.rows, format);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private <T> RowWriter<T> open(Format format, OutputStream out, List<Column<T>> columns) throws IOException {
+        return format == Format.CSV ? new CsvRowWriter<>(out, columns) : new NdjsonRowWriter<>(out, objectMapper);
+    }
+
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    /**
+     * Writes one row at a time; callers run it from a repository callback, so I/O
+     * errors are rethrown unchecked. Flushes but does not close the target stream.
+     */
+    private abstract static class RowWriter<T> implements AutoCloseable {
+
+        long rows;
+
+        final void write(T row) {
+            try {
+                writeRow(row);
+                rows++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        abstract void writeRow(T row) throws IOException;
+
+        @Override
+        public abstract void close() throws IOException;
+    }
+
+    private static final class CsvRowWriter<T> extends RowWriter<T> {
+
+        private final Writer writer;
+        private final List<Column<T>> columns;
+
+        CsvRowWriter(OutputStream out, List<Column<T>> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.columns = columns;
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(columns.get(i).name());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        void writeRow(T row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = columns.get(i).value().apply(row);
+                if (value != null) {
+                    writer.write(escape(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        /**
+         * RFC 4180: quote fields containing a separator, quote or line break; double inner quotes.
+         */
+        private static String escape(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                    return '"' + value.replace("\"", "\"\"") + '"';
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class NdjsonRowWriter<T> extends RowWriter<T> {
+
+        private final ObjectWriter rowWriter;
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            // Let the generator buffer fill instead of flushing the response after every row
+            this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Rows are separated by the explicit '\n' only, not the default ' ' between root values
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void writeRow(T row) throws IOException {
+            rowWriter.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
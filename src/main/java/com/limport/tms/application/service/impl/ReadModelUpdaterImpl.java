@@ -1,41 +1,109 @@
 package com.limport.tms.application.service.impl;
 
 import com.limport.tms.application.service.interfaces.IReadModelUpdater;
+import com.limport.tms.domain.port.repository.IDashboardReadModelRepository;
+import com.limport.tms.domain.port.repository.IDashboardReadModelRepository.Summary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
- * Implementation of read model updater for internal dashboards.
- * Currently logs updates - in a real implementation, this would update
- * database tables or cache used by dashboard queries.
+ * Maintains the dashboard read model incrementally.
+ *
+ * Each refresh re-reads one transport request from the write tables and applies the
+ * difference to the read model: upsert or delete the summary, move one count between
+ * (lane, status) buckets and their lane and status totals, upsert or delete the active assignment. Re-reading rather than
+ * applying event payloads makes refreshes idempotent and order-independent, which matters
+ * because after-commit handlers for one request can run concurrently.
+ *
+ * Trade-offs:
+ * - One primary key read of the write tables per event
+ * - Count rows of busy lanes are updated by every transition on that lane
+ * - The handful of status total rows are updated by every transition, so concurrent
+ *   refreshes queue briefly on them; both adjustments are made in status order so
+ *   they always lock those rows in the same order and cannot deadlock
  */
 @Service
 public class ReadModelUpdaterImpl implements IReadModelUpdater {
 
     private static final Logger log = LoggerFactory.getLogger(ReadModelUpdaterImpl.class);
 
+    private final IDashboardReadModelRepository repository;
+
+    public ReadModelUpdaterImpl(IDashboardReadModelRepository repository) {
+        this.repository = repository;
+    }
+
     @Override
-    public void updateTransportRequestSummary(UUID transportRequestId, String origin, String destination) {
-        log.info("Updating transport request summary read model: requestId={}, origin={}, destination={}",
-            transportRequestId, origin, destination);
+    @Transactional
+    public Optional<Refreshed> refreshTransportRequest(UUID transportRequestId) {
+        repository.lock(transportRequestId);
+        Optional<Summary> previous = repository.findSummary(transportRequestId);
+        Optional<Summary> current = repository.loadFromWriteModel(transportRequestId);
+
+        if (previous.equals(current)) {
+            log.debug("Dashboard read model already current for: {}", transportRequestId);
+            return current.map(summary -> new Refreshed(summary, null));
+        }
 
-        // TODO: Update database read model tables for dashboard queries
-        // Example: Insert/update record in transport_request_summary table
-        // with aggregated data for origin/destination statistics
+        if (!sameCountBucket(previous, current)) {
+            boolean previousFirst = previous.isEmpty() || current.isEmpty()
+                || previous.get().status().compareTo(current.get().status()) <= 0;
+            if (previousFirst) {
+                previous.ifPresent(summary -> adjustCount(summary, -1));
+                current.ifPresent(summary -> adjustCount(summary, 1));
+            } else {
+                current.ifPresent(summary -> adjustCount(summary, 1));
+                previous.ifPresent(summary -> adjustCount(summary, -1));
+            }
+        }
 
-        log.debug("Transport request summary read model updated for: {}", transportRequestId);
+        if (current.isPresent()) {
+            repository.saveSummary(current.get());
+        } else {
+            repository.deleteSummary(transportRequestId);
+        }
+
+        if (current.isPresent() && current.get().hasActiveAssignment()) {
+            repository.saveActiveAssignment(current.get());
+        } else if (previous.isPresent() && previous.get().hasActiveAssignment()) {
+            repository.deleteActiveAssignment(transportRequestId);
+        }
+
+        log.debug("Dashboard read model updated for: {} ({} -> {})", transportRequestId,
+            previous.map(Summary::status).orElse(null), current.map(Summary::status).orElse(null));
+        UUID previousProviderId = previous.map(Summary::providerId)
+            .filter(providerId -> !providerId.equals(current.map(Summary::providerId).orElse(null)))
+            .orElse(null);
+        return current.map(summary -> new Refreshed(summary, previousProviderId));
     }
 
     @Override
-    public void updateActiveAssignments(UUID transportRequestId) {
-        log.info("Updating active assignments read model: requestId={}", transportRequestId);
+    @Transactional
+    public int rebuild() {
+        int rebuilt = repository.rebuild();
+        log.info("Rebuilt dashboard read model with {} transport requests", rebuilt);
+        return rebuilt;
+    }
 
-        // TODO: Update operational dashboard read models
-        // Example: Update active_assignments table with new assignment data
+    private static boolean sameCountBucket(Optional<Summary> previous, Optional<Summary> current) {
+        if (previous.isEmpty() || current.isEmpty()) {
+            return previous.isEmpty() && current.isEmpty();
+        }
+        Summary before = previous.get();
+        Summary after = current.get();
+        return before.status() == after.status()
+            && Objects.equals(before.originLocationCode(), after.originLocationCode())
+            && Objects.equals(before.destinationLocationCode(), after.destinationLocationCode());
+    }
 
-        log.debug("Active assignments read model updated for: {}", transportRequestId);
+    private void adjustCount(Summary summary, long delta) {
+        repository.adjustLaneCount(summary.originLocationCode(), summary.destinationLocationCode(),
+            summary.status(), delta);
     }
-}
\ No newline at end of file
+}
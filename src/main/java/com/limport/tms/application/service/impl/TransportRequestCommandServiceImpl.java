@@ -3,6 +3,8 @@ package com.limport.tms.application.service.impl;
 import com.limport.tms.application.dto.request.AssignProviderRequest;
 import com.limport.tms.application.dto.request.CancelTransportRequestRequest;
 import com.limport.tms.application.dto.request.CreateTransportRequest;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse.ItemResult;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
 import com.limport.tms.application.mapper.TransportRequestMapper;
 import com.limport.tms.application.service.interfaces.IDomainEventService;
@@ -17,29 +19,51 @@ import com.limport.tms.domain.port.repository.ITransportRequestRepository;
 import com.limport.tms.domain.port.service.IProviderMatchingClient;
 import com.limport.tms.domain.port.service.IRouteValidator;
 import com.limport.tms.domain.service.TransportRequestStateMachine;
+import com.limport.tms.domain.service.UuidV7Generator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Application service handling transport request commands.
  * Orchestrates domain logic, persistence, and event publishing.
+ *
+ * Batch creation validates every item up front, then inserts the valid ones in chunks of
+ * tms.batch.chunk-size, one transaction per chunk, with JDBC batch inserts for both the
+ * requests and their outbox rows. A failing chunk is rolled back on its own and its items
+ * are reported as FAILED; earlier chunks stay committed.
  */
 @Service
 public class TransportRequestCommandServiceImpl implements ITransportRequestCommandService {
 
+    private static final Logger log = LoggerFactory.getLogger(TransportRequestCommandServiceImpl.class);
+
     private final ITransportRequestRepository repository;
     private final IAssignmentRepository assignmentRepository;
     private final IDomainEventService eventService;
     private final TransportRequestMapper mapper;
     private final IProviderMatchingClient pmsClient;
     private final IRouteValidator routeValidator;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchChunkSize;
 
     public TransportRequestCommandServiceImpl(
             ITransportRequestRepository repository,
@@ -47,19 +71,104 @@ public class TransportRequestCommandServiceImpl implements ITransportRequestComm
             IDomainEventService eventService,
             TransportRequestMapper mapper,
             IProviderMatchingClient pmsClient,
-            IRouteValidator routeValidator) {
+            IRouteValidator routeValidator,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            @Value("${tms.batch.chunk-size:500}") int batchChunkSize) {
         this.repository = repository;
         this.assignmentRepository = assignmentRepository;
         this.eventService = eventService;
         this.mapper = mapper;
         this.pmsClient = pmsClient;
         this.routeValidator = routeValidator;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchChunkSize = batchChunkSize;
     }
 
     @Override
     @Transactional
     public TransportRequestResponse createTransportRequest(CreateTransportRequest request) {
         // Create domain aggregate (encapsulates business logic and raises events)
+        TransportRequestAggregate aggregate = newAggregate(request);
+
+        // Convert aggregate to entity and persist
+        TransportRequest transportRequest = aggregateToEntity(aggregate);
+        transportRequest.setReference(generateReference(aggregate.getId()));
+        TransportRequest saved = repository.save(transportRequest);
+
+        // Publish domain events raised by the aggregate
+        eventService.collectAndStore(aggregate, "TransportRequest");
+
+        return mapper.toResponse(saved);
+    }
+
+    @Override
+    public BatchCreateTransportRequestsResponse createTransportRequests(List<CreateTransportRequest> requests) {
+        ItemResult[] results = new ItemResult[requests.size()];
+
+        // Validate everything first so rejected items never split a chunk
+        List<Integer> valid = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> errors = validate(requests.get(i));
+            if (errors.isEmpty()) {
+                valid.add(i);
+            } else {
+                results[i] = ItemResult.rejected(i, errors);
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += batchChunkSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + batchChunkSize, valid.size()));
+            try {
+                List<TransportRequest> created = transactionTemplate.execute(status -> insertChunk(requests, chunk));
+                for (int k = 0; k < chunk.size(); k++) {
+                    TransportRequest request = created.get(k);
+                    results[chunk.get(k)] = ItemResult.created(chunk.get(k), request.getId(), request.getReference());
+                }
+            } catch (RuntimeException e) {
+                log.error("Batch chunk of {} transport requests (items {}..{}) rolled back: {}",
+                    chunk.size(), chunk.get(0), chunk.get(chunk.size() - 1), e.getMessage(), e);
+                for (Integer index : chunk) {
+                    results[index] = ItemResult.failed(index, "Not persisted: " + e.getMessage());
+                }
+            }
+        }
+
+        BatchCreateTransportRequestsResponse response = new BatchCreateTransportRequestsResponse(Arrays.asList(results));
+        log.info("Batch create of {} transport requests: {} created, {} rejected, {} failed",
+            response.getTotal(), response.getCreated(), response.getRejected(), response.getFailed());
+        return response;
+    }
+
+    private List<TransportRequest> insertChunk(List<CreateTransportRequest> requests, List<Integer> indexes) {
+        List<TransportRequestAggregate> aggregates = new ArrayList<>(indexes.size());
+        List<TransportRequest> entities = new ArrayList<>(indexes.size());
+        for (Integer index : indexes) {
+            TransportRequestAggregate aggregate = newAggregate(requests.get(index));
+            TransportRequest entity = aggregateToEntity(aggregate);
+            entity.setReference(generateReference(aggregate.getId()));
+            aggregates.add(aggregate);
+            entities.add(entity);
+        }
+
+        repository.insertAll(entities);
+        eventService.collectAndStoreAll(aggregates, "TransportRequest");
+        return entities;
+    }
+
+    private List<String> validate(CreateTransportRequest request) {
+        if (request == null) {
+            return List.of("item must not be null");
+        }
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<CreateTransportRequest> violation : validator.validate(request)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return errors;
+    }
+
+    private TransportRequestAggregate newAggregate(CreateTransportRequest request) {
         Map<String, Object> requestDetails = new HashMap<>();
         requestDetails.put("totalWeight", request.getTotalWeight());
         requestDetails.put("totalPackages", request.getTotalPackages());
@@ -68,23 +177,15 @@ public class TransportRequestCommandServiceImpl implements ITransportRequestComm
         requestDetails.put("deliveryFrom", request.getDeliveryUntil().minusHours(2)); // Default 2-hour window
         requestDetails.put("deliveryUntil", request.getDeliveryUntil());
         requestDetails.put("notes", request.getNotes());
+        // Optional fields are left out: the created event copies the map with Map.copyOf
+        requestDetails.values().removeIf(Objects::isNull);
 
-        TransportRequestAggregate aggregate = TransportRequestAggregate.create(
+        return TransportRequestAggregate.create(
             request.getCustomerId(),
             request.getOriginLocationCode(),
             request.getDestinationLocationCode(),
             requestDetails
         );
-
-        // Convert aggregate to entity and persist
-        TransportRequest transportRequest = aggregateToEntity(aggregate);
-        transportRequest.setReference(generateReference());
-        TransportRequest saved = repository.save(transportRequest);
-
-        // Publish domain events raised by the aggregate
-        eventService.collectAndStore(aggregate, "TransportRequest");
-
-        return mapper.toResponse(saved);
     }
 
     @Override
@@ -214,8 +315,13 @@ public class TransportRequestCommandServiceImpl implements ITransportRequestComm
         return mapper.toResponse(saved);
     }
 
-    private String generateReference() {
-        return "TR-" + System.currentTimeMillis();
+    /**
+     * Millisecond prefix as before, plus random bits of the v7 ID so that requests
+     * created in the same millisecond (e.g. one batch chunk) get distinct references.
+     */
+    private String generateReference(UUID id) {
+        return String.format("TR-%d-%012X", UuidV7Generator.timestampMillis(id),
+            id.getLeastSignificantBits() & 0xFFFFFFFFFFFFL);
     }
 
     /**
@@ -234,13 +340,14 @@ public class TransportRequestCommandServiceImpl implements ITransportRequestComm
         // Extract details from aggregate
         Map<String, Object> details = aggregate.getDetails();
         if (details != null) {
-            Integer weight = (Integer) details.get("totalWeight");
-            entity.setTotalWeight(weight != null ? BigDecimal.valueOf(weight) : null);
+            // New aggregates carry the request's BigDecimal/LocalDateTime values,
+            // reconstituted ones Integer/Instant
+            entity.setTotalWeight(detailToBigDecimal(details.get("totalWeight")));
             entity.setTotalPackages((Integer) details.get("totalPackages"));
-            entity.setPickupFrom(toLocalDateTime((Instant) details.get("pickupFrom")));
-            entity.setPickupUntil(toLocalDateTime((Instant) details.get("pickupUntil")));
-            entity.setDeliveryFrom(toLocalDateTime((Instant) details.get("deliveryFrom")));
-            entity.setDeliveryUntil(toLocalDateTime((Instant) details.get("deliveryUntil")));
+            entity.setPickupFrom(detailToLocalDateTime(details.get("pickupFrom")));
+            entity.setPickupUntil(detailToLocalDateTime(details.get("pickupUntil")));
+            entity.setDeliveryFrom(detailToLocalDateTime(details.get("deliveryFrom")));
+            entity.setDeliveryUntil(detailToLocalDateTime(details.get("deliveryUntil")));
         }
 
         return entity;
@@ -274,6 +381,20 @@ public class TransportRequestCommandServiceImpl implements ITransportRequestComm
         );
     }
 
+    private BigDecimal detailToBigDecimal(Object value) {
+        if (value == null || value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    private LocalDateTime detailToLocalDateTime(Object value) {
+        if (value == null || value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        return toLocalDateTime((Instant) value);
+    }
+
     private LocalDateTime toLocalDateTime(Instant instant) {
         return instant != null ? LocalDateTime.ofInstant(instant, java.time.ZoneOffset.UTC) : null;
     }
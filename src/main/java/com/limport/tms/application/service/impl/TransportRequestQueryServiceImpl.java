@@ -1,20 +1,38 @@
 package com.limport.tms.application.service.impl;
 
+import com.limport.tms.application.dto.response.TransportRequestPageResponse;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
 import com.limport.tms.application.mapper.TransportRequestMapper;
+import com.limport.tms.application.query.InvalidCursorException;
 import com.limport.tms.application.service.interfaces.ITransportRequestQueryService;
 import com.limport.tms.domain.model.entity.TransportRequest;
-import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.port.repository.EntityVersion;
 import com.limport.tms.domain.port.repository.ITransportRequestRepository;
+import com.limport.tms.domain.port.repository.TransportRequestSearchCriteria;
+import com.limport.tms.domain.port.repository.TransportRequestView;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Application service handling transport request queries.
+ *
+ * Listing is keyset-paginated on (createdAt, id): each page reads at most
+ * limit + 1 index entries past the cursor, however deep the client has paged.
+ * The cursor is the base64url-encoded "createdAt|id" of the last row returned.
+ *
+ * Lists and lookups read TransportRequestView rows projected by the repository, so they
+ * skip entity hydration and the domain mapping step; only getById loads the aggregate.
  */
 @Service
 @Transactional(readOnly = true)
@@ -22,12 +40,18 @@ public class TransportRequestQueryServiceImpl implements ITransportRequestQueryS
 
     private final ITransportRequestRepository repository;
     private final TransportRequestMapper mapper;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
     public TransportRequestQueryServiceImpl(
             ITransportRequestRepository repository,
-            TransportRequestMapper mapper) {
+            TransportRequestMapper mapper,
+            @Value("${tms.query.default-page-size:50}") int defaultPageSize,
+            @Value("${tms.query.max-page-size:200}") int maxPageSize) {
         this.repository = repository;
         this.mapper = mapper;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     @Override
@@ -38,16 +62,60 @@ public class TransportRequestQueryServiceImpl implements ITransportRequestQueryS
     }
 
     @Override
-    public List<TransportRequestResponse> listAll() {
-        return repository.findAll().stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+    public Map<UUID, TransportRequestResponse> getByIds(Collection<UUID> ids) {
+        Map<UUID, TransportRequestResponse> found = new LinkedHashMap<>();
+        for (TransportRequestView view : repository.findViewsByIds(ids)) {
+            found.put(view.id(), mapper.toResponse(view));
+        }
+        // Rows come back in index order; answer in the order the client asked
+        Map<UUID, TransportRequestResponse> ordered = new LinkedHashMap<>();
+        for (UUID id : ids) {
+            TransportRequestResponse response = found.get(id);
+            if (response != null) {
+                ordered.put(id, response);
+            }
+        }
+        return ordered;
+    }
+
+    @Override
+    public EntityVersion getVersion(UUID id) {
+        return repository.findVersionById(id).orElse(null);
     }
 
     @Override
-    public List<TransportRequestResponse> listByStatus(TransportRequestStatus status) {
-        return repository.findByStatus(status).stream()
+    public TransportRequestPageResponse search(TransportRequestSearchCriteria criteria, String cursor, Integer limit) {
+        int pageSize = limit == null || limit < 1 ? defaultPageSize : Math.min(limit, maxPageSize);
+
+        // One extra row tells whether another page follows without a count query
+        List<TransportRequestView> rows = repository.searchViews(criteria, decodeCursor(cursor), pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<TransportRequestView> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<TransportRequestResponse> items = page.stream()
                 .map(mapper::toResponse)
                 .collect(Collectors.toList());
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+        return new TransportRequestPageResponse(items, nextCursor);
+    }
+
+    private static String encodeCursor(TransportRequestView last) {
+        String raw = last.createdAt() + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TransportRequestSearchCriteria.Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new TransportRequestSearchCriteria.Cursor(
+                Instant.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
     }
 }
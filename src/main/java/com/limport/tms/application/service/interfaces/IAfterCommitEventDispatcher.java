@@ -0,0 +1,23 @@
+package com.limport.tms.application.service.interfaces;
+
+import com.limport.tms.domain.event.IDomainEvent;
+
+import java.util.List;
+
+/**
+ * Hands domain events to after-commit internal handlers.
+ *
+ * Events are queued once the current transaction commits (and dropped if it rolls back),
+ * then handled asynchronously. Events for the same aggregate are handled one at a time,
+ * in the order they were raised.
+ */
+public interface IAfterCommitEventDispatcher {
+
+    /**
+     * Schedule the events for after-commit handling.
+     *
+     * @param aggregateKey Identifies the aggregate; events sharing a key are handled serially
+     * @param events Events in the order they were raised
+     */
+    void dispatchAfterCommit(String aggregateKey, List<IDomainEvent> events);
+}
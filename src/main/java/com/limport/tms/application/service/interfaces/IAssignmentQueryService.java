@@ -1,8 +1,11 @@
 package com.limport.tms.application.service.interfaces;
 
 import com.limport.tms.application.dto.response.AssignmentResponse;
+import com.limport.tms.domain.port.repository.EntityVersion;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -15,6 +18,11 @@ public interface IAssignmentQueryService {
      */
     AssignmentResponse getById(UUID id);
 
+    /**
+     * Current version of an assignment, or null if it does not exist.
+     */
+    EntityVersion getVersion(UUID id);
+
     /**
      * List all assignments for a transport request.
      */
@@ -29,4 +37,15 @@ public interface IAssignmentQueryService {
      * Get active assignment for a transport request (if any).
      */
     AssignmentResponse getActiveAssignment(UUID transportRequestId);
+
+    /**
+     * Active assignment of each transport request, keyed by transport request ID in request
+     * order and read in one query. Transport requests without one are absent from the map.
+     */
+    Map<UUID, AssignmentResponse> getActiveAssignments(Collection<UUID> transportRequestIds);
+
+    /**
+     * Version of the assignment getActiveAssignment would return, or null if there is none.
+     */
+    EntityVersion getActiveAssignmentVersion(UUID transportRequestId);
 }
@@ -0,0 +1,17 @@
+package com.limport.tms.application.service.interfaces;
+
+import com.limport.tms.application.dto.response.ActiveAssignmentResponse;
+import com.limport.tms.application.dto.response.DashboardSummaryResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Application service for dashboard queries, served from the dashboard read model.
+ */
+public interface IDashboardQueryService {
+
+    DashboardSummaryResponse getSummary(int laneLimit);
+
+    List<ActiveAssignmentResponse> listActiveAssignments(UUID providerId, int limit);
+}
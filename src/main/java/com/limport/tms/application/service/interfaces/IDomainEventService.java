@@ -3,6 +3,8 @@ package com.limport.tms.application.service.interfaces;
 import com.limport.tms.domain.event.IDomainEvent;
 import com.limport.tms.domain.model.aggregate.AggregateRoot;
 
+import java.util.List;
+
 /**
  * Application service for handling domain events from aggregates.
  * Collects events and stores them in outbox for reliable publishing.
@@ -17,6 +19,15 @@ public interface IDomainEventService {
      * @param aggregateType the type name of the aggregate (e.g., "TransportRequest")
      */
     void collectAndStore(AggregateRoot aggregate, String aggregateType);
+
+    /**
+     * Batch variant of {@link #collectAndStore} for many new aggregates of one type:
+     * one backpressure check and one outbox insert for the whole list.
+     *
+     * @param aggregates the aggregates containing pending events
+     * @param aggregateType the type name of the aggregates
+     */
+    void collectAndStoreAll(List<? extends AggregateRoot> aggregates, String aggregateType);
     
     /**
      * Publishes a single domain event directly to the outbox.
@@ -0,0 +1,29 @@
+package com.limport.tms.application.service.interfaces;
+
+import com.limport.tms.domain.port.repository.TransportRequestSearchCriteria;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Application service for bulk exports used by reporting.
+ * Rows are written as they are read, so exports run in constant memory.
+ */
+public interface IExportService {
+
+    enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * Writes every transport request matching the criteria, newest first.
+     */
+    void exportTransportRequests(TransportRequestSearchCriteria criteria, Format format, OutputStream out)
+            throws IOException;
+
+    /**
+     * Writes every assignment, oldest first.
+     */
+    void exportAssignments(Format format, OutputStream out) throws IOException;
+}
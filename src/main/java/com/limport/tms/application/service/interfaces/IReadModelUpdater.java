@@ -1,5 +1,8 @@
 package com.limport.tms.application.service.interfaces;
 
+import com.limport.tms.domain.port.repository.IDashboardReadModelRepository.Summary;
+
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -8,20 +11,30 @@ import java.util.UUID;
 public interface IReadModelUpdater {
 
     /**
-     * Updates the transport request summary read model.
-     * Used for internal dashboards showing transport request statistics.
+     * Brings the dashboard read model for one transport request in line with the write
+     * model: its summary row, the counts for its lane and status, and its active assignment.
+     * Idempotent and independent of event order, so it is safe to call for every
+     * transport request event, including duplicates.
+     *
+     * @param transportRequestId the ID of the transport request that changed
+     * @return the request as the read model now shows it, empty if it no longer exists
+     */
+    Optional<Refreshed> refreshTransportRequest(UUID transportRequestId);
+
+    /**
+     * Discards and recomputes the whole dashboard read model.
      *
-     * @param transportRequestId the ID of the transport request
-     * @param origin the origin location
-     * @param destination the destination location
+     * @return number of transport requests in the rebuilt read model
      */
-    void updateTransportRequestSummary(UUID transportRequestId, String origin, String destination);
+    int rebuild();
 
     /**
-     * Updates the active assignments dashboard read model.
-     * Used for operational dashboards tracking current assignments.
+     * A transport request after a refresh.
      *
-     * @param transportRequestId the ID of the transport request that was assigned
+     * @param summary            the request as the read model now shows it
+     * @param previousProviderId the provider the read model showed before, if the refresh
+     *                           moved the request away from it; otherwise null
      */
-    void updateActiveAssignments(UUID transportRequestId);
-}
\ No newline at end of file
+    record Refreshed(Summary summary, UUID previousProviderId) {
+    }
+}
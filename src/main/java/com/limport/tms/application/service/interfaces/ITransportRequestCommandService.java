@@ -3,7 +3,9 @@ package com.limport.tms.application.service.interfaces;
 import com.limport.tms.application.dto.request.AssignProviderRequest;
 import com.limport.tms.application.dto.request.CancelTransportRequestRequest;
 import com.limport.tms.application.dto.request.CreateTransportRequest;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -13,6 +15,12 @@ public interface ITransportRequestCommandService {
 
     TransportRequestResponse createTransportRequest(CreateTransportRequest request);
 
+    /**
+     * Validates every item, then persists the valid ones in chunked transactions.
+     * Never fails as a whole: each item gets its own result.
+     */
+    BatchCreateTransportRequestsResponse createTransportRequests(List<CreateTransportRequest> requests);
+
     TransportRequestResponse assignProvider(UUID id, AssignProviderRequest request);
 
     TransportRequestResponse cancelTransportRequest(UUID id, CancelTransportRequestRequest request);
@@ -1,8 +1,12 @@
 package com.limport.tms.application.service.interfaces;
 
+import com.limport.tms.application.dto.response.TransportRequestPageResponse;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
-import com.limport.tms.domain.model.enums.TransportRequestStatus;
-import java.util.List;
+import com.limport.tms.application.query.InvalidCursorException;
+import com.limport.tms.domain.port.repository.EntityVersion;
+import com.limport.tms.domain.port.repository.TransportRequestSearchCriteria;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -12,7 +16,22 @@ public interface ITransportRequestQueryService {
 
     TransportRequestResponse getById(UUID id);
 
-    List<TransportRequestResponse> listAll();
+    /**
+     * Transport requests by ID in request order, read in one query. Unknown IDs are absent from the map.
+     */
+    Map<UUID, TransportRequestResponse> getByIds(Collection<UUID> ids);
 
-    List<TransportRequestResponse> listByStatus(TransportRequestStatus status);
+    /**
+     * Current version of a transport request, or null if it does not exist.
+     */
+    EntityVersion getVersion(UUID id);
+
+    /**
+     * One page of transport requests matching the criteria, newest first.
+     *
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @param limit requested page size, or null for the default; capped at the maximum
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    TransportRequestPageResponse search(TransportRequestSearchCriteria criteria, String cursor, Integer limit);
 }
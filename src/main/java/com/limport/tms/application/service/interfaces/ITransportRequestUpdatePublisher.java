@@ -0,0 +1,22 @@
+package com.limport.tms.application.service.interfaces;
+
+import com.limport.tms.domain.port.repository.IDashboardReadModelRepository.Summary;
+
+import java.util.UUID;
+
+/**
+ * Pushes committed transport request changes to live subscribers
+ * (the request itself, its customer, its assigned provider and, after a
+ * reassignment or rejection, the provider it was taken from).
+ */
+public interface ITransportRequestUpdatePublisher {
+
+    /**
+     * Delivers the change without blocking; subscribers that cannot keep up are dropped.
+     *
+     * @param eventType the domain event type that caused the change
+     * @param summary            the transport request as it is after the change
+     * @param previousProviderId the provider the change took the request away from, or null
+     */
+    void publish(String eventType, Summary summary, UUID previousProviderId);
+}
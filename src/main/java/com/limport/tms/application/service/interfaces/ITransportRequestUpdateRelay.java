@@ -0,0 +1,15 @@
+package com.limport.tms.application.service.interfaces;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts serialized transport request updates to every node, including the sender,
+ * so a live subscriber sees changes committed on any node.
+ * Delivery is best effort; clients re-read current state when they reconnect.
+ */
+public interface ITransportRequestUpdateRelay {
+
+    void publish(String message);
+
+    void subscribe(Consumer<String> listener);
+}
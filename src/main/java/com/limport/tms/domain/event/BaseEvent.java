@@ -1,5 +1,7 @@
 package com.limport.tms.domain.event;
 
+import com.limport.tms.domain.service.UuidV7Generator;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -12,35 +14,33 @@ public abstract class BaseEvent implements IDomainEvent {
     private final String causationId;
 
     protected BaseEvent() {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
-        this.version = 1; // Default version
-        this.correlationId = generateOrInheritCorrelationId();
-        this.causationId = generateOrInheritCausationId(eventId.toString());
+        this(1, null, null);
     }
 
     protected BaseEvent(int version) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
-        this.version = version;
-        this.correlationId = generateOrInheritCorrelationId();
-        this.causationId = generateOrInheritCausationId(eventId.toString());
+        this(version, null, null);
     }
 
     protected BaseEvent(String correlationId, String causationId) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
-        this.version = 1;
-        this.correlationId = correlationId != null ? correlationId : generateOrInheritCorrelationId();
-        this.causationId = causationId != null ? causationId : generateOrInheritCausationId(eventId.toString());
+        this(1, correlationId, causationId);
     }
 
+    /**
+     * IDs not given explicitly are inherited from the current {@link CorrelationIdContext};
+     * the context is read at most once per event.
+     */
     protected BaseEvent(int version, String correlationId, String causationId) {
-        this.eventId = UUID.randomUUID();
         this.occurredOn = Instant.now();
+        this.eventId = UuidV7Generator.next(occurredOn.toEpochMilli());
         this.version = version;
-        this.correlationId = correlationId != null ? correlationId : generateOrInheritCorrelationId();
-        this.causationId = causationId != null ? causationId : generateOrInheritCausationId(eventId.toString());
+        if (correlationId != null && causationId != null) {
+            this.correlationId = correlationId;
+            this.causationId = causationId;
+        } else {
+            CorrelationIdContext.Snapshot context = CorrelationIdContext.current();
+            this.correlationId = correlationId != null ? correlationId : inheritOrGenerateCorrelationId(context);
+            this.causationId = causationId != null ? causationId : inheritCausationId(context, eventId.toString());
+        }
     }
 
     public UUID getEventId() {
@@ -70,20 +70,21 @@ public abstract class BaseEvent implements IDomainEvent {
     public abstract String eventType();
 
     /**
-     * Generates or inherits correlation ID from thread-local context.
+     * Inherits the correlation ID from the captured context, or starts a new one.
      * This enables distributed tracing across service boundaries.
      */
-    private String generateOrInheritCorrelationId() {
-        return CorrelationIdContext.getOrGenerateCorrelationId();
+    private static String inheritOrGenerateCorrelationId(CorrelationIdContext.Snapshot context) {
+        return context.correlationId() != null
+            ? context.correlationId()
+            : CorrelationIdContext.getOrGenerateCorrelationId();
     }
 
     /**
-     * Generates or inherits causation ID from thread-local context.
+     * Inherits the causation ID from the captured context.
      * For root events (no existing causation), uses the provided default (typically eventId).
      * For events caused by other events, uses the causation ID from context.
      */
-    private String generateOrInheritCausationId(String defaultCausationId) {
-        String existingCausationId = CorrelationIdContext.getCausationId();
-        return existingCausationId != null ? existingCausationId : defaultCausationId;
+    private static String inheritCausationId(CorrelationIdContext.Snapshot context, String defaultCausationId) {
+        return context.causationId() != null ? context.causationId() : defaultCausationId;
     }
-}
\ No newline at end of file
+}
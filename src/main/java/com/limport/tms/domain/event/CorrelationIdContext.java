@@ -4,10 +4,21 @@ import org.slf4j.MDC;
 import org.springframework.util.StringUtils;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Utility class for managing correlation IDs and causation IDs across service boundaries.
- * Provides thread-local and MDC-based ID propagation for distributed tracing.
+ *
+ * The current IDs live in a single thread-local {@link Snapshot}; MDC is only written when
+ * the context changes, so log lines carry the IDs but reads never go through MDC.
+ * A snapshot is immutable, so it can be captured once on the submitting thread and
+ * restored on a worker thread via {@link #wrap(Runnable)} / {@link #wrap(Supplier)}
+ * (or a TaskDecorator built on them).
+ *
+ * Trade-offs:
+ * - MDC entries written directly (not through this class) are not seen by getters
+ * - Wrapped tasks restore the worker thread's previous context afterwards, so they are
+ *   safe under CallerRunsPolicy but cost two thread-local writes per task
  */
 public final class CorrelationIdContext {
 
@@ -15,101 +26,97 @@ public final class CorrelationIdContext {
     private static final String CORRELATION_ID_KEY = "correlationId";
     private static final String CAUSATION_ID_KEY = "causationId";
 
-    // Thread-local storage
-    private static final ThreadLocal<String> CORRELATION_ID_THREAD_LOCAL = new ThreadLocal<>();
-    private static final ThreadLocal<String> CAUSATION_ID_THREAD_LOCAL = new ThreadLocal<>();
+    private static final ThreadLocal<Snapshot> CONTEXT = new ThreadLocal<>();
+
+    /**
+     * Immutable view of the correlation and causation IDs of one thread.
+     * Either ID may be null.
+     */
+    public record Snapshot(String correlationId, String causationId) {
+
+        public static final Snapshot EMPTY = new Snapshot(null, null);
+
+        public boolean isEmpty() {
+            return correlationId == null && causationId == null;
+        }
+    }
 
     private CorrelationIdContext() {
         // Utility class
     }
 
     /**
-     * Gets the current correlation ID from MDC or thread-local storage.
+     * Gets the current correlation ID.
      * If none exists, generates a new one.
      *
      * @return the correlation ID
      */
     public static String getOrGenerateCorrelationId() {
-        // First, try MDC (most common for web requests)
-        String correlationId = MDC.get(CORRELATION_ID_KEY);
-        if (StringUtils.hasText(correlationId)) {
-            return correlationId;
-        }
-
-        // Second, try thread-local
-        correlationId = CORRELATION_ID_THREAD_LOCAL.get();
-        if (StringUtils.hasText(correlationId)) {
-            return correlationId;
+        Snapshot current = CONTEXT.get();
+        if (current != null && current.correlationId() != null) {
+            return current.correlationId();
         }
 
         // Generate new correlation ID
-        correlationId = UUID.randomUUID().toString();
+        String correlationId = UUID.randomUUID().toString();
         setCorrelationId(correlationId);
         return correlationId;
     }
 
     /**
-     * Gets the current causation ID from MDC or thread-local storage.
+     * Gets the current causation ID.
      * Returns null if none exists (for root events).
      *
      * @return the causation ID or null
      */
     public static String getCausationId() {
-        // First, try MDC
-        String causationId = MDC.get(CAUSATION_ID_KEY);
-        if (StringUtils.hasText(causationId)) {
-            return causationId;
-        }
-
-        // Second, try thread-local
-        return CAUSATION_ID_THREAD_LOCAL.get();
+        return current().causationId();
     }
 
     /**
-     * Sets the correlation ID in both MDC and thread-local storage.
+     * Sets the correlation ID. Blank values are ignored.
      *
      * @param correlationId the correlation ID to set
      */
     public static void setCorrelationId(String correlationId) {
         if (StringUtils.hasText(correlationId)) {
-            MDC.put(CORRELATION_ID_KEY, correlationId);
-            CORRELATION_ID_THREAD_LOCAL.set(correlationId);
+            set(new Snapshot(correlationId, current().causationId()));
         }
     }
 
     /**
-     * Sets the causation ID in both MDC and thread-local storage.
+     * Sets the causation ID. Blank values are ignored.
      * Typically set when processing an incoming event that causes other events.
      *
      * @param causationId the causation ID to set
      */
     public static void setCausationId(String causationId) {
         if (StringUtils.hasText(causationId)) {
-            MDC.put(CAUSATION_ID_KEY, causationId);
-            CAUSATION_ID_THREAD_LOCAL.set(causationId);
+            set(new Snapshot(current().correlationId(), causationId));
         }
     }
 
     /**
-     * Sets both correlation and causation IDs.
+     * Sets both correlation and causation IDs. Blank values leave the current ID in place.
      * Useful when processing incoming events.
      *
      * @param correlationId the correlation ID
      * @param causationId the causation ID
      */
     public static void setIds(String correlationId, String causationId) {
-        setCorrelationId(correlationId);
-        setCausationId(causationId);
+        Snapshot current = current();
+        set(new Snapshot(
+            StringUtils.hasText(correlationId) ? correlationId : current.correlationId(),
+            StringUtils.hasText(causationId) ? causationId : current.causationId()));
     }
 
     /**
-     * Clears all correlation and causation IDs from both MDC and thread-local storage.
+     * Clears all correlation and causation IDs from the thread and from MDC.
      */
     public static void clear() {
+        CONTEXT.remove();
         MDC.remove(CORRELATION_ID_KEY);
         MDC.remove(CAUSATION_ID_KEY);
-        CORRELATION_ID_THREAD_LOCAL.remove();
-        CAUSATION_ID_THREAD_LOCAL.remove();
     }
 
     /**
@@ -118,10 +125,79 @@ public final class CorrelationIdContext {
      * @return the correlation ID or null if none exists
      */
     public static String getCorrelationId() {
-        String correlationId = MDC.get(CORRELATION_ID_KEY);
-        if (StringUtils.hasText(correlationId)) {
-            return correlationId;
+        return current().correlationId();
+    }
+
+    /**
+     * The current IDs in one thread-local read; {@link Snapshot#EMPTY} if none are set.
+     */
+    public static Snapshot current() {
+        Snapshot current = CONTEXT.get();
+        return current != null ? current : Snapshot.EMPTY;
+    }
+
+    /**
+     * Captures the current IDs for hand-off to another thread.
+     */
+    public static Snapshot capture() {
+        return current();
+    }
+
+    /**
+     * Replaces the current IDs with the snapshot; an empty snapshot clears the context.
+     */
+    public static void restore(Snapshot snapshot) {
+        if (snapshot == null || snapshot.isEmpty()) {
+            clear();
+        } else {
+            set(snapshot);
+        }
+    }
+
+    /**
+     * Wraps a task so it runs with the IDs current at wrap time, restoring
+     * the executing thread's own IDs afterwards.
+     */
+    public static Runnable wrap(Runnable task) {
+        Snapshot captured = capture();
+        return () -> {
+            Snapshot previous = capture();
+            restore(captured);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Supplier variant of {@link #wrap(Runnable)}.
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        Snapshot captured = capture();
+        return () -> {
+            Snapshot previous = capture();
+            restore(captured);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void set(Snapshot snapshot) {
+        CONTEXT.set(snapshot);
+        syncMdc(CORRELATION_ID_KEY, snapshot.correlationId());
+        syncMdc(CAUSATION_ID_KEY, snapshot.causationId());
+    }
+
+    private static void syncMdc(String key, String value) {
+        if (value == null) {
+            MDC.remove(key);
+        } else {
+            MDC.put(key, value);
         }
-        return CORRELATION_ID_THREAD_LOCAL.get();
     }
-}
\ No newline at end of file
+}
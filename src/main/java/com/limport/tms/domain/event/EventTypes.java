@@ -1,5 +1,7 @@
 package com.limport.tms.domain.event;
 
+import java.util.List;
+
 /**
  * Constants for event types to avoid hardcoded strings and tight coupling.
  */
@@ -34,6 +36,22 @@ public final class EventTypes {
         public static final String CAPACITY_CHANGED = PREFIX + ".CapacityChanged";
     }
 
+    /**
+     * Every known event type, used to pre-register per-type infrastructure (metrics, routing).
+     */
+    public static final List<String> ALL = List.of(
+        Transport.Request.CREATED,
+        Transport.Request.UPDATED,
+        Transport.Request.CANCELLED,
+        Transport.Request.COMPLETED,
+        Transport.Request.ASSIGNED,
+        Transport.Request.REMATCHING_TRIGGERED,
+        Transport.Route.OPTIMIZED,
+        Provider.MATCHED,
+        Provider.ASSIGNMENT_RESPONSE,
+        Provider.CAPACITY_CHANGED
+    );
+
     private EventTypes() {
         // Utility class
     }
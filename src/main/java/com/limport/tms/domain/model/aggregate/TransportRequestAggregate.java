@@ -2,6 +2,7 @@ package com.limport.tms.domain.model.aggregate;
 
 import com.limport.tms.domain.event.states.*;
 import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.service.UuidV7Generator;
 
 import java.time.Instant;
 import java.util.Map;
@@ -43,7 +44,7 @@ public class TransportRequestAggregate extends AggregateRoot {
             String destination,
             Map<String, Object> details) {
         
-        TransportRequestAggregate aggregate = new TransportRequestAggregate(UUID.randomUUID());
+        TransportRequestAggregate aggregate = new TransportRequestAggregate(UuidV7Generator.next());
         aggregate.userId = userId;
         aggregate.origin = origin;
         aggregate.destination = destination;
@@ -1,5 +1,7 @@
 package com.limport.tms.domain.model.entity;
 
+import com.limport.tms.domain.service.UuidV7Generator;
+
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -58,7 +60,7 @@ public class Assignment {
                                       LocalDateTime scheduledPickupTime, LocalDateTime estimatedDeliveryTime,
                                       String assignmentNotes, String assignedBy) {
         return new Assignment(
-            UUID.randomUUID(),
+            UuidV7Generator.next(),
             transportRequestId,
             providerId,
             vehicleId,
@@ -1,5 +1,7 @@
 package com.limport.tms.domain.model.entity;
 
+import com.limport.tms.domain.service.UuidV7Generator;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -32,7 +34,7 @@ public class OutboxEvent {
             String aggregateId,
             String payload,
             Instant occurredOn) {
-        this.id = UUID.randomUUID();
+        this.id = UuidV7Generator.next();
         this.eventType = eventType;
         this.aggregateType = aggregateType;
         this.aggregateId = aggregateId;
@@ -1,5 +1,7 @@
 package com.limport.tms.domain.model.entity;
 
+import com.limport.tms.domain.service.UuidV7Generator;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -104,7 +106,7 @@ public class ProviderSuggestion {
 
         public ProviderSuggestion build() {
             ProviderSuggestion suggestion = new ProviderSuggestion();
-            suggestion.id = this.id != null ? this.id : UUID.randomUUID();
+            suggestion.id = this.id != null ? this.id : UuidV7Generator.next();
             suggestion.transportRequestId = this.transportRequestId;
             suggestion.providerId = this.providerId;
             suggestion.providerName = this.providerName;
@@ -0,0 +1,25 @@
+package com.limport.tms.domain.port.repository;
+
+import com.limport.tms.domain.model.entity.Assignment.AssignmentStatus;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only row of an assignment for list and lookup queries, projected straight
+ * from the table without loading the entity into the persistence context.
+ */
+public record AssignmentView(
+        UUID id,
+        UUID transportRequestId,
+        UUID providerId,
+        UUID vehicleId,
+        LocalDateTime scheduledPickupTime,
+        LocalDateTime estimatedDeliveryTime,
+        String assignmentNotes,
+        AssignmentStatus status,
+        String assignedBy,
+        Instant assignedAt,
+        Instant lastUpdatedAt) {
+}
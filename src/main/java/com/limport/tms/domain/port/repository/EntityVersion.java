@@ -0,0 +1,11 @@
+package com.limport.tms.domain.port.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Identity and last modification time of a persisted entity, read without loading it.
+ * Changes whenever the entity is saved.
+ */
+public record EntityVersion(UUID id, Instant lastUpdatedAt) {
+}
@@ -0,0 +1,9 @@
+package com.limport.tms.domain.port.repository;
+
+import com.limport.tms.domain.model.entity.OutboxEvent;
+
+/**
+ * An outbox event read from the event log, with its position in the log.
+ */
+public record EventLogEntry(EventLogPosition position, OutboxEvent event) {
+}
@@ -0,0 +1,18 @@
+package com.limport.tms.domain.port.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Position in the outbox event log, which is ordered by (transactionId, occurredOn, eventId):
+ * the ID of the transaction that wrote the event, then the event's own order within it.
+ * {@link #START} precedes every event.
+ */
+public record EventLogPosition(long transactionId, Instant occurredOn, UUID eventId) {
+
+    public static final EventLogPosition START = new EventLogPosition(0, null, null);
+
+    public boolean isStart() {
+        return occurredOn == null;
+    }
+}
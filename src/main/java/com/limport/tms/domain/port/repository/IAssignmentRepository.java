@@ -3,9 +3,12 @@ package com.limport.tms.domain.port.repository;
 import com.limport.tms.domain.model.entity.Assignment;
 import com.limport.tms.domain.model.entity.Assignment.AssignmentStatus;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repository port for Assignment persistence.
@@ -33,6 +36,16 @@ public interface IAssignmentRepository {
      */
     List<Assignment> findByProviderId(UUID providerId);
 
+    /**
+     * Assignments of a transport request, most recently assigned first, read without loading entities.
+     */
+    List<AssignmentView> findViewsByTransportRequestId(UUID transportRequestId);
+
+    /**
+     * Assignments of a provider, most recently assigned first, read without loading entities.
+     */
+    List<AssignmentView> findViewsByProviderId(UUID providerId);
+
     /**
      * Find assignments by status.
      */
@@ -43,11 +56,33 @@ public interface IAssignmentRepository {
      */
     List<Assignment> findActiveByTransportRequestId(UUID transportRequestId);
 
+    /**
+     * Most recently assigned active assignment of each given transport request, read in one
+     * query. Transport requests without an active assignment are absent from the map.
+     */
+    Map<UUID, AssignmentView> findLatestActiveViewsByTransportRequestIds(Collection<UUID> transportRequestIds);
+
+    /**
+     * Version of an assignment, read without loading the entity.
+     */
+    Optional<EntityVersion> findVersionById(UUID id);
+
+    /**
+     * Version of the most recently assigned active assignment for a transport request.
+     */
+    Optional<EntityVersion> findActiveVersionByTransportRequestId(UUID transportRequestId);
+
     /**
      * Find active assignments for a provider.
      */
     List<Assignment> findActiveByProviderId(UUID providerId);
 
+    /**
+     * Passes every assignment to the action, oldest first, without loading the
+     * result set into memory. Must run inside a (read-only) transaction.
+     */
+    void forEach(Consumer<Assignment> action);
+
     /**
      * Delete an assignment.
      */
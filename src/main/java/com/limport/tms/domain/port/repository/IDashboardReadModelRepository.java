@@ -0,0 +1,92 @@
+package com.limport.tms.domain.port.repository;
+
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository port for the denormalized dashboard read model:
+ * per-request summaries, counts per lane and status, and active assignments.
+ */
+public interface IDashboardReadModelRepository {
+
+    /**
+     * Dashboard view of one transport request. Provider, vehicle and assignedAt are null
+     * unless the request has an active assignment.
+     */
+    record Summary(
+            UUID transportRequestId,
+            String customerId,
+            String originLocationCode,
+            String destinationLocationCode,
+            TransportRequestStatus status,
+            UUID providerId,
+            UUID vehicleId,
+            Instant assignedAt,
+            Instant createdAt,
+            Instant lastUpdatedAt) {
+
+        public boolean hasActiveAssignment() {
+            return providerId != null
+                && (status == TransportRequestStatus.PLANNED || status == TransportRequestStatus.IN_TRANSIT);
+        }
+    }
+
+    record LaneCount(String originLocationCode, String destinationLocationCode,
+                     TransportRequestStatus status, long count) {
+    }
+
+    /**
+     * Serializes updates for one transport request until the current transaction ends.
+     */
+    void lock(UUID transportRequestId);
+
+    Optional<Summary> findSummary(UUID transportRequestId);
+
+    /**
+     * Current state of the transport request read from the write tables.
+     */
+    Optional<Summary> loadFromWriteModel(UUID transportRequestId);
+
+    void saveSummary(Summary summary);
+
+    void deleteSummary(UUID transportRequestId);
+
+    /**
+     * Adds delta to the (lane, status) count and, in the same statement, to the lane's
+     * total and the status total. Callers adjusting several statuses in one transaction
+     * do so in status order, so concurrent callers lock the shared status totals in the same order.
+     */
+    void adjustLaneCount(String originLocationCode, String destinationLocationCode,
+                         TransportRequestStatus status, long delta);
+
+    void saveActiveAssignment(Summary summary);
+
+    void deleteActiveAssignment(UUID transportRequestId);
+
+    /**
+     * Replaces the whole read model with one derived from the write tables.
+     *
+     * @return number of transport request summaries written
+     */
+    int rebuild();
+
+    /**
+     * Requests per status, read from the precomputed status totals.
+     */
+    Map<TransportRequestStatus, Long> countByStatus();
+
+    /**
+     * Per-status counts of the lanes with the most transport requests.
+     */
+    List<LaneCount> findBusiestLanes(int limit);
+
+    /**
+     * Active assignments, most recent first, optionally for one provider.
+     */
+    List<Summary> findActiveAssignments(UUID providerId, int limit);
+}
@@ -3,6 +3,7 @@ package com.limport.tms.domain.port.repository;
 import com.limport.tms.domain.model.entity.OutboxEvent;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +26,12 @@ public interface IOutboxEventRepository {
      */
     void saveAll(List<OutboxEvent> events);
 
+    /**
+     * Inserts new outbox events in one batch, without checking for existing rows.
+     * @param events the events to insert
+     */
+    void insertAll(List<OutboxEvent> events);
+
     /**
      * Finds an outbox event by its ID.
      * @param id the event ID
@@ -51,10 +58,34 @@ public interface IOutboxEventRepository {
      */
     long countPendingEvents();
 
+    /**
+     * Finds the occurrence time of the oldest pending event for lag monitoring.
+     * @return occurrence time of the oldest pending event, empty if none are pending
+     */
+    Optional<Instant> findOldestPendingOccurredOn();
+
     /**
      * Deletes processed events older than the given timestamp.
      * @param before timestamp before which to delete
      * @return number of deleted events
      */
     int deleteProcessedBefore(Instant before);
+
+    /**
+     * Reads the event log for projections: settled events of the given types strictly after
+     * {@code after} and, unless {@code upTo} is null, no later than {@code upTo}, in log order
+     * and in any status. An event is settled once every transaction that started before its
+     * own has ended, so no event can later appear before one already returned.
+     * With {@code partitions > 1} only aggregates hashing to {@code partition} are returned,
+     * so each aggregate's events stay in order within one partition.
+     * @return at most {@code limit} events
+     */
+    List<EventLogEntry> findInLog(Collection<String> eventTypes, EventLogPosition after, EventLogPosition upTo,
+                                  int partition, int partitions, int limit);
+
+    /**
+     * Position of the last settled event of the given types.
+     * @return the position, {@link EventLogPosition#START} if there is none
+     */
+    EventLogPosition findLastLogPosition(Collection<String> eventTypes);
 }
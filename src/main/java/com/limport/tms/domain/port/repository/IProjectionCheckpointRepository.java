@@ -0,0 +1,51 @@
+package com.limport.tms.domain.port.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Repository port for projection checkpoints: how far each projection has read the event log.
+ * A projection has one live checkpoint and, while it is being rebuilt, one per partition.
+ */
+public interface IProjectionCheckpointRepository {
+
+    /**
+     * Partition ID of the live catch-up checkpoint.
+     */
+    int LIVE = -1;
+
+    /**
+     * Locks the checkpoint until the current transaction ends, creating it at
+     * {@link EventLogPosition#START} if missing.
+     *
+     * @return the position, or empty if another node holds the lock or, for {@link #LIVE},
+     *         the projection is being rebuilt
+     */
+    Optional<EventLogPosition> tryLock(String projectionName, int partition);
+
+    void save(String projectionName, int partition, EventLogPosition position);
+
+    /**
+     * Claims the projection for a rebuild until {@code lease} from now and pauses its live
+     * catch-up.
+     *
+     * @return false if another rebuild holds an unexpired claim
+     */
+    boolean tryStartRebuild(String projectionName, Duration lease);
+
+    /**
+     * Extends the current rebuild's claim to {@code lease} from now.
+     */
+    void renewRebuild(String projectionName, Duration lease);
+
+    /**
+     * Releases the rebuild claim. Live catch-up resumes only if the rebuild completed;
+     * after a failure it stays paused until a later rebuild succeeds.
+     */
+    void endRebuild(String projectionName, boolean completed);
+
+    /**
+     * Removes the rebuild partition checkpoints, keeping the live one.
+     */
+    void deletePartitions(String projectionName);
+}
@@ -4,9 +4,11 @@ import com.limport.tms.domain.model.entity.TransportRequest;
 import com.limport.tms.domain.model.enums.TransportRequestStatus;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repository port for TransportRequest persistence.
@@ -16,11 +18,37 @@ public interface ITransportRequestRepository {
 
     TransportRequest save(TransportRequest request);
 
+    /**
+     * Inserts new transport requests in one batch. Unlike save, never updates existing rows.
+     */
+    void insertAll(List<TransportRequest> requests);
+
     Optional<TransportRequest> findById(UUID id);
 
-    List<TransportRequest> findAll();
+    /**
+     * Transport requests with any of the given IDs, read in one query. Unknown IDs are skipped.
+     */
+    List<TransportRequestView> findViewsByIds(Collection<UUID> ids);
 
-    List<TransportRequest> findByStatus(TransportRequestStatus status);
+    /**
+     * Version of a transport request, read without loading the entity.
+     */
+    Optional<EntityVersion> findVersionById(UUID id);
+
+    /**
+     * One page of matching transport requests, newest first.
+     *
+     * @param after the last row of the previous page, or null for the first page
+     * @param limit maximum number of rows to return
+     */
+    List<TransportRequestView> searchViews(TransportRequestSearchCriteria criteria,
+                                           TransportRequestSearchCriteria.Cursor after, int limit);
+
+    /**
+     * Passes every matching transport request to the action, newest first, without
+     * loading the result set into memory. Must run inside a (read-only) transaction.
+     */
+    void forEachMatching(TransportRequestSearchCriteria criteria, Consumer<TransportRequest> action);
 
     /**
      * Find transport requests by status and weight less than or equal to the given weight.
@@ -0,0 +1,32 @@
+package com.limport.tms.domain.port.repository;
+
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Filters for listing transport requests. Null fields do not filter;
+ * windows are inclusive of the lower bound and exclusive of the upper bound.
+ */
+public record TransportRequestSearchCriteria(
+        TransportRequestStatus status,
+        String customerId,
+        String originLocationCode,
+        String destinationLocationCode,
+        Instant createdFrom,
+        Instant createdTo,
+        LocalDateTime pickupFrom,
+        LocalDateTime pickupTo) {
+
+    public static final TransportRequestSearchCriteria NONE =
+        new TransportRequestSearchCriteria(null, null, null, null, null, null, null, null);
+
+    /**
+     * Keyset position: the (createdAt, id) of the last row of the previous page.
+     * Results are ordered newest first, so the next page holds rows strictly below it.
+     */
+    public record Cursor(Instant createdAt, UUID id) {
+    }
+}
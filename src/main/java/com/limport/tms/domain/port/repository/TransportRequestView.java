@@ -0,0 +1,29 @@
+package com.limport.tms.domain.port.repository;
+
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only row of a transport request for list and lookup queries, projected straight
+ * from the table without loading the entity into the persistence context.
+ */
+public record TransportRequestView(
+        UUID id,
+        String reference,
+        String customerId,
+        String originLocationCode,
+        String destinationLocationCode,
+        LocalDateTime pickupFrom,
+        LocalDateTime pickupUntil,
+        LocalDateTime deliveryFrom,
+        LocalDateTime deliveryUntil,
+        BigDecimal totalWeight,
+        Integer totalPackages,
+        TransportRequestStatus status,
+        Instant createdAt,
+        Instant lastUpdatedAt) {
+}
@@ -1,5 +1,7 @@
 package com.limport.tms.domain.port.service;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -9,6 +11,15 @@ import java.util.UUID;
  * (network retries, consumer rebalances, etc.). This port allows handlers
  * to check if an event was already processed, preventing duplicate processing.
  * 
+ * Consumers should prefer {@link #tryMarkProcessing(UUID, String)} over the
+ * isProcessed/markAsProcessed pair: the claim is a single atomic operation,
+ * so two consumers receiving the same event cannot both win it.
+ * 
+ * A claim is only a processing lease (tms.event-tracker.processing-lease). The winner
+ * finalizes it with {@link #markAsProcessed(UUID, String)} after the handler succeeds,
+ * or gives it back with {@link #release(UUID)}; a claim left behind by a crashed
+ * consumer expires, so the redelivered event is processed rather than skipped.
+ * 
  * Implementation options:
  * - Database table (processed_events)
  * - Redis with TTL
@@ -20,16 +31,46 @@ public interface IProcessedEventTracker {
      * Check if an event has already been processed.
      * 
      * @param eventId The unique event identifier
-     * @return true if already processed, false otherwise
+     * @return true if processing finished, false if not seen or only claimed
      */
     boolean isProcessed(UUID eventId);
     
     /**
-     * Mark an event as processed.
+     * Mark an event as processed, finalizing a claim if one is held.
      * Should be called AFTER successful processing, typically in the same transaction.
      * 
      * @param eventId The unique event identifier
      * @param eventType The event type for logging/debugging
      */
     void markAsProcessed(UUID eventId, String eventType);
+    
+    /**
+     * Atomically claim an event for processing until the processing lease expires.
+     * Check and claim happen in one round-trip, closing the race window between
+     * {@link #isProcessed(UUID)} and {@link #markAsProcessed(UUID, String)}.
+     * 
+     * @param eventId The unique event identifier
+     * @param eventType The event type for logging/debugging
+     * @return true if this caller claimed the event, false if it is processed or
+     *         claimed by a consumer whose lease has not expired
+     */
+    boolean tryMarkProcessing(UUID eventId, String eventType);
+    
+    /**
+     * Atomically claim a batch of events in a single round-trip, with the same lease
+     * as {@link #tryMarkProcessing(UUID, String)}.
+     * 
+     * @param eventTypesById Event types keyed by event identifier
+     * @return identifiers of the events claimed by this caller; duplicates are omitted
+     */
+    Set<UUID> tryMarkAll(Map<UUID, String> eventTypesById);
+    
+    /**
+     * Release a claim taken by {@link #tryMarkProcessing(UUID, String)} or
+     * {@link #tryMarkAll(Map)} when processing failed, so a redelivery can retry it
+     * without waiting for the lease. Finalized events are not affected.
+     * 
+     * @param eventId The unique event identifier
+     */
+    void release(UUID eventId);
 }
@@ -0,0 +1,68 @@
+package com.limport.tms.domain.service;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered UUIDs (version 7, RFC 9562).
+ *
+ * Layout: 48-bit Unix epoch milliseconds, version, 12-bit sequence, variant, 62 random bits.
+ * The timestamp and sequence come from one lock-free counter, so IDs generated in this
+ * JVM are strictly increasing even within the same millisecond; random bits come from
+ * ThreadLocalRandom instead of the shared SecureRandom behind UUID.randomUUID().
+ *
+ * Benefits:
+ * - No lock or entropy-pool contention under concurrent event creation
+ * - New rows land at the right-hand edge of UUID primary key indexes
+ * - The creation time can be read back from the ID
+ *
+ * Trade-offs:
+ * - Random bits are not cryptographically strong; do not use the IDs as secrets
+ * - More than 4096 IDs in one millisecond borrow from the next millisecond, so the
+ *   embedded timestamp may run slightly ahead of the clock under extreme bursts
+ */
+public final class UuidV7Generator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // (epoch millis << SEQUENCE_BITS) | sequence of the last issued ID
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7Generator() {
+        // Utility class
+    }
+
+    /**
+     * Next ID stamped with the current time.
+     */
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    /**
+     * Next ID stamped with the given time, for callers that already read the clock.
+     * Never goes backwards: an older timestamp continues the last issued sequence.
+     */
+    public static UUID next(long epochMillis) {
+        long candidate = epochMillis << SEQUENCE_BITS;
+        long state = LAST.accumulateAndGet(candidate, (last, now) -> now > last ? now : last + 1);
+
+        long msb = ((state >>> SEQUENCE_BITS) << 16) | VERSION_7 | (state & 0xFFFL);
+        long lsb = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT_BITS;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Epoch milliseconds embedded in a version 7 UUID.
+     */
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -1,18 +1,24 @@
 package com.limport.tms.infrastructure.adapter;
 
 import com.limport.tms.domain.port.service.IProcessedEventTracker;
-import com.limport.tms.infrastructure.persistence.entity.ProcessedEventEntity;
 import com.limport.tms.infrastructure.repository.jpa.ProcessedEventJpaRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -25,6 +31,10 @@ import java.util.UUID;
  * - Audit trail: keeps record of all processed events
  * - Works without Redis infrastructure
  * - Queryable for debugging and monitoring
+ * - Atomic claims via INSERT ... ON CONFLICT; batch claims use one multi-row
+ *   insert with RETURNING per chunk
+ * - A claim carries lease_until until it is finalized, so a claim committed by a
+ *   consumer that then crashed is taken over once the lease expires
  * 
  * Trade-offs:
  * - Slightly slower than Redis for high-throughput scenarios
@@ -42,33 +52,92 @@ public class DatabaseProcessedEventTracker implements IProcessedEventTracker {
     
     private static final int DEFAULT_RETENTION_DAYS = 7;
     
+    // Three bind parameters per row keeps each statement well under PostgreSQL's 65535 limit
+    private static final int MAX_ROWS_PER_INSERT = 1000;
+    
     private final ProcessedEventJpaRepository repository;
+    private final JdbcTemplate jdbcTemplate;
     private final int retentionDays;
+    private final long leaseSeconds;
     
-    public DatabaseProcessedEventTracker(ProcessedEventJpaRepository repository) {
+    public DatabaseProcessedEventTracker(
+            ProcessedEventJpaRepository repository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${tms.event-tracker.processing-lease:5m}") Duration processingLease) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
         this.retentionDays = DEFAULT_RETENTION_DAYS;
+        this.leaseSeconds = processingLease.toSeconds();
         log.info("Initialized Database processed event tracker with retention={}days", retentionDays);
     }
     
     @Override
     @Transactional(readOnly = true)
     public boolean isProcessed(UUID eventId) {
-        return repository.existsByEventId(eventId);
+        return repository.existsByEventIdAndLeaseUntilIsNull(eventId);
     }
     
     @Override
     @Transactional
     public void markAsProcessed(UUID eventId, String eventType) {
-        // Use INSERT with ON CONFLICT DO NOTHING for idempotent insert
-        try {
-            ProcessedEventEntity entity = new ProcessedEventEntity(eventId, eventType);
-            repository.saveAndFlush(entity);
-            log.debug("Marked event as processed in database: eventId={}, eventType={}", eventId, eventType);
-        } catch (DataIntegrityViolationException e) {
-            // Already exists - this is fine, idempotent operation
-            log.debug("Event already marked as processed: eventId={}, eventType={}", eventId, eventType);
+        // Idempotent: finalizes a claim, or records the event if it was never claimed
+        repository.markProcessed(eventId, eventType);
+        log.debug("Marked event as processed in database: eventId={}, eventType={}", eventId, eventType);
+    }
+    
+    @Override
+    @Transactional
+    public boolean tryMarkProcessing(UUID eventId, String eventType) {
+        boolean claimed = repository.claim(eventId, eventType, leaseSeconds) == 1;
+        log.debug("Claim for event {} in database: eventType={}, claimed={}", eventId, eventType, claimed);
+        return claimed;
+    }
+    
+    @Override
+    @Transactional
+    public Set<UUID> tryMarkAll(Map<UUID, String> eventTypesById) {
+        Set<UUID> claimed = new LinkedHashSet<>();
+        List<Map.Entry<UUID, String>> entries = new ArrayList<>(eventTypesById.entrySet());
+        
+        for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_INSERT) {
+            List<Map.Entry<UUID, String>> chunk =
+                entries.subList(from, Math.min(from + MAX_ROWS_PER_INSERT, entries.size()));
+            claimed.addAll(insertChunk(chunk));
+        }
+        
+        log.debug("Claimed {}/{} events in database", claimed.size(), entries.size());
+        return claimed;
+    }
+    
+    @Override
+    @Transactional
+    public void release(UUID eventId) {
+        repository.deleteClaim(eventId);
+        log.debug("Released claim for event {} in database", eventId);
+    }
+    
+    /**
+     * Multi-row INSERT ... ON CONFLICT DO UPDATE ... RETURNING event_id, taking over only
+     * expired claims. Only rows inserted or taken over are returned, i.e. the events this
+     * caller claimed.
+     */
+    private List<UUID> insertChunk(List<Map.Entry<UUID, String>> chunk) {
+        StringBuilder sql = new StringBuilder(
+            "INSERT INTO processed_events (event_id, event_type, processed_at, lease_until) VALUES ");
+        Object[] args = new Object[chunk.size() * 3];
+        
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, NOW(), NOW() + ? * INTERVAL '1 second')");
+            args[i * 3] = chunk.get(i).getKey();
+            args[i * 3 + 1] = chunk.get(i).getValue();
+            args[i * 3 + 2] = leaseSeconds;
         }
+        sql.append(" ON CONFLICT (event_id) DO UPDATE")
+            .append(" SET processed_at = EXCLUDED.processed_at, lease_until = EXCLUDED.lease_until")
+            .append(" WHERE processed_events.lease_until < NOW()")
+            .append(" RETURNING event_id");
+        
+        return jdbcTemplate.queryForList(sql.toString(), UUID.class, args);
     }
 
     /**
@@ -3,11 +3,15 @@ package com.limport.tms.infrastructure.adapter;
 import com.limport.tms.domain.port.service.IProcessedEventTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -34,27 +38,62 @@ public class InMemoryProcessedEventTracker implements IProcessedEventTracker {
     
     // Simple in-memory store - NOT suitable for production
     private final Map<UUID, ProcessedEventRecord> processedEvents = new ConcurrentHashMap<>();
+    private final Duration processingLease;
     
-    public InMemoryProcessedEventTracker() {
+    public InMemoryProcessedEventTracker(
+            @Value("${tms.event-tracker.processing-lease:5m}") Duration processingLease) {
+        this.processingLease = processingLease;
         log.warn("Using in-memory processed event tracker. " +
             "This is NOT suitable for production - events will be reprocessed after restart!");
     }
     
     @Override
     public boolean isProcessed(UUID eventId) {
-        return processedEvents.containsKey(eventId);
+        ProcessedEventRecord record = processedEvents.get(eventId);
+        return record != null && record.leaseUntil() == null;
     }
     
     @Override
     public void markAsProcessed(UUID eventId, String eventType) {
-        processedEvents.put(eventId, new ProcessedEventRecord(eventId, eventType, Instant.now()));
+        processedEvents.put(eventId, new ProcessedEventRecord(eventId, eventType, Instant.now(), null));
         log.debug("Marked event as processed: eventId={}, eventType={}", eventId, eventType);
     }
     
+    @Override
+    public boolean tryMarkProcessing(UUID eventId, String eventType) {
+        Instant now = Instant.now();
+        ProcessedEventRecord claim = new ProcessedEventRecord(eventId, eventType, now, now.plus(processingLease));
+        // Take the slot if it is free or held by a claim whose lease has run out
+        boolean claimed = processedEvents.compute(eventId, (id, existing) ->
+            existing == null || existing.leaseExpired(now) ? claim : existing) == claim;
+        log.debug("Claim for event {}: eventType={}, claimed={}", eventId, eventType, claimed);
+        return claimed;
+    }
+    
+    @Override
+    public Set<UUID> tryMarkAll(Map<UUID, String> eventTypesById) {
+        Set<UUID> claimed = new LinkedHashSet<>();
+        eventTypesById.forEach((eventId, eventType) -> {
+            if (tryMarkProcessing(eventId, eventType)) {
+                claimed.add(eventId);
+            }
+        });
+        return claimed;
+    }
     
+    @Override
+    public void release(UUID eventId) {
+        processedEvents.computeIfPresent(eventId, (id, existing) -> existing.leaseUntil() == null ? existing : null);
+        log.debug("Released claim for event {}", eventId);
+    }
     
     /**
-     * Record of a processed event.
+     * Record of a processed event; leaseUntil is set while it is only claimed.
      */
-    private record ProcessedEventRecord(UUID eventId, String eventType, Instant processedAt) {}
+    private record ProcessedEventRecord(UUID eventId, String eventType, Instant processedAt, Instant leaseUntil) {
+        
+        boolean leaseExpired(Instant now) {
+            return leaseUntil != null && !now.isBefore(leaseUntil);
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.limport.tms.infrastructure.adapter;
+
+import com.limport.tms.application.service.interfaces.ITransportRequestUpdateRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process update relay, delivering synchronously to subscribers in this JVM.
+ *
+ * Suitable for single-instance deployments and for tests, where several hubs
+ * sharing one relay stand in for several nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "tms.sse.relay.type", havingValue = "local", matchIfMissing = true)
+public class LocalTransportRequestUpdateRelay implements ITransportRequestUpdateRelay {
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String message) {
+        for (Consumer<String> listener : listeners) {
+            listener.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+}
@@ -3,72 +3,277 @@ package com.limport.tms.infrastructure.adapter;
 import com.limport.tms.domain.port.service.IProcessedEventTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Redis-based implementation of processed event tracker.
- * 
- * Uses Redis SET with TTL for efficient, distributed idempotency checking.
- * 
+ *
+ * Events are stored as 16-byte binary UUIDs in time-bucketed Redis sets.
+ * Each bucket carries a single expiry, so there is no per-event TTL bookkeeping.
+ *
  * Benefits:
- * - Fast O(1) lookups
+ * - Fast O(1) lookups (SISMEMBER per live bucket)
  * - Distributed: works across multiple app instances
- * - Automatic cleanup via TTL (no manual maintenance)
- * - Survives application restarts
- * 
- * Key format: processed_event:{eventId}
- * Value: {eventType}|{processedAt}
- * TTL: 7 days (configurable)
+ * - Automatic cleanup: a whole bucket expires once it falls out of retention
+ * - Atomic claims and batch claims via a Lua script - one round-trip per call
+ *
+ * Key format: {pe}:{bucketIndex} (SET of binary event IDs)
+ * Bucket size: 1 day, retention: 7 days (configurable)
+ *
+ * A claim is a {pe}:claim:{uuid} key with the processing lease as its TTL. Only
+ * markAsProcessed adds the event to the current bucket, so a claim left by a crashed
+ * consumer simply expires and the redelivered event can be claimed again.
+ *
+ * Approximate memory for 10M tracked events (jemalloc size classes):
+ * - Previous layout, processed_event:{uuid} -> {eventType}|{instant} with per-key TTL:
+ *   ~56B key + ~80B value + 2 x 32B dict entries (keyspace + expires) + ~27B table slots
+ *   = ~225B/event, ~2.2 GB
+ * - Bucketed layout: ~32B member + ~24B set entry/slot = ~56B/event, ~0.55 GB
+ *
+ * Trade-offs:
+ * - The event type and processing time are no longer stored in Redis
+ * - All buckets share the {pe} hash tag, so in a cluster they live on one shard
+ * - Expiring a large bucket frees it in one go; enable lazyfree-lazy-expire on the server
+ * - Expiry granularity is one bucket, so events are kept for up to retention + bucket size
+ * - Finalizing is a second round-trip per event, and in-flight events hold a claim key each
+ *
+ * Pre-bucket processed_event:{uuid} keys (legacy-key-check) have no {pe} hash tag, so the
+ * scripts never touch them; they are read with a separate MGET/EXISTS, which the client
+ * routes per slot on a cluster. They are no longer written, so the extra round-trip cannot
+ * race a claim.
  */
 @Component
 @ConditionalOnProperty(name = "tms.event-tracker.type", havingValue = "redis")
 public class RedisProcessedEventTracker implements IProcessedEventTracker {
-    
+
     private static final Logger log = LoggerFactory.getLogger(RedisProcessedEventTracker.class);
-    
-    private static final String KEY_PREFIX = "processed_event:";
-    private static final Duration DEFAULT_TTL = Duration.ofDays(7);
-    
+
+    private static final String BUCKET_KEY_PREFIX = "{pe}:";
+    private static final String CLAIM_KEY_PREFIX = "{pe}:claim:";
+    private static final String LEGACY_KEY_PREFIX = "processed_event:";
+
+    // Bounds how long a single script blocks the Redis event loop
+    private static final int MAX_EVENTS_PER_SCRIPT = 500;
+
+    /**
+     * KEYS: buckets, then one claim key per event.
+     * ARGV: bucket count, lease in milliseconds, event IDs.
+     * Returns the 1-based positions of the events claimed by this call.
+     */
+    private static final String CLAIM_LUA = """
+        local buckets = tonumber(ARGV[1])
+        local claimed = {}
+        for i = 3, #ARGV do
+          local id = ARGV[i]
+          local seen = false
+          local b = 1
+          while not seen and b <= buckets do
+            seen = redis.call('SISMEMBER', KEYS[b], id) == 1
+            b = b + 1
+          end
+          if not seen and redis.call('SET', KEYS[buckets + i - 2], '1', 'NX', 'PX', ARGV[2]) then
+            claimed[#claimed + 1] = i - 2
+          end
+        end
+        return claimed
+        """;
+
+    /**
+     * KEYS: current bucket, claim key.
+     * ARGV: current bucket EXPIREAT, event ID.
+     */
+    private static final String FINALIZE_LUA = """
+        redis.call('SADD', KEYS[1], ARGV[2])
+        redis.call('EXPIREAT', KEYS[1], ARGV[1])
+        redis.call('DEL', KEYS[2])
+        return 1
+        """;
+
+    /**
+     * KEYS: buckets.
+     * ARGV: event ID.
+     */
+    private static final String LOOKUP_LUA = """
+        for b = 1, #KEYS do
+          if redis.call('SISMEMBER', KEYS[b], ARGV[1]) == 1 then
+            return 1
+          end
+        end
+        return 0
+        """;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of(CLAIM_LUA, List.class);
+    private static final RedisScript<Long> LOOKUP_SCRIPT = RedisScript.of(LOOKUP_LUA, Long.class);
+    private static final RedisScript<Long> FINALIZE_SCRIPT = RedisScript.of(FINALIZE_LUA, Long.class);
+
     private final StringRedisTemplate redisTemplate;
-    private final Duration ttl;
-    
-    public RedisProcessedEventTracker(StringRedisTemplate redisTemplate) {
+    private final Duration retention;
+    private final long bucketSeconds;
+    private final int bucketCount;
+    private final boolean legacyKeyCheck;
+    private final long leaseMillis;
+
+    public RedisProcessedEventTracker(
+            StringRedisTemplate redisTemplate,
+            @Value("${tms.event-tracker.redis.retention:7d}") Duration retention,
+            @Value("${tms.event-tracker.redis.bucket-size:1d}") Duration bucketSize,
+            @Value("${tms.event-tracker.redis.legacy-key-check:true}") boolean legacyKeyCheck,
+            @Value("${tms.event-tracker.processing-lease:5m}") Duration processingLease) {
         this.redisTemplate = redisTemplate;
-        this.ttl = DEFAULT_TTL;
-        log.info("Initialized Redis processed event tracker with TTL={}", ttl);
+        this.retention = retention;
+        this.bucketSeconds = bucketSize.toSeconds();
+        // Current bucket plus enough older buckets to cover the retention window
+        this.bucketCount = (int) ((retention.toSeconds() + bucketSeconds - 1) / bucketSeconds) + 1;
+        this.legacyKeyCheck = legacyKeyCheck;
+        this.leaseMillis = processingLease.toMillis();
+        log.info("Initialized Redis processed event tracker with retention={}, bucketSize={}, buckets={}, legacyKeyCheck={}",
+            retention, bucketSize, bucketCount, legacyKeyCheck);
     }
-    
+
     @Override
     public boolean isProcessed(UUID eventId) {
-        String key = buildKey(eventId);
-        Boolean exists = redisTemplate.hasKey(key);
-        return Boolean.TRUE.equals(exists);
+        Long found = redisTemplate.execute(LOOKUP_SCRIPT, RedisSerializer.byteArray(), null,
+            bucketKeys(Instant.now()), toBytes(eventId));
+        if (Long.valueOf(1).equals(found)) {
+            return true;
+        }
+        return legacyKeyCheck && Boolean.TRUE.equals(redisTemplate.hasKey(legacyKey(eventId)));
     }
-    
+
     @Override
     public void markAsProcessed(UUID eventId, String eventType) {
-        String key = buildKey(eventId);
-        String value = buildValue(eventType);
-        
-        // Idempotent: SET overwrites if exists, which is fine
-        redisTemplate.opsForValue().set(key, value, ttl);
-        log.debug("Marked event as processed in Redis: eventId={}, eventType={}, ttl={}", 
-            eventId, eventType, ttl);
+        // Idempotent: re-adding a tracked event is a no-op; the claim, if any, is dropped
+        Instant now = Instant.now();
+        redisTemplate.execute(FINALIZE_SCRIPT, RedisSerializer.byteArray(), null,
+            List.of(bucketKeys(now).get(0), claimKey(eventId)), ascii(bucketExpireAt(now)), toBytes(eventId));
+        log.debug("Marked event as processed in Redis: eventId={}, eventType={}", eventId, eventType);
+    }
+
+    @Override
+    public boolean tryMarkProcessing(UUID eventId, String eventType) {
+        boolean claimed = !claim(List.of(eventId)).isEmpty();
+        log.debug("Claim for event {} in Redis: eventType={}, claimed={}", eventId, eventType, claimed);
+        return claimed;
+    }
+
+    @Override
+    public Set<UUID> tryMarkAll(Map<UUID, String> eventTypesById) {
+        List<UUID> eventIds = new ArrayList<>(eventTypesById.keySet());
+        Set<UUID> claimed = new LinkedHashSet<>();
+
+        for (int from = 0; from < eventIds.size(); from += MAX_EVENTS_PER_SCRIPT) {
+            claimed.addAll(claim(eventIds.subList(from, Math.min(from + MAX_EVENTS_PER_SCRIPT, eventIds.size()))));
+        }
+
+        log.debug("Claimed {}/{} events in Redis", claimed.size(), eventIds.size());
+        return claimed;
     }
-    
-    
-    
-    private String buildKey(UUID eventId) {
-        return KEY_PREFIX + eventId.toString();
+
+    @Override
+    public void release(UUID eventId) {
+        redisTemplate.delete(claimKey(eventId));
+        log.debug("Released claim for event {} in Redis", eventId);
+    }
+
+    /**
+     * Runs the claim script for a chunk of events and returns the ones this call claimed.
+     */
+    private List<UUID> claim(List<UUID> eventIds) {
+        List<UUID> candidates = legacyKeyCheck ? withoutLegacyKeys(eventIds) : eventIds;
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> keys = bucketKeys(Instant.now());
+        Object[] args = new Object[candidates.size() + 2];
+        args[0] = ascii(bucketCount);
+        args[1] = ascii(leaseMillis);
+        for (int i = 0; i < candidates.size(); i++) {
+            args[i + 2] = toBytes(candidates.get(i));
+            keys.add(claimKey(candidates.get(i)));
+        }
+
+        List<?> positions = redisTemplate.execute(CLAIM_SCRIPT, RedisSerializer.byteArray(), null, keys, args);
+        List<UUID> claimed = new ArrayList<>();
+        if (positions != null) {
+            for (Object position : positions) {
+                claimed.add(candidates.get(((Number) position).intValue() - 1));
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Events without a pre-bucket key, read with one MGET that the client splits by slot.
+     */
+    private List<UUID> withoutLegacyKeys(List<UUID> eventIds) {
+        List<String> values = redisTemplate.opsForValue()
+            .multiGet(eventIds.stream().map(RedisProcessedEventTracker::legacyKey).toList());
+        if (values == null) {
+            return eventIds;
+        }
+        List<UUID> candidates = new ArrayList<>(eventIds.size());
+        for (int i = 0; i < eventIds.size(); i++) {
+            if (values.get(i) == null) {
+                candidates.add(eventIds.get(i));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Keys of all live buckets, current bucket first.
+     */
+    List<String> bucketKeys(Instant now) {
+        long current = now.getEpochSecond() / bucketSeconds;
+        List<String> keys = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            keys.add(BUCKET_KEY_PREFIX + (current - i));
+        }
+        return keys;
     }
-    
-    private String buildValue(String eventType) {
-        return eventType + "|" + Instant.now().toString();
+
+    /**
+     * The current bucket expires once its newest possible member falls out of retention.
+     */
+    long bucketExpireAt(Instant now) {
+        long bucketEnd = (now.getEpochSecond() / bucketSeconds + 1) * bucketSeconds;
+        return bucketEnd + retention.toSeconds();
+    }
+
+    static byte[] toBytes(UUID eventId) {
+        return ByteBuffer.allocate(16)
+            .putLong(eventId.getMostSignificantBits())
+            .putLong(eventId.getLeastSignificantBits())
+            .array();
+    }
+
+    private static String claimKey(UUID eventId) {
+        return CLAIM_KEY_PREFIX + eventId;
+    }
+
+    private static String legacyKey(UUID eventId) {
+        return LEGACY_KEY_PREFIX + eventId;
+    }
+
+    private static byte[] ascii(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
     }
 }
@@ -0,0 +1,68 @@
+package com.limport.tms.infrastructure.adapter;
+
+import com.limport.tms.application.service.interfaces.ITransportRequestUpdateRelay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub update relay, so SSE subscribers on every node see a change
+ * committed on any node.
+ *
+ * Updates are published with the auto-configured StringRedisTemplate on a single
+ * channel and received through the container from RedisPubSubConfig, the same
+ * one that carries query cache invalidations.
+ *
+ * Trade-offs:
+ * - Pub/sub is fire-and-forget: a node that is disconnected while an update is sent
+ *   never delivers it; its clients catch up when they reconnect and re-read
+ * - Every node receives every update, including for topics nobody follows there
+ */
+@Component
+@ConditionalOnProperty(name = "tms.sse.relay.type", havingValue = "redis")
+public class RedisTransportRequestUpdateRelay implements ITransportRequestUpdateRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisTransportRequestUpdateRelay.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+
+    public RedisTransportRequestUpdateRelay(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${tms.sse.relay.channel:tms:sse:transport-request-updates}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.topic = new ChannelTopic(channel);
+    }
+
+    @Override
+    public void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), message);
+        } catch (Exception e) {
+            // Subscribers on other nodes miss this update; the committed change itself must not fail
+            log.warn("Failed to relay transport request update: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                log.warn("Ignoring relayed transport request update: {}", e.getMessage());
+            }
+        }, topic);
+    }
+}
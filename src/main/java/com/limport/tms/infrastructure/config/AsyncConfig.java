@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -21,6 +22,16 @@ import java.util.concurrent.ThreadPoolExecutor;
  * them from blocking Kafka consumer threads and improving throughput.
  * 
  * Thread pool is sized for I/O-bound work (DB calls, HTTP requests).
+ * Tasks run with the submitting thread's correlation context (CorrelationIdTaskDecorator).
+ *
+ * Virtual-thread mode (spring.threads.virtual.enabled=true, Java 21+ runtime):
+ * Spring Boot moves Tomcat, @Scheduled relays and Kafka listeners onto virtual threads,
+ * and the event handler executor below becomes a virtual thread per task with a
+ * concurrency limit instead of a bounded platform pool. The export and import pools,
+ * and the command stripes (StripedCommandExecutor), keep their sizes and queues but
+ * run them on virtual threads. The SSE sender pool stays on platform threads: a sender
+ * blocks in a socket write while holding the emitter's monitor, which pins its carrier
+ * thread on Java 21-23. On older runtimes the flag is ignored and platform pools are used.
  */
 @Configuration
 @EnableAsync
@@ -40,6 +51,21 @@ public class AsyncConfig implements AsyncConfigurer {
     @Value("${tms.async.event-handler.thread-prefix:event-handler-}")
     private String threadPrefix;
     
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+    
+    @Value("${tms.async.event-handler.virtual-concurrency-limit:200}")
+    private int virtualConcurrencyLimit;
+    
+    @Value("${tms.sse.sender-threads:32}")
+    private int sseSenderThreads;
+    
+    @Value("${tms.export.max-concurrent:4}")
+    private int exportMaxConcurrent;
+    
+    @Value("${tms.batch.import-threads:4}")
+    private int importThreads;
+    
     /**
      * Dedicated thread pool for event handler execution.
      * 
@@ -52,11 +78,20 @@ public class AsyncConfig implements AsyncConfigurer {
      */
     @Bean("eventHandlerExecutor")
     public Executor eventHandlerExecutor() {
+        if (virtualThreadsEnabled) {
+            if (virtualThreadsSupported()) {
+                return virtualEventHandlerExecutor();
+            }
+            log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; " +
+                "using the platform event handler pool", Runtime.version().feature());
+        }
+        
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(corePoolSize);
         executor.setMaxPoolSize(maxPoolSize);
         executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix(threadPrefix);
+        executor.setTaskDecorator(new CorrelationIdTaskDecorator());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
         
@@ -72,6 +107,92 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
     
+    /**
+     * One virtual thread per task. Blocking DB/HTTP calls unmount instead of holding a
+     * platform thread, so the pool size no longer caps I/O concurrency; the concurrency
+     * limit still bounds load on downstream resources, and submitters block when it is
+     * reached, giving the same backpressure as CallerRunsPolicy.
+     */
+    private Executor virtualEventHandlerExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadPrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(virtualConcurrencyLimit);
+        executor.setTaskDecorator(new CorrelationIdTaskDecorator());
+        executor.setTaskTerminationTimeout(30_000);
+        
+        log.info("Initialized virtual-thread event handler executor: concurrencyLimit={}", virtualConcurrencyLimit);
+        
+        return executor;
+    }
+    
+    /**
+     * Writes server-sent events to subscriber connections.
+     * 
+     * Kept apart from the event handler pool so a client with a full socket buffer
+     * blocks only a sender thread, never domain event processing. Each subscriber has
+     * at most one drain task queued, so the queue is bounded by the subscriber count.
+     * Threads are started on demand up to the limit and stop when idle, so a few stalled
+     * connections do not hold up delivery to the rest while their writes time out.
+     * Always platform threads; see the class comment for virtual-thread mode.
+     */
+    @Bean("sseSenderExecutor")
+    public Executor sseSenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sseSenderThreads);
+        executor.setMaxPoolSize(sseSenderThreads);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("sse-sender-");
+        executor.initialize();
+        return executor;
+    }
+    
+    /**
+     * Streams export downloads, one thread per export allowed to run at once.
+     * 
+     * Exports are admitted by ExportResponses before they reach this pool, so the queue
+     * only ever holds an export whose thread is still being handed back.
+     */
+    @Bean("exportExecutor")
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportMaxConcurrent);
+        executor.setMaxPoolSize(exportMaxConcurrent);
+        executor.setThreadNamePrefix("export-");
+        executor.setVirtualThreads(virtualThreadsEnabled && virtualThreadsSupported());
+        executor.setTaskDecorator(new CorrelationIdTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+    
+    /**
+     * Inserts NDJSON import chunks while the request thread parses the next chunk.
+     * 
+     * Kept off the event handler pool so bulk imports cannot starve domain event handling.
+     * There is no queue: when every thread is busy the request thread inserts the chunk
+     * itself, which pauses its parsing instead of piling chunks up in memory.
+     */
+    @Bean("importExecutor")
+    public Executor importExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(importThreads);
+        executor.setMaxPoolSize(importThreads);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("ndjson-import-");
+        executor.setVirtualThreads(virtualThreadsEnabled && virtualThreadsSupported());
+        executor.setTaskDecorator(new CorrelationIdTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+    
+    /**
+     * Virtual threads need a Java 21+ runtime even though the code targets Java 17.
+     */
+    private static boolean virtualThreadsSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+    
     @Override
     public Executor getAsyncExecutor() {
         return eventHandlerExecutor();
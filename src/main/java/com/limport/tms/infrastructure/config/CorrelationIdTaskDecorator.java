@@ -0,0 +1,19 @@
+package com.limport.tms.infrastructure.config;
+
+import com.limport.tms.domain.event.CorrelationIdContext;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the submitting thread's correlation context onto executor threads.
+ *
+ * The context is captured once at submit time and restored around the task, so
+ * events raised by async handlers keep the caller's correlation ID and pooled
+ * threads never leak IDs from one task to the next.
+ */
+public class CorrelationIdTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return CorrelationIdContext.wrap(runnable);
+    }
+}
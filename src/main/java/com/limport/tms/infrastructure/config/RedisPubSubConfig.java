@@ -0,0 +1,49 @@
+package com.limport.tms.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Redis pub/sub listener shared by the cross-node channels: query cache invalidation
+ * (tms.cqrs.query-cache.invalidation.type=redis) and the SSE update relay
+ * (tms.sse.relay.type=redis).
+ *
+ * The container is a managed bean so Spring starts and stops it with the context.
+ * Without an explicit executor it dispatches every message on a new thread, so a burst
+ * of writes on another node would start a burst of threads here; a single dispatcher
+ * thread also handles messages in the order they were received.
+ */
+@Configuration
+@ConditionalOnExpression(
+    "'${tms.cqrs.query-cache.invalidation.type:local}' == 'redis' or '${tms.sse.relay.type:local}' == 'redis'")
+public class RedisPubSubConfig {
+
+    /**
+     * One thread; both channels only do short non-blocking work per message
+     * (a cache eviction, or offering an update to subscriber queues).
+     */
+    @Bean("redisPubSubExecutor")
+    public ThreadPoolTaskExecutor redisPubSubExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("redis-pubsub-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisPubSubListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            @Qualifier("redisPubSubExecutor") ThreadPoolTaskExecutor executor) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(executor);
+        return container;
+    }
+}
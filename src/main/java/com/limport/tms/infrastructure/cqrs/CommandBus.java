@@ -1,55 +1,96 @@
 package com.limport.tms.infrastructure.cqrs;
 
+import com.limport.tms.application.cqrs.IAggregateCommand;
 import com.limport.tms.application.cqrs.ICommand;
+import com.limport.tms.application.cqrs.ICommandBehavior;
 import com.limport.tms.application.cqrs.ICommandBus;
 import com.limport.tms.application.cqrs.ICommandHandler;
+import com.limport.tms.application.cqrs.IPipelineInvoker;
+import com.limport.tms.domain.event.CorrelationIdContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Spring-based implementation of the Command Bus.
  * Automatically discovers and registers all ICommandHandler beans.
+ *
+ * Each command type gets its pipeline (behaviors + handler) built once at startup;
+ * dispatch is a map lookup followed by the precompiled chain.
+ * Async dispatch runs the same pipeline on a {@link StripedCommandExecutor} stripe.
  */
 @Component
 public class CommandBus implements ICommandBus {
     
     private static final Logger log = LoggerFactory.getLogger(CommandBus.class);
     
-    private final Map<Class<?>, ICommandHandler<?, ?>> handlers = new HashMap<>();
+    private final Map<Class<?>, IPipelineInvoker<ICommand<?>>> pipelines;
+    private final StripedCommandExecutor asyncExecutor;
     
-    @SuppressWarnings("rawtypes")
-    public CommandBus(List<ICommandHandler> commandHandlers) {
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public CommandBus(
+            List<ICommandHandler> commandHandlers,
+            List<ICommandBehavior> behaviors,
+            StripedCommandExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+
+        List<ICommandBehavior> ordered = new ArrayList<>(behaviors);
+        AnnotationAwareOrderComparator.sort(ordered);
+
+        Map<Class<?>, IPipelineInvoker<ICommand<?>>> built = new HashMap<>();
         for (ICommandHandler handler : commandHandlers) {
             Class<?> commandType = handler.getCommandType();
-            if (handlers.containsKey(commandType)) {
+            if (built.containsKey(commandType)) {
                 throw new IllegalStateException(
                     "Duplicate command handler for " + commandType.getSimpleName());
             }
-            handlers.put(commandType, handler);
+
+            IPipelineInvoker<ICommand<?>> pipeline = command -> handler.handle(command);
+            for (int i = ordered.size() - 1; i >= 0; i--) {
+                pipeline = ordered.get(i).wrap(commandType, handler, pipeline);
+            }
+            built.put(commandType, pipeline);
             log.info("Registered command handler: {} -> {}", 
                 commandType.getSimpleName(), handler.getClass().getSimpleName());
         }
+        this.pipelines = Map.copyOf(built);
+        log.info("Command pipeline behaviors: {}",
+            ordered.stream().map(b -> b.getClass().getSimpleName()).toList());
     }
     
     @Override
     @SuppressWarnings("unchecked")
     public <R> R dispatch(ICommand<R> command) {
-        ICommandHandler<ICommand<R>, R> handler = 
-            (ICommandHandler<ICommand<R>, R>) handlers.get(command.getClass());
+        IPipelineInvoker<ICommand<?>> pipeline = pipelines.get(command.getClass());
         
-        if (handler == null) {
+        if (pipeline == null) {
             throw new IllegalArgumentException(
                 "No handler found for command: " + command.getClass().getSimpleName());
         }
         
-        log.debug("Dispatching command {} to handler {}", 
-            command.getClass().getSimpleName(), handler.getClass().getSimpleName());
+        if (log.isDebugEnabled()) {
+            log.debug("Dispatching command {}", command.getClass().getSimpleName());
+        }
         
-        return handler.handle(command);
+        return (R) pipeline.invoke(command);
+    }
+
+    @Override
+    public <R> CompletableFuture<R> dispatchAsync(ICommand<R> command) {
+        Object key = command instanceof IAggregateCommand<?> aggregateCommand
+            ? aggregateCommand.getAggregateId()
+            : null;
+
+        // Carry the caller's correlation context onto the stripe thread
+        Supplier<R> task = () -> dispatch(command);
+        return asyncExecutor.submit(key, CorrelationIdContext.wrap(task));
     }
 }
@@ -0,0 +1,86 @@
+package com.limport.tms.infrastructure.cqrs;
+
+import com.limport.tms.application.cqrs.ConcurrencyLimit;
+import com.limport.tms.application.cqrs.ConcurrencyLimitExceededException;
+import com.limport.tms.application.cqrs.ICommand;
+import com.limport.tms.application.cqrs.ICommandBehavior;
+import com.limport.tms.application.cqrs.ICommandHandler;
+import com.limport.tms.application.cqrs.IPipelineInvoker;
+import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.cqrs.IQueryBehavior;
+import com.limport.tms.application.cqrs.IQueryHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Innermost pipeline behavior: enforces {@link ConcurrencyLimit} on handlers.
+ *
+ * The annotation is read once when the pipeline is built; unannotated handlers get no
+ * wrapper at all. Runs after caching, so cache hits never take a slot.
+ */
+@Component
+public class ConcurrencyLimitPipelineBehavior implements ICommandBehavior, IQueryBehavior, Ordered {
+
+    public static final int ORDER = 300;
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitPipelineBehavior.class);
+
+    @Override
+    public IPipelineInvoker<ICommand<?>> wrap(
+            Class<?> commandType, ICommandHandler<?, ?> handler, IPipelineInvoker<ICommand<?>> next) {
+        return limited(commandType, handler, next);
+    }
+
+    @Override
+    public IPipelineInvoker<IQuery<?>> wrap(
+            Class<?> queryType, IQueryHandler<?, ?> handler, IPipelineInvoker<IQuery<?>> next) {
+        return limited(queryType, handler, next);
+    }
+
+    private <M> IPipelineInvoker<M> limited(Class<?> type, Object handler, IPipelineInvoker<M> next) {
+        ConcurrencyLimit limit = AnnotationUtils.findAnnotation(handler.getClass(), ConcurrencyLimit.class);
+        if (limit == null) {
+            return next;
+        }
+
+        Semaphore permits = new Semaphore(limit.value());
+        long timeoutMs = limit.acquireTimeoutMs();
+        String typeName = type.getSimpleName();
+        log.info("Limiting {} to {} concurrent executions", typeName, limit.value());
+
+        return request -> {
+            if (!acquire(permits, timeoutMs)) {
+                throw new ConcurrencyLimitExceededException(
+                    "Too many concurrent " + typeName + " requests (limit " + limit.value() + ")");
+            }
+            try {
+                return next.invoke(request);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private static boolean acquire(Semaphore permits, long timeoutMs) {
+        if (timeoutMs <= 0) {
+            return permits.tryAcquire();
+        }
+        try {
+            return permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,14 @@
+package com.limport.tms.infrastructure.cqrs;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts query cache invalidations to every node, including the sender.
+ * Delivery is best effort; the cache TTL bounds staleness when a message is lost.
+ */
+public interface IQueryCacheInvalidationChannel {
+
+    void publish(QueryCacheInvalidation invalidation);
+
+    void subscribe(Consumer<QueryCacheInvalidation> listener);
+}
@@ -0,0 +1,33 @@
+package com.limport.tms.infrastructure.cqrs;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process invalidation channel, delivering synchronously to subscribers in this JVM.
+ *
+ * Suitable for single-instance deployments and for tests, where several caches
+ * sharing one channel stand in for several nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "tms.cqrs.query-cache.invalidation.type", havingValue = "local", matchIfMissing = true)
+public class LocalQueryCacheInvalidationChannel implements IQueryCacheInvalidationChannel {
+
+    private final List<Consumer<QueryCacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(QueryCacheInvalidation invalidation) {
+        for (Consumer<QueryCacheInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<QueryCacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
@@ -1,12 +1,16 @@
 package com.limport.tms.infrastructure.cqrs;
 
 import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.cqrs.IQueryBehavior;
 import com.limport.tms.application.cqrs.IQueryBus;
 import com.limport.tms.application.cqrs.IQueryHandler;
+import com.limport.tms.application.cqrs.IPipelineInvoker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,42 +18,57 @@ import java.util.Map;
 /**
  * Spring-based implementation of the Query Bus.
  * Automatically discovers and registers all IQueryHandler beans.
+ *
+ * Each query type gets its pipeline (behaviors + handler) built once at startup;
+ * dispatch is a map lookup followed by the precompiled chain.
  */
 @Component
 public class QueryBus implements IQueryBus {
     
     private static final Logger log = LoggerFactory.getLogger(QueryBus.class);
     
-    private final Map<Class<?>, IQueryHandler<?, ?>> handlers = new HashMap<>();
+    private final Map<Class<?>, IPipelineInvoker<IQuery<?>>> pipelines;
     
-    @SuppressWarnings("rawtypes")
-    public QueryBus(List<IQueryHandler> queryHandlers) {
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public QueryBus(List<IQueryHandler> queryHandlers, List<IQueryBehavior> behaviors) {
+        List<IQueryBehavior> ordered = new ArrayList<>(behaviors);
+        AnnotationAwareOrderComparator.sort(ordered);
+
+        Map<Class<?>, IPipelineInvoker<IQuery<?>>> built = new HashMap<>();
         for (IQueryHandler handler : queryHandlers) {
             Class<?> queryType = handler.getQueryType();
-            if (handlers.containsKey(queryType)) {
+            if (built.containsKey(queryType)) {
                 throw new IllegalStateException(
                     "Duplicate query handler for " + queryType.getSimpleName());
             }
-            handlers.put(queryType, handler);
+
+            IPipelineInvoker<IQuery<?>> pipeline = query -> handler.handle(query);
+            for (int i = ordered.size() - 1; i >= 0; i--) {
+                pipeline = ordered.get(i).wrap(queryType, handler, pipeline);
+            }
+            built.put(queryType, pipeline);
             log.info("Registered query handler: {} -> {}", 
                 queryType.getSimpleName(), handler.getClass().getSimpleName());
         }
+        this.pipelines = Map.copyOf(built);
+        log.info("Query pipeline behaviors: {}",
+            ordered.stream().map(b -> b.getClass().getSimpleName()).toList());
     }
     
     @Override
     @SuppressWarnings("unchecked")
     public <R> R dispatch(IQuery<R> query) {
-        IQueryHandler<IQuery<R>, R> handler = 
-            (IQueryHandler<IQuery<R>, R>) handlers.get(query.getClass());
+        IPipelineInvoker<IQuery<?>> pipeline = pipelines.get(query.getClass());
         
-        if (handler == null) {
+        if (pipeline == null) {
             throw new IllegalArgumentException(
                 "No handler found for query: " + query.getClass().getSimpleName());
         }
         
-        log.debug("Dispatching query {} to handler {}", 
-            query.getClass().getSimpleName(), handler.getClass().getSimpleName());
+        if (log.isDebugEnabled()) {
+            log.debug("Dispatching query {}", query.getClass().getSimpleName());
+        }
         
-        return handler.handle(query);
+        return (R) pipeline.invoke(query);
     }
 }
@@ -0,0 +1,39 @@
+package com.limport.tms.infrastructure.cqrs;
+
+/**
+ * Invalidation broadcast between nodes.
+ *
+ * @param origin       node ID of the sender, so a node can ignore its own messages
+ * @param sentAtMillis sender's wall clock, for lag metrics
+ * @param queryType    fully qualified query class name
+ * @param key          cache key as a string, or null to evict the whole query type
+ */
+public record QueryCacheInvalidation(String origin, long sentAtMillis, String queryType, String key) {
+
+    private static final char SEPARATOR = '|';
+    private static final String ALL = "*";
+    private static final String KEY_PREFIX = "k:";
+
+    /**
+     * Wire format: origin|sentAtMillis|queryType|(k:key or *). The key goes last so it may contain '|'.
+     */
+    public String encode() {
+        return origin + SEPARATOR + sentAtMillis + SEPARATOR + queryType + SEPARATOR
+            + (key != null ? KEY_PREFIX + key : ALL);
+    }
+
+    public static QueryCacheInvalidation decode(String message) {
+        int first = message.indexOf(SEPARATOR);
+        int second = message.indexOf(SEPARATOR, first + 1);
+        int third = message.indexOf(SEPARATOR, second + 1);
+        if (first < 0 || second < 0 || third < 0) {
+            throw new IllegalArgumentException("Malformed query cache invalidation: " + message);
+        }
+        String key = message.substring(third + 1);
+        return new QueryCacheInvalidation(
+            message.substring(0, first),
+            Long.parseLong(message.substring(first + 1, second)),
+            message.substring(second + 1, third),
+            key.startsWith(KEY_PREFIX) ? key.substring(KEY_PREFIX.length()) : null);
+    }
+}
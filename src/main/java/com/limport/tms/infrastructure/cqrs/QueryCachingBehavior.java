@@ -0,0 +1,59 @@
+package com.limport.tms.infrastructure.cqrs;
+
+import com.limport.tms.application.cqrs.ICacheableQuery;
+import com.limport.tms.application.cqrs.IPipelineInvoker;
+import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.cqrs.IQueryBehavior;
+import com.limport.tms.application.cqrs.IQueryHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves {@link ICacheableQuery} results from {@link QueryResultCache}.
+ *
+ * Only query types implementing ICacheableQuery are wrapped. Null results and
+ * exceptions are never cached, nor are results of reads that overlapped an invalidation.
+ */
+@Component
+public class QueryCachingBehavior implements IQueryBehavior, Ordered {
+
+    public static final int ORDER = 200;
+
+    private final QueryResultCache cache;
+    private final boolean enabled;
+
+    public QueryCachingBehavior(
+            QueryResultCache cache,
+            @Value("${tms.cqrs.query-cache.enabled:true}") boolean enabled) {
+        this.cache = cache;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public IPipelineInvoker<IQuery<?>> wrap(
+            Class<?> queryType, IQueryHandler<?, ?> handler, IPipelineInvoker<IQuery<?>> next) {
+        if (!enabled || !ICacheableQuery.class.isAssignableFrom(queryType)) {
+            return next;
+        }
+
+        return query -> {
+            Object cacheKey = ((ICacheableQuery<?>) query).cacheKey();
+            Object cached = cache.get(queryType, cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+            long version = cache.version(queryType, cacheKey);
+            Object result = next.invoke(query);
+            if (result != null) {
+                cache.put(queryType, cacheKey, result, version);
+            }
+            return result;
+        };
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
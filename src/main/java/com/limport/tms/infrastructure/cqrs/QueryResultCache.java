@@ -0,0 +1,209 @@
+package com.limport.tms.infrastructure.cqrs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.limport.tms.application.cqrs.ICacheableQuery;
+import com.limport.tms.application.cqrs.IQueryCacheInvalidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-process cache of query results, one Caffeine cache per query type keyed by
+ * {@link ICacheableQuery#cacheKey()}, kept coherent across nodes.
+ *
+ * Each cache holds at most tms.cqrs.query-cache.max-entries results, evicting by
+ * frequency and recency (W-TinyLFU) when full, and entries expire after a fixed TTL.
+ * Entries are evicted explicitly through {@link IQueryCacheInvalidator} when the
+ * underlying data changes; once the change commits, the eviction is broadcast on
+ * the {@link IQueryCacheInvalidationChannel} and every other node evicts too.
+ *
+ * Versioned entries: every invalidation bumps a version stripe for its key. A reader
+ * takes the version before querying and its result is only kept if the version is
+ * unchanged afterwards, so a read that started before a local or remote invalidation
+ * cannot re-populate the cache with the old value.
+ *
+ * Meters: cache.gets / cache.puts / cache.evictions / cache.size tagged cache=query.&lt;type&gt;,
+ * tms.cqrs.query-cache.hit-ratio tagged type, tms.cqrs.query-cache.invalidations tagged
+ * source=local|remote, and tms.cqrs.query-cache.invalidation.lag (send to remote eviction).
+ *
+ * Trade-offs:
+ * - The bound is per query type, so total memory grows with the number of cacheable types
+ * - Version stripes are shared between keys, so an invalidation occasionally stops an
+ *   unrelated result from being cached
+ * - Lag is measured across node clocks, so it includes their skew
+ */
+@Component
+public class QueryResultCache implements IQueryCacheInvalidator {
+
+    private static final int VERSION_STRIPES = 1024;
+
+    private final ConcurrentHashMap<String, TypeCache> caches = new ConcurrentHashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final MeterRegistry meterRegistry;
+    private final IQueryCacheInvalidationChannel channel;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+    private final Timer invalidationLag;
+
+    public QueryResultCache(
+            MeterRegistry meterRegistry,
+            IQueryCacheInvalidationChannel channel,
+            @Value("${tms.cqrs.query-cache.ttl:5s}") Duration ttl,
+            @Value("${tms.cqrs.query-cache.max-entries:10000}") int maxEntries) {
+        this.meterRegistry = meterRegistry;
+        this.channel = channel;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.localInvalidations = meterRegistry.counter("tms.cqrs.query-cache.invalidations", "source", "local");
+        this.remoteInvalidations = meterRegistry.counter("tms.cqrs.query-cache.invalidations", "source", "remote");
+        this.invalidationLag = Timer.builder("tms.cqrs.query-cache.invalidation.lag")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        channel.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Cached result, or null if absent or expired.
+     */
+    Object get(Class<?> queryType, Object cacheKey) {
+        return cacheFor(queryType.getName()).cache.getIfPresent(String.valueOf(cacheKey));
+    }
+
+    /**
+     * Version to pass to {@link #put}; take it before running the query.
+     */
+    long version(Class<?> queryType, Object cacheKey) {
+        String key = String.valueOf(cacheKey);
+        return cacheFor(queryType.getName()).versions.get(stripe(key));
+    }
+
+    /**
+     * Caches the result unless the key was invalidated since {@code version} was taken.
+     */
+    void put(Class<?> queryType, Object cacheKey, Object value, long version) {
+        String key = String.valueOf(cacheKey);
+        TypeCache typeCache = cacheFor(queryType.getName());
+        int stripe = stripe(key);
+        if (typeCache.versions.get(stripe) != version) {
+            return;
+        }
+        typeCache.cache.put(key, value);
+        // An invalidation between the check and the put would otherwise be lost
+        if (typeCache.versions.get(stripe) != version) {
+            typeCache.cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void invalidate(Class<? extends ICacheableQuery<?>> queryType, Object cacheKey) {
+        String type = queryType.getName();
+        String key = String.valueOf(cacheKey);
+        evict(type, key);
+        afterCommit(() -> {
+            evict(type, key);
+            broadcast(type, key);
+        });
+    }
+
+    @Override
+    public void invalidateAll(Class<? extends ICacheableQuery<?>> queryType) {
+        String type = queryType.getName();
+        evict(type, null);
+        afterCommit(() -> {
+            evict(type, null);
+            broadcast(type, null);
+        });
+    }
+
+    private void onInvalidation(QueryCacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        evict(invalidation.queryType(), invalidation.key());
+        remoteInvalidations.increment();
+        invalidationLag.record(Math.max(0, System.currentTimeMillis() - invalidation.sentAtMillis()),
+            TimeUnit.MILLISECONDS);
+    }
+
+    private void broadcast(String queryType, String key) {
+        localInvalidations.increment();
+        channel.publish(new QueryCacheInvalidation(nodeId, System.currentTimeMillis(), queryType, key));
+    }
+
+    /**
+     * Evicts one key, or the whole type if {@code key} is null, bumping versions first
+     * so in-flight reads discard their results.
+     */
+    private void evict(String queryType, String key) {
+        TypeCache typeCache = cacheFor(queryType);
+        if (key != null) {
+            typeCache.versions.incrementAndGet(stripe(key));
+            typeCache.cache.invalidate(key);
+        } else {
+            for (int i = 0; i < VERSION_STRIPES; i++) {
+                typeCache.versions.incrementAndGet(i);
+            }
+            typeCache.cache.invalidateAll();
+        }
+    }
+
+    private TypeCache cacheFor(String queryType) {
+        TypeCache typeCache = caches.get(queryType);
+        return typeCache != null ? typeCache : caches.computeIfAbsent(queryType, this::newCache);
+    }
+
+    private TypeCache newCache(String queryType) {
+        Cache<String, Object> cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+
+        // Simple name, also for nested classes (Outer$Query)
+        String typeName = queryType.substring(Math.max(queryType.lastIndexOf('.'), queryType.lastIndexOf('$')) + 1);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "query." + typeName);
+        Gauge.builder("tms.cqrs.query-cache.hit-ratio", cache, c -> c.stats().hitRate())
+            .tag("type", typeName)
+            .register(meterRegistry);
+        return new TypeCache(cache, new AtomicLongArray(VERSION_STRIPES));
+    }
+
+    private static int stripe(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (VERSION_STRIPES - 1);
+    }
+
+    /**
+     * Runs after commit, or right away when there is no transaction to wait for.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record TypeCache(Cache<String, Object> cache, AtomicLongArray versions) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.limport.tms.infrastructure.cqrs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub invalidation channel, so a write on one node evicts every node's cache.
+ *
+ * Messages are short strings (see {@link QueryCacheInvalidation#encode()}) published
+ * with the auto-configured StringRedisTemplate on a single channel and received through
+ * the container from RedisPubSubConfig.
+ *
+ * Trade-offs:
+ * - Pub/sub is fire-and-forget: a node that is disconnected while a message is sent
+ *   keeps its entry until the TTL expires
+ * - Every node receives every invalidation, including for keys it never cached
+ */
+@Component
+@ConditionalOnProperty(name = "tms.cqrs.query-cache.invalidation.type", havingValue = "redis")
+public class RedisQueryCacheInvalidationChannel implements IQueryCacheInvalidationChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisQueryCacheInvalidationChannel.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+
+    public RedisQueryCacheInvalidationChannel(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${tms.cqrs.query-cache.invalidation.channel:tms:query-cache:invalidations}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.topic = new ChannelTopic(channel);
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void publish(QueryCacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), invalidation.encode());
+        } catch (Exception e) {
+            // Other nodes fall back to TTL expiry; the write itself must not fail
+            log.warn("Failed to publish query cache invalidation {}: {}", invalidation, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<QueryCacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                listener.accept(QueryCacheInvalidation.decode(body));
+            } catch (Exception e) {
+                log.warn("Ignoring query cache invalidation '{}': {}", body, e.getMessage());
+            }
+        }, topic);
+    }
+}
@@ -0,0 +1,120 @@
+package com.limport.tms.infrastructure.cqrs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of single-threaded stripes for asynchronous command execution.
+ *
+ * A key always maps to the same stripe, so commands for one aggregate run strictly in
+ * submission order and never contend with each other on row locks, while different
+ * aggregates spread across stripes. Tasks without a key are spread round-robin.
+ *
+ * Benefits:
+ * - Per-aggregate ordering without locks or per-key bookkeeping
+ * - Bounded memory: each stripe has a fixed-size queue and rejects when full
+ *
+ * Trade-offs:
+ * - Unrelated aggregates sharing a stripe wait behind each other (head-of-line blocking)
+ * - Parallelism is capped at the stripe count
+ *
+ * With spring.threads.virtual.enabled on a Java 21+ runtime each stripe's thread is a
+ * virtual thread, so stripes blocked on the database do not hold platform threads;
+ * stripe count and queue bounds are unchanged.
+ *
+ * Meters: tms.cqrs.command.async.queued (per stripe), tms.cqrs.command.async.rejected
+ */
+@Component
+public class StripedCommandExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(StripedCommandExecutor.class);
+
+    private final ThreadPoolExecutor[] stripes;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final Counter rejected;
+
+    public StripedCommandExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${tms.cqrs.async.stripes:8}") int stripeCount,
+            @Value("${tms.cqrs.async.queue-capacity:256}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        // Virtual threads need a Java 21+ runtime; on older ones the flag is ignored, as in AsyncConfig
+        boolean virtual = virtualThreads && Runtime.version().feature() >= 21;
+        this.stripes = new ThreadPoolExecutor[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            String threadName = "command-stripe-" + i;
+            ThreadFactory threadFactory = virtual
+                ? new VirtualThreadTaskExecutor(threadName + "-").getVirtualThreadFactory()
+                : runnable -> new Thread(runnable, threadName);
+            ThreadPoolExecutor stripe = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+            stripes[i] = stripe;
+
+            Gauge.builder("tms.cqrs.command.async.queued", stripe, s -> s.getQueue().size())
+                .description("Commands waiting in an async command stripe")
+                .tag("stripe", Integer.toString(i))
+                .register(meterRegistry);
+        }
+
+        rejected = Counter.builder("tms.cqrs.command.async.rejected")
+            .description("Async commands rejected because their stripe queue was full")
+            .register(meterRegistry);
+
+        log.info("Initialized striped command executor: stripes={}, queueCapacity={}, virtualThreads={}",
+            stripeCount, queueCapacity, virtual);
+    }
+
+    /**
+     * Runs the task on the stripe owning the key, after every earlier task for that stripe.
+     *
+     * @param key Serialization key (e.g. aggregate ID), or null for no ordering requirement
+     * @return Future completing with the task result; failed with RejectedExecutionException if the stripe
+     *         is full, which the controllers answer with 503 and Retry-After
+     */
+    public <R> CompletableFuture<R> submit(Object key, Supplier<R> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, stripeFor(key));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private ThreadPoolExecutor stripeFor(Object key) {
+        if (key == null) {
+            return stripes[Math.floorMod(roundRobin.getAndIncrement(), stripes.length)];
+        }
+        int hash = key.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+        for (ThreadPoolExecutor stripe : stripes) {
+            if (!stripe.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Command stripe did not drain within 30s, {} commands dropped",
+                    stripe.shutdownNow().size());
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.limport.tms.infrastructure.cqrs;
+
+import com.limport.tms.application.cqrs.ICommand;
+import com.limport.tms.application.cqrs.ICommandBehavior;
+import com.limport.tms.application.cqrs.ICommandHandler;
+import com.limport.tms.application.cqrs.IPipelineInvoker;
+import com.limport.tms.application.cqrs.IQuery;
+import com.limport.tms.application.cqrs.IQueryBehavior;
+import com.limport.tms.application.cqrs.IQueryHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outermost pipeline behavior: times every command and query per type and logs slow ones.
+ *
+ * Timers are registered per type and outcome when the pipeline is built, so dispatch
+ * only reads the clock and records into a pre-resolved timer.
+ *
+ * Meters: tms.cqrs.command.duration / tms.cqrs.query.duration, tagged type and outcome.
+ */
+@Component
+public class TimingPipelineBehavior implements ICommandBehavior, IQueryBehavior, Ordered {
+
+    public static final int ORDER = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(TimingPipelineBehavior.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+
+    public TimingPipelineBehavior(
+            MeterRegistry meterRegistry,
+            @Value("${tms.cqrs.slow-threshold:500ms}") Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public IPipelineInvoker<ICommand<?>> wrap(
+            Class<?> commandType, ICommandHandler<?, ?> handler, IPipelineInvoker<ICommand<?>> next) {
+        return timed("tms.cqrs.command.duration", "command", commandType, next);
+    }
+
+    @Override
+    public IPipelineInvoker<IQuery<?>> wrap(
+            Class<?> queryType, IQueryHandler<?, ?> handler, IPipelineInvoker<IQuery<?>> next) {
+        return timed("tms.cqrs.query.duration", "query", queryType, next);
+    }
+
+    private <M> IPipelineInvoker<M> timed(String meterName, String kind, Class<?> type, IPipelineInvoker<M> next) {
+        String typeName = type.getSimpleName();
+        Timer success = timer(meterName, kind, typeName, "success");
+        Timer error = timer(meterName, kind, typeName, "error");
+
+        return request -> {
+            long start = System.nanoTime();
+            boolean succeeded = false;
+            try {
+                Object result = next.invoke(request);
+                succeeded = true;
+                return result;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                (succeeded ? success : error).record(elapsed, TimeUnit.NANOSECONDS);
+                if (elapsed > slowThresholdNanos) {
+                    log.warn("Slow {} {}: {} ms (threshold {} ms)", kind, typeName,
+                        elapsed / 1_000_000, slowThresholdNanos / 1_000_000);
+                }
+            }
+        };
+    }
+
+    private Timer timer(String meterName, String kind, String typeName, String outcome) {
+        return Timer.builder(meterName)
+            .description("Time taken to dispatch and handle a " + kind)
+            .tag("type", typeName)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
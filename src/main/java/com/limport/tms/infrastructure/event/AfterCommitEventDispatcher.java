@@ -0,0 +1,104 @@
+package com.limport.tms.infrastructure.event;
+
+import com.limport.tms.application.event.InternalEventHandlerRegistry;
+import com.limport.tms.application.service.interfaces.IAfterCommitEventDispatcher;
+import com.limport.tms.domain.event.CorrelationIdContext;
+import com.limport.tms.domain.event.IDomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs after-commit internal handlers on the event handler executor.
+ *
+ * Events are queued from a transaction synchronization, so nothing runs if the command
+ * rolls back. Each aggregate gets a serial queue on top of the shared pool, keeping
+ * per-aggregate ordering while different aggregates are handled in parallel.
+ *
+ * Benefits:
+ * - Read model, notification and workflow calls no longer hold the command's DB locks
+ * - Queue depth, commit-to-start lag and handler duration are exported as metrics
+ *
+ * Trade-offs:
+ * - At-most-once: a handler failure is logged and counted, not retried
+ * - Queued events are lost if the node dies before handling them
+ */
+@Component
+public class AfterCommitEventDispatcher implements IAfterCommitEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AfterCommitEventDispatcher.class);
+
+    private final InternalEventHandlerRegistry handlerRegistry;
+    private final KeyedSerialExecutor serialExecutor;
+    private final EventProcessingMetrics metrics;
+
+    public AfterCommitEventDispatcher(
+            InternalEventHandlerRegistry handlerRegistry,
+            @Qualifier("eventHandlerExecutor") Executor executor,
+            EventProcessingMetrics metrics) {
+        this.handlerRegistry = handlerRegistry;
+        this.serialExecutor = new KeyedSerialExecutor(executor);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void dispatchAfterCommit(String aggregateKey, List<IDomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<IDomainEvent> batch = List.copyOf(events);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(aggregateKey, batch);
+                }
+            });
+        } else {
+            enqueue(aggregateKey, batch);
+        }
+    }
+
+    private void enqueue(String aggregateKey, List<IDomainEvent> events) {
+        for (IDomainEvent event : events) {
+            long queuedAt = System.nanoTime();
+            metrics.recordAfterCommitQueued();
+            serialExecutor.execute(aggregateKey, () -> handle(aggregateKey, event, queuedAt))
+                .whenComplete((result, error) -> {
+                    // handle() settles the pending gauge itself; a rejected event never reaches it
+                    if (error instanceof RejectedExecutionException) {
+                        metrics.recordAfterCommitRejected();
+                        log.error("After-commit handling rejected for event {} ({}) on {}: executor saturated",
+                            event.getEventId(), event.eventType(), aggregateKey);
+                    }
+                });
+        }
+    }
+
+    private void handle(String aggregateKey, IDomainEvent event, long queuedAt) {
+        long start = System.nanoTime();
+        metrics.recordAfterCommitStarted(start - queuedAt);
+
+        boolean succeeded = false;
+        CorrelationIdContext.Snapshot previous = CorrelationIdContext.capture();
+        CorrelationIdContext.setIds(event.getCorrelationId(), event.getEventId().toString());
+        try {
+            handlerRegistry.dispatchAfterCommit(event);
+            succeeded = true;
+        } catch (RuntimeException e) {
+            log.error("After-commit handling failed for event {} ({}) on {}: {}",
+                event.getEventId(), event.eventType(), aggregateKey, e.getMessage());
+        } finally {
+            metrics.recordAfterCommitCompleted(System.nanoTime() - start, succeeded);
+            CorrelationIdContext.restore(previous);
+        }
+    }
+}
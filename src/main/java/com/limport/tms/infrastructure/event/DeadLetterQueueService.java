@@ -7,6 +7,7 @@ import com.limport.tms.infrastructure.persistence.entity.DeadLetterEventEntity;
 import com.limport.tms.infrastructure.persistence.entity.ExternalEventInboxEntity;
 import com.limport.tms.infrastructure.repository.jpa.DeadLetterEventJpaRepository;
 import com.limport.tms.infrastructure.repository.jpa.ExternalEventInboxJpaRepository;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,6 +33,7 @@ public class DeadLetterQueueService implements IDeadLetterService {
     private final IOutboxEventRepository outboxRepository;
     private final ExternalEventInboxJpaRepository inboxRepository;
     private final CircuitBreaker circuitBreaker;
+    private final EventProcessingMetrics metrics;
 
     @Value("${tms.deadletter.max-retries:5}")
     private int maxRetries;
@@ -49,11 +51,13 @@ public class DeadLetterQueueService implements IDeadLetterService {
             DeadLetterEventJpaRepository deadLetterRepository,
             IOutboxEventRepository outboxRepository,
             ExternalEventInboxJpaRepository inboxRepository,
-            CircuitBreaker circuitBreaker) {
+            CircuitBreaker circuitBreaker,
+            EventProcessingMetrics metrics) {
         this.deadLetterRepository = deadLetterRepository;
         this.outboxRepository = outboxRepository;
         this.inboxRepository = inboxRepository;
         this.circuitBreaker = circuitBreaker;
+        this.metrics = metrics;
     }
 
     /**
@@ -70,6 +74,7 @@ public class DeadLetterQueueService implements IDeadLetterService {
         deadLetterEvent.scheduleNextRetry(nextRetryAt);
 
         deadLetterRepository.save(deadLetterEvent);
+        metrics.recordDeadLetterEventStored();
 
         log.warn("Stored failed event {} in dead letter queue. Next retry at: {}",
             eventId, nextRetryAt);
@@ -131,6 +136,7 @@ public class DeadLetterQueueService implements IDeadLetterService {
                 continue;
             }
 
+            Timer.Sample sample = metrics.startDeadLetterRetryTimer();
             try {
                 // Use circuit breaker to attempt retry
                 circuitBreaker.execute("dead-letter-retry-" + event.getSource(), () -> {
@@ -139,10 +145,13 @@ public class DeadLetterQueueService implements IDeadLetterService {
                 });
 
                 markAsProcessed(event.getId());
+                metrics.recordDeadLetterEventRetried();
 
             } catch (Exception e) {
                 log.error("Retry failed for dead letter event {}: {}", event.getEventId(), e.getMessage());
                 recordFailure(event.getId(), e.getMessage());
+            } finally {
+                sample.stop(metrics.getDeadLetterRetryTimer());
             }
         }
     }
@@ -1,27 +1,25 @@
 package com.limport.tms.infrastructure.event;
 
-import com.limport.tms.domain.port.service.IDeadLetterService;
-import com.limport.tms.domain.port.repository.IOutboxEventRepository;
-import com.limport.tms.infrastructure.repository.jpa.DeadLetterEventJpaRepository;
-import com.limport.tms.infrastructure.repository.jpa.ExternalEventInboxJpaRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+
 /**
  * Health indicator for event processing system.
  * Monitors queue sizes, dead letter queue, and circuit breaker status.
+ *
+ * Reads only the cached snapshot from {@link EventQueueSampler}, so a health
+ * probe never issues database queries.
  */
 @Component
 public class EventProcessingHealthIndicator implements HealthIndicator {
 
-    private final DeadLetterEventJpaRepository deadLetterRepository;
-    private final IDeadLetterService deadLetterService;
+    private final EventQueueSampler queueSampler;
     private final CircuitBreaker circuitBreaker;
-    private final EventProcessingMetrics metrics;
-    private final IOutboxEventRepository outboxRepository;
-    private final ExternalEventInboxJpaRepository inboxRepository;
 
     @Value("${tms.health.dead-letter-threshold:100}")
     private int deadLetterThreshold;
@@ -32,27 +30,37 @@ public class EventProcessingHealthIndicator implements HealthIndicator {
     @Value("${tms.health.inbox-threshold:1000}")
     private int inboxThreshold;
 
+    @Value("${tms.health.max-sample-age-ms:60000}")
+    private long maxSampleAgeMs;
+
     public EventProcessingHealthIndicator(
-            DeadLetterEventJpaRepository deadLetterRepository,
-            IDeadLetterService deadLetterService,
-            CircuitBreaker circuitBreaker,
-            EventProcessingMetrics metrics,
-            IOutboxEventRepository outboxRepository,
-            ExternalEventInboxJpaRepository inboxRepository) {
-        this.deadLetterRepository = deadLetterRepository;
-        this.deadLetterService = deadLetterService;
+            EventQueueSampler queueSampler,
+            CircuitBreaker circuitBreaker) {
+        this.queueSampler = queueSampler;
         this.circuitBreaker = circuitBreaker;
-        this.metrics = metrics;
-        this.outboxRepository = outboxRepository;
-        this.inboxRepository = inboxRepository;
     }
 
     @Override
     public Health health() {
-        IDeadLetterService.DeadLetterStats deadLetterStats = deadLetterService.getStats();
+        EventQueueSampler.QueueSnapshot snapshot = queueSampler.getSnapshot().orElse(null);
+        if (snapshot == null) {
+            return Health.unknown()
+                .withDetail("status", "AWAITING_FIRST_SAMPLE")
+                .build();
+        }
+
+        // A snapshot that stopped refreshing means the sampler cannot reach the database
+        Duration sampleAge = Duration.between(snapshot.sampledAt(), Instant.now());
+        if (sampleAge.toMillis() > maxSampleAgeMs) {
+            return Health.down()
+                .withDetail("sampledAt", snapshot.sampledAt())
+                .withDetail("maxSampleAgeMs", maxSampleAgeMs)
+                .withDetail("status", "QUEUE_SAMPLE_STALE")
+                .build();
+        }
 
         // Check dead letter queue size
-        long deadLetterCount = deadLetterStats.totalUnprocessed;
+        long deadLetterCount = snapshot.deadLetterSize();
         if (deadLetterCount > deadLetterThreshold) {
             return Health.down()
                 .withDetail("deadLetterQueue", deadLetterCount)
@@ -62,7 +70,7 @@ public class EventProcessingHealthIndicator implements HealthIndicator {
         }
 
         // Check outbox queue size
-        long outboxSize = outboxRepository.countPendingEvents();
+        long outboxSize = snapshot.outboxSize();
         if (outboxSize > outboxThreshold) {
             return Health.down()
                 .withDetail("outboxSize", outboxSize)
@@ -72,7 +80,7 @@ public class EventProcessingHealthIndicator implements HealthIndicator {
         }
 
         // Check inbox queue size
-        long inboxSize = inboxRepository.countPendingEvents();
+        long inboxSize = snapshot.inboxSize();
         if (inboxSize > inboxThreshold) {
             return Health.down()
                 .withDetail("inboxSize", inboxSize)
@@ -95,7 +103,11 @@ public class EventProcessingHealthIndicator implements HealthIndicator {
             .withDetail("deadLetterQueue", deadLetterCount)
             .withDetail("outboxSize", outboxSize)
             .withDetail("inboxSize", inboxSize)
+            .withDetail("outboxOldestAgeSeconds", snapshot.outboxOldestAgeSeconds())
+            .withDetail("inboxOldestAgeSeconds", snapshot.inboxOldestAgeSeconds())
+            .withDetail("deadLetterOldestAgeSeconds", snapshot.deadLetterOldestAgeSeconds())
             .withDetail("circuitBreaker", circuitState)
+            .withDetail("sampledAt", snapshot.sampledAt())
             .build();
     }
-}
\ No newline at end of file
+}
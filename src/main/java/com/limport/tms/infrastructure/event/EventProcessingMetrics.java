@@ -1,16 +1,27 @@
 package com.limport.tms.infrastructure.event;
 
+import com.limport.tms.domain.event.EventTypes;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Metrics service for event processing monitoring.
  * Provides counters, timers, and gauges for event processing success/failure rates.
+ *
+ * Per-event-type latency meters are registered once at startup for every type in
+ * {@link EventTypes#ALL}. Recording resolves them from an immutable table, so the
+ * hot path allocates no tags; unknown types share an "other" meter set to keep
+ * tag cardinality bounded.
  */
 @Component
 public class EventProcessingMetrics {
@@ -30,11 +41,31 @@ public class EventProcessingMetrics {
     private final Timer externalEventProcessTimer;
     private final Timer deadLetterRetryTimer;
 
+    // Per-event-type latency meters
+    private static final String OTHER_EVENT_TYPE = "other";
+    private final Map<String, EventTypeMeters> eventTypeMeters;
+    private final EventTypeMeters otherEventTypeMeters;
+
+    // After-commit internal handlers
+    private final AtomicLong afterCommitPending = new AtomicLong(0);
+    private final Timer afterCommitLagTimer;
+    private final Timer afterCommitHandlerTimer;
+    private final Counter afterCommitFailed;
+
+    // Batch sizes per pipeline
+    private final DistributionSummary outboxBatchSize;
+    private final DistributionSummary inboxBatchSize;
+
     // Gauges for queue sizes
     private final AtomicLong outboxQueueSize = new AtomicLong(0);
     private final AtomicLong inboxQueueSize = new AtomicLong(0);
     private final AtomicLong deadLetterQueueSize = new AtomicLong(0);
 
+    // Gauges for age of the oldest pending row, in seconds
+    private final AtomicLong outboxOldestPendingAge = new AtomicLong(0);
+    private final AtomicLong inboxOldestPendingAge = new AtomicLong(0);
+    private final AtomicLong deadLetterOldestPendingAge = new AtomicLong(0);
+
     public EventProcessingMetrics(MeterRegistry meterRegistry) {
         // Initialize counters
         domainEventsPublished = Counter.builder("tms.events.domain.published")
@@ -82,7 +113,59 @@ public class EventProcessingMetrics {
             .description("Time taken to retry dead letter events")
             .register(meterRegistry);
 
+        // Initialize per-event-type meters
+        Map<String, EventTypeMeters> meters = new HashMap<>();
+        for (String eventType : EventTypes.ALL) {
+            meters.put(eventType, new EventTypeMeters(meterRegistry, eventType));
+        }
+        eventTypeMeters = Map.copyOf(meters);
+        otherEventTypeMeters = new EventTypeMeters(meterRegistry, OTHER_EVENT_TYPE);
+
+        // Initialize after-commit handler meters
+        afterCommitLagTimer = Timer.builder("tms.events.internal.after-commit.lag")
+            .description("Time from commit until an after-commit handler starts")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
+        afterCommitHandlerTimer = Timer.builder("tms.events.internal.after-commit.duration")
+            .description("Time taken by after-commit internal handlers")
+            .register(meterRegistry);
+
+        afterCommitFailed = Counter.builder("tms.events.internal.after-commit.failed")
+            .description("Number of events whose after-commit handlers failed")
+            .register(meterRegistry);
+
+        Gauge.builder("tms.events.internal.after-commit.pending", afterCommitPending, AtomicLong::get)
+            .description("Events queued or running in after-commit handlers")
+            .register(meterRegistry);
+
+        // Initialize batch size summaries
+        outboxBatchSize = DistributionSummary.builder("tms.events.batch.size")
+            .description("Number of events fetched per processing batch")
+            .tag("pipeline", "outbox")
+            .register(meterRegistry);
+
+        inboxBatchSize = DistributionSummary.builder("tms.events.batch.size")
+            .description("Number of events fetched per processing batch")
+            .tag("pipeline", "inbox")
+            .register(meterRegistry);
+
         // Initialize gauges
+        Gauge.builder("tms.events.outbox.oldest.age", outboxOldestPendingAge, AtomicLong::get)
+            .description("Age of the oldest pending outbox event")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+
+        Gauge.builder("tms.events.inbox.oldest.age", inboxOldestPendingAge, AtomicLong::get)
+            .description("Age of the oldest pending inbox event")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+
+        Gauge.builder("tms.events.deadletter.oldest.age", deadLetterOldestPendingAge, AtomicLong::get)
+            .description("Age of the oldest unprocessed dead letter event")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+
         Gauge.builder("tms.events.outbox.size", outboxQueueSize, AtomicLong::get)
             .description("Current size of outbox event queue")
             .register(meterRegistry);
@@ -109,6 +192,15 @@ public class EventProcessingMetrics {
         return Timer.start();
     }
 
+    /**
+     * Records occurrence-to-publish latency for a domain event.
+     */
+    public void recordDomainEventPublishLag(String eventType, Instant occurredOn) {
+        if (occurredOn != null) {
+            metersFor(eventType).recordPublished(occurredOn, Instant.now());
+        }
+    }
+
     // External event metrics
     public void recordExternalEventReceived() {
         externalEventsReceived.increment();
@@ -126,6 +218,42 @@ public class EventProcessingMetrics {
         return Timer.start();
     }
 
+    /**
+     * Records a successfully handled external event: receipt-to-handled latency and
+     * handler duration, both per event type, plus the overall process timer.
+     */
+    public void recordExternalEventHandled(String eventType, Instant receivedAt, long handlerNanos) {
+        externalEventProcessTimer.record(handlerNanos, TimeUnit.NANOSECONDS);
+        if (receivedAt != null) {
+            metersFor(eventType).recordHandled(receivedAt, Instant.now(), handlerNanos);
+        }
+    }
+
+    // After-commit internal handler metrics
+    public void recordAfterCommitQueued() {
+        afterCommitPending.incrementAndGet();
+    }
+
+    public void recordAfterCommitStarted(long lagNanos) {
+        afterCommitLagTimer.record(lagNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * An event queued for after-commit handling whose handlers never ran.
+     */
+    public void recordAfterCommitRejected() {
+        afterCommitPending.decrementAndGet();
+        afterCommitFailed.increment();
+    }
+
+    public void recordAfterCommitCompleted(long handlerNanos, boolean succeeded) {
+        afterCommitPending.decrementAndGet();
+        afterCommitHandlerTimer.record(handlerNanos, TimeUnit.NANOSECONDS);
+        if (!succeeded) {
+            afterCommitFailed.increment();
+        }
+    }
+
     // Dead letter queue metrics
     public void recordDeadLetterEventStored() {
         deadLetterEventsStored.increment();
@@ -156,6 +284,19 @@ public class EventProcessingMetrics {
         return deadLetterRetryTimer;
     }
 
+    // Batch metrics
+    public void recordOutboxBatch(int size) {
+        if (size > 0) {
+            outboxBatchSize.record(size);
+        }
+    }
+
+    public void recordInboxBatch(int size) {
+        if (size > 0) {
+            inboxBatchSize.record(size);
+        }
+    }
+
     // Queue size updates
     public void updateOutboxQueueSize(long size) {
         outboxQueueSize.set(size);
@@ -169,6 +310,24 @@ public class EventProcessingMetrics {
         deadLetterQueueSize.set(size);
     }
 
+    // Oldest pending age updates (seconds)
+    public void updateOutboxOldestPendingAge(long seconds) {
+        outboxOldestPendingAge.set(seconds);
+    }
+
+    public void updateInboxOldestPendingAge(long seconds) {
+        inboxOldestPendingAge.set(seconds);
+    }
+
+    public void updateDeadLetterOldestPendingAge(long seconds) {
+        deadLetterOldestPendingAge.set(seconds);
+    }
+
+    private EventTypeMeters metersFor(String eventType) {
+        EventTypeMeters meters = eventType != null ? eventTypeMeters.get(eventType) : null;
+        return meters != null ? meters : otherEventTypeMeters;
+    }
+
     // Circuit breaker metrics
     public void registerCircuitBreakerMetrics(MeterRegistry meterRegistry, CircuitBreaker circuitBreaker) {
         // Register circuit breaker state as a gauge
@@ -0,0 +1,134 @@
+package com.limport.tms.infrastructure.event;
+
+import com.limport.tms.domain.port.repository.IOutboxEventRepository;
+import com.limport.tms.domain.port.service.IDeadLetterService;
+import com.limport.tms.infrastructure.repository.jpa.DeadLetterEventJpaRepository;
+import com.limport.tms.infrastructure.repository.jpa.ExternalEventInboxJpaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Background sampler for outbox, inbox and dead letter queue depth and lag.
+ *
+ * Queue depths and the age of the oldest pending row are queried on a fixed
+ * schedule and cached as an immutable snapshot. Health probes and gauges read
+ * the snapshot, so probe frequency never translates into database load.
+ *
+ * Oldest-row lookups are MIN() queries over the existing partial indexes on
+ * pending/unprocessed rows.
+ *
+ * Sampling runs on its own thread rather than the shared single-thread @Scheduled
+ * pool, so a long outbox or projection tick cannot age the snapshot past
+ * tms.health.max-sample-age-ms and flip health to DOWN.
+ */
+@Component
+public class EventQueueSampler {
+
+    private static final Logger log = LoggerFactory.getLogger(EventQueueSampler.class);
+
+    private final IOutboxEventRepository outboxRepository;
+    private final ExternalEventInboxJpaRepository inboxRepository;
+    private final DeadLetterEventJpaRepository deadLetterRepository;
+    private final IDeadLetterService deadLetterService;
+    private final EventProcessingMetrics metrics;
+    private final long intervalMs;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "event-queue-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<QueueSnapshot> snapshot = new AtomicReference<>();
+
+    public EventQueueSampler(
+            IOutboxEventRepository outboxRepository,
+            ExternalEventInboxJpaRepository inboxRepository,
+            DeadLetterEventJpaRepository deadLetterRepository,
+            IDeadLetterService deadLetterService,
+            EventProcessingMetrics metrics,
+            @Value("${tms.event-sampler.interval-ms:10000}") long intervalMs) {
+        this.outboxRepository = outboxRepository;
+        this.inboxRepository = inboxRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.deadLetterService = deadLetterService;
+        this.metrics = metrics;
+        this.intervalMs = intervalMs;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::sample, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Samples queue depths and oldest pending ages.
+     * On failure the previous snapshot is kept; its age tells readers it is stale.
+     */
+    public void sample() {
+        try {
+            Instant now = Instant.now();
+
+            QueueSnapshot sampled = new QueueSnapshot(
+                outboxRepository.countPendingEvents(),
+                ageInSeconds(outboxRepository.findOldestPendingOccurredOn(), now),
+                inboxRepository.countPendingEvents(),
+                ageInSeconds(inboxRepository.findOldestPendingReceivedAt(), now),
+                deadLetterService.getStats().totalUnprocessed,
+                ageInSeconds(deadLetterRepository.findOldestUnprocessedFailedAt(), now),
+                now
+            );
+
+            metrics.updateOutboxQueueSize(sampled.outboxSize());
+            metrics.updateOutboxOldestPendingAge(sampled.outboxOldestAgeSeconds());
+            metrics.updateInboxQueueSize(sampled.inboxSize());
+            metrics.updateInboxOldestPendingAge(sampled.inboxOldestAgeSeconds());
+            metrics.updateDeadLetterQueueSize(sampled.deadLetterSize());
+            metrics.updateDeadLetterOldestPendingAge(sampled.deadLetterOldestAgeSeconds());
+
+            snapshot.set(sampled);
+        } catch (Exception e) {
+            log.warn("Failed to sample event queues, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Latest successful sample, empty until the first sample completes.
+     */
+    public Optional<QueueSnapshot> getSnapshot() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    private static long ageInSeconds(Optional<Instant> oldest, Instant now) {
+        return oldest.map(since -> Math.max(0, Duration.between(since, now).toSeconds())).orElse(0L);
+    }
+
+    /**
+     * Point-in-time view of event queue depth and lag.
+     */
+    public record QueueSnapshot(
+        long outboxSize,
+        long outboxOldestAgeSeconds,
+        long inboxSize,
+        long inboxOldestAgeSeconds,
+        long deadLetterSize,
+        long deadLetterOldestAgeSeconds,
+        Instant sampledAt
+    ) {}
+}
@@ -0,0 +1,53 @@
+package com.limport.tms.infrastructure.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-registered meters for a single event type.
+ *
+ * Instances are created once at startup by {@link EventProcessingMetrics}, so
+ * recording on the hot path performs no tag allocation or registry lookup.
+ */
+public final class EventTypeMeters {
+
+    private final Timer publishLag;
+    private final Timer handleLag;
+    private final Timer handlerDuration;
+
+    EventTypeMeters(MeterRegistry meterRegistry, String eventType) {
+        Tags tags = Tags.of("eventType", eventType);
+
+        publishLag = Timer.builder("tms.events.domain.publish.lag")
+            .description("Time from domain event occurrence to successful publish")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
+        handleLag = Timer.builder("tms.events.external.handle.lag")
+            .description("Time from external event receipt to successful handling")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
+        handlerDuration = Timer.builder("tms.events.handler.duration")
+            .description("Time spent inside event handlers")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    void recordPublished(Instant occurredOn, Instant now) {
+        publishLag.record(Duration.between(occurredOn, now));
+    }
+
+    void recordHandled(Instant receivedAt, Instant now, long handlerNanos) {
+        handleLag.record(Duration.between(receivedAt, now));
+        handlerDuration.record(handlerNanos, TimeUnit.NANOSECONDS);
+    }
+}
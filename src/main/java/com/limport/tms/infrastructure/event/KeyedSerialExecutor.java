@@ -0,0 +1,105 @@
+package com.limport.tms.infrastructure.event;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs tasks on a shared executor while keeping tasks with the same key strictly serial.
+ *
+ * Each key with pending work has a queue and exactly one drain task on the executor.
+ * A drain task is submitted only when a key's queue goes from empty to non-empty, by the
+ * thread calling execute; it then runs the queued tasks one after another and removes
+ * the queue once it is empty, so idle keys hold no memory. Tasks never submit their
+ * successors, so a saturated executor cannot deadlock on its own queue and caller-runs
+ * rejection never nests tasks on one stack.
+ * Different keys run in parallel up to the size of the underlying executor.
+ *
+ * Trade-offs:
+ * - There is no per-key bound; a hot key queues work in memory and keeps one thread busy
+ * - A failed task does not stop later tasks for its key
+ */
+public final class KeyedSerialExecutor {
+
+    private final Executor executor;
+    private final ConcurrentHashMap<Object, Queue<Entry>> queues = new ConcurrentHashMap<>();
+
+    public KeyedSerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Schedules the task after every previously submitted task with the same key.
+     *
+     * @return future completing when the task finishes, exceptionally if it throws or
+     *         the executor rejects the key's drain task (RejectedExecutionException)
+     */
+    public CompletableFuture<Void> execute(Object key, Runnable task) {
+        Entry entry = new Entry(task, new CompletableFuture<>());
+
+        boolean[] firstInQueue = new boolean[1];
+        queues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                firstInQueue[0] = true;
+            }
+            queue.add(entry);
+            return queue;
+        });
+
+        // Submit outside the map so a caller-runs rejection never runs tasks under a bin lock
+        if (firstInQueue[0]) {
+            try {
+                executor.execute(() -> drain(key));
+            } catch (RejectedExecutionException e) {
+                Queue<Entry> rejected = queues.remove(key);
+                if (rejected != null) {
+                    rejected.forEach(queued -> queued.future.completeExceptionally(e));
+                }
+            }
+        }
+        return entry.future;
+    }
+
+    /**
+     * Number of keys with queued or running tasks.
+     */
+    public int activeKeys() {
+        return queues.size();
+    }
+
+    private void drain(Object key) {
+        Entry next;
+        while ((next = poll(key)) != null) {
+            next.run();
+        }
+    }
+
+    /**
+     * Next task for the key, or null after removing the key's empty queue. The queue stays
+     * mapped while its last task runs, so tasks submitted meanwhile join this drain.
+     */
+    private Entry poll(Object key) {
+        Entry[] next = new Entry[1];
+        queues.computeIfPresent(key, (k, queue) -> {
+            next[0] = queue.poll();
+            return next[0] == null ? null : queue;
+        });
+        return next[0];
+    }
+
+    private record Entry(Runnable task, CompletableFuture<Void> future) {
+
+        void run() {
+            try {
+                task.run();
+                future.complete(null);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -13,6 +13,9 @@ import java.time.temporal.ChronoUnit;
 /**
  * Scheduled job to clean up processed outbox events.
  * Prevents the outbox table from growing indefinitely.
+ *
+ * With tms.outbox.retention-mode=retain the outbox is kept as the event log that
+ * projections are replayed from, and nothing is deleted.
  */
 @Component
 public class OutboxCleanupJob {
@@ -27,6 +30,9 @@ public class OutboxCleanupJob {
     @Value("${tms.outbox.cleanup-enabled:true}")
     private boolean cleanupEnabled;
     
+    @Value("${tms.outbox.retention-mode:delete}")
+    private String retentionMode;
+    
     public OutboxCleanupJob(IOutboxEventRepository outboxRepository) {
         this.outboxRepository = outboxRepository;
     }
@@ -37,7 +43,7 @@ public class OutboxCleanupJob {
      */
     @Scheduled(cron = "${tms.outbox.cleanup-cron:0 0 * * * *}")
     public void cleanupProcessedEvents() {
-        if (!cleanupEnabled) {
+        if (!cleanupEnabled || "retain".equalsIgnoreCase(retentionMode)) {
             return;
         }
         
@@ -1,7 +1,6 @@
 package com.limport.tms.infrastructure.event;
 
 import com.limport.tms.domain.port.service.IOutboxEventProcessor;
-import com.limport.tms.domain.port.repository.IOutboxEventRepository;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,9 +18,6 @@ public class OutboxEventProcessor {
     private static final Logger log = LoggerFactory.getLogger(OutboxEventProcessor.class);
     
     private final IOutboxEventProcessor outboxEventProcessor;
-    private final IOutboxEventRepository outboxRepository;
-    private final EventProcessingMetrics metrics;
-    
     private final EventProcessingProperties eventProcessingProperties;
     
     @Value("${tms.outbox.enabled:true}")
@@ -29,12 +25,8 @@ public class OutboxEventProcessor {
     
     public OutboxEventProcessor(
             IOutboxEventProcessor outboxEventProcessor,
-            IOutboxEventRepository outboxRepository,
-            EventProcessingMetrics metrics,
             EventProcessingProperties eventProcessingProperties) {
         this.outboxEventProcessor = outboxEventProcessor;
-        this.outboxRepository = outboxRepository;
-        this.metrics = metrics;
         this.eventProcessingProperties = eventProcessingProperties;
     }
     
@@ -54,11 +46,6 @@ public class OutboxEventProcessor {
             if (processed > 0) {
                 log.debug("Outbox processor published {} events", processed);
             }
-            
-            // Update queue size metrics
-            long pendingCount = outboxRepository.countPendingEvents();
-            metrics.updateOutboxQueueSize(pendingCount);
-            
         } catch (Exception e) {
             log.error("Error processing outbox: {}", e.getMessage(), e);
         }
@@ -60,6 +60,7 @@ public class OutboxEventProcessorImpl implements IOutboxEventProcessor {
         if (pendingEvents.isEmpty()) {
             return 0;
         }
+        metrics.recordOutboxBatch(pendingEvents.size());
 
         log.debug("Processing {} outbox events", pendingEvents.size());
 
@@ -89,6 +90,7 @@ public class OutboxEventProcessorImpl implements IOutboxEventProcessor {
                 successCount++;
                 consecutiveFailures = 0;
                 metrics.recordDomainEventPublished();
+                metrics.recordDomainEventPublishLag(result.event.getEventType(), result.event.getOccurredOn());
                 
                 log.debug("Successfully published event: {} for aggregate {}",
                     result.event.getEventType(), result.event.getAggregateId());
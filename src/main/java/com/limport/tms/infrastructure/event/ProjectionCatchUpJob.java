@@ -0,0 +1,29 @@
+package com.limport.tms.infrastructure.event;
+
+import com.limport.tms.application.projection.ProjectionEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that keeps live projections caught up with the outbox event log.
+ */
+@Component
+public class ProjectionCatchUpJob {
+
+    private final ProjectionEngine projectionEngine;
+
+    @Value("${tms.projection.enabled:true}")
+    private boolean enabled;
+
+    public ProjectionCatchUpJob(ProjectionEngine projectionEngine) {
+        this.projectionEngine = projectionEngine;
+    }
+
+    @Scheduled(fixedDelayString = "${tms.projection.poll-interval-ms:5000}")
+    public void catchUp() {
+        if (enabled) {
+            projectionEngine.catchUpAll();
+        }
+    }
+}
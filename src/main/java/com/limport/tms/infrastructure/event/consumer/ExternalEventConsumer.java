@@ -161,8 +161,13 @@ public class ExternalEventConsumer {
 
             ExternalEvent event = eventOptional.get();
 
-            // Check for duplicate processing
-            if (processedEventTracker.isProcessed(event.eventId())) {
+            // Atomically claim the event - rejects duplicates without a separate check round-trip
+            if (!processedEventTracker.tryMarkProcessing(event.eventId(), event.eventType())) {
+                if (!processedEventTracker.isProcessed(event.eventId())) {
+                    // Another consumer holds the claim; redeliver once it finishes or its lease expires
+                    log.debug("Event {} is being processed elsewhere, leaving it for redelivery", event.eventId());
+                    return false;
+                }
                 log.debug("Event {} already processed, marking inbox as processed", event.eventId());
                 inboxEvent.markAsProcessed();
                 inboxRepository.save(inboxEvent);
@@ -172,10 +177,14 @@ public class ExternalEventConsumer {
             // Set correlation context for event processing
             CorrelationIdContext.setIds(null, event.eventId().toString());
 
+            boolean handled = false;
             try {
                 // Dispatch to handler
-                boolean handled = handlerRegistry.dispatch(event);
+                long handlerStart = System.nanoTime();
+                handled = handlerRegistry.dispatch(event);
                 if (handled) {
+                    metrics.recordExternalEventHandled(
+                        event.eventType(), inboxEvent.getReceivedAt(), System.nanoTime() - handlerStart);
                     processedEventTracker.markAsProcessed(event.eventId(), event.eventType());
                     inboxEvent.markAsProcessed();
                     inboxRepository.save(inboxEvent);
@@ -189,6 +198,10 @@ public class ExternalEventConsumer {
                     return false;
                 }
             } finally {
+                if (!handled) {
+                    // Release the claim so the redelivered event can be processed
+                    processedEventTracker.release(event.eventId());
+                }
                 // Clear correlation context after processing
                 CorrelationIdContext.clear();
             }
@@ -67,18 +67,13 @@ public class ExternalEventInboxProcessor extends UnifiedEventProcessor<ExternalE
         if (!enabled) {
             return;
         }
-
-        //int batchSize = eventProcessingProperties.getInboxBatchSize();
-        //int processed = processPendingEvents(batchSize);
-        
-        // Update queue size metrics
-        long pendingCount = inboxRepository.countPendingEvents();
-        metrics.updateInboxQueueSize(pendingCount);
     }
 
     @Override
     protected List<ExternalEventInboxEntity> findPendingEvents(int batchSize) {
-        return inboxRepository.findPendingEvents(batchSize);
+        List<ExternalEventInboxEntity> pendingEvents = inboxRepository.findPendingEvents(batchSize);
+        metrics.recordInboxBatch(pendingEvents.size());
+        return pendingEvents;
     }
 
     @Override
@@ -101,8 +96,13 @@ public class ExternalEventInboxProcessor extends UnifiedEventProcessor<ExternalE
 
         ExternalEvent event = eventOptional.get();
 
-        // Check for duplicate processing
-        if (processedEventTracker.isProcessed(event.eventId())) {
+        // Atomically claim the event - rejects duplicates without a separate check round-trip
+        if (!processedEventTracker.tryMarkProcessing(event.eventId(), event.eventType())) {
+            if (!processedEventTracker.isProcessed(event.eventId())) {
+                // Another consumer holds the claim; retry once it finishes or its lease expires
+                log.debug("Event {} is being processed elsewhere, retrying later", event.eventId());
+                return false;
+            }
             log.debug("Event {} already processed, marking inbox as processed", event.eventId());
             inboxEvent.markAsProcessed();
             inboxRepository.save(inboxEvent);
@@ -113,10 +113,14 @@ public class ExternalEventInboxProcessor extends UnifiedEventProcessor<ExternalE
         // For external events, generate new correlation ID and set causation ID to the event ID
         CorrelationIdContext.setIds(null, event.eventId().toString());
 
+        boolean handled = false;
         try {
             // Dispatch to handler
-            boolean handled = handlerRegistry.dispatch(event);
+            long handlerStart = System.nanoTime();
+            handled = handlerRegistry.dispatch(event);
             if (handled) {
+                metrics.recordExternalEventHandled(
+                    event.eventType(), inboxEvent.getReceivedAt(), System.nanoTime() - handlerStart);
                 processedEventTracker.markAsProcessed(event.eventId(), event.eventType());
                 inboxEvent.markAsProcessed();
                 inboxRepository.save(inboxEvent);
@@ -137,6 +141,10 @@ public class ExternalEventInboxProcessor extends UnifiedEventProcessor<ExternalE
                 return false;
             }
         } finally {
+            if (!handled) {
+                // Release the claim so the next poll can retry the event
+                processedEventTracker.release(event.eventId());
+            }
             // Clear correlation context after processing
             CorrelationIdContext.clear();
         }
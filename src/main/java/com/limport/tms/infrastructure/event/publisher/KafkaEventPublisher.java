@@ -1,7 +1,6 @@
 package com.limport.tms.infrastructure.event.publisher;
 
 import com.limport.tms.application.service.interfaces.IUnifiedEventSerializer;
-import com.limport.tms.domain.event.CorrelationIdContext;
 import com.limport.tms.domain.event.IDomainEvent;
 import com.limport.tms.infrastructure.event.EventProcessingMetrics;
 
@@ -11,6 +10,7 @@ import io.micrometer.core.instrument.Timer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -39,6 +40,7 @@ public class KafkaEventPublisher implements IEventPublisher {
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final IUnifiedEventSerializer eventSerializer;
     private final EventProcessingMetrics metrics;
+    private final Executor batchExecutor;
     
     @Value("${tms.kafka.publish.timeout-seconds:5}")
     private int publishTimeoutSeconds;
@@ -78,10 +80,12 @@ public class KafkaEventPublisher implements IEventPublisher {
     public KafkaEventPublisher(
             KafkaTemplate<String, String> kafkaTemplate,
             IUnifiedEventSerializer eventSerializer,
-            EventProcessingMetrics metrics) {
+            EventProcessingMetrics metrics,
+            @Qualifier("eventHandlerExecutor") Executor batchExecutor) {
         this.kafkaTemplate = kafkaTemplate;
         this.eventSerializer = eventSerializer;
         this.metrics = metrics;
+        this.batchExecutor = batchExecutor;
     }
     
     @Override
@@ -132,7 +136,8 @@ public class KafkaEventPublisher implements IEventPublisher {
      * Publishes an event asynchronously with callback for outbox processing.
      * Returns a CompletableFuture that completes when publishing is done.
      * 
-     * ThreadLocal cleanup is performed in async handlers to prevent memory leaks.
+     * Callbacks run on the Kafka producer thread, or on the caller if the send has
+     * already completed, so they must not touch the correlation context.
      */
     public CompletableFuture<Void> publishAsync(IDomainEvent event) {
         String topic = buildTopic(event);
@@ -141,8 +146,6 @@ public class KafkaEventPublisher implements IEventPublisher {
 
         return kafkaTemplate.send(topic, key, payload)
             .thenAccept(result -> {
-                // Clear ThreadLocal to prevent memory leaks in async processing
-                CorrelationIdContext.clear();
                 log.debug("Published event {} to topic {} partition {} offset {}",
                     event.eventType(),
                     topic,
@@ -150,8 +153,6 @@ public class KafkaEventPublisher implements IEventPublisher {
                     result.getRecordMetadata().offset());
             })
             .exceptionally(throwable -> {
-                // Clear ThreadLocal to prevent memory leaks in async processing
-                CorrelationIdContext.clear();
                 log.error("Failed to publish event {} to topic {}: {}",
                     event.eventType(), topic, throwable.getMessage());
                 throw new RuntimeException("Kafka publish failed: " + throwable.getMessage(), throwable);
@@ -178,6 +179,7 @@ public class KafkaEventPublisher implements IEventPublisher {
     /**
      * Publishes events in parallel while maintaining ordering per aggregate.
      * Groups events by aggregate ID and publishes each group sequentially.
+     * Groups run on the event handler executor, which carries the caller's correlation context.
      */
     private void publishBatchParallel(List<? extends IDomainEvent> events) {
         // Group events by aggregate for ordering
@@ -187,7 +189,7 @@ public class KafkaEventPublisher implements IEventPublisher {
         // Publish each aggregate's events sequentially, but aggregates in parallel
         List<CompletableFuture<Void>> futures = eventsByAggregate.entrySet().stream()
             .map(entry -> CompletableFuture.runAsync(() ->
-                entry.getValue().forEach(this::publish)))
+                entry.getValue().forEach(this::publish), batchExecutor))
             .toList();
 
         // Wait for all to complete
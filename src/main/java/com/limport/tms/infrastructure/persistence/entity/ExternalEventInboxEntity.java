@@ -1,5 +1,7 @@
 package com.limport.tms.infrastructure.persistence.entity;
 
+import com.limport.tms.domain.service.UuidV7Generator;
+
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.util.UUID;
@@ -44,7 +46,7 @@ public class ExternalEventInboxEntity {
     protected ExternalEventInboxEntity() {}
 
     public ExternalEventInboxEntity(String eventType, String payload, String sourceService) {
-        this.id = UUID.randomUUID();
+        this.id = UuidV7Generator.next();
         this.eventType = eventType;
         this.payload = payload;
         this.sourceService = sourceService;
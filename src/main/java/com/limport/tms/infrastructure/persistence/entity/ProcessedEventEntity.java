@@ -28,6 +28,10 @@ public class ProcessedEventEntity {
     @Column(name = "handler_name", length = 100)
     private String handlerName;
     
+    // Set while the event is only claimed; null once processing finished
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+    
     // Default constructor for JPA
     protected ProcessedEventEntity() {}
     
@@ -51,6 +55,7 @@ public class ProcessedEventEntity {
     public String getSourceService() { return sourceService; }
     public Instant getProcessedAt() { return processedAt; }
     public String getHandlerName() { return handlerName; }
+    public Instant getLeaseUntil() { return leaseUntil; }
     
     // Setters for optional fields
     public void setSourceService(String sourceService) { this.sourceService = sourceService; }
@@ -1,16 +1,30 @@
 package com.limport.tms.infrastructure.repository;
 
+import com.limport.tms.application.cqrs.IQueryCacheInvalidator;
+import com.limport.tms.application.query.GetActiveAssignmentQuery;
+import com.limport.tms.application.query.GetAssignmentQuery;
 import com.limport.tms.domain.model.entity.Assignment;
 import com.limport.tms.domain.model.entity.Assignment.AssignmentStatus;
+import com.limport.tms.domain.port.repository.AssignmentView;
+import com.limport.tms.domain.port.repository.EntityVersion;
 import com.limport.tms.domain.port.repository.IAssignmentRepository;
 import com.limport.tms.infrastructure.persistence.entity.AssignmentJpaEntity;
 import com.limport.tms.infrastructure.persistence.mapper.AssignmentEntityMapper;
 import com.limport.tms.infrastructure.repository.jpa.IAssignmentJpaRepository;
+import com.limport.tms.infrastructure.repository.jpa.JpaStreams;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -19,20 +33,38 @@ import java.util.stream.Collectors;
 @Component
 public class AssignmentRepositoryAdapter implements IAssignmentRepository {
 
+    private static final List<AssignmentStatus> ACTIVE_STATUSES = List.of(
+        AssignmentStatus.ASSIGNED,
+        AssignmentStatus.CONFIRMED,
+        AssignmentStatus.IN_PROGRESS
+    );
+
     private final IAssignmentJpaRepository jpaRepository;
     private final AssignmentEntityMapper mapper;
+    private final IQueryCacheInvalidator queryCacheInvalidator;
+    private final EntityManager entityManager;
+    private final int streamFetchSize;
 
     public AssignmentRepositoryAdapter(
             IAssignmentJpaRepository jpaRepository,
-            AssignmentEntityMapper mapper) {
+            AssignmentEntityMapper mapper,
+            IQueryCacheInvalidator queryCacheInvalidator,
+            EntityManager entityManager,
+            @Value("${tms.export.fetch-size:1000}") int streamFetchSize) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.queryCacheInvalidator = queryCacheInvalidator;
+        this.entityManager = entityManager;
+        this.streamFetchSize = streamFetchSize;
     }
 
     @Override
     public Assignment save(Assignment assignment) {
         AssignmentJpaEntity entity = mapper.toJpaEntity(assignment);
         AssignmentJpaEntity saved = jpaRepository.save(entity);
+        // External provider responses update assignments without raising domain events
+        queryCacheInvalidator.invalidate(GetAssignmentQuery.class, saved.getId());
+        queryCacheInvalidator.invalidate(GetActiveAssignmentQuery.class, saved.getTransportRequestId());
         return mapper.toDomain(saved);
     }
 
@@ -79,6 +111,37 @@ public class AssignmentRepositoryAdapter implements IAssignmentRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<AssignmentView> findViewsByTransportRequestId(UUID transportRequestId) {
+        return jpaRepository.findViewsByTransportRequestId(transportRequestId);
+    }
+
+    @Override
+    public List<AssignmentView> findViewsByProviderId(UUID providerId) {
+        return jpaRepository.findViewsByProviderId(providerId);
+    }
+
+    @Override
+    public Map<UUID, AssignmentView> findLatestActiveViewsByTransportRequestIds(Collection<UUID> transportRequestIds) {
+        return jpaRepository.findViewsByTransportRequestIdInAndStatusIn(transportRequestIds, ACTIVE_STATUSES)
+            .stream()
+            .collect(Collectors.toMap(AssignmentView::transportRequestId, view -> view,
+                BinaryOperator.maxBy(Comparator.comparing(AssignmentView::assignedAt))));
+    }
+
+    @Override
+    public Optional<EntityVersion> findVersionById(UUID id) {
+        return jpaRepository.findVersionById(id);
+    }
+
+    @Override
+    public Optional<EntityVersion> findActiveVersionByTransportRequestId(UUID transportRequestId) {
+        return jpaRepository.findVersionsByTransportRequestIdAndStatusIn(
+                transportRequestId, ACTIVE_STATUSES, Limit.of(1))
+            .stream()
+            .findFirst();
+    }
+
     @Override
     public List<Assignment> findActiveByProviderId(UUID providerId) {
         List<AssignmentStatus> activeStatuses = List.of(
@@ -92,8 +155,19 @@ public class AssignmentRepositoryAdapter implements IAssignmentRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public void forEach(Consumer<Assignment> action) {
+        JpaStreams.forEachDetached(entityManager,
+            entityManager.createQuery("SELECT a FROM AssignmentJpaEntity a ORDER BY a.assignedAt, a.id",
+                AssignmentJpaEntity.class),
+            streamFetchSize,
+            entity -> action.accept(mapper.toDomain(entity)));
+    }
+
     @Override
     public void delete(UUID id) {
         jpaRepository.deleteById(id);
+        queryCacheInvalidator.invalidate(GetAssignmentQuery.class, id);
+        queryCacheInvalidator.invalidateAll(GetActiveAssignmentQuery.class);
     }
 }
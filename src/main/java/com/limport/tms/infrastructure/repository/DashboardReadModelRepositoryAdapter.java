@@ -0,0 +1,284 @@
+package com.limport.tms.infrastructure.repository;
+
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.port.repository.IDashboardReadModelRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC adapter for the dashboard read model tables.
+ * Plain SQL: every statement is a primary key lookup, an upsert or a set-based rebuild,
+ * none of which benefit from entity mapping.
+ */
+@Component
+public class DashboardReadModelRepositoryAdapter implements IDashboardReadModelRepository {
+
+    private static final String SUMMARY_COLUMNS = """
+        transport_request_id, customer_id, origin_location_code, destination_location_code, status,
+        provider_id, vehicle_id, assigned_at, created_at, last_updated_at
+        """;
+
+    // Latest assignment still in an active state, if any
+    private static final String WRITE_MODEL_SELECT = """
+        SELECT tr.id AS transport_request_id, tr.customer_id, tr.origin_location_code,
+            tr.destination_location_code, tr.status, a.provider_id, a.vehicle_id, a.assigned_at,
+            tr.created_at, tr.last_updated_at
+        FROM transport_requests tr
+        LEFT JOIN LATERAL (
+            SELECT provider_id, vehicle_id, assigned_at FROM assignments
+            WHERE transport_request_id = tr.id AND status IN ('ASSIGNED', 'CONFIRMED', 'IN_PROGRESS')
+            ORDER BY assigned_at DESC
+            LIMIT 1
+        ) a ON tr.status IN ('PLANNED', 'IN_TRANSIT')
+        """;
+
+    private static final String UPSERT_SUMMARY = """
+        INSERT INTO transport_request_summary (transport_request_id, customer_id, origin_location_code,
+            destination_location_code, status, provider_id, vehicle_id, assigned_at, created_at, last_updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (transport_request_id) DO UPDATE SET
+            customer_id = EXCLUDED.customer_id,
+            origin_location_code = EXCLUDED.origin_location_code,
+            destination_location_code = EXCLUDED.destination_location_code,
+            status = EXCLUDED.status,
+            provider_id = EXCLUDED.provider_id,
+            vehicle_id = EXCLUDED.vehicle_id,
+            assigned_at = EXCLUDED.assigned_at,
+            last_updated_at = EXCLUDED.last_updated_at
+        """;
+
+    // One round trip for the bucket and both of its totals; every data-modifying CTE runs
+    // to completion even though the main statement does not read it
+    private static final String ADJUST_LANE_COUNT = """
+        WITH lane_status AS (
+            INSERT INTO transport_request_lane_counts
+                (origin_location_code, destination_location_code, status, request_count)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (origin_location_code, destination_location_code, status) DO UPDATE SET
+                request_count = transport_request_lane_counts.request_count + EXCLUDED.request_count
+        ), lane AS (
+            INSERT INTO transport_request_lane_totals
+                (origin_location_code, destination_location_code, request_count)
+            VALUES (?, ?, ?)
+            ON CONFLICT (origin_location_code, destination_location_code) DO UPDATE SET
+                request_count = transport_request_lane_totals.request_count + EXCLUDED.request_count
+        )
+        INSERT INTO transport_request_status_counts (status, request_count)
+        VALUES (?, ?)
+        ON CONFLICT (status) DO UPDATE SET
+            request_count = transport_request_status_counts.request_count + EXCLUDED.request_count
+        """;
+
+    private static final String UPSERT_ACTIVE_ASSIGNMENT = """
+        INSERT INTO active_assignments (transport_request_id, provider_id, vehicle_id,
+            origin_location_code, destination_location_code, status, assigned_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (transport_request_id) DO UPDATE SET
+            provider_id = EXCLUDED.provider_id,
+            vehicle_id = EXCLUDED.vehicle_id,
+            status = EXCLUDED.status,
+            assigned_at = EXCLUDED.assigned_at
+        """;
+
+    // The lane ordering is precomputed: the first entries of idx_tr_lane_totals_count,
+    // then a primary key range read of each lane's status buckets
+    private static final String BUSIEST_LANES = """
+        SELECT c.origin_location_code, c.destination_location_code, c.status, c.request_count
+        FROM (
+            SELECT origin_location_code, destination_location_code, request_count AS total
+            FROM transport_request_lane_totals
+            ORDER BY request_count DESC
+            LIMIT ?
+        ) top
+        JOIN transport_request_lane_counts c USING (origin_location_code, destination_location_code)
+        WHERE c.request_count > 0
+        ORDER BY top.total DESC, c.origin_location_code, c.destination_location_code, c.status
+        """;
+
+    private static final RowMapper<Summary> SUMMARY_MAPPER = DashboardReadModelRepositoryAdapter::mapSummary;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DashboardReadModelRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void lock(UUID transportRequestId) {
+        long key = transportRequestId.getMostSignificantBits() ^ transportRequestId.getLeastSignificantBits();
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> null, key);
+    }
+
+    @Override
+    public Optional<Summary> findSummary(UUID transportRequestId) {
+        return jdbcTemplate.query(
+            "SELECT " + SUMMARY_COLUMNS + " FROM transport_request_summary WHERE transport_request_id = ?",
+            SUMMARY_MAPPER, transportRequestId).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Summary> loadFromWriteModel(UUID transportRequestId) {
+        return jdbcTemplate.query(WRITE_MODEL_SELECT + " WHERE tr.id = ?", SUMMARY_MAPPER, transportRequestId)
+            .stream().findFirst();
+    }
+
+    @Override
+    public void saveSummary(Summary summary) {
+        jdbcTemplate.update(UPSERT_SUMMARY,
+            summary.transportRequestId(),
+            summary.customerId(),
+            summary.originLocationCode(),
+            summary.destinationLocationCode(),
+            summary.status().name(),
+            summary.providerId(),
+            summary.vehicleId(),
+            toTimestamp(summary.assignedAt()),
+            toTimestamp(summary.createdAt()),
+            toTimestamp(summary.lastUpdatedAt()));
+    }
+
+    @Override
+    public void deleteSummary(UUID transportRequestId) {
+        jdbcTemplate.update("DELETE FROM transport_request_summary WHERE transport_request_id = ?", transportRequestId);
+    }
+
+    @Override
+    public void adjustLaneCount(String originLocationCode, String destinationLocationCode,
+                                TransportRequestStatus status, long delta) {
+        jdbcTemplate.update(ADJUST_LANE_COUNT,
+            originLocationCode, destinationLocationCode, status.name(), delta,
+            originLocationCode, destinationLocationCode, delta,
+            status.name(), delta);
+    }
+
+    @Override
+    public void saveActiveAssignment(Summary summary) {
+        jdbcTemplate.update(UPSERT_ACTIVE_ASSIGNMENT,
+            summary.transportRequestId(),
+            summary.providerId(),
+            summary.vehicleId(),
+            summary.originLocationCode(),
+            summary.destinationLocationCode(),
+            summary.status().name(),
+            toTimestamp(summary.assignedAt()));
+    }
+
+    @Override
+    public void deleteActiveAssignment(UUID transportRequestId) {
+        jdbcTemplate.update("DELETE FROM active_assignments WHERE transport_request_id = ?", transportRequestId);
+    }
+
+    /**
+     * TRUNCATE locks the tables until commit, so incremental updates wait for the rebuild
+     * instead of interleaving with it.
+     */
+    @Override
+    public int rebuild() {
+        jdbcTemplate.execute("""
+            TRUNCATE transport_request_summary, transport_request_lane_counts, transport_request_lane_totals,
+                transport_request_status_counts, active_assignments
+            """);
+        int summaries = jdbcTemplate.update(
+            "INSERT INTO transport_request_summary (" + SUMMARY_COLUMNS + ") " + WRITE_MODEL_SELECT);
+        jdbcTemplate.update("""
+            INSERT INTO transport_request_lane_counts
+                (origin_location_code, destination_location_code, status, request_count)
+            SELECT origin_location_code, destination_location_code, status, COUNT(*)
+            FROM transport_request_summary
+            GROUP BY origin_location_code, destination_location_code, status
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO transport_request_lane_totals (origin_location_code, destination_location_code, request_count)
+            SELECT origin_location_code, destination_location_code, COUNT(*)
+            FROM transport_request_summary
+            GROUP BY origin_location_code, destination_location_code
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO transport_request_status_counts (status, request_count)
+            SELECT status, COUNT(*)
+            FROM transport_request_summary
+            GROUP BY status
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO active_assignments (transport_request_id, provider_id, vehicle_id,
+                origin_location_code, destination_location_code, status, assigned_at)
+            SELECT transport_request_id, provider_id, vehicle_id,
+                origin_location_code, destination_location_code, status, assigned_at
+            FROM transport_request_summary
+            WHERE provider_id IS NOT NULL AND status IN ('PLANNED', 'IN_TRANSIT')
+            """);
+        return summaries;
+    }
+
+    @Override
+    public Map<TransportRequestStatus, Long> countByStatus() {
+        Map<TransportRequestStatus, Long> counts = new EnumMap<>(TransportRequestStatus.class);
+        for (TransportRequestStatus status : TransportRequestStatus.values()) {
+            counts.put(status, 0L);
+        }
+        jdbcTemplate.query(
+            "SELECT status, request_count FROM transport_request_status_counts",
+            rs -> {
+                counts.put(TransportRequestStatus.valueOf(rs.getString(1)), rs.getLong(2));
+            });
+        return counts;
+    }
+
+    @Override
+    public List<LaneCount> findBusiestLanes(int limit) {
+        return jdbcTemplate.query(BUSIEST_LANES, (rs, rowNum) -> new LaneCount(
+            rs.getString(1),
+            rs.getString(2),
+            TransportRequestStatus.valueOf(rs.getString(3)),
+            rs.getLong(4)), limit);
+    }
+
+    @Override
+    public List<Summary> findActiveAssignments(UUID providerId, int limit) {
+        String select = """
+            SELECT s.transport_request_id, s.customer_id, s.origin_location_code,
+                s.destination_location_code, s.status, s.provider_id, s.vehicle_id, s.assigned_at,
+                s.created_at, s.last_updated_at
+            FROM active_assignments a
+            JOIN transport_request_summary s ON s.transport_request_id = a.transport_request_id
+            """;
+        if (providerId == null) {
+            return jdbcTemplate.query(select + " ORDER BY a.assigned_at DESC LIMIT ?", SUMMARY_MAPPER, limit);
+        }
+        return jdbcTemplate.query(select + " WHERE a.provider_id = ? ORDER BY a.assigned_at DESC LIMIT ?",
+            SUMMARY_MAPPER, providerId, limit);
+    }
+
+    private static Summary mapSummary(ResultSet rs, int rowNum) throws SQLException {
+        return new Summary(
+            rs.getObject("transport_request_id", UUID.class),
+            rs.getString("customer_id"),
+            rs.getString("origin_location_code"),
+            rs.getString("destination_location_code"),
+            TransportRequestStatus.valueOf(rs.getString("status")),
+            rs.getObject("provider_id", UUID.class),
+            rs.getObject("vehicle_id", UUID.class),
+            toInstant(rs.getTimestamp("assigned_at")),
+            toInstant(rs.getTimestamp("created_at")),
+            toInstant(rs.getTimestamp("last_updated_at")));
+    }
+
+    private static Timestamp toTimestamp(Instant value) {
+        return value != null ? Timestamp.from(value) : null;
+    }
+
+    private static Instant toInstant(Timestamp value) {
+        return value != null ? value.toInstant() : null;
+    }
+}
@@ -1,16 +1,24 @@
 package com.limport.tms.infrastructure.repository;
 
 import com.limport.tms.domain.model.entity.OutboxEvent;
+import com.limport.tms.domain.port.repository.EventLogEntry;
+import com.limport.tms.domain.port.repository.EventLogPosition;
 import com.limport.tms.domain.port.repository.IOutboxEventRepository;
 import com.limport.tms.infrastructure.persistence.entity.OutboxEventJpaEntity;
 import com.limport.tms.infrastructure.persistence.mapper.OutboxEventEntityMapper;
 import com.limport.tms.infrastructure.repository.jpa.IOutboxEventJpaRepository;
 
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,14 +31,41 @@ import java.util.stream.Collectors;
 @Repository
 public class OutboxEventRepositoryAdapter implements IOutboxEventRepository {
     
+    private static final String INSERT_SQL = """
+        INSERT INTO outbox_events (id, event_type, aggregate_type, aggregate_id, payload,
+            occurred_on, status, retry_count)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    
+    // Non-negative hash of the aggregate ID, so one aggregate always maps to one partition
+    private static final String PARTITION_FILTER = " AND (hashtext(aggregate_id) & 2147483647) % ? = ?";
+
+    // Rows of transactions older than the oldest running one; nothing can commit before them any more
+    private static final String SETTLED_FILTER = " AND tx_id < pg_snapshot_xmin(pg_current_snapshot())";
+
+    private static final RowMapper<OutboxEvent> LOG_MAPPER = (rs, rowNum) -> new OutboxEvent(
+        rs.getObject("id", UUID.class),
+        rs.getString("event_type"),
+        rs.getString("aggregate_type"),
+        rs.getString("aggregate_id"),
+        rs.getString("payload"),
+        rs.getTimestamp("occurred_on").toInstant(),
+        OutboxEvent.OutboxStatus.valueOf(rs.getString("status")),
+        rs.getInt("retry_count"),
+        rs.getTimestamp("processed_at") != null ? rs.getTimestamp("processed_at").toInstant() : null,
+        rs.getString("error_message"));
+    
     private final IOutboxEventJpaRepository jpaRepository;
     private final OutboxEventEntityMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
     
     public OutboxEventRepositoryAdapter(
             IOutboxEventJpaRepository jpaRepository,
-            OutboxEventEntityMapper mapper) {
+            OutboxEventEntityMapper mapper,
+            JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
     
     @Override
@@ -48,6 +83,28 @@ public class OutboxEventRepositoryAdapter implements IOutboxEventRepository {
         jpaRepository.saveAll(entities);
     }
     
+    /**
+     * Plain JDBC batch insert; saveAll() merges each event, a SELECT per row.
+     */
+    @Override
+    @Transactional
+    public void insertAll(List<OutboxEvent> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            rows.add(new Object[] {
+                event.getId(),
+                event.getEventType(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getPayload(),
+                Timestamp.from(event.getOccurredOn()),
+                event.getStatus().name(),
+                event.getRetryCount()
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<OutboxEvent> findById(UUID id) {
@@ -84,4 +141,60 @@ public class OutboxEventRepositoryAdapter implements IOutboxEventRepository {
     public long countPendingEvents() {
         return jpaRepository.countPendingEvents();
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findOldestPendingOccurredOn() {
+        return jpaRepository.findOldestPendingOccurredOn();
+    }
+    
+    @Override
+    public List<EventLogEntry> findInLog(Collection<String> eventTypes, EventLogPosition after,
+                                         EventLogPosition upTo, int partition, int partitions, int limit) {
+        StringBuilder sql = new StringBuilder(
+            "SELECT *, tx_id::text AS log_tx_id FROM outbox_events"
+            + " WHERE event_type IN (" + placeholders(eventTypes.size()) + ")" + SETTLED_FILTER);
+        List<Object> args = new ArrayList<>(eventTypes);
+        if (!after.isStart()) {
+            sql.append(" AND (tx_id, occurred_on, id) > (?::xid8, ?, ?)");
+            addPosition(args, after);
+        }
+        if (upTo != null) {
+            sql.append(" AND (tx_id, occurred_on, id) <= (?::xid8, ?, ?)");
+            addPosition(args, upTo);
+        }
+        if (partitions > 1) {
+            sql.append(PARTITION_FILTER);
+            args.add(partitions);
+            args.add(partition);
+        }
+        sql.append(" ORDER BY tx_id, occurred_on, id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new EventLogEntry(
+            new EventLogPosition(Long.parseLong(rs.getString("log_tx_id")),
+                rs.getTimestamp("occurred_on").toInstant(), rs.getObject("id", UUID.class)),
+            LOG_MAPPER.mapRow(rs, rowNum)), args.toArray());
+    }
+    
+    @Override
+    public EventLogPosition findLastLogPosition(Collection<String> eventTypes) {
+        List<EventLogPosition> last = jdbcTemplate.query(
+            "SELECT tx_id::text, occurred_on, id FROM outbox_events"
+                + " WHERE event_type IN (" + placeholders(eventTypes.size()) + ")" + SETTLED_FILTER
+                + " ORDER BY tx_id DESC, occurred_on DESC, id DESC LIMIT 1",
+            (rs, rowNum) -> new EventLogPosition(Long.parseLong(rs.getString(1)),
+                rs.getTimestamp(2).toInstant(), rs.getObject(3, UUID.class)),
+            eventTypes.toArray());
+        return last.isEmpty() ? EventLogPosition.START : last.get(0);
+    }
+    
+    private static void addPosition(List<Object> args, EventLogPosition position) {
+        args.add(Long.toString(position.transactionId()));
+        args.add(Timestamp.from(position.occurredOn()));
+        args.add(position.eventId());
+    }
+    
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
 }
@@ -0,0 +1,100 @@
+package com.limport.tms.infrastructure.repository;
+
+import com.limport.tms.domain.port.repository.EventLogPosition;
+import com.limport.tms.domain.port.repository.IProjectionCheckpointRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC adapter for projection checkpoints.
+ * Row locks with SKIP LOCKED let every node run catch-up while only one advances a checkpoint.
+ */
+@Component
+public class ProjectionCheckpointRepositoryAdapter implements IProjectionCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectionCheckpointRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<EventLogPosition> tryLock(String projectionName, int partition) {
+        jdbcTemplate.update(
+            "INSERT INTO projection_checkpoints (projection_name, partition_id) VALUES (?, ?) ON CONFLICT DO NOTHING",
+            projectionName, partition);
+
+        List<Optional<EventLogPosition>> rows = jdbcTemplate.query(
+            "SELECT last_tx_id, last_occurred_on, last_event_id, rebuilding FROM projection_checkpoints"
+                + " WHERE projection_name = ? AND partition_id = ? FOR UPDATE SKIP LOCKED",
+            (rs, rowNum) -> {
+                if (partition == LIVE && rs.getBoolean("rebuilding")) {
+                    return Optional.<EventLogPosition>empty();
+                }
+                Timestamp occurredOn = rs.getTimestamp("last_occurred_on");
+                return Optional.of(occurredOn == null
+                    ? EventLogPosition.START
+                    : new EventLogPosition(rs.getLong("last_tx_id"), occurredOn.toInstant(),
+                        rs.getObject("last_event_id", UUID.class)));
+            },
+            projectionName, partition);
+        return rows.isEmpty() ? Optional.empty() : rows.get(0);
+    }
+
+    @Override
+    public void save(String projectionName, int partition, EventLogPosition position) {
+        jdbcTemplate.update(
+            "UPDATE projection_checkpoints SET last_tx_id = ?, last_occurred_on = ?, last_event_id = ?,"
+                + " updated_at = NOW() WHERE projection_name = ? AND partition_id = ?",
+            position.isStart() ? null : position.transactionId(),
+            position.isStart() ? null : Timestamp.from(position.occurredOn()),
+            position.eventId(),
+            projectionName, partition);
+    }
+
+    @Override
+    public boolean tryStartRebuild(String projectionName, Duration lease) {
+        // The conditional upsert is atomic, so of two nodes racing for the claim only one wins
+        return jdbcTemplate.update(
+            "INSERT INTO projection_checkpoints (projection_name, partition_id, rebuilding, rebuild_lease_until)"
+                + " VALUES (?, ?, TRUE, NOW() + ?::interval)"
+                + " ON CONFLICT (projection_name, partition_id) DO UPDATE SET rebuilding = TRUE,"
+                + " rebuild_lease_until = EXCLUDED.rebuild_lease_until, updated_at = NOW()"
+                + " WHERE projection_checkpoints.rebuild_lease_until IS NULL"
+                + " OR projection_checkpoints.rebuild_lease_until < NOW()",
+            projectionName, LIVE, interval(lease)) == 1;
+    }
+
+    @Override
+    public void renewRebuild(String projectionName, Duration lease) {
+        jdbcTemplate.update(
+            "UPDATE projection_checkpoints SET rebuild_lease_until = NOW() + ?::interval, updated_at = NOW()"
+                + " WHERE projection_name = ? AND partition_id = ?",
+            interval(lease), projectionName, LIVE);
+    }
+
+    @Override
+    public void endRebuild(String projectionName, boolean completed) {
+        jdbcTemplate.update(
+            "UPDATE projection_checkpoints SET rebuild_lease_until = NULL, rebuilding = rebuilding AND NOT ?,"
+                + " updated_at = NOW() WHERE projection_name = ? AND partition_id = ?",
+            completed, projectionName, LIVE);
+    }
+
+    private static String interval(Duration duration) {
+        return duration.toMillis() + " milliseconds";
+    }
+
+    @Override
+    public void deletePartitions(String projectionName) {
+        jdbcTemplate.update(
+            "DELETE FROM projection_checkpoints WHERE projection_name = ? AND partition_id <> ?",
+            projectionName, LIVE);
+    }
+}
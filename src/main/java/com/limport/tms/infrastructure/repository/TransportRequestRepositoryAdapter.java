@@ -1,17 +1,37 @@
 package com.limport.tms.infrastructure.repository;
 
+import com.limport.tms.application.cqrs.IQueryCacheInvalidator;
+import com.limport.tms.application.query.GetTransportRequestQuery;
 import com.limport.tms.domain.model.entity.TransportRequest;
 import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.port.repository.EntityVersion;
 import com.limport.tms.domain.port.repository.ITransportRequestRepository;
+import com.limport.tms.domain.port.repository.TransportRequestSearchCriteria;
+import com.limport.tms.domain.port.repository.TransportRequestView;
 import com.limport.tms.infrastructure.persistence.entity.TransportRequestJpaEntity;
 import com.limport.tms.infrastructure.persistence.mapper.TransportRequestEntityMapper;
 import com.limport.tms.infrastructure.repository.jpa.ITransportRequestJpaRepository;
+import com.limport.tms.infrastructure.repository.jpa.JpaStreams;
+import com.limport.tms.infrastructure.repository.jpa.TransportRequestSpecifications;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -21,23 +41,72 @@ import java.util.stream.Collectors;
 @Component
 public class TransportRequestRepositoryAdapter implements ITransportRequestRepository {
 
+    private static final String INSERT_SQL = """
+        INSERT INTO transport_requests (id, reference, customer_id, origin_location_code,
+            destination_location_code, pickup_from, pickup_until, delivery_from, delivery_until,
+            total_weight, total_packages, status, created_at, last_updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
     private final ITransportRequestJpaRepository jpaRepository;
     private final TransportRequestEntityMapper mapper;
+    private final IQueryCacheInvalidator queryCacheInvalidator;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final int streamFetchSize;
 
     public TransportRequestRepositoryAdapter(
             ITransportRequestJpaRepository jpaRepository,
-            TransportRequestEntityMapper mapper) {
+            TransportRequestEntityMapper mapper,
+            IQueryCacheInvalidator queryCacheInvalidator,
+            JdbcTemplate jdbcTemplate,
+            EntityManager entityManager,
+            @Value("${tms.export.fetch-size:1000}") int streamFetchSize) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.queryCacheInvalidator = queryCacheInvalidator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.streamFetchSize = streamFetchSize;
     }
 
     @Override
     public TransportRequest save(TransportRequest request) {
         TransportRequestJpaEntity entity = mapper.toJpaEntity(request);
         TransportRequestJpaEntity saved = jpaRepository.save(entity);
+        // Every writer (commands and external event handlers) saves through here
+        queryCacheInvalidator.invalidate(GetTransportRequestQuery.class, saved.getId());
         return mapper.toDomain(saved);
     }
 
+    /**
+     * Plain JDBC batch insert: JPA save() on an entity with an assigned ID merges,
+     * which costs a SELECT per row before the INSERT.
+     */
+    @Override
+    public void insertAll(List<TransportRequest> requests) {
+        List<Object[]> rows = new ArrayList<>(requests.size());
+        for (TransportRequest request : requests) {
+            rows.add(new Object[] {
+                request.getId(),
+                request.getReference(),
+                request.getCustomerId(),
+                request.getOriginLocationCode(),
+                request.getDestinationLocationCode(),
+                toTimestamp(request.getPickupFrom()),
+                toTimestamp(request.getPickupUntil()),
+                toTimestamp(request.getDeliveryFrom()),
+                toTimestamp(request.getDeliveryUntil()),
+                request.getTotalWeight(),
+                request.getTotalPackages(),
+                request.getStatus().name(),
+                Timestamp.from(request.getCreatedAt()),
+                Timestamp.from(request.getLastUpdatedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
     @Override
     public Optional<TransportRequest> findById(UUID id) {
         return jpaRepository.findById(id)
@@ -45,17 +114,35 @@ public class TransportRequestRepositoryAdapter implements ITransportRequestRepos
     }
 
     @Override
-    public List<TransportRequest> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public List<TransportRequestView> findViewsByIds(Collection<UUID> ids) {
+        return findViews((root, query, cb) -> root.get("id").in(ids), null);
     }
 
     @Override
-    public List<TransportRequest> findByStatus(TransportRequestStatus status) {
-        return jpaRepository.findByStatus(status).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public Optional<EntityVersion> findVersionById(UUID id) {
+        return jpaRepository.findVersionById(id);
+    }
+
+    /**
+     * Keyset page: LIMIT without the count query that a Pageable findAll would issue.
+     */
+    @Override
+    public List<TransportRequestView> searchViews(TransportRequestSearchCriteria criteria,
+                                                  TransportRequestSearchCriteria.Cursor after, int limit) {
+        return findViews(
+            TransportRequestSpecifications.matching(criteria).and(TransportRequestSpecifications.after(after)), limit);
+    }
+
+    @Override
+    public void forEachMatching(TransportRequestSearchCriteria criteria, Consumer<TransportRequest> action) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransportRequestJpaEntity> query = cb.createQuery(TransportRequestJpaEntity.class);
+        Root<TransportRequestJpaEntity> root = query.from(TransportRequestJpaEntity.class);
+        query.where(TransportRequestSpecifications.matching(criteria).toPredicate(root, query, cb))
+            .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        JpaStreams.forEachDetached(entityManager, entityManager.createQuery(query), streamFetchSize,
+            entity -> action.accept(mapper.toDomain(entity)));
     }
 
     @Override
@@ -64,4 +151,34 @@ public class TransportRequestRepositoryAdapter implements ITransportRequestRepos
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Selects the view columns through a constructor expression, newest first. Rows never
+     * become managed entities, so there is no hydration, snapshot or persistence context
+     * entry per row, and no domain object in between.
+     */
+    private List<TransportRequestView> findViews(Specification<TransportRequestJpaEntity> spec, Integer limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransportRequestView> query = cb.createQuery(TransportRequestView.class);
+        Root<TransportRequestJpaEntity> root = query.from(TransportRequestJpaEntity.class);
+        query.select(cb.construct(TransportRequestView.class,
+                root.get("id"), root.get("reference"), root.get("customerId"),
+                root.get("originLocationCode"), root.get("destinationLocationCode"),
+                root.get("pickupFrom"), root.get("pickupUntil"), root.get("deliveryFrom"), root.get("deliveryUntil"),
+                root.get("totalWeight"), root.get("totalPackages"), root.get("status"),
+                root.get("createdAt"), root.get("lastUpdatedAt")))
+            .where(spec.toPredicate(root, query, cb))
+            // Matches idx_transport_requests_created (created_at DESC, id DESC)
+            .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        TypedQuery<TransportRequestView> typed = entityManager.createQuery(query);
+        if (limit != null) {
+            typed.setMaxResults(limit);
+        }
+        return typed.getResultList();
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
 }
@@ -9,6 +9,7 @@ import com.limport.tms.infrastructure.persistence.entity.DeadLetterEventEntity;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for dead letter queue operations.
@@ -34,6 +35,13 @@ public interface DeadLetterEventJpaRepository extends JpaRepository<DeadLetterEv
     @Query("SELECT COUNT(d) FROM DeadLetterEventEntity d WHERE d.source = :source AND d.processedAt IS NULL")
     long countBySourceAndUnprocessed(@Param("source") String source);
 
+    /**
+     * First failure time of the oldest unprocessed event.
+     * Read from the first entry of the partial index idx_dead_letter_unprocessed_first_failed.
+     */
+    @Query("SELECT MIN(d.firstFailedAt) FROM DeadLetterEventEntity d WHERE d.processedAt IS NULL")
+    Optional<Instant> findOldestUnprocessedFailedAt();
+
     /**
      * Find events by event type for monitoring.
      */
@@ -9,6 +9,7 @@ import com.limport.tms.infrastructure.persistence.entity.ExternalEventInboxEntit
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -34,6 +35,13 @@ public interface ExternalEventInboxJpaRepository extends JpaRepository<ExternalE
      */
     @Query("SELECT COUNT(e) FROM ExternalEventInboxEntity e WHERE e.status = 'PENDING'")
     long countPendingEvents();
+
+    /**
+     * Receipt time of the oldest pending event.
+     * Served from the partial index on (status, received_at) WHERE status = 'PENDING'.
+     */
+    @Query("SELECT MIN(e.receivedAt) FROM ExternalEventInboxEntity e WHERE e.status = 'PENDING'")
+    Optional<Instant> findOldestPendingReceivedAt();
     
     /**
      * Clean up old processed events.
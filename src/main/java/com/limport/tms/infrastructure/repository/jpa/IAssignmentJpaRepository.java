@@ -1,12 +1,19 @@
 package com.limport.tms.infrastructure.repository.jpa;
 
 import com.limport.tms.domain.model.entity.Assignment.AssignmentStatus;
+import com.limport.tms.domain.port.repository.AssignmentView;
+import com.limport.tms.domain.port.repository.EntityVersion;
 import com.limport.tms.infrastructure.persistence.entity.AssignmentJpaEntity;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -15,6 +22,14 @@ import java.util.UUID;
 @Repository
 public interface IAssignmentJpaRepository extends JpaRepository<AssignmentJpaEntity, UUID> {
 
+    /**
+     * Constructor expression for read-only rows: no entity instances or persistence context entries.
+     */
+    String VIEW_SELECT = "SELECT new com.limport.tms.domain.port.repository.AssignmentView(a.id,"
+        + " a.transportRequestId, a.providerId, a.vehicleId, a.scheduledPickupTime, a.estimatedDeliveryTime,"
+        + " a.assignmentNotes, a.status, a.assignedBy, a.assignedAt, a.lastUpdatedAt)"
+        + " FROM AssignmentJpaEntity a";
+
     /**
      * Find all assignments for a specific transport request.
      */
@@ -38,6 +53,21 @@ public interface IAssignmentJpaRepository extends JpaRepository<AssignmentJpaEnt
         List<AssignmentStatus> statuses
     );
 
+    @Query(VIEW_SELECT + " WHERE a.transportRequestId = :transportRequestId ORDER BY a.assignedAt DESC")
+    List<AssignmentView> findViewsByTransportRequestId(@Param("transportRequestId") UUID transportRequestId);
+
+    @Query(VIEW_SELECT + " WHERE a.providerId = :providerId ORDER BY a.assignedAt DESC")
+    List<AssignmentView> findViewsByProviderId(@Param("providerId") UUID providerId);
+
+    /**
+     * Assignments in these statuses for any of the given transport requests, as one IN query.
+     */
+    @Query(VIEW_SELECT + " WHERE a.transportRequestId IN :transportRequestIds AND a.status IN :statuses")
+    List<AssignmentView> findViewsByTransportRequestIdInAndStatusIn(
+        @Param("transportRequestIds") Collection<UUID> transportRequestIds,
+        @Param("statuses") List<AssignmentStatus> statuses
+    );
+
     /**
      * Find active assignments for a provider.
      */
@@ -45,4 +75,20 @@ public interface IAssignmentJpaRepository extends JpaRepository<AssignmentJpaEnt
         UUID providerId,
         List<AssignmentStatus> statuses
     );
+
+    @Query("SELECT new com.limport.tms.domain.port.repository.EntityVersion(a.id, a.lastUpdatedAt)"
+        + " FROM AssignmentJpaEntity a WHERE a.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Versions of the given transport request's assignments in these statuses, most recently assigned first.
+     */
+    @Query("SELECT new com.limport.tms.domain.port.repository.EntityVersion(a.id, a.lastUpdatedAt)"
+        + " FROM AssignmentJpaEntity a WHERE a.transportRequestId = :transportRequestId"
+        + " AND a.status IN :statuses ORDER BY a.assignedAt DESC")
+    List<EntityVersion> findVersionsByTransportRequestIdAndStatusIn(
+        @Param("transportRequestId") UUID transportRequestId,
+        @Param("statuses") List<AssignmentStatus> statuses,
+        Limit limit
+    );
 }
@@ -11,6 +11,7 @@ import com.limport.tms.infrastructure.persistence.entity.OutboxEventJpaEntity;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -35,4 +36,11 @@ public interface IOutboxEventJpaRepository extends JpaRepository<OutboxEventJpaE
      */
     @Query("SELECT COUNT(o) FROM OutboxEventJpaEntity o WHERE o.status = 'PENDING'")
     long countPendingEvents();
+    
+    /**
+     * Occurrence time of the oldest pending event.
+     * Served from the partial index idx_outbox_status_occurred.
+     */
+    @Query("SELECT MIN(o.occurredOn) FROM OutboxEventJpaEntity o WHERE o.status = 'PENDING'")
+    Optional<Instant> findOldestPendingOccurredOn();
 }
@@ -1,13 +1,17 @@
 package com.limport.tms.infrastructure.repository.jpa;
 
 import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.port.repository.EntityVersion;
 import com.limport.tms.infrastructure.persistence.entity.TransportRequestJpaEntity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import java.math.BigDecimal;
@@ -18,9 +22,11 @@ import java.math.BigDecimal;
 @Repository
 public interface ITransportRequestJpaRepository extends JpaRepository<TransportRequestJpaEntity, UUID> {
 
-    List<TransportRequestJpaEntity> findByStatus(TransportRequestStatus status);
-    
     List<TransportRequestJpaEntity> findByCustomerId(String customerId);
 
     List<TransportRequestJpaEntity> findByStatusAndTotalWeightLessThanEqual(TransportRequestStatus status, BigDecimal maxWeight);
+
+    @Query("SELECT new com.limport.tms.domain.port.repository.EntityVersion(t.id, t.lastUpdatedAt)"
+        + " FROM TransportRequestJpaEntity t WHERE t.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") UUID id);
 }
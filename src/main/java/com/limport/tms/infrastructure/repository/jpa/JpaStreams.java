@@ -0,0 +1,36 @@
+package com.limport.tms.infrastructure.repository.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Streams query results row by row for exports of unbounded size.
+ *
+ * The fetch size makes the PostgreSQL driver read through a server-side cursor
+ * instead of buffering the whole result set, which only works inside a transaction.
+ * Each entity is detached before it is handed on, so the persistence context never
+ * holds more than the current row.
+ */
+public final class JpaStreams {
+
+    private JpaStreams() {
+        // Utility class
+    }
+
+    public static <E> void forEachDetached(EntityManager entityManager, TypedQuery<E> query,
+                                           int fetchSize, Consumer<? super E> action) {
+        try (Stream<E> rows = query
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            rows.forEach(entity -> {
+                entityManager.detach(entity);
+                action.accept(entity);
+            });
+        }
+    }
+}
@@ -19,9 +19,44 @@ import java.util.UUID;
 public interface ProcessedEventJpaRepository extends JpaRepository<ProcessedEventEntity, UUID> {
     
     /**
-     * Check if an event has been processed.
+     * Check if an event has been processed; claims still in progress do not count.
      */
-    boolean existsByEventId(UUID eventId);
+    boolean existsByEventIdAndLeaseUntilIsNull(UUID eventId);
+    
+    /**
+     * Atomically claim an event until the lease expires.
+     * Uses INSERT ... ON CONFLICT so check and claim are a single statement that never
+     * raises a constraint violation (which would abort the surrounding transaction).
+     * The conflict update only takes over a claim whose lease has expired.
+     * 
+     * @return 1 if the event was claimed, 0 if it is processed or claimed by someone else
+     */
+    @Modifying
+    @Query(value = "INSERT INTO processed_events (event_id, event_type, processed_at, lease_until) " +
+                   "VALUES (:eventId, :eventType, NOW(), NOW() + :leaseSeconds * INTERVAL '1 second') " +
+                   "ON CONFLICT (event_id) DO UPDATE " +
+                   "SET processed_at = EXCLUDED.processed_at, lease_until = EXCLUDED.lease_until " +
+                   "WHERE processed_events.lease_until < NOW()",
+           nativeQuery = true)
+    int claim(@Param("eventId") UUID eventId, @Param("eventType") String eventType,
+              @Param("leaseSeconds") long leaseSeconds);
+    
+    /**
+     * Record an event as processed, finalizing its claim if there is one.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO processed_events (event_id, event_type, processed_at) " +
+                   "VALUES (:eventId, :eventType, NOW()) " +
+                   "ON CONFLICT (event_id) DO UPDATE SET processed_at = NOW(), lease_until = NULL",
+           nativeQuery = true)
+    int markProcessed(@Param("eventId") UUID eventId, @Param("eventType") String eventType);
+    
+    /**
+     * Drop a claim that has not been finalized.
+     */
+    @Modifying
+    @Query("DELETE FROM ProcessedEventEntity e WHERE e.eventId = :eventId AND e.leaseUntil IS NOT NULL")
+    int deleteClaim(@Param("eventId") UUID eventId);
     
     /**
      * Delete processed events older than the given timestamp.
@@ -0,0 +1,77 @@
+package com.limport.tms.infrastructure.repository.jpa;
+
+import com.limport.tms.domain.port.repository.TransportRequestSearchCriteria;
+import com.limport.tms.infrastructure.persistence.entity.TransportRequestJpaEntity;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Criteria API predicates for listing transport requests.
+ */
+public final class TransportRequestSpecifications {
+
+    private TransportRequestSpecifications() {
+        // Utility class
+    }
+
+    /**
+     * AND of every non-null filter in the criteria; matches all rows when none are set.
+     */
+    public static Specification<TransportRequestJpaEntity> matching(TransportRequestSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (criteria.status() != null) {
+                predicates.add(cb.equal(root.get("status"), criteria.status()));
+            }
+            if (criteria.customerId() != null) {
+                predicates.add(cb.equal(root.get("customerId"), criteria.customerId()));
+            }
+            if (criteria.originLocationCode() != null) {
+                predicates.add(cb.equal(root.get("originLocationCode"), criteria.originLocationCode()));
+            }
+            if (criteria.destinationLocationCode() != null) {
+                predicates.add(cb.equal(root.get("destinationLocationCode"), criteria.destinationLocationCode()));
+            }
+            if (criteria.createdFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), criteria.createdFrom()));
+            }
+            if (criteria.createdTo() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), criteria.createdTo()));
+            }
+            if (criteria.pickupFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("pickupFrom"), criteria.pickupFrom()));
+            }
+            if (criteria.pickupTo() != null) {
+                predicates.add(cb.lessThan(root.get("pickupFrom"), criteria.pickupTo()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Rows strictly after the cursor in (createdAt DESC, id DESC) order; all rows for a null cursor.
+     *
+     * The Criteria API has no row-value comparison, so the redundant
+     * {@code created_at <= ?} bound is added to give the index scan a start key.
+     */
+    public static Specification<TransportRequestJpaEntity> after(TransportRequestSearchCriteria.Cursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            Path<Instant> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+            return cb.and(
+                cb.lessThanOrEqualTo(createdAt, cursor.createdAt()),
+                cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id()))));
+        };
+    }
+}
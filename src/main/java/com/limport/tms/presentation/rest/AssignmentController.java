@@ -4,23 +4,39 @@ import com.limport.tms.application.command.AssignProviderCommand;
 import com.limport.tms.application.cqrs.ICommandBus;
 import com.limport.tms.application.cqrs.IQueryBus;
 import com.limport.tms.application.dto.request.AssignProviderRequest;
+import com.limport.tms.application.dto.request.LookupByIdsRequest;
 import com.limport.tms.application.dto.response.AssignmentResponse;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
 import com.limport.tms.application.query.GetActiveAssignmentQuery;
+import com.limport.tms.application.query.GetActiveAssignmentsByTransportRequestsQuery;
 import com.limport.tms.application.query.GetAssignmentQuery;
+import com.limport.tms.application.query.GetResourceVersionQuery;
 import com.limport.tms.application.query.ListAssignmentsByProviderQuery;
 import com.limport.tms.application.query.ListAssignmentsByTransportRequestQuery;
+import com.limport.tms.application.service.interfaces.IExportService;
+import com.limport.tms.domain.port.repository.EntityVersion;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 /**
  * REST endpoints for provider/vehicle assignments.
@@ -30,12 +46,19 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/assignments")
 public class AssignmentController {
 
+    private static final String COMMAND_RETRY_AFTER_SECONDS = "1";
+
     private final ICommandBus commandBus;
     private final IQueryBus queryBus;
+    private final IExportService exportService;
+    private final ExportResponses exportResponses;
 
-    public AssignmentController(ICommandBus commandBus, IQueryBus queryBus) {
+    public AssignmentController(ICommandBus commandBus, IQueryBus queryBus, IExportService exportService,
+                                ExportResponses exportResponses) {
         this.commandBus = commandBus;
         this.queryBus = queryBus;
+        this.exportService = exportService;
+        this.exportResponses = exportResponses;
     }
 
     /**
@@ -44,7 +67,7 @@ public class AssignmentController {
      */
     @PostMapping("/transport-requests/{id}/assign")
     @ResponseStatus(HttpStatus.OK)
-    public TransportRequestResponse assignProvider(
+    public CompletableFuture<TransportRequestResponse> assignProvider(
             @PathVariable("id") UUID transportRequestId,
             @Valid @RequestBody AssignProviderRequest request) {
         AssignProviderCommand command = new AssignProviderCommand();
@@ -52,7 +75,8 @@ public class AssignmentController {
         command.setProviderId(request.getProviderId());
         command.setVehicleId(request.getVehicleId());
         
-        return commandBus.dispatch(command);
+        // Serialized per transport request; frees the request thread while queued
+        return commandBus.dispatchAsync(command);
     }
 
     /**
@@ -66,21 +90,40 @@ public class AssignmentController {
     }
 
     /**
-     * Get a specific assignment by ID.
+     * Get a specific assignment by ID. Answers 304 when the client's ETag is still current.
      */
     @GetMapping("/{id}")
-    public AssignmentResponse getAssignment(@PathVariable("id") UUID assignmentId) {
-        GetAssignmentQuery query = new GetAssignmentQuery(assignmentId);
-        return queryBus.dispatch(query);
+    public ResponseEntity<AssignmentResponse> getAssignment(
+            @PathVariable("id") UUID assignmentId, WebRequest request) {
+        EntityVersion current = queryBus.dispatch(
+            new GetResourceVersionQuery(GetResourceVersionQuery.Resource.ASSIGNMENT, assignmentId));
+        return ConditionalResponses.conditional(request, current,
+            () -> queryBus.dispatch(new GetAssignmentQuery(assignmentId)),
+            AssignmentController::versionOf);
     }
 
     /**
      * Get active assignment for a transport request.
+     * Polled by the tracking UI; the ETag changes when the active assignment changes or is updated.
      */
     @GetMapping("/transport-requests/{id}/active")
-    public AssignmentResponse getActiveAssignment(@PathVariable("id") UUID transportRequestId) {
-        GetActiveAssignmentQuery query = new GetActiveAssignmentQuery(transportRequestId);
-        return queryBus.dispatch(query);
+    public ResponseEntity<AssignmentResponse> getActiveAssignment(
+            @PathVariable("id") UUID transportRequestId, WebRequest request) {
+        EntityVersion current = queryBus.dispatch(
+            new GetResourceVersionQuery(GetResourceVersionQuery.Resource.ACTIVE_ASSIGNMENT, transportRequestId));
+        return ConditionalResponses.conditional(request, current,
+            () -> queryBus.dispatch(new GetActiveAssignmentQuery(transportRequestId)),
+            AssignmentController::versionOf);
+    }
+
+    /**
+     * Get the active assignment of many transport requests in one call, keyed by transport
+     * request ID; requests without an active assignment are left out.
+     */
+    @PostMapping("/transport-requests/active/lookup")
+    public Map<UUID, AssignmentResponse> lookupActiveAssignments(@Valid @RequestBody LookupByIdsRequest request) {
+        return queryBus.dispatch(
+            new GetActiveAssignmentsByTransportRequestsQuery(new LinkedHashSet<>(request.getIds())));
     }
 
     /**
@@ -92,4 +135,31 @@ public class AssignmentController {
         ListAssignmentsByProviderQuery query = new ListAssignmentsByProviderQuery(providerId);
         return queryBus.dispatch(query);
     }
-}
\ No newline at end of file
+
+    /**
+     * Reporting export of every assignment, oldest first, as CSV or NDJSON.
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> export(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            HttpServletResponse response) {
+        IExportService.Format exportFormat = ExportResponses.parseFormat(format);
+        return exportResponses.attachment(response,
+            "assignments", exportFormat, out -> exportService.exportAssignments(exportFormat, out));
+    }
+
+    /**
+     * A full command queue is back-pressure, not a server fault: answer 503 with
+     * Retry-After so clients back off instead of seeing a 500.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Void> commandQueueFull(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, COMMAND_RETRY_AFTER_SECONDS)
+            .build();
+    }
+
+    private static EntityVersion versionOf(AssignmentResponse assignment) {
+        return new EntityVersion(assignment.getId(), assignment.getLastUpdatedAt());
+    }
+}
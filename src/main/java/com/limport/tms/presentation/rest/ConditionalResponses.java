@@ -0,0 +1,106 @@
+package com.limport.tms.presentation.rest;
+
+import com.limport.tms.domain.port.repository.EntityVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET (If-None-Match / If-Modified-Since) for single-resource endpoints polled by the UI.
+ *
+ * The current version comes from a lightweight lookup of (id, last_updated_at); when the
+ * client's copy is current the request is answered with 304 before the resource is loaded
+ * or mapped. Otherwise the ETag and Last-Modified headers are derived from the body itself,
+ * so they always describe the representation sent: a body served from the query cache may
+ * be older than the lookup, and must not go out under the newer version's ETag.
+ *
+ * The preconditions are evaluated here rather than with WebRequest.checkNotModified,
+ * which writes the lookup's validators onto the response even when it returns false.
+ *
+ * Trade-offs:
+ * - If-Modified-Since has one-second resolution; clients should prefer the ETag
+ * - Costs one indexed lookup on a cache miss, on top of loading the resource
+ */
+final class ConditionalResponses {
+
+    // The client may keep the body but must revalidate before every reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalResponses() {
+        // Utility class
+    }
+
+    /**
+     * @param current   version from the lookup, or null if the resource does not exist
+     * @param body      loads the full resource
+     * @param versionOf version of a loaded resource, for its ETag
+     */
+    static <T> ResponseEntity<T> conditional(WebRequest request, EntityVersion current,
+                                             Supplier<T> body, Function<T, EntityVersion> versionOf) {
+        if (current != null && notModified(request, current)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(REVALIDATE)
+                .eTag(etag(current))
+                .lastModified(current.lastUpdatedAt())
+                .build();
+        }
+
+        T value = body.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(REVALIDATE);
+        EntityVersion version = value != null ? versionOf.apply(value) : null;
+        if (version != null && version.lastUpdatedAt() != null) {
+            response.eTag(etag(version)).lastModified(version.lastUpdatedAt());
+        }
+        return response.body(value);
+    }
+
+    /**
+     * If-None-Match takes precedence; If-Modified-Since is only consulted without it (RFC 9110 13.2.2).
+     */
+    private static boolean notModified(WebRequest request, EntityVersion current) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String etag = etag(current);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                // Weak comparison, as If-None-Match requires
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        String ifModifiedSince = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince == null) {
+            return false;
+        }
+        try {
+            Instant since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return !current.lastUpdatedAt().truncatedTo(ChronoUnit.SECONDS).isAfter(since);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Strong ETag: entity ID plus last_updated_at in microseconds, the database precision.
+     */
+    static String etag(EntityVersion version) {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, version.lastUpdatedAt());
+        return "\"" + version.id() + "-" + Long.toHexString(micros) + "\"";
+    }
+}
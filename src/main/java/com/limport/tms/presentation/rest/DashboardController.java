@@ -0,0 +1,66 @@
+package com.limport.tms.presentation.rest;
+
+import com.limport.tms.application.command.RebuildDashboardReadModelCommand;
+import com.limport.tms.application.cqrs.ICommandBus;
+import com.limport.tms.application.cqrs.IQueryBus;
+import com.limport.tms.application.dto.response.ActiveAssignmentResponse;
+import com.limport.tms.application.dto.response.DashboardSummaryResponse;
+import com.limport.tms.application.query.GetDashboardSummaryQuery;
+import com.limport.tms.application.query.ListActiveAssignmentsQuery;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoints for the internal dashboard (docs/transport_request_dashboard.png).
+ * Served from the dashboard read model, never from the write tables.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private static final int MAX_LANES = 100;
+    private static final int MAX_ACTIVE_ASSIGNMENTS = 500;
+
+    private final ICommandBus commandBus;
+    private final IQueryBus queryBus;
+
+    public DashboardController(ICommandBus commandBus, IQueryBus queryBus) {
+        this.commandBus = commandBus;
+        this.queryBus = queryBus;
+    }
+
+    /**
+     * Counts by status and the busiest lanes.
+     */
+    @GetMapping("/summary")
+    public DashboardSummaryResponse summary(
+            @RequestParam(name = "lanes", defaultValue = "10") int lanes) {
+        return queryBus.dispatch(new GetDashboardSummaryQuery(Math.max(0, Math.min(lanes, MAX_LANES))));
+    }
+
+    /**
+     * Transport requests currently planned or in transit, most recently assigned first.
+     */
+    @GetMapping("/active-assignments")
+    public List<ActiveAssignmentResponse> activeAssignments(
+            @RequestParam(name = "providerId", required = false) UUID providerId,
+            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        int capped = Math.max(1, Math.min(limit, MAX_ACTIVE_ASSIGNMENTS));
+        return queryBus.dispatch(new ListActiveAssignmentsQuery(providerId, capped));
+    }
+
+    /**
+     * Recompute the read model from the write tables, e.g. after deploying a read model change.
+     */
+    @PostMapping("/read-model/rebuild")
+    public Map<String, Integer> rebuildReadModel() {
+        Integer rebuilt = commandBus.dispatch(new RebuildDashboardReadModelCommand());
+        return Map.of("transportRequests", rebuilt);
+    }
+}
@@ -0,0 +1,89 @@
+package com.limport.tms.presentation.rest;
+
+import com.limport.tms.application.service.interfaces.IExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Builds download responses for export endpoints.
+ *
+ * The body runs on the export executor after the request thread has been released, with
+ * its own async timeout (tms.export.timeout) so other async endpoints keep the servlet
+ * default. At most tms.export.max-concurrent exports stream at once; further requests
+ * are answered 429 straight away instead of queueing behind long downloads.
+ */
+@Component
+class ExportResponses {
+
+    private static final MediaType CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final AsyncTaskExecutor executor;
+    private final long timeoutMs;
+    private final Semaphore permits;
+
+    ExportResponses(
+            @Qualifier("exportExecutor") AsyncTaskExecutor executor,
+            @Value("${tms.export.timeout:30m}") Duration timeout,
+            @Value("${tms.export.max-concurrent:4}") int maxConcurrent) {
+        this.executor = executor;
+        this.timeoutMs = timeout.toMillis();
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Case-insensitive ?format= value; anything else is rejected with 400.
+     */
+    static IExportService.Format parseFormat(String format) {
+        try {
+            return IExportService.Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format, e);
+        }
+    }
+
+    /**
+     * Sets the download headers and schedules the body, or rejects with 429 when the
+     * node is already streaming its maximum number of exports.
+     */
+    WebAsyncTask<Void> attachment(HttpServletResponse response, String baseName,
+                                  IExportService.Format format, StreamingResponseBody body) {
+        if (!permits.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                "Too many exports in progress, retry later");
+        }
+
+        boolean csv = format == IExportService.Format.CSV;
+        ContentDisposition disposition = ContentDisposition.attachment()
+            .filename(baseName + (csv ? ".csv" : ".ndjson"))
+            .build();
+        response.setContentType((csv ? CSV : NDJSON).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+
+        // The pool has a thread per permit, so the task starts at once and always releases
+        return new WebAsyncTask<>(timeoutMs, executor, () -> {
+            try {
+                body.writeTo(response.getOutputStream());
+                response.flushBuffer();
+                return null;
+            } finally {
+                permits.release();
+            }
+        });
+    }
+}
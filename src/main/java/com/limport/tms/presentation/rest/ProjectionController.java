@@ -0,0 +1,52 @@
+package com.limport.tms.presentation.rest;
+
+import com.limport.tms.application.command.RebuildProjectionCommand;
+import com.limport.tms.application.cqrs.ICommandBus;
+import com.limport.tms.application.projection.ProjectionRebuildInProgressException;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Operational endpoints for projections built from the outbox event log.
+ */
+@RestController
+@RequestMapping("/api/projections")
+public class ProjectionController {
+
+    private static final int MAX_PARTITIONS = 32;
+
+    private final ICommandBus commandBus;
+    private final int defaultPartitions;
+
+    public ProjectionController(
+            ICommandBus commandBus,
+            @Value("${tms.projection.rebuild-partitions:4}") int defaultPartitions) {
+        this.commandBus = commandBus;
+        this.defaultPartitions = defaultPartitions;
+    }
+
+    /**
+     * Reset the projection and replay the event log into it. Blocks until the replay finishes;
+     * answers 409 while another rebuild of the same projection is running.
+     */
+    @PostMapping("/{name}/rebuild")
+    public Map<String, Long> rebuild(
+            @PathVariable("name") String name,
+            @RequestParam(name = "partitions", required = false) Integer partitions) {
+        int requested = partitions != null ? partitions : defaultPartitions;
+        int capped = Math.max(1, Math.min(requested, MAX_PARTITIONS));
+        try {
+            Long replayed = commandBus.dispatch(new RebuildProjectionCommand(name, capped));
+            return Map.of("events", replayed);
+        } catch (ProjectionRebuildInProgressException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+    }
+}
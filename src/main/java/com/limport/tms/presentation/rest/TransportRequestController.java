@@ -3,18 +3,41 @@ package com.limport.tms.presentation.rest;
 import com.limport.tms.application.command.CancelTransportRequestCommand;
 import com.limport.tms.application.command.CompleteTransportRequestCommand;
 import com.limport.tms.application.command.CreateTransportRequestCommand;
+import com.limport.tms.application.command.CreateTransportRequestsBatchCommand;
 import com.limport.tms.application.cqrs.ICommandBus;
 import com.limport.tms.application.cqrs.IQueryBus;
 import com.limport.tms.application.dto.request.CancelTransportRequestRequest;
 import com.limport.tms.application.dto.request.CreateTransportRequest;
+import com.limport.tms.application.dto.request.CreateTransportRequestsBatchRequest;
+import com.limport.tms.application.dto.request.LookupByIdsRequest;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse;
+import com.limport.tms.application.dto.response.TransportRequestPageResponse;
 import com.limport.tms.application.dto.response.TransportRequestResponse;
+import com.limport.tms.application.query.GetResourceVersionQuery;
 import com.limport.tms.application.query.GetTransportRequestQuery;
+import com.limport.tms.application.query.GetTransportRequestsByIdsQuery;
+import com.limport.tms.application.query.InvalidCursorException;
 import com.limport.tms.application.query.ListTransportRequestsQuery;
+import com.limport.tms.application.service.interfaces.IExportService;
 import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.port.repository.EntityVersion;
+import com.limport.tms.domain.port.repository.TransportRequestSearchCriteria;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,6 +46,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * Primary REST controller for transport request operations in the TMS.
@@ -34,12 +60,24 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/transport-requests")
 public class TransportRequestController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String COMMAND_RETRY_AFTER_SECONDS = "1";
+
     private final ICommandBus commandBus;
     private final IQueryBus queryBus;
+    private final TransportRequestNdjsonImporter ndjsonImporter;
+    private final IExportService exportService;
+    private final ExportResponses exportResponses;
 
-    public TransportRequestController(ICommandBus commandBus, IQueryBus queryBus) {
+    public TransportRequestController(ICommandBus commandBus, IQueryBus queryBus,
+                                      TransportRequestNdjsonImporter ndjsonImporter,
+                                      IExportService exportService,
+                                      ExportResponses exportResponses) {
         this.commandBus = commandBus;
         this.queryBus = queryBus;
+        this.ndjsonImporter = ndjsonImporter;
+        this.exportService = exportService;
+        this.exportResponses = exportResponses;
     }
 
     /**
@@ -62,22 +100,99 @@ public class TransportRequestController {
     }
 
     /**
-     * Dashboard-style list endpoint with optional status filter.
+     * Create many transport requests from one manifest upload.
+     * Always 200 when the envelope is valid; per-item outcomes are in the body.
+     */
+    @PostMapping("/batch")
+    public BatchCreateTransportRequestsResponse createBatch(
+            @Valid @RequestBody CreateTransportRequestsBatchRequest request) {
+        CreateTransportRequestsBatchCommand command = new CreateTransportRequestsBatchCommand();
+        command.setItems(request.getItems());
+
+        return commandBus.dispatch(command);
+    }
+
+    /**
+     * Get many transport requests in one call, keyed by ID; unknown IDs are left out.
+     * Replaces one GET per row for list views.
+     */
+    @PostMapping("/lookup")
+    public Map<UUID, TransportRequestResponse> lookup(@Valid @RequestBody LookupByIdsRequest request) {
+        return queryBus.dispatch(new GetTransportRequestsByIdsQuery(new LinkedHashSet<>(request.getIds())));
+    }
+
+    /**
+     * Stream an NDJSON import of any size: one CreateTransportRequest per line in,
+     * one result per line out, followed by a summary line.
+     */
+    @PostMapping(value = "/import", consumes = NDJSON, produces = NDJSON)
+    public void importNdjson(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        ndjsonImporter.importStream(body, response.getOutputStream());
+    }
+
+    /**
+     * Dashboard-style list endpoint: one page, newest first, with optional filters.
+     * Date windows are [from, to); follow nextCursor for the next page.
      */
     @GetMapping
-    public List<TransportRequestResponse> list(
-            @RequestParam(name = "status", required = false) TransportRequestStatus status) {
-        ListTransportRequestsQuery query = new ListTransportRequestsQuery(status);
-        return queryBus.dispatch(query);
+    public TransportRequestPageResponse list(
+            @RequestParam(name = "status", required = false) TransportRequestStatus status,
+            @RequestParam(name = "customerId", required = false) String customerId,
+            @RequestParam(name = "origin", required = false) String origin,
+            @RequestParam(name = "destination", required = false) String destination,
+            @RequestParam(name = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @RequestParam(name = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo,
+            @RequestParam(name = "pickupFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime pickupFrom,
+            @RequestParam(name = "pickupTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime pickupTo,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        TransportRequestSearchCriteria criteria = new TransportRequestSearchCriteria(
+            status, customerId, origin, destination, createdFrom, createdTo, pickupFrom, pickupTo);
+        ListTransportRequestsQuery query = new ListTransportRequestsQuery(criteria, cursor, limit);
+        try {
+            return queryBus.dispatch(query);
+        } catch (InvalidCursorException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reporting export of every matching transport request, newest first, as CSV or NDJSON.
+     * Streamed straight from a database cursor; bypasses the query bus and its caching.
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> export(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "status", required = false) TransportRequestStatus status,
+            @RequestParam(name = "customerId", required = false) String customerId,
+            @RequestParam(name = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @RequestParam(name = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo,
+            HttpServletResponse response) {
+        TransportRequestSearchCriteria criteria = new TransportRequestSearchCriteria(
+            status, customerId, null, null, createdFrom, createdTo, null, null);
+        IExportService.Format exportFormat = ExportResponses.parseFormat(format);
+        return exportResponses.attachment(response, "transport-requests", exportFormat,
+            out -> exportService.exportTransportRequests(criteria, exportFormat, out));
     }
 
     /**
      * Detail view for a single transport request.
+     * Polled by the tracking UI, so answers 304 when the client's ETag is still current.
      */
     @GetMapping("/{id}")
-    public TransportRequestResponse getById(@PathVariable("id") UUID id) {
-        GetTransportRequestQuery query = new GetTransportRequestQuery(id);
-        return queryBus.dispatch(query);
+    public ResponseEntity<TransportRequestResponse> getById(@PathVariable("id") UUID id, WebRequest request) {
+        EntityVersion current = queryBus.dispatch(
+            new GetResourceVersionQuery(GetResourceVersionQuery.Resource.TRANSPORT_REQUEST, id));
+        return ConditionalResponses.conditional(request, current,
+            () -> queryBus.dispatch(new GetTransportRequestQuery(id)),
+            body -> new EntityVersion(body.getId(), body.getLastUpdatedAt()));
     }
 
     /**
@@ -85,14 +200,14 @@ public class TransportRequestController {
      */
     @PostMapping("/{id}/cancel")
     @ResponseStatus(HttpStatus.OK)
-    public TransportRequestResponse cancel(
+    public CompletableFuture<TransportRequestResponse> cancel(
             @PathVariable("id") UUID id,
             @Valid @RequestBody CancelTransportRequestRequest request) {
         CancelTransportRequestCommand command = new CancelTransportRequestCommand();
         command.setTransportRequestId(id);
         command.setReason(request.getReason());
-        // Now dispatch the command
-        return commandBus.dispatch(command);
+        // Serialized per transport request; frees the request thread while queued
+        return commandBus.dispatchAsync(command);
     }
 
     /**
@@ -100,11 +215,22 @@ public class TransportRequestController {
      */
     @PostMapping("/{id}/complete")
     @ResponseStatus(HttpStatus.OK)
-    public TransportRequestResponse complete(@PathVariable("id") UUID id) {
+    public CompletableFuture<TransportRequestResponse> complete(@PathVariable("id") UUID id) {
         CompleteTransportRequestCommand command = new CompleteTransportRequestCommand();
         command.setTransportRequestId(id);
         command.setCompletedAt(java.time.Instant.now());
         
-        return commandBus.dispatch(command);
+        return commandBus.dispatchAsync(command);
+    }
+
+    /**
+     * A full command queue is back-pressure, not a server fault: answer 503 with
+     * Retry-After so clients back off instead of seeing a 500.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Void> commandQueueFull(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, COMMAND_RETRY_AFTER_SECONDS)
+            .build();
     }
 }
@@ -0,0 +1,262 @@
+package com.limport.tms.presentation.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.limport.tms.application.command.CreateTransportRequestsBatchCommand;
+import com.limport.tms.application.cqrs.ICommandBus;
+import com.limport.tms.application.dto.request.CreateTransportRequest;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse.ItemResult;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse.ItemStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Streams an NDJSON import of transport requests through the batch create command.
+ *
+ * Input is read one line at a time and each line is bound with a Jackson reader, so a
+ * malformed line only rejects that line; lines longer than tms.batch.import-max-line-length
+ * are rejected too, without being buffered. Lines are grouped into chunks of
+ * tms.batch.chunk-size; while one chunk is being inserted on the import executor
+ * the next one is parsed, and at most one chunk is in flight. Results are written back
+ * as one NDJSON line per input line, in input order, flushed after every chunk, followed
+ * by a summary line. Memory use is bounded by two chunks regardless of import size.
+ *
+ * Trade-offs:
+ * - The response is committed with 200 after the first chunk, so later failures can
+ *   only be reported in the stream, not as an HTTP status
+ * - Chunks commit independently; an aborted upload leaves earlier chunks persisted
+ */
+@Component
+public class TransportRequestNdjsonImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(TransportRequestNdjsonImporter.class);
+
+    private final ICommandBus commandBus;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader itemReader;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int maxLineLength;
+
+    public TransportRequestNdjsonImporter(
+            ICommandBus commandBus,
+            ObjectMapper objectMapper,
+            @Qualifier("importExecutor") Executor executor,
+            @Value("${tms.batch.chunk-size:500}") int chunkSize,
+            @Value("${tms.batch.import-max-line-length:65536}") int maxLineLength) {
+        this.commandBus = commandBus;
+        this.objectMapper = objectMapper;
+        this.itemReader = objectMapper.readerFor(CreateTransportRequest.class);
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Imports every line of {@code in} and writes per-line results to {@code out}.
+     */
+    public void importStream(InputStream in, OutputStream out) throws IOException {
+        LineReader reader = new LineReader(
+            new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), maxLineLength);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // Lines are separated by the explicit '\n' only, not the default ' ' between root values
+        generator.setRootValueSeparator(null);
+        Map<ItemStatus, Long> totals = new EnumMap<>(ItemStatus.class);
+
+        Chunk chunk = new Chunk();
+        CompletableFuture<ChunkOutcome> inFlight = null;
+        long lineNumber = 0;
+        String line;
+
+        while ((line = reader.next()) != null) {
+            lineNumber++;
+            if (reader.tooLong()) {
+                chunk.reject(lineNumber, "line longer than " + maxLineLength + " characters");
+            } else if (line.isBlank()) {
+                continue;
+            } else {
+                try {
+                    chunk.add(lineNumber, itemReader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    chunk.reject(lineNumber, "malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+
+            if (chunk.size() >= chunkSize) {
+                // Wait for the previous chunk before submitting, so at most one is in flight
+                if (inFlight != null) {
+                    write(inFlight.join(), generator, totals);
+                }
+                inFlight = submit(chunk);
+                chunk = new Chunk();
+            }
+        }
+
+        if (inFlight != null) {
+            write(inFlight.join(), generator, totals);
+        }
+        if (chunk.size() > 0) {
+            write(submit(chunk).join(), generator, totals);
+        }
+
+        writeSummary(lineNumber, totals, generator);
+        log.info("NDJSON import of {} lines finished: {}", lineNumber, totals);
+    }
+
+    private CompletableFuture<ChunkOutcome> submit(Chunk chunk) {
+        if (chunk.items.isEmpty()) {
+            return CompletableFuture.completedFuture(new ChunkOutcome(chunk, List.of()));
+        }
+        CreateTransportRequestsBatchCommand command = new CreateTransportRequestsBatchCommand();
+        command.setItems(chunk.items);
+
+        return CompletableFuture
+            .supplyAsync(() -> new ChunkOutcome(chunk, commandBus.dispatch(command).getResults()), executor)
+            .exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.error("NDJSON import chunk of {} items failed: {}", chunk.items.size(), cause.getMessage(), cause);
+                List<ItemResult> failed = new ArrayList<>(chunk.items.size());
+                for (int i = 0; i < chunk.items.size(); i++) {
+                    failed.add(ItemResult.failed(i, "Not persisted: " + cause.getMessage()));
+                }
+                return new ChunkOutcome(chunk, failed);
+            });
+    }
+
+    /**
+     * Writes one line per entry of the chunk, merging parse rejections back in input order.
+     */
+    private void write(ChunkOutcome outcome, JsonGenerator generator, Map<ItemStatus, Long> totals) throws IOException {
+        for (Entry entry : outcome.chunk.entries) {
+            ItemResult result = entry.itemIndex >= 0 ? outcome.results.get(entry.itemIndex) : null;
+            ItemStatus status = result != null ? result.getStatus() : ItemStatus.REJECTED;
+            totals.merge(status, 1L, Long::sum);
+
+            generator.writeStartObject();
+            generator.writeNumberField("line", entry.lineNumber);
+            generator.writeStringField("status", status.name());
+            if (result != null && result.getId() != null) {
+                generator.writeStringField("id", result.getId().toString());
+                generator.writeStringField("reference", result.getReference());
+            }
+            List<String> errors = result != null ? result.getErrors() : List.of(entry.parseError);
+            if (!errors.isEmpty()) {
+                generator.writeArrayFieldStart("errors");
+                for (String error : errors) {
+                    generator.writeString(error);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private void writeSummary(long lines, Map<ItemStatus, Long> totals, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("summary");
+        generator.writeNumberField("lines", lines);
+        for (ItemStatus status : ItemStatus.values()) {
+            generator.writeNumberField(status.name().toLowerCase(), totals.getOrDefault(status, 0L));
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    /**
+     * Input lines of one chunk; only parsed lines become command items.
+     */
+    private static final class Chunk {
+        private final List<Entry> entries = new ArrayList<>();
+        private final List<CreateTransportRequest> items = new ArrayList<>();
+
+        void add(long lineNumber, CreateTransportRequest item) {
+            entries.add(new Entry(lineNumber, items.size(), null));
+            items.add(item);
+        }
+
+        void reject(long lineNumber, String parseError) {
+            entries.add(new Entry(lineNumber, -1, parseError));
+        }
+
+        int size() {
+            return entries.size();
+        }
+    }
+
+    private record Entry(long lineNumber, int itemIndex, String parseError) {
+    }
+
+    /**
+     * Reads '\n'-terminated lines, keeping at most maxLength characters of each;
+     * the rest of a longer line is skipped, not buffered.
+     */
+    private static final class LineReader {
+        private final Reader in;
+        private final int maxLength;
+        private final StringBuilder line = new StringBuilder();
+        private boolean tooLong;
+
+        LineReader(Reader in, int maxLength) {
+            this.in = in;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * @return the next line without its terminator, or null at the end of the input
+         */
+        String next() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            int c;
+            while ((c = in.read()) != -1 && c != '\n') {
+                if (line.length() < maxLength) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+            if (c == -1 && line.length() == 0 && !tooLong) {
+                return null;
+            }
+            int end = line.length();
+            if (end > 0 && line.charAt(end - 1) == '\r') {
+                line.setLength(end - 1);
+            }
+            return line.toString();
+        }
+
+        /**
+         * Whether the line last returned by {@link #next()} was cut off at maxLength.
+         */
+        boolean tooLong() {
+            return tooLong;
+        }
+    }
+
+    private record ChunkOutcome(Chunk chunk, List<ItemResult> results) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.limport.tms.presentation.rest;
+
+import com.limport.tms.presentation.rest.TransportRequestUpdateHub.Topic;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent event streams of transport request changes, so dashboards and
+ * tracking views can stop polling the detail and list endpoints.
+ *
+ * Each event is named after the domain event type and carries the request as it
+ * is after the change; comment lines are sent as heartbeats.
+ */
+@RestController
+@RequestMapping("/api/transport-requests")
+public class TransportRequestStreamController {
+
+    private final TransportRequestUpdateHub updateHub;
+
+    public TransportRequestStreamController(TransportRequestUpdateHub updateHub) {
+        this.updateHub = updateHub;
+    }
+
+    /**
+     * Stream changes to a single transport request.
+     */
+    @GetMapping(path = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRequest(@PathVariable("id") UUID id) {
+        return updateHub.subscribe(Topic.REQUEST, id.toString());
+    }
+
+    /**
+     * Stream changes to every transport request of one customer or one provider.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestParam(name = "customerId", required = false) String customerId,
+            @RequestParam(name = "providerId", required = false) UUID providerId) {
+        if ((customerId == null) == (providerId == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Exactly one of customerId or providerId is required");
+        }
+        return customerId != null
+            ? updateHub.subscribe(Topic.CUSTOMER, customerId)
+            : updateHub.subscribe(Topic.PROVIDER, providerId.toString());
+    }
+}
@@ -0,0 +1,310 @@
+package com.limport.tms.presentation.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limport.tms.application.dto.response.TransportRequestUpdateResponse;
+import com.limport.tms.application.service.interfaces.ITransportRequestUpdatePublisher;
+import com.limport.tms.application.service.interfaces.ITransportRequestUpdateRelay;
+import com.limport.tms.domain.port.repository.IDashboardReadModelRepository.Summary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed transport request changes out to server-sent event subscribers.
+ *
+ * Subscribers follow one topic: a single request, a customer, or a provider. Each
+ * update is serialized to JSON once and offered to the bounded queue of every matching
+ * subscriber; a sender thread drains each queue onto its connection, one drain at a time
+ * per subscriber. Publishing never blocks the after-commit handler that calls it.
+ *
+ * Publishing and heartbeats never touch an emitter: writes and completion are both
+ * left to the subscriber's sender, because the emitter's monitor is held for the whole
+ * of a blocked socket write.
+ *
+ * Updates reach subscribers on every node: the publishing node delivers to its own
+ * subscribers directly and sends the serialized update, with its topic keys, over the
+ * {@link ITransportRequestUpdateRelay} (Redis pub/sub with tms.sse.relay.type=redis);
+ * other nodes deliver it to theirs without serializing it again.
+ *
+ * Trade-offs:
+ * - A subscriber whose queue is full is disconnected rather than slowing everyone else;
+ *   clients reconnect and re-read current state
+ * - A stalled client holds a sender thread until the container's write timeout
+ *   (server.tomcat.connection-timeout) fails the write
+ * - Every change is serialized and relayed even when no node has a matching subscriber
+ * - A relayed update is lost if its node is disconnected from Redis; clients reconnect
+ *   and re-read current state
+ */
+@Component
+public class TransportRequestUpdateHub implements ITransportRequestUpdatePublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(TransportRequestUpdateHub.class);
+
+    enum Topic { REQUEST, CUSTOMER, PROVIDER }
+
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper;
+    private final ITransportRequestUpdateRelay relay;
+    private final Executor senderExecutor;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Counter dropped;
+
+    public TransportRequestUpdateHub(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            ITransportRequestUpdateRelay relay,
+            @Qualifier("sseSenderExecutor") Executor senderExecutor,
+            @Value("${tms.sse.buffer-size:64}") int bufferSize,
+            @Value("${tms.sse.timeout:30m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+        this.senderExecutor = senderExecutor;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.dropped = Counter.builder("tms.sse.dropped")
+            .description("SSE subscribers disconnected because their buffer was full")
+            .register(meterRegistry);
+        Gauge.builder("tms.sse.subscribers", subscriberCount, AtomicInteger::get)
+            .description("Open SSE subscriptions to transport request updates")
+            .register(meterRegistry);
+        relay.subscribe(this::onRelayed);
+    }
+
+    /**
+     * Opens a stream of updates for one topic key.
+     */
+    public SseEmitter subscribe(Topic topic, String key) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        register(topic, key, emitter);
+        return emitter;
+    }
+
+    Subscriber register(Topic topic, String key, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(topicKey(topic, key), emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // Added inside compute so a concurrent remove() cannot drop the set between lookup and add
+        subscribers.compute(subscriber.topicKey, (k, topicSubscribers) -> {
+            Set<Subscriber> set = topicSubscribers == null ? ConcurrentHashMap.newKeySet() : topicSubscribers;
+            set.add(subscriber);
+            return set;
+        });
+        subscriberCount.incrementAndGet();
+        log.debug("SSE subscriber added to {}", subscriber.topicKey);
+        return subscriber;
+    }
+
+    @Override
+    public void publish(String eventType, Summary summary, UUID previousProviderId) {
+        TransportRequestUpdateResponse update = new TransportRequestUpdateResponse(eventType,
+            summary.transportRequestId(), summary.customerId(), summary.originLocationCode(),
+            summary.destinationLocationCode(), summary.status(), summary.providerId(), summary.vehicleId(),
+            summary.lastUpdatedAt());
+
+        List<String> topicKeys = new ArrayList<>(4);
+        topicKeys.add(topicKey(Topic.REQUEST, summary.transportRequestId().toString()));
+        if (summary.customerId() != null) {
+            topicKeys.add(topicKey(Topic.CUSTOMER, summary.customerId()));
+        }
+        if (summary.providerId() != null) {
+            topicKeys.add(topicKey(Topic.PROVIDER, summary.providerId().toString()));
+        }
+        // The provider that lost the request sees it leave its stream
+        if (previousProviderId != null && !previousProviderId.equals(summary.providerId())) {
+            topicKeys.add(topicKey(Topic.PROVIDER, previousProviderId.toString()));
+        }
+
+        RelayedUpdate relayed;
+        String encoded;
+        try {
+            relayed = new RelayedUpdate(nodeId, eventType, topicKeys, objectMapper.writeValueAsString(update));
+            encoded = objectMapper.writeValueAsString(relayed);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize update for transport request {}", summary.transportRequestId(), e);
+            return;
+        }
+
+        deliver(relayed);
+        relay.publish(encoded);
+    }
+
+    /**
+     * Delivers an update published on another node; this node's own updates were
+     * delivered when they were published.
+     */
+    private void onRelayed(String encoded) {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        RelayedUpdate relayed;
+        try {
+            relayed = objectMapper.readValue(encoded, RelayedUpdate.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed relayed update: {}", e.getOriginalMessage());
+            return;
+        }
+        if (!nodeId.equals(relayed.origin())) {
+            deliver(relayed);
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies and detects clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${tms.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        Message heartbeat = new Message(null, "heartbeat");
+        subscribers.values().forEach(topic -> topic.forEach(subscriber -> offer(subscriber, heartbeat)));
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void deliver(RelayedUpdate relayed) {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        Message message = new Message(relayed.event(), relayed.data());
+        for (String topicKey : relayed.topicKeys()) {
+            deliver(topicKey, message);
+        }
+    }
+
+    private void deliver(String topicKey, Message message) {
+        Set<Subscriber> topic = subscribers.get(topicKey);
+        if (topic != null) {
+            topic.forEach(subscriber -> offer(subscriber, message));
+        }
+    }
+
+    private void offer(Subscriber subscriber, Message message) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(message)) {
+            dropped.increment();
+            log.info("Dropping slow SSE subscriber on {} after {} undelivered updates",
+                subscriber.topicKey, bufferSize);
+            subscriber.evicted = true;
+            remove(subscriber);
+        }
+        subscriber.scheduleDrain();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.topicKey, (k, topic) -> {
+            topic.remove(subscriber);
+            return topic.isEmpty() ? null : topic;
+        });
+        subscriberCount.decrementAndGet();
+        log.debug("SSE subscriber removed from {}", subscriber.topicKey);
+    }
+
+    private static String topicKey(Topic topic, String key) {
+        return topic.name() + ':' + key;
+    }
+
+    /**
+     * Wire format of the relay: the update's JSON body travels as a string, so receiving
+     * nodes pass it to their subscribers as is.
+     *
+     * @param origin    node ID of the publisher, so it skips its own update
+     * @param topicKeys topics the update is delivered to
+     */
+    record RelayedUpdate(String origin, String event, List<String> topicKeys, String data) {
+    }
+
+    /**
+     * A named event with a JSON body, or a comment line when name is null.
+     */
+    private record Message(String name, String data) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            return name == null
+                ? SseEmitter.event().comment(data)
+                : SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    final class Subscriber {
+
+        private final String topicKey;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean evicted;
+
+        private Subscriber(String topicKey, SseEmitter emitter) {
+            this.topicKey = topicKey;
+            this.emitter = emitter;
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senderExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while (!closed.get() && (message = queue.poll()) != null) {
+                    emitter.send(message.toEvent());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed; the container reports the error
+                log.debug("SSE send to {} failed: {}", topicKey, e.getMessage());
+                remove(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // Evicted while this drain ran or before it started; the flag is checked after
+            // clearing draining, so an eviction whose own drain was skipped is seen here
+            if (evicted) {
+                if (completed.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+                return;
+            }
+            // A message offered after the last poll but before the flag was cleared needs a new drain
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- A claim is a processing lease until the handler succeeds; NULL marks a finished event.
+-- Existing rows were all written as finished events.
+ALTER TABLE processed_events ADD COLUMN lease_until TIMESTAMP WITH TIME ZONE;
+
+COMMENT ON COLUMN processed_events.lease_until IS 'Set while the event is claimed but not yet processed; an expired claim may be taken over';
@@ -0,0 +1,29 @@
+-- Totals kept in step with transport_request_lane_counts by every count adjustment,
+-- so the dashboard reads them instead of summing the lane counts per request
+
+-- One row per status; the status tiles read these directly
+CREATE TABLE IF NOT EXISTS transport_request_status_counts (
+    status VARCHAR(20) PRIMARY KEY,
+    request_count BIGINT NOT NULL DEFAULT 0
+);
+
+-- One row per lane, indexed by total so the busiest lanes are the first index entries
+CREATE TABLE IF NOT EXISTS transport_request_lane_totals (
+    origin_location_code VARCHAR(50) NOT NULL,
+    destination_location_code VARCHAR(50) NOT NULL,
+    request_count BIGINT NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (origin_location_code, destination_location_code)
+);
+
+CREATE INDEX idx_tr_lane_totals_count ON transport_request_lane_totals(request_count DESC);
+
+INSERT INTO transport_request_status_counts (status, request_count)
+SELECT status, SUM(request_count)
+FROM transport_request_lane_counts
+GROUP BY status;
+
+INSERT INTO transport_request_lane_totals (origin_location_code, destination_location_code, request_count)
+SELECT origin_location_code, destination_location_code, SUM(request_count)
+FROM transport_request_lane_counts
+GROUP BY origin_location_code, destination_location_code;
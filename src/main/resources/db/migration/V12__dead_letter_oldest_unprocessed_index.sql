@@ -0,0 +1,4 @@
+-- The health check reads MIN(first_failed_at) over unprocessed dead letters; with this
+-- partial index that is the first index entry instead of a scan of every unprocessed row
+CREATE INDEX idx_dead_letter_unprocessed_first_failed
+    ON dead_letter_events(first_failed_at) WHERE processed_at IS NULL;
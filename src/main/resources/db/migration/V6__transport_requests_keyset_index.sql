@@ -0,0 +1,4 @@
+-- Keyset pagination orders by (created_at DESC, id DESC); include id so ties
+-- on created_at are resolved from the index instead of a sort
+DROP INDEX IF EXISTS idx_transport_requests_created;
+CREATE INDEX idx_transport_requests_created ON transport_requests(created_at DESC, id DESC);
@@ -0,0 +1,41 @@
+-- Dashboard read model, maintained from transport request events by ReadModelUpdaterImpl
+-- and rebuildable from the write tables at any time
+
+-- One row per transport request with the columns the dashboard lists
+CREATE TABLE IF NOT EXISTS transport_request_summary (
+    transport_request_id UUID PRIMARY KEY,
+    customer_id VARCHAR(100) NOT NULL,
+    origin_location_code VARCHAR(50) NOT NULL,
+    destination_location_code VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    provider_id UUID,
+    vehicle_id UUID,
+    assigned_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_tr_summary_status_updated ON transport_request_summary(status, last_updated_at DESC);
+
+-- Precomputed counts per lane and status; totals per status sum over a few rows per lane
+CREATE TABLE IF NOT EXISTS transport_request_lane_counts (
+    origin_location_code VARCHAR(50) NOT NULL,
+    destination_location_code VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    request_count BIGINT NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (origin_location_code, destination_location_code, status)
+);
+
+-- Transport requests currently PLANNED or IN_TRANSIT with their provider and vehicle
+CREATE TABLE IF NOT EXISTS active_assignments (
+    transport_request_id UUID PRIMARY KEY,
+    provider_id UUID NOT NULL,
+    vehicle_id UUID NOT NULL,
+    origin_location_code VARCHAR(50) NOT NULL,
+    destination_location_code VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    assigned_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_active_assignments_provider ON active_assignments(provider_id, assigned_at DESC);
@@ -0,0 +1,15 @@
+-- Projection positions in the outbox event log
+-- partition_id -1 is the live catch-up position; 0..n-1 are used while a projection is rebuilt
+CREATE TABLE IF NOT EXISTS projection_checkpoints (
+    projection_name VARCHAR(100) NOT NULL,
+    partition_id INTEGER NOT NULL,
+    last_occurred_on TIMESTAMP WITH TIME ZONE,
+    last_event_id UUID,
+    rebuilding BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (projection_name, partition_id)
+);
+
+-- Projections read the log in (occurred_on, id) order from their checkpoint
+CREATE INDEX idx_outbox_occurred_id ON outbox_events(occurred_on, id);
@@ -0,0 +1,15 @@
+-- Projections read the outbox in the order of the writing transaction's ID, and only rows
+-- of transactions older than every running one; a late commit can then never land behind
+-- a checkpoint. Existing rows all get this migration's ID and keep their old order.
+ALTER TABLE outbox_events ADD COLUMN tx_id xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+DROP INDEX IF EXISTS idx_outbox_occurred_id;
+CREATE INDEX idx_outbox_tx_occurred_id ON outbox_events(tx_id, occurred_on, id);
+
+-- Checkpoints taken before this migration sit inside the migration's group of rows
+ALTER TABLE projection_checkpoints ADD COLUMN last_tx_id BIGINT;
+UPDATE projection_checkpoints SET last_tx_id = pg_current_xact_id()::text::bigint
+WHERE last_occurred_on IS NOT NULL;
+
+-- A rebuild claims the projection until the lease expires, so only one node rebuilds it
+ALTER TABLE projection_checkpoints ADD COLUMN rebuild_lease_until TIMESTAMP WITH TIME ZONE;
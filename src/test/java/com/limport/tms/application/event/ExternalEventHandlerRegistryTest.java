@@ -0,0 +1,100 @@
+package com.limport.tms.application.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.Ordered;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExternalEventHandlerRegistryTest {
+
+    private final List<String> calls = new ArrayList<>();
+
+    @Test
+    void dispatch_MultipleHandlersForType_InvokesAllInOrder() {
+        // Given
+        ExternalEventHandlerRegistry registry = new ExternalEventHandlerRegistry(List.of(
+            new RecordingHandler("Test.Event", "unordered", Ordered.LOWEST_PRECEDENCE),
+            new RecordingHandler("Other.Event", "other", 0),
+            new RecordingHandler("Test.Event", "first", 1)));
+
+        // When
+        boolean handled = registry.dispatch(new TestEvent("Test.Event"));
+
+        // Then
+        assertTrue(handled);
+        assertEquals(List.of("first", "unordered"), calls);
+        assertEquals(2, registry.findHandlers("Test.Event").size());
+    }
+
+    @Test
+    void dispatch_UnknownType_ReturnsFalse() {
+        // Given
+        ExternalEventHandlerRegistry registry = new ExternalEventHandlerRegistry(List.of(
+            new RecordingHandler("Test.Event", "handler", 0)));
+
+        // When
+        boolean handled = registry.dispatch(new TestEvent("Unknown.Event"));
+
+        // Then
+        assertFalse(handled);
+        assertFalse(registry.hasHandler("Unknown.Event"));
+        assertTrue(registry.findHandler("Unknown.Event").isEmpty());
+        assertTrue(calls.isEmpty());
+    }
+
+    private record TestEvent(String eventType) implements ExternalEvent {
+
+        @Override
+        public UUID eventId() {
+            return UUID.randomUUID();
+        }
+
+        @Override
+        public Instant occurredOn() {
+            return Instant.now();
+        }
+
+        @Override
+        public String sourceService() {
+            return "test";
+        }
+    }
+
+    private class RecordingHandler implements IExternalEventHandler<ExternalEvent>, Ordered {
+
+        private final String eventType;
+        private final String name;
+        private final int order;
+
+        RecordingHandler(String eventType, String name, int order) {
+            this.eventType = eventType;
+            this.name = name;
+            this.order = order;
+        }
+
+        @Override
+        public void handle(ExternalEvent event) {
+            calls.add(name);
+        }
+
+        @Override
+        public String getSupportedEventType() {
+            return eventType;
+        }
+
+        @Override
+        public Class<ExternalEvent> getEventClass() {
+            return ExternalEvent.class;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.limport.tms.application.eventhandler;
 
 import com.limport.tms.application.event.pms.ProviderAssignmentResponseEvent;
 import com.limport.tms.application.event.pms.ProviderAssignmentResponseEvent.AssignmentResponse;
+import com.limport.tms.application.service.interfaces.IAfterCommitEventDispatcher;
 import com.limport.tms.application.service.interfaces.IDomainEventService;
+import com.limport.tms.domain.event.IDomainEvent;
 import com.limport.tms.domain.event.states.TransportRequestReMatchingTriggeredEvent;
+import com.limport.tms.domain.event.states.TransportRequestUpdatedEvent;
 import com.limport.tms.domain.model.entity.Assignment;
 import com.limport.tms.domain.model.entity.Assignment.AssignmentStatus;
 import com.limport.tms.domain.model.entity.TransportRequest;
@@ -19,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,6 +42,9 @@ class ProviderAssignmentResponseEventHandlerTest {
     @Mock
     private IDomainEventService domainEventService;
 
+    @Mock
+    private IAfterCommitEventDispatcher afterCommitEventDispatcher;
+
     @InjectMocks
     private ProviderAssignmentResponseEventHandler handler;
 
@@ -97,6 +104,11 @@ class ProviderAssignmentResponseEventHandlerTest {
 
         Assignment saved = captor.getValue();
         assertEquals(AssignmentStatus.CONFIRMED, saved.getStatus());
+
+        // Read model and live subscribers refresh after commit
+        TransportRequestUpdatedEvent refresh = capturedRefresh();
+        assertEquals(transportRequestId, refresh.getTransportRequestId());
+        assertNull(refresh.getNewStatus());
     }
 
     @Test
@@ -187,6 +199,11 @@ class ProviderAssignmentResponseEventHandlerTest {
 
         // Verify NO re-matching event is published when max attempts exceeded
         verify(domainEventService, never()).publishToOutbox(any(), any(), any());
+
+        // The status change still reaches the read model and live subscribers
+        TransportRequestUpdatedEvent refresh = capturedRefresh();
+        assertEquals(TransportRequestStatus.PLANNED, refresh.getPreviousStatus());
+        assertEquals(TransportRequestStatus.UNASSIGNABLE, refresh.getNewStatus());
     }
 
     @Test
@@ -236,6 +253,8 @@ class ProviderAssignmentResponseEventHandlerTest {
         assertNull(publishedEvent.getRejectionReason()); // timeout has no reason
         assertEquals(1, publishedEvent.getAttemptNumber());
         assertEquals(3, publishedEvent.getMaxAttempts());
+
+        assertEquals(TransportRequestStatus.REQUESTED, capturedRefresh().getNewStatus());
     }
 
     @Test
@@ -271,4 +290,11 @@ class ProviderAssignmentResponseEventHandlerTest {
         // Then
         assertEquals("PMS.Provider.AssignmentResponse", eventType);
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    private TransportRequestUpdatedEvent capturedRefresh() {
+        ArgumentCaptor<List<IDomainEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(afterCommitEventDispatcher).dispatchAfterCommit(eq("TransportRequest:" + transportRequestId), captor.capture());
+        return assertInstanceOf(TransportRequestUpdatedEvent.class, captor.getValue().get(0));
+    }
+}
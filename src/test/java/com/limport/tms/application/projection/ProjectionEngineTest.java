@@ -0,0 +1,160 @@
+package com.limport.tms.application.projection;
+
+import com.limport.tms.domain.model.entity.OutboxEvent;
+import com.limport.tms.domain.port.repository.EventLogEntry;
+import com.limport.tms.domain.port.repository.EventLogPosition;
+import com.limport.tms.domain.port.repository.IOutboxEventRepository;
+import com.limport.tms.domain.port.repository.IProjectionCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.limport.tms.domain.port.repository.IProjectionCheckpointRepository.LIVE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectionEngineTest {
+
+    private static final String TYPE = "Test.Event";
+
+    @Mock
+    private IOutboxEventRepository eventLog;
+
+    @Mock
+    private IProjectionCheckpointRepository checkpoints;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final RecordingProjection projection = new RecordingProjection();
+    private ProjectionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        engine = new ProjectionEngine(List.of(projection), eventLog, checkpoints, transactionManager,
+            2, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void catchUp_FullBatches_AppliesInOrderAndAdvancesCheckpointPerBatch() {
+        // Given - two full batches and a partial one after the stored checkpoint
+        EventLogEntry e1 = entry(7), e2 = entry(7), e3 = entry(9);
+        EventLogPosition stored = new EventLogPosition(5, Instant.parse("2026-01-01T00:00:00Z"), UUID.randomUUID());
+        when(checkpoints.tryLock("test", LIVE)).thenReturn(
+            Optional.of(stored), Optional.of(e2.position()));
+        when(eventLog.findInLog(eq(Set.of(TYPE)), eq(stored), isNull(), eq(LIVE), eq(1), eq(2)))
+            .thenReturn(List.of(e1, e2));
+        when(eventLog.findInLog(eq(Set.of(TYPE)), eq(e2.position()), isNull(), eq(LIVE), eq(1), eq(2)))
+            .thenReturn(List.of(e3));
+
+        // When
+        long applied = engine.catchUp("test");
+
+        // Then
+        assertEquals(3, applied);
+        assertEquals(List.of(e1.event(), e2.event(), e3.event()), projection.applied);
+        InOrder inOrder = inOrder(checkpoints);
+        inOrder.verify(checkpoints).save("test", LIVE, e2.position());
+        inOrder.verify(checkpoints).save("test", LIVE, e3.position());
+    }
+
+    @Test
+    void rebuild_Partitions_ReplaysEachPartitionAndMovesLiveCheckpointToHighWaterMark() {
+        // Given - each of two partitions holds one event
+        EventLogPosition highWater = new EventLogPosition(9, Instant.now(), UUID.randomUUID());
+        when(checkpoints.tryStartRebuild("test", Duration.ofMinutes(1))).thenReturn(true);
+        when(eventLog.findLastLogPosition(Set.of(TYPE))).thenReturn(highWater);
+        when(checkpoints.tryLock(eq("test"), anyInt())).thenReturn(Optional.of(EventLogPosition.START));
+        when(eventLog.findInLog(any(), any(), eq(highWater), eq(0), eq(2), eq(2))).thenReturn(List.of(entry(3)));
+        when(eventLog.findInLog(any(), any(), eq(highWater), eq(1), eq(2), eq(2))).thenReturn(List.of(entry(4)));
+
+        // When
+        long replayed = engine.rebuild("test", 2);
+
+        // Then
+        assertEquals(2, replayed);
+        assertTrue(projection.reset);
+        InOrder inOrder = inOrder(checkpoints);
+        inOrder.verify(checkpoints).tryStartRebuild("test", Duration.ofMinutes(1));
+        inOrder.verify(checkpoints).save("test", LIVE, highWater);
+        inOrder.verify(checkpoints).endRebuild("test", true);
+        assertThrows(IllegalArgumentException.class, () -> engine.rebuild("unknown", 1));
+    }
+
+    @Test
+    void rebuild_ClaimedElsewhere_ThrowsWithoutTouchingProjection() {
+        // Given - another node holds an unexpired rebuild claim
+        when(checkpoints.tryStartRebuild("test", Duration.ofMinutes(1))).thenReturn(false);
+
+        // When / Then
+        assertThrows(ProjectionRebuildInProgressException.class, () -> engine.rebuild("test", 2));
+        assertFalse(projection.reset);
+        verify(checkpoints, never()).deletePartitions(any());
+        verify(checkpoints, never()).endRebuild(any(), anyBoolean());
+    }
+
+    @Test
+    void rebuild_ReplayFails_ReleasesClaimAndKeepsCatchUpPaused() {
+        // Given
+        when(checkpoints.tryStartRebuild("test", Duration.ofMinutes(1))).thenReturn(true);
+        when(eventLog.findLastLogPosition(Set.of(TYPE))).thenReturn(new EventLogPosition(9, Instant.now(), UUID.randomUUID()));
+        when(checkpoints.tryLock(eq("test"), anyInt())).thenReturn(Optional.of(EventLogPosition.START));
+        when(eventLog.findInLog(any(), any(), any(), anyInt(), anyInt(), anyInt()))
+            .thenThrow(new IllegalStateException("database down"));
+
+        // When / Then
+        assertThrows(RuntimeException.class, () -> engine.rebuild("test", 1));
+        verify(checkpoints).endRebuild("test", false);
+        verify(checkpoints, never()).save(eq("test"), eq(LIVE), any());
+    }
+
+    private static EventLogEntry entry(long transactionId) {
+        OutboxEvent event = new OutboxEvent(TYPE, "Test", UUID.randomUUID().toString(), "{}", Instant.now());
+        return new EventLogEntry(new EventLogPosition(transactionId, event.getOccurredOn(), event.getId()), event);
+    }
+
+    private static class RecordingProjection implements IProjection {
+        private final List<OutboxEvent> applied = new ArrayList<>();
+        private volatile boolean reset;
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public Set<String> getEventTypes() {
+            return Set.of(TYPE);
+        }
+
+        @Override
+        public synchronized void apply(OutboxEvent event) {
+            applied.add(event);
+        }
+
+        @Override
+        public void reset() {
+            reset = true;
+        }
+    }
+}
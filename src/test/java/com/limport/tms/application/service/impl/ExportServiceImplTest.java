@@ -0,0 +1,98 @@
+package com.limport.tms.application.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limport.tms.application.mapper.AssignmentMapper;
+import com.limport.tms.application.mapper.TransportRequestMapper;
+import com.limport.tms.application.service.interfaces.IExportService;
+import com.limport.tms.domain.model.entity.TransportRequest;
+import com.limport.tms.domain.port.repository.IAssignmentRepository;
+import com.limport.tms.domain.port.repository.ITransportRequestRepository;
+import com.limport.tms.domain.port.repository.TransportRequestSearchCriteria;
+import com.limport.tms.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+
+    @Mock
+    private ITransportRequestRepository transportRequestRepository;
+
+    @Mock
+    private IAssignmentRepository assignmentRepository;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().eventObjectMapper();
+    private ExportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExportServiceImpl(transportRequestRepository, assignmentRepository,
+            new TransportRequestMapper(), new AssignmentMapper(), objectMapper);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportTransportRequests_Csv_WritesHeaderAndEscapedRows() throws Exception {
+        // Given - a customer ID that needs quoting
+        TransportRequest request = new TransportRequest();
+        request.setId(UUID.randomUUID());
+        request.setCustomerId("Acme, \"Ltd\"");
+        doAnswer(invocation -> {
+            ((Consumer<TransportRequest>) invocation.getArgument(1)).accept(request);
+            return null;
+        }).when(transportRequestRepository).forEachMatching(eq(TransportRequestSearchCriteria.NONE), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        service.exportTransportRequests(TransportRequestSearchCriteria.NONE, IExportService.Format.CSV, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,reference,customerId,"));
+        assertTrue(lines[1].startsWith(request.getId() + ",,\"Acme, \"\"Ltd\"\"\","));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportTransportRequests_Ndjson_WritesOneObjectPerLine() throws Exception {
+        // Given
+        List<TransportRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TransportRequest request = new TransportRequest();
+            request.setId(UUID.randomUUID());
+            requests.add(request);
+        }
+        doAnswer(invocation -> {
+            requests.forEach(invocation.<Consumer<TransportRequest>>getArgument(1));
+            return null;
+        }).when(transportRequestRepository).forEachMatching(any(), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        service.exportTransportRequests(TransportRequestSearchCriteria.NONE, IExportService.Format.NDJSON, out);
+
+        // Then - exact bytes: each row serialized on its own, nothing between lines
+        StringBuilder expected = new StringBuilder();
+        for (TransportRequest request : requests) {
+            expected.append(objectMapper.writeValueAsString(new TransportRequestMapper().toResponse(request)))
+                .append('\n');
+        }
+        assertEquals(expected.toString(), out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,112 @@
+package com.limport.tms.application.service.impl;
+
+import com.limport.tms.application.service.interfaces.IReadModelUpdater.Refreshed;
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.port.repository.IDashboardReadModelRepository;
+import com.limport.tms.domain.port.repository.IDashboardReadModelRepository.Summary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadModelUpdaterImplTest {
+
+    private static final UUID REQUEST_ID = UUID.randomUUID();
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T08:00:00Z");
+
+    @Mock
+    private IDashboardReadModelRepository repository;
+
+    private ReadModelUpdaterImpl updater;
+
+    @BeforeEach
+    void setUp() {
+        updater = new ReadModelUpdaterImpl(repository);
+    }
+
+    @Test
+    void refreshTransportRequest_Assigned_MovesCountAndAddsActiveAssignment() {
+        // Given - the read model still shows REQUESTED, the write model is now PLANNED
+        Summary requested = summary(TransportRequestStatus.REQUESTED, null);
+        Summary planned = summary(TransportRequestStatus.PLANNED, UUID.randomUUID());
+        when(repository.findSummary(REQUEST_ID)).thenReturn(Optional.of(requested));
+        when(repository.loadFromWriteModel(REQUEST_ID)).thenReturn(Optional.of(planned));
+
+        // When
+        updater.refreshTransportRequest(REQUEST_ID);
+
+        // Then
+        verify(repository).lock(REQUEST_ID);
+        verify(repository).adjustLaneCount("JNB", "CPT", TransportRequestStatus.REQUESTED, -1);
+        verify(repository).adjustLaneCount("JNB", "CPT", TransportRequestStatus.PLANNED, 1);
+        verify(repository).saveSummary(planned);
+        verify(repository).saveActiveAssignment(planned);
+    }
+
+    @Test
+    void refreshTransportRequest_AlreadyCurrent_WritesNothing() {
+        // Given - a duplicate or out-of-order event for a request the read model already reflects
+        Summary planned = summary(TransportRequestStatus.PLANNED, UUID.randomUUID());
+        when(repository.findSummary(REQUEST_ID)).thenReturn(Optional.of(planned));
+        when(repository.loadFromWriteModel(REQUEST_ID)).thenReturn(Optional.of(planned));
+
+        // When
+        updater.refreshTransportRequest(REQUEST_ID);
+
+        // Then
+        verify(repository, never()).adjustLaneCount(any(), any(), any(), anyLong());
+        verify(repository, never()).saveSummary(any());
+        verify(repository, never()).saveActiveAssignment(any());
+    }
+
+    @Test
+    void refreshTransportRequest_ReturnedForRematching_ReportsPreviousProvider() {
+        // Given - the provider rejected, so the write model no longer has an active assignment
+        Summary planned = summary(TransportRequestStatus.PLANNED, UUID.randomUUID());
+        Summary requested = summary(TransportRequestStatus.REQUESTED, null);
+        when(repository.findSummary(REQUEST_ID)).thenReturn(Optional.of(planned));
+        when(repository.loadFromWriteModel(REQUEST_ID)).thenReturn(Optional.of(requested));
+
+        // When
+        Optional<Refreshed> refreshed = updater.refreshTransportRequest(REQUEST_ID);
+
+        // Then
+        assertEquals(Optional.of(new Refreshed(requested, planned.providerId())), refreshed);
+        verify(repository).deleteActiveAssignment(REQUEST_ID);
+    }
+
+    @Test
+    void refreshTransportRequest_MovedToEarlierStatus_AdjustsCountsInStatusOrder() {
+        // Given - PLANNED back to REQUESTED, so the new status sorts first
+        Summary planned = summary(TransportRequestStatus.PLANNED, UUID.randomUUID());
+        Summary requested = summary(TransportRequestStatus.REQUESTED, null);
+        when(repository.findSummary(REQUEST_ID)).thenReturn(Optional.of(planned));
+        when(repository.loadFromWriteModel(REQUEST_ID)).thenReturn(Optional.of(requested));
+
+        // When
+        updater.refreshTransportRequest(REQUEST_ID);
+
+        // Then - status totals are locked in the same order as for a forward transition
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).adjustLaneCount("JNB", "CPT", TransportRequestStatus.REQUESTED, 1);
+        inOrder.verify(repository).adjustLaneCount("JNB", "CPT", TransportRequestStatus.PLANNED, -1);
+    }
+
+    private static Summary summary(TransportRequestStatus status, UUID providerId) {
+        return new Summary(REQUEST_ID, "customer-1", "JNB", "CPT", status,
+            providerId, providerId != null ? UUID.randomUUID() : null, providerId != null ? CREATED_AT : null,
+            CREATED_AT, CREATED_AT);
+    }
+}
@@ -0,0 +1,107 @@
+package com.limport.tms.application.service.impl;
+
+import com.limport.tms.application.dto.request.CreateTransportRequest;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse.ItemStatus;
+import com.limport.tms.application.mapper.TransportRequestMapper;
+import com.limport.tms.application.service.interfaces.IDomainEventService;
+import com.limport.tms.domain.port.repository.IAssignmentRepository;
+import com.limport.tms.domain.port.repository.ITransportRequestRepository;
+import com.limport.tms.domain.port.service.IProviderMatchingClient;
+import com.limport.tms.domain.port.service.IRouteValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransportRequestCommandServiceImplTest {
+
+    @Mock
+    private ITransportRequestRepository repository;
+
+    @Mock
+    private IDomainEventService eventService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ValidatorFactory validatorFactory;
+    private TransportRequestCommandServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new TransportRequestCommandServiceImpl(
+            repository,
+            mock(IAssignmentRepository.class),
+            eventService,
+            new TransportRequestMapper(),
+            mock(IProviderMatchingClient.class),
+            mock(IRouteValidator.class),
+            validatorFactory.getValidator(),
+            transactionManager,
+            2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void createTransportRequests_InvalidItemAndFailingChunk_ReportsPerItemResults() {
+        // Given - chunk size 2: items 0 and 2 form the first chunk, item 3 the second
+        CreateTransportRequest invalid = validRequest();
+        invalid.setCustomerId(" ");
+        doNothing().doThrow(new DataIntegrityViolationException("duplicate key"))
+            .when(repository).insertAll(anyList());
+
+        // When
+        BatchCreateTransportRequestsResponse response = service.createTransportRequests(
+            List.of(validRequest(), invalid, validRequest(), validRequest()));
+
+        // Then
+        List<BatchCreateTransportRequestsResponse.ItemResult> results = response.getResults();
+        assertEquals(ItemStatus.CREATED, results.get(0).getStatus());
+        assertEquals(ItemStatus.REJECTED, results.get(1).getStatus());
+        assertEquals(ItemStatus.CREATED, results.get(2).getStatus());
+        assertEquals(ItemStatus.FAILED, results.get(3).getStatus());
+        assertTrue(results.get(1).getErrors().get(0).startsWith("customerId"));
+        assertNotEquals(results.get(0).getReference(), results.get(2).getReference());
+        assertEquals(2, response.getCreated());
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(eventService, times(1)).collectAndStoreAll(anyList(), eq("TransportRequest"));
+    }
+
+    private static CreateTransportRequest validRequest() {
+        CreateTransportRequest request = new CreateTransportRequest();
+        request.setCustomerId("customer-1");
+        request.setOriginLocationCode("JNB");
+        request.setDestinationLocationCode("DUR");
+        request.setPickupFrom(LocalDateTime.of(2026, 3, 1, 8, 0));
+        request.setDeliveryUntil(LocalDateTime.of(2026, 3, 2, 17, 0));
+        request.setTotalWeight(new BigDecimal("1250.50"));
+        request.setTotalPackages(12);
+        return request;
+    }
+}
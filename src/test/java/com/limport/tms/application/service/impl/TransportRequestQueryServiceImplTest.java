@@ -0,0 +1,105 @@
+package com.limport.tms.application.service.impl;
+
+import com.limport.tms.application.dto.response.TransportRequestPageResponse;
+import com.limport.tms.application.dto.response.TransportRequestResponse;
+import com.limport.tms.application.mapper.TransportRequestMapper;
+import com.limport.tms.application.query.InvalidCursorException;
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.port.repository.ITransportRequestRepository;
+import com.limport.tms.domain.port.repository.TransportRequestSearchCriteria;
+import com.limport.tms.domain.port.repository.TransportRequestView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransportRequestQueryServiceImplTest {
+
+    @Mock
+    private ITransportRequestRepository repository;
+
+    private TransportRequestQueryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TransportRequestQueryServiceImpl(repository, new TransportRequestMapper(), 2, 3);
+    }
+
+    @Test
+    void search_MoreRowsThanPage_ReturnsCursorThatResumesAfterLastRow() {
+        // Given - the repository returns limit + 1 rows, so another page follows
+        List<TransportRequestView> rows = rows(3);
+        when(repository.searchViews(eq(TransportRequestSearchCriteria.NONE), isNull(), eq(3))).thenReturn(rows);
+
+        // When
+        TransportRequestPageResponse first = service.search(TransportRequestSearchCriteria.NONE, null, null);
+        service.search(TransportRequestSearchCriteria.NONE, first.getNextCursor(), 2);
+
+        // Then
+        assertEquals(2, first.getItems().size());
+        assertNotNull(first.getNextCursor());
+        ArgumentCaptor<TransportRequestSearchCriteria.Cursor> cursor =
+            ArgumentCaptor.forClass(TransportRequestSearchCriteria.Cursor.class);
+        verify(repository, times(2)).searchViews(eq(TransportRequestSearchCriteria.NONE), cursor.capture(), eq(3));
+        assertEquals(new TransportRequestSearchCriteria.Cursor(rows.get(1).createdAt(), rows.get(1).id()),
+            cursor.getAllValues().get(1));
+    }
+
+    @Test
+    void search_LimitAboveMaximum_IsCappedAndLastPageHasNoCursor() {
+        // Given
+        when(repository.searchViews(any(), isNull(), eq(4))).thenReturn(rows(3));
+
+        // When
+        TransportRequestPageResponse page = service.search(TransportRequestSearchCriteria.NONE, null, 1000);
+
+        // Then
+        assertEquals(3, page.getItems().size());
+        assertNull(page.getNextCursor());
+        assertThrows(InvalidCursorException.class,
+            () -> service.search(TransportRequestSearchCriteria.NONE, "not-a-cursor", null));
+    }
+
+    @Test
+    void getByIds_SomeUnknown_ReturnsFoundInRequestOrderFromOneQuery() {
+        // Given - the repository returns rows in its own order and skips the unknown ID
+        List<TransportRequestView> rows = rows(2);
+        UUID unknown = UUID.randomUUID();
+        List<UUID> ids = List.of(rows.get(1).id(), unknown, rows.get(0).id());
+        when(repository.findViewsByIds(ids)).thenReturn(rows);
+
+        // When
+        Map<UUID, TransportRequestResponse> found = service.getByIds(ids);
+
+        // Then
+        assertEquals(List.of(rows.get(1).id(), rows.get(0).id()), List.copyOf(found.keySet()));
+        verify(repository, times(1)).findViewsByIds(ids);
+        verify(repository, never()).findById(any());
+    }
+
+    private static List<TransportRequestView> rows(int count) {
+        List<TransportRequestView> rows = new ArrayList<>();
+        Instant createdAt = Instant.parse("2026-01-01T10:00:00.123456Z");
+        for (int i = 0; i < count; i++) {
+            rows.add(new TransportRequestView(UUID.randomUUID(), "TR-" + i, "customer-1", "JNB", "CPT",
+                null, null, null, null, null, null, TransportRequestStatus.REQUESTED,
+                createdAt.minusSeconds(i), createdAt.minusSeconds(i)));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,54 @@
+package com.limport.tms.domain.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CorrelationIdContextTest {
+
+    private final ExecutorService pool = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        CorrelationIdContext.clear();
+        pool.shutdownNow();
+    }
+
+    @Test
+    void wrap_TaskOnWorkerThread_SeesCallerIdsAndLeavesWorkerClean() throws Exception {
+        // Given
+        CorrelationIdContext.setIds("corr-1", "cause-1");
+        Supplier<CorrelationIdContext.Snapshot> task = CorrelationIdContext::current;
+
+        // When
+        Future<CorrelationIdContext.Snapshot> seen = pool.submit(CorrelationIdContext.wrap(task)::get);
+        Future<CorrelationIdContext.Snapshot> afterwards = pool.submit(CorrelationIdContext::current);
+
+        // Then
+        assertEquals(new CorrelationIdContext.Snapshot("corr-1", "cause-1"), seen.get());
+        assertTrue(afterwards.get().isEmpty());
+    }
+
+    @Test
+    void wrap_TaskOnCallerThread_RestoresCallerIdsAndMdc() {
+        // Given
+        CorrelationIdContext.setIds("corr-1", null);
+        Runnable task = CorrelationIdContext.wrap(() -> CorrelationIdContext.setIds("corr-2", "cause-2"));
+
+        // When
+        task.run();
+
+        // Then
+        assertEquals("corr-1", CorrelationIdContext.getCorrelationId());
+        assertNull(CorrelationIdContext.getCausationId());
+        assertEquals("corr-1", MDC.get("correlationId"));
+        assertNull(MDC.get("causationId"));
+    }
+}
@@ -0,0 +1,39 @@
+package com.limport.tms.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void next_SameMillisecond_IsVersion7AndStrictlyIncreasing() {
+        // Given
+        long now = System.currentTimeMillis();
+
+        // When
+        UUID first = UuidV7Generator.next(now);
+        UUID second = UuidV7Generator.next(now);
+
+        // Then
+        assertEquals(7, first.version());
+        assertEquals(2, first.variant());
+        assertTrue(first.toString().compareTo(second.toString()) < 0);
+        assertTrue(UuidV7Generator.timestampMillis(first) >= now);
+    }
+
+    @Test
+    void next_ClockGoesBackwards_NeverReturnsOlderId() {
+        // Given
+        long now = System.currentTimeMillis();
+        UUID latest = UuidV7Generator.next(now + 1000);
+
+        // When
+        UUID afterRollback = UuidV7Generator.next(now);
+
+        // Then
+        assertTrue(latest.toString().compareTo(afterRollback.toString()) < 0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.limport.tms.infrastructure.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryProcessedEventTrackerTest {
+
+    private InMemoryProcessedEventTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new InMemoryProcessedEventTracker(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void tryMarkProcessing_SecondClaim_ReturnsFalse() {
+        // Given
+        UUID eventId = UUID.randomUUID();
+
+        // When
+        boolean first = tracker.tryMarkProcessing(eventId, "Test.Event");
+        boolean second = tracker.tryMarkProcessing(eventId, "Test.Event");
+
+        // Then - claimed, but not processed until the claim is finalized
+        assertTrue(first);
+        assertFalse(second);
+        assertFalse(tracker.isProcessed(eventId));
+    }
+
+    @Test
+    void tryMarkProcessing_ClaimFinalized_StaysProcessed() {
+        // Given
+        UUID eventId = UUID.randomUUID();
+        tracker.tryMarkProcessing(eventId, "Test.Event");
+
+        // When
+        tracker.markAsProcessed(eventId, "Test.Event");
+        tracker.release(eventId);
+
+        // Then
+        assertTrue(tracker.isProcessed(eventId));
+        assertFalse(tracker.tryMarkProcessing(eventId, "Test.Event"));
+    }
+
+    @Test
+    void tryMarkProcessing_ClaimOfCrashedConsumerExpired_CanBeClaimedAgain() {
+        // Given - a consumer claimed the event and died without finalizing or releasing
+        tracker = new InMemoryProcessedEventTracker(Duration.ZERO);
+        UUID eventId = UUID.randomUUID();
+        tracker.tryMarkProcessing(eventId, "Test.Event");
+
+        // When
+        boolean reclaimed = tracker.tryMarkProcessing(eventId, "Test.Event");
+
+        // Then
+        assertTrue(reclaimed);
+        assertFalse(tracker.isProcessed(eventId));
+    }
+
+    @Test
+    void tryMarkAll_AlreadyClaimedEvents_AreOmitted() {
+        // Given
+        UUID claimedEarlier = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        tracker.markAsProcessed(claimedEarlier, "Test.Event");
+
+        Map<UUID, String> batch = new LinkedHashMap<>();
+        batch.put(claimedEarlier, "Test.Event");
+        batch.put(fresh, "Test.Event");
+
+        // When
+        Set<UUID> claimed = tracker.tryMarkAll(batch);
+
+        // Then
+        assertEquals(Set.of(fresh), claimed);
+        assertTrue(tracker.isProcessed(claimedEarlier));
+    }
+
+    @Test
+    void release_ClaimedEvent_CanBeClaimedAgain() {
+        // Given
+        UUID eventId = UUID.randomUUID();
+        tracker.tryMarkProcessing(eventId, "Test.Event");
+
+        // When
+        tracker.release(eventId);
+
+        // Then
+        assertFalse(tracker.isProcessed(eventId));
+        assertTrue(tracker.tryMarkProcessing(eventId, "Test.Event"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.limport.tms.infrastructure.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisProcessedEventTrackerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RedisProcessedEventTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new RedisProcessedEventTracker(redisTemplate, Duration.ofDays(7), Duration.ofDays(1), false, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void bucketKeys_DailyBucketsOverSevenDays_CoverRetentionWindow() {
+        // Given
+        Instant now = Instant.parse("2025-01-10T12:00:00Z");
+        long today = now.getEpochSecond() / Duration.ofDays(1).toSeconds();
+
+        // When
+        List<String> keys = tracker.bucketKeys(now);
+
+        // Then - current bucket first, then seven older ones
+        assertEquals(8, keys.size());
+        assertEquals("{pe}:" + today, keys.get(0));
+        assertEquals("{pe}:" + (today - 7), keys.get(7));
+    }
+
+    @Test
+    void bucketExpireAt_ExpiresRetentionAfterBucketEnd() {
+        // Given
+        Instant now = Instant.parse("2025-01-10T12:00:00Z");
+        Instant bucketEnd = Instant.parse("2025-01-11T00:00:00Z");
+
+        // When
+        long expireAt = tracker.bucketExpireAt(now);
+
+        // Then
+        assertEquals(bucketEnd.plus(Duration.ofDays(7)).getEpochSecond(), expireAt);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryMarkAll_LegacyKeyPresent_ChecksItOutsideTheScript() {
+        // Given - the first event was tracked under the pre-bucket key layout
+        tracker = new RedisProcessedEventTracker(redisTemplate, Duration.ofDays(7), Duration.ofDays(1), true, Duration.ofMinutes(5));
+        UUID legacy = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.multiGet(List.of("processed_event:" + legacy, "processed_event:" + fresh)))
+            .thenReturn(Arrays.asList("Type|2024-12-01T00:00:00Z", null));
+        List<String>[] scriptKeys = new List[1];
+        Object[][] scriptArgs = new Object[1][];
+        when(redisTemplate.execute(any(RedisScript.class), any(), isNull(), anyList(), any(Object[].class)))
+            .thenAnswer(invocation -> {
+                scriptKeys[0] = invocation.getArgument(3);
+                scriptArgs[0] = Arrays.copyOfRange(invocation.getArguments(), 4, invocation.getArguments().length);
+                return List.of(1L);
+            });
+        Map<UUID, String> events = new LinkedHashMap<>();
+        events.put(legacy, "Type");
+        events.put(fresh, "Type");
+
+        // When
+        Set<UUID> claimed = tracker.tryMarkAll(events);
+
+        // Then - the script only sees {pe} buckets and the event without a legacy key
+        assertEquals(Set.of(fresh), claimed);
+        assertTrue(scriptKeys[0].stream().allMatch(key -> key.startsWith("{pe}:")));
+        assertTrue(scriptKeys[0].contains("{pe}:claim:" + fresh));
+        assertEquals(3, scriptArgs[0].length);
+        assertArrayEquals(RedisProcessedEventTracker.toBytes(fresh), (byte[]) scriptArgs[0][2]);
+    }
+
+    @Test
+    void toBytes_EncodesUuidAsSixteenBytes() {
+        // Given
+        UUID eventId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+        // When
+        byte[] bytes = RedisProcessedEventTracker.toBytes(eventId);
+
+        // Then
+        assertEquals(16, bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        assertEquals(eventId, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
@@ -0,0 +1,123 @@
+package com.limport.tms.infrastructure.cqrs;
+
+import com.limport.tms.application.cqrs.IAggregateCommand;
+import com.limport.tms.application.cqrs.ICommandHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandBusTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch release = new CountDownLatch(1);
+    private StripedCommandExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    void dispatchAsync_SameAggregate_RunsInSubmissionOrder() throws Exception {
+        // Given
+        executor = new StripedCommandExecutor(meterRegistry, 4, 100, false);
+        CommandBus bus = new CommandBus(List.<ICommandHandler>of(new RecordingHandler(false)), List.of(), executor);
+        UUID aggregateId = UUID.randomUUID();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            futures.add(bus.dispatchAsync(new RenameCommand(aggregateId, "name-" + i)));
+        }
+        futures.get(19).get(5, TimeUnit.SECONDS);
+
+        // Then
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expected.add("name-" + i);
+        }
+        assertEquals(expected, handled);
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    void dispatchAsync_StripeQueueFull_FailsFutureAndCountsRejection() throws Exception {
+        // Given
+        executor = new StripedCommandExecutor(meterRegistry, 1, 1, false);
+        CommandBus bus = new CommandBus(List.<ICommandHandler>of(new RecordingHandler(true)), List.of(), executor);
+        UUID aggregateId = UUID.randomUUID();
+
+        // When
+        CompletableFuture<String> running = bus.dispatchAsync(new RenameCommand(aggregateId, "running"));
+        waitUntilStarted();
+        CompletableFuture<String> queued = bus.dispatchAsync(new RenameCommand(aggregateId, "queued"));
+        CompletableFuture<String> rejected = bus.dispatchAsync(new RenameCommand(aggregateId, "rejected"));
+
+        // Then
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        assertEquals(1.0, meterRegistry.get("tms.cqrs.command.async.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        assertEquals("running", running.get(5, TimeUnit.SECONDS));
+    }
+
+    private void waitUntilStarted() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (handled.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertFalse(handled.isEmpty());
+    }
+
+    record RenameCommand(UUID aggregateId, String name) implements IAggregateCommand<String> {
+
+        @Override
+        public UUID getAggregateId() {
+            return aggregateId;
+        }
+    }
+
+    class RecordingHandler implements ICommandHandler<RenameCommand, String> {
+
+        private final boolean blocking;
+
+        RecordingHandler(boolean blocking) {
+            this.blocking = blocking;
+        }
+
+        @Override
+        public String handle(RenameCommand command) {
+            handled.add(command.name());
+            if (blocking) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return command.name();
+        }
+
+        @Override
+        public Class<RenameCommand> getCommandType() {
+            return RenameCommand.class;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.limport.tms.infrastructure.cqrs;
+
+import com.limport.tms.application.cqrs.ConcurrencyLimit;
+import com.limport.tms.application.cqrs.ConcurrencyLimitExceededException;
+import com.limport.tms.application.cqrs.ICacheableQuery;
+import com.limport.tms.application.cqrs.IQueryHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryBusTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryResultCache cache = new QueryResultCache(meterRegistry,
+        new LocalQueryCacheInvalidationChannel(), Duration.ofMinutes(1), 100);
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    void dispatch_CacheableQuery_ServesFromCacheUntilInvalidated() {
+        // Given
+        CountingHandler handler = new CountingHandler();
+        QueryBus bus = new QueryBus(List.<IQueryHandler>of(handler), List.of(
+            new TimingPipelineBehavior(meterRegistry, Duration.ofSeconds(1)),
+            new QueryCachingBehavior(cache, true)));
+
+        // When
+        String first = bus.dispatch(new LookupQuery("a"));
+        String second = bus.dispatch(new LookupQuery("a"));
+        cache.invalidate(LookupQuery.class, "a");
+        String third = bus.dispatch(new LookupQuery("a"));
+
+        // Then
+        assertEquals("result-a-1", first);
+        assertEquals("result-a-1", second);
+        assertEquals("result-a-2", third);
+        assertEquals(3, meterRegistry.get("tms.cqrs.query.duration")
+            .tags("type", "LookupQuery", "outcome", "success").timer().count());
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    void dispatch_CacheableQuery_RecordsHitRatioPerQueryType() {
+        // Given
+        QueryBus bus = new QueryBus(List.<IQueryHandler>of(new CountingHandler()),
+            List.of(new QueryCachingBehavior(cache, true)));
+
+        // When - one miss, then three hits
+        for (int i = 0; i < 4; i++) {
+            bus.dispatch(new LookupQuery("a"));
+        }
+
+        // Then
+        assertEquals(0.75, meterRegistry.get("tms.cqrs.query-cache.hit-ratio")
+            .tag("type", "LookupQuery").gauge().value(), 0.001);
+        assertEquals(3, meterRegistry.get("cache.gets")
+            .tags("cache", "query.LookupQuery", "result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    void dispatch_ConcurrencyLimitReached_RejectsExtraCaller() throws Exception {
+        // Given
+        BlockingHandler handler = new BlockingHandler();
+        QueryBus bus = new QueryBus(List.<IQueryHandler>of(handler),
+            List.of(new ConcurrencyLimitPipelineBehavior()));
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> inFlight = pool.submit(() -> bus.dispatch(new LookupQuery("a")));
+            assertTrue(handler.entered.await(5, TimeUnit.SECONDS));
+
+            // When / Then
+            assertThrows(ConcurrencyLimitExceededException.class, () -> bus.dispatch(new LookupQuery("b")));
+            handler.release.countDown();
+            assertEquals("a", inFlight.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    record LookupQuery(String key) implements ICacheableQuery<String> {
+
+        @Override
+        public Object cacheKey() {
+            return key;
+        }
+    }
+
+    static class CountingHandler implements IQueryHandler<LookupQuery, String> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String handle(LookupQuery query) {
+            return "result-" + query.key() + "-" + calls.incrementAndGet();
+        }
+
+        @Override
+        public Class<LookupQuery> getQueryType() {
+            return LookupQuery.class;
+        }
+    }
+
+    @ConcurrencyLimit(1)
+    static class BlockingHandler implements IQueryHandler<LookupQuery, String> {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String handle(LookupQuery query) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return query.key();
+        }
+
+        @Override
+        public Class<LookupQuery> getQueryType() {
+            return LookupQuery.class;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.limport.tms.infrastructure.cqrs;
+
+import com.limport.tms.application.cqrs.ICacheableQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryResultCacheTest {
+
+    private static final UUID ID = UUID.randomUUID();
+
+    private final LocalQueryCacheInvalidationChannel channel = new LocalQueryCacheInvalidationChannel();
+    private final SimpleMeterRegistry nodeBMeters = new SimpleMeterRegistry();
+    private final QueryResultCache nodeA = new QueryResultCache(new SimpleMeterRegistry(), channel,
+        Duration.ofMinutes(1), 100);
+    private final QueryResultCache nodeB = new QueryResultCache(nodeBMeters, channel,
+        Duration.ofMinutes(1), 100);
+
+    @Test
+    void invalidate_OnOneNode_EvictsEntryOnOtherNodesAndRecordsLag() {
+        // Given - both nodes cached the same aggregate
+        nodeA.put(ByIdQuery.class, ID, "old", nodeA.version(ByIdQuery.class, ID));
+        nodeB.put(ByIdQuery.class, ID, "old", nodeB.version(ByIdQuery.class, ID));
+
+        // When - a write on node A, outside a transaction so it is broadcast right away
+        nodeA.invalidate(ByIdQuery.class, ID);
+
+        // Then
+        assertNull(nodeA.get(ByIdQuery.class, ID));
+        assertNull(nodeB.get(ByIdQuery.class, ID));
+        assertEquals(1, nodeBMeters.get("tms.cqrs.query-cache.invalidation.lag").timer().count());
+        assertEquals(1, nodeBMeters.get("tms.cqrs.query-cache.invalidations")
+            .tag("source", "remote").counter().count());
+    }
+
+    @Test
+    void put_ReadOverlappedRemoteInvalidation_DoesNotRepopulateStaleValue() {
+        // Given - node B starts a read before node A's write is broadcast
+        long version = nodeB.version(ByIdQuery.class, ID);
+        nodeA.invalidate(ByIdQuery.class, ID);
+
+        // When - the read finishes with the value it saw before the write
+        nodeB.put(ByIdQuery.class, ID, "stale", version);
+
+        // Then
+        assertNull(nodeB.get(ByIdQuery.class, ID));
+        nodeB.put(ByIdQuery.class, ID, "fresh", nodeB.version(ByIdQuery.class, ID));
+        assertEquals("fresh", nodeB.get(ByIdQuery.class, ID));
+    }
+
+    record ByIdQuery(UUID id) implements ICacheableQuery<String> {
+
+        @Override
+        public Object cacheKey() {
+            return id;
+        }
+    }
+}
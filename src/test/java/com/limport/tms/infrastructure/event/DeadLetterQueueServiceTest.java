@@ -6,6 +6,7 @@ import com.limport.tms.infrastructure.persistence.entity.DeadLetterEventEntity;
 import com.limport.tms.infrastructure.persistence.entity.ExternalEventInboxEntity;
 import com.limport.tms.infrastructure.repository.jpa.DeadLetterEventJpaRepository;
 import com.limport.tms.infrastructure.repository.jpa.ExternalEventInboxJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,12 +38,16 @@ class DeadLetterQueueServiceTest {
     @Mock
     private CircuitBreaker circuitBreaker;
 
+    private SimpleMeterRegistry meterRegistry;
+
     private DeadLetterQueueService deadLetterService;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         deadLetterService = new DeadLetterQueueService(
-            deadLetterRepository, outboxRepository, inboxRepository, circuitBreaker);
+            deadLetterRepository, outboxRepository, inboxRepository, circuitBreaker,
+            new EventProcessingMetrics(meterRegistry));
     }
 
     @Test
@@ -71,6 +76,8 @@ class DeadLetterQueueServiceTest {
         verify(outboxEvent).resetForRetry();
         verify(outboxRepository).update(outboxEvent);
         verify(deadLetterRepository).save(deadLetterEvent); // markAsProcessed saves the entity
+        assertEquals(1, meterRegistry.get("tms.events.deadletter.retried").counter().count());
+        assertEquals(1, meterRegistry.get("tms.events.deadletter.retry.duration").timer().count());
     }
 
     @Test
@@ -193,6 +200,8 @@ class DeadLetterQueueServiceTest {
 
         // Then - failure is recorded
         verify(deadLetterRepository).save(any(DeadLetterEventEntity.class));
+        assertEquals(0, meterRegistry.get("tms.events.deadletter.retried").counter().count());
+        assertEquals(1, meterRegistry.get("tms.events.deadletter.retry.duration").timer().count());
     }
 
     @Test
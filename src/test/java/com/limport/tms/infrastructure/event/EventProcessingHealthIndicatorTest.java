@@ -1,9 +1,5 @@
 package com.limport.tms.infrastructure.event;
 
-import com.limport.tms.domain.port.service.IDeadLetterService;
-import com.limport.tms.domain.port.repository.IOutboxEventRepository;
-import com.limport.tms.infrastructure.repository.jpa.DeadLetterEventJpaRepository;
-import com.limport.tms.infrastructure.repository.jpa.ExternalEventInboxJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,51 +8,40 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class EventProcessingHealthIndicatorTest {
 
     @Mock
-    private DeadLetterEventJpaRepository deadLetterRepository;
-
-    @Mock
-    private IDeadLetterService deadLetterService;
+    private EventQueueSampler queueSampler;
 
     @Mock
     private CircuitBreaker circuitBreaker;
 
-    @Mock
-    private EventProcessingMetrics metrics;
-
-    @Mock
-    private IOutboxEventRepository outboxRepository;
-
-    @Mock
-    private ExternalEventInboxJpaRepository inboxRepository;
-
     private EventProcessingHealthIndicator healthIndicator;
 
     @BeforeEach
     void setUp() {
-        healthIndicator = new EventProcessingHealthIndicator(
-            deadLetterRepository, deadLetterService, circuitBreaker, metrics,
-            outboxRepository, inboxRepository);
+        healthIndicator = new EventProcessingHealthIndicator(queueSampler, circuitBreaker);
         
         // Set threshold values since @Value annotations don't work in plain unit tests
         ReflectionTestUtils.setField(healthIndicator, "deadLetterThreshold", 100);
         ReflectionTestUtils.setField(healthIndicator, "outboxThreshold", 1000);
         ReflectionTestUtils.setField(healthIndicator, "inboxThreshold", 1000);
+        ReflectionTestUtils.setField(healthIndicator, "maxSampleAgeMs", 60000L);
     }
 
     @Test
     void health_AllQueuesEmpty_ReturnsUpStatus() {
         // Given
-        when(outboxRepository.countPendingEvents()).thenReturn(0L);
-        when(inboxRepository.countPendingEvents()).thenReturn(0L);
+        givenSnapshot(0L, 0L, 0L);
         when(circuitBreaker.getState("kafka-publisher")).thenReturn(CircuitBreaker.State.CLOSED);
-        when(deadLetterService.getStats()).thenReturn(new IDeadLetterService.DeadLetterStats(0L, 0L, 0L));
 
         // When
         Health health = healthIndicator.health();
@@ -71,10 +56,8 @@ class EventProcessingHealthIndicatorTest {
     @Test
     void health_OutboxQueueHasEvents_ReturnsUpStatus() {
         // Given
-        when(outboxRepository.countPendingEvents()).thenReturn(5L);
-        when(inboxRepository.countPendingEvents()).thenReturn(0L);
+        givenSnapshot(5L, 0L, 0L);
         when(circuitBreaker.getState("kafka-publisher")).thenReturn(CircuitBreaker.State.CLOSED);
-        when(deadLetterService.getStats()).thenReturn(new IDeadLetterService.DeadLetterStats(0L, 0L, 0L));
 
         // When
         Health health = healthIndicator.health();
@@ -87,10 +70,8 @@ class EventProcessingHealthIndicatorTest {
     @Test
     void health_InboxQueueHasEvents_ReturnsUpStatus() {
         // Given
-        when(outboxRepository.countPendingEvents()).thenReturn(0L);
-        when(inboxRepository.countPendingEvents()).thenReturn(3L);
+        givenSnapshot(0L, 3L, 0L);
         when(circuitBreaker.getState("kafka-publisher")).thenReturn(CircuitBreaker.State.CLOSED);
-        when(deadLetterService.getStats()).thenReturn(new IDeadLetterService.DeadLetterStats(0L, 0L, 0L));
 
         // When
         Health health = healthIndicator.health();
@@ -103,10 +84,8 @@ class EventProcessingHealthIndicatorTest {
     @Test
     void health_DeadLetterQueueHasEvents_ReturnsUpStatus() {
         // Given
-        when(outboxRepository.countPendingEvents()).thenReturn(0L);
-        when(inboxRepository.countPendingEvents()).thenReturn(0L);
+        givenSnapshot(0L, 0L, 2L);
         when(circuitBreaker.getState("kafka-publisher")).thenReturn(CircuitBreaker.State.CLOSED);
-        when(deadLetterService.getStats()).thenReturn(new IDeadLetterService.DeadLetterStats(1L, 1L, 2L));
 
         // When
         Health health = healthIndicator.health();
@@ -119,10 +98,8 @@ class EventProcessingHealthIndicatorTest {
     @Test
     void health_AllQueuesHaveEvents_ReturnsUpStatus() {
         // Given
-        when(outboxRepository.countPendingEvents()).thenReturn(10L);
-        when(inboxRepository.countPendingEvents()).thenReturn(7L);
+        givenSnapshot(10L, 7L, 8L);
         when(circuitBreaker.getState("kafka-publisher")).thenReturn(CircuitBreaker.State.CLOSED);
-        when(deadLetterService.getStats()).thenReturn(new IDeadLetterService.DeadLetterStats(5L, 3L, 8L));
 
         // When
         Health health = healthIndicator.health();
@@ -132,16 +109,51 @@ class EventProcessingHealthIndicatorTest {
         assertEquals(10L, health.getDetails().get("outboxSize"));
         assertEquals(7L, health.getDetails().get("inboxSize"));
         assertEquals(8L, health.getDetails().get("deadLetterQueue"));
+        assertEquals(30L, health.getDetails().get("outboxOldestAgeSeconds"));
+    }
+
+    @Test
+    void health_OutboxAboveThreshold_ReturnsDownStatus() {
+        // Given
+        givenSnapshot(1001L, 0L, 0L);
+
+        // When
+        Health health = healthIndicator.health();
+
+        // Then
+        assertEquals("DOWN", health.getStatus().getCode());
+        assertEquals("OUTBOX_QUEUE_TOO_LARGE", health.getDetails().get("status"));
+    }
+
+    @Test
+    void health_StaleSnapshot_ReturnsDownStatus() {
+        // Given - sampler has not refreshed for longer than the allowed age
+        when(queueSampler.getSnapshot()).thenReturn(Optional.of(new EventQueueSampler.QueueSnapshot(
+            0L, 0L, 0L, 0L, 0L, 0L, Instant.now().minusSeconds(120))));
+
+        // When
+        Health health = healthIndicator.health();
+
+        // Then
+        assertEquals("DOWN", health.getStatus().getCode());
+        assertEquals("QUEUE_SAMPLE_STALE", health.getDetails().get("status"));
+        verifyNoInteractions(circuitBreaker);
     }
 
     @Test
-    void health_RepositoryThrowsException_ReturnsDownStatus() {
+    void health_NoSampleYet_ReturnsUnknownStatus() {
         // Given
-        when(deadLetterService.getStats()).thenReturn(new IDeadLetterService.DeadLetterStats(0L, 0L, 0L));
-        when(outboxRepository.countPendingEvents()).thenThrow(new RuntimeException("Database error"));
+        when(queueSampler.getSnapshot()).thenReturn(Optional.empty());
+
+        // When
+        Health health = healthIndicator.health();
+
+        // Then
+        assertEquals("UNKNOWN", health.getStatus().getCode());
+    }
 
-        // When & Then - The health indicator should handle the exception gracefully
-        // Note: Current implementation doesn't catch exceptions, so this will throw
-        assertThrows(RuntimeException.class, () -> healthIndicator.health());
+    private void givenSnapshot(long outboxSize, long inboxSize, long deadLetterSize) {
+        when(queueSampler.getSnapshot()).thenReturn(Optional.of(new EventQueueSampler.QueueSnapshot(
+            outboxSize, 30L, inboxSize, 0L, deadLetterSize, 0L, Instant.now())));
     }
-}
\ No newline at end of file
+}
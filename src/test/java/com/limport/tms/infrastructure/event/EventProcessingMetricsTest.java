@@ -0,0 +1,69 @@
+package com.limport.tms.infrastructure.event;
+
+import com.limport.tms.domain.event.EventTypes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventProcessingMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventProcessingMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new EventProcessingMetrics(meterRegistry);
+    }
+
+    @Test
+    void constructor_PreRegistersMetersForEveryKnownEventType() {
+        // Then - every known type plus the shared "other" bucket
+        assertEquals(EventTypes.ALL.size() + 1,
+            meterRegistry.get("tms.events.handler.duration").timers().size());
+    }
+
+    @Test
+    void recordExternalEventHandled_KnownType_RecordsTaggedMeters() {
+        // When
+        metrics.recordExternalEventHandled(EventTypes.Provider.MATCHED,
+            Instant.now().minusSeconds(2), TimeUnit.MILLISECONDS.toNanos(15));
+
+        // Then
+        assertEquals(1, meterRegistry.get("tms.events.handler.duration")
+            .tag("eventType", EventTypes.Provider.MATCHED).timer().count());
+        assertTrue(meterRegistry.get("tms.events.external.handle.lag")
+            .tag("eventType", EventTypes.Provider.MATCHED).timer().totalTime(TimeUnit.SECONDS) >= 2);
+        assertEquals(1, meterRegistry.get("tms.events.external.process.duration").timer().count());
+    }
+
+    @Test
+    void recordDomainEventPublishLag_UnknownType_FallsBackToOther() {
+        // When
+        metrics.recordDomainEventPublishLag("Unknown.Event", Instant.now());
+
+        // Then - no new meter is created for the unknown type
+        assertEquals(1, meterRegistry.get("tms.events.domain.publish.lag")
+            .tag("eventType", "other").timer().count());
+        assertNull(meterRegistry.find("tms.events.domain.publish.lag")
+            .tag("eventType", "Unknown.Event").timer());
+    }
+
+    @Test
+    void recordOutboxBatch_EmptyBatch_IsNotRecorded() {
+        // When
+        metrics.recordOutboxBatch(25);
+        metrics.recordOutboxBatch(0);
+
+        // Then
+        assertEquals(1, meterRegistry.get("tms.events.batch.size")
+            .tag("pipeline", "outbox").summary().count());
+        assertEquals(25, meterRegistry.get("tms.events.batch.size")
+            .tag("pipeline", "outbox").summary().totalAmount());
+    }
+}
@@ -0,0 +1,79 @@
+package com.limport.tms.infrastructure.event;
+
+import com.limport.tms.domain.port.repository.IOutboxEventRepository;
+import com.limport.tms.domain.port.service.IDeadLetterService;
+import com.limport.tms.infrastructure.repository.jpa.DeadLetterEventJpaRepository;
+import com.limport.tms.infrastructure.repository.jpa.ExternalEventInboxJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventQueueSamplerTest {
+
+    @Mock
+    private IOutboxEventRepository outboxRepository;
+
+    @Mock
+    private ExternalEventInboxJpaRepository inboxRepository;
+
+    @Mock
+    private DeadLetterEventJpaRepository deadLetterRepository;
+
+    @Mock
+    private IDeadLetterService deadLetterService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventQueueSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sampler = new EventQueueSampler(outboxRepository, inboxRepository, deadLetterRepository,
+            deadLetterService, new EventProcessingMetrics(meterRegistry), 10_000L);
+    }
+
+    @Test
+    void sample_CachesSnapshotAndUpdatesGauges() {
+        // Given
+        when(outboxRepository.countPendingEvents()).thenReturn(12L);
+        when(outboxRepository.findOldestPendingOccurredOn()).thenReturn(Optional.of(Instant.now().minusSeconds(45)));
+        when(inboxRepository.countPendingEvents()).thenReturn(3L);
+        when(inboxRepository.findOldestPendingReceivedAt()).thenReturn(Optional.empty());
+        when(deadLetterService.getStats()).thenReturn(new IDeadLetterService.DeadLetterStats(1L, 1L, 2L));
+        when(deadLetterRepository.findOldestUnprocessedFailedAt()).thenReturn(Optional.empty());
+
+        // When
+        sampler.sample();
+
+        // Then
+        EventQueueSampler.QueueSnapshot snapshot = sampler.getSnapshot().orElseThrow();
+        assertEquals(12L, snapshot.outboxSize());
+        assertTrue(snapshot.outboxOldestAgeSeconds() >= 45);
+        assertEquals(0L, snapshot.inboxOldestAgeSeconds());
+        assertEquals(2L, snapshot.deadLetterSize());
+        assertEquals(12.0, meterRegistry.get("tms.events.outbox.size").gauge().value());
+        assertTrue(meterRegistry.get("tms.events.outbox.oldest.age").gauge().value() >= 45);
+    }
+
+    @Test
+    void sample_RepositoryThrowsException_KeepsPreviousSnapshot() {
+        // Given
+        when(outboxRepository.countPendingEvents()).thenThrow(new RuntimeException("Database error"));
+
+        // When
+        sampler.sample();
+
+        // Then - failure is contained; health sees no fresh sample
+        assertTrue(sampler.getSnapshot().isEmpty());
+    }
+}
@@ -0,0 +1,118 @@
+package com.limport.tms.infrastructure.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedSerialExecutorTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+    private final KeyedSerialExecutor executor = new KeyedSerialExecutor(pool);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void execute_SameKey_RunsInSubmissionOrderEvenAfterFailure() throws Exception {
+        // Given
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            futures.add(executor.execute("aggregate-1", () -> {
+                order.add(value);
+                if (value == 10) {
+                    throw new IllegalStateException("handler failed");
+                }
+            }));
+        }
+        futures.get(49).get(5, TimeUnit.SECONDS);
+
+        // Then
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, order);
+        assertTrue(futures.get(10).isCompletedExceptionally());
+    }
+
+    @Test
+    void execute_DifferentKeys_RunInParallelAndReleaseKeys() throws Exception {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable task = () -> {
+            bothStarted.countDown();
+            try {
+                assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // When
+        CompletableFuture<Void> first = executor.execute("aggregate-1", task);
+        CompletableFuture<Void> second = executor.execute("aggregate-2", task);
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertFalse(first.isCompletedExceptionally());
+        assertFalse(second.isCompletedExceptionally());
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.activeKeys());
+    }
+
+    @Test
+    void execute_SameKeyWhileBusy_SubmitsOneDrainAndSurfacesRejection() throws Exception {
+        // Given - a counting executor; the first task blocks until the rest are queued
+        AtomicInteger submissions = new AtomicInteger();
+        KeyedSerialExecutor counting = new KeyedSerialExecutor(task -> {
+            submissions.incrementAndGet();
+            pool.execute(task);
+        });
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        futures.add(counting.execute("aggregate-1", () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            futures.add(counting.execute("aggregate-1", () -> { }));
+        }
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        KeyedSerialExecutor rejecting = new KeyedSerialExecutor(task -> {
+            throw new RejectedExecutionException("saturated");
+        });
+        CompletableFuture<Void> rejected = rejecting.execute("aggregate-2", () -> { });
+
+        // Then
+        assertEquals(1, submissions.get());
+        ExecutionException error = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+        assertEquals(0, rejecting.activeKeys());
+    }
+}
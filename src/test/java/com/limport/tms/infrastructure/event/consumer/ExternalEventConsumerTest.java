@@ -6,6 +6,7 @@ import com.limport.tms.domain.port.service.IDeadLetterService;
 import com.limport.tms.domain.port.service.IProcessedEventTracker;
 import com.limport.tms.application.service.interfaces.IUnifiedEventSerializer;
 import com.limport.tms.domain.event.CorrelationIdContext;
+import com.limport.tms.infrastructure.adapter.InMemoryProcessedEventTracker;
 import com.limport.tms.infrastructure.event.EventProcessingMetrics;
 import com.limport.tms.infrastructure.persistence.entity.ExternalEventInboxEntity;
 import com.limport.tms.infrastructure.repository.jpa.ExternalEventInboxJpaRepository;
@@ -18,6 +19,7 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,6 +30,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ExternalEventConsumerTest {
 
+    private static final UUID EVENT_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
     @Mock
     private IUnifiedEventSerializer eventSerializer;
 
@@ -53,9 +57,23 @@ class ExternalEventConsumerTest {
 
     @BeforeEach
     void setUp() {
+        useTracker(processedEventTracker);
+    }
+
+    private void useTracker(IProcessedEventTracker tracker) {
         consumer = new ExternalEventConsumer(
             eventSerializer, inboxRepository, metrics,
-            handlerRegistry, processedEventTracker, deadLetterService);
+            handlerRegistry, tracker, deadLetterService);
+    }
+
+    private String givenEvent() {
+        String payload = "{\"eventType\":\"Test.Event\",\"eventId\":\"" + EVENT_ID + "\"}";
+        ExternalEvent event = mock(ExternalEvent.class);
+        when(event.eventId()).thenReturn(EVENT_ID);
+        when(event.eventType()).thenReturn("Test.Event");
+        when(eventSerializer.deserializeExternalEvent(payload)).thenReturn(Optional.of(event));
+        when(inboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        return payload;
     }
 
     @Test
@@ -74,7 +92,7 @@ class ExternalEventConsumerTest {
 
         ArgumentCaptor<ExternalEventInboxEntity> inboxCaptor = ArgumentCaptor.forClass(ExternalEventInboxEntity.class);
         when(inboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(processedEventTracker.isProcessed(eventId)).thenReturn(false);
+        when(processedEventTracker.tryMarkProcessing(eventId, "Test.Event")).thenReturn(true);
         when(handlerRegistry.dispatch(event)).thenReturn(true);
 
         // When
@@ -84,7 +102,9 @@ class ExternalEventConsumerTest {
         verify(acknowledgment).acknowledge();
         verify(metrics).recordExternalEventReceived();
         verify(metrics).recordExternalEventProcessed();
-        verify(processedEventTracker).markAsProcessed(eventId, "Test.Event");
+        verify(processedEventTracker).tryMarkProcessing(eventId, "Test.Event");
+        verify(processedEventTracker).markAsProcessed(eventId, "Test.Event"); // Claim finalized after the handler
+        verify(processedEventTracker, never()).release(any());
         verify(inboxRepository, times(2)).save(inboxCaptor.capture()); // Once for storage, once for marking processed
 
         ExternalEventInboxEntity savedEntity = inboxCaptor.getAllValues().get(1); // The second save call
@@ -98,10 +118,12 @@ class ExternalEventConsumerTest {
         UUID eventId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         ExternalEvent event = mock(ExternalEvent.class);
         when(event.eventId()).thenReturn(eventId);
+        when(event.eventType()).thenReturn("Test.Event");
         when(eventSerializer.deserializeExternalEvent(payload)).thenReturn(Optional.of(event));
 
         when(inboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(processedEventTracker.isProcessed(eventId)).thenReturn(true); // Already processed
+        when(processedEventTracker.tryMarkProcessing(eventId, "Test.Event")).thenReturn(false); // Already claimed
+        when(processedEventTracker.isProcessed(eventId)).thenReturn(true); // ...and finished
 
         // When
         consumer.consumeExternalEvent(payload, "key", "topic", 1L, acknowledgment);
@@ -111,6 +133,7 @@ class ExternalEventConsumerTest {
         verify(handlerRegistry, never()).dispatch(any()); // Should not dispatch
         verify(metrics).recordExternalEventReceived();
         verify(metrics, never()).recordExternalEventProcessed(); // Not processed again
+        verify(processedEventTracker, never()).release(any()); // Claim belongs to the first consumer
     }
 
     @Test
@@ -125,7 +148,7 @@ class ExternalEventConsumerTest {
 
         ArgumentCaptor<ExternalEventInboxEntity> inboxCaptor = ArgumentCaptor.forClass(ExternalEventInboxEntity.class);
         when(inboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(processedEventTracker.isProcessed(eventId)).thenReturn(false);
+        when(processedEventTracker.tryMarkProcessing(eventId, "Test.Event")).thenReturn(true);
         when(handlerRegistry.dispatch(event)).thenReturn(false); // No handler found
 
         // When
@@ -133,6 +156,7 @@ class ExternalEventConsumerTest {
 
         // Then
         verify(acknowledgment, never()).acknowledge(); // Should NOT acknowledge
+        verify(processedEventTracker).release(eventId); // Redelivery must be able to claim it again
         verify(inboxRepository, times(2)).save(inboxCaptor.capture());
         verify(deadLetterService).storeFailedEvent(
             anyString(),
@@ -159,7 +183,7 @@ class ExternalEventConsumerTest {
 
         ArgumentCaptor<ExternalEventInboxEntity> inboxCaptor = ArgumentCaptor.forClass(ExternalEventInboxEntity.class);
         when(inboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(processedEventTracker.isProcessed(eventId)).thenReturn(false);
+        when(processedEventTracker.tryMarkProcessing(eventId, "Test.Event")).thenReturn(true);
         when(handlerRegistry.dispatch(event)).thenThrow(new RuntimeException("Processing failed"));
 
         // When
@@ -167,6 +191,7 @@ class ExternalEventConsumerTest {
 
         // Then
         verify(acknowledgment, never()).acknowledge(); // Should NOT acknowledge
+        verify(processedEventTracker).release(eventId); // Redelivery must be able to claim it again
         verify(inboxRepository, times(2)).save(inboxCaptor.capture());
         verify(deadLetterService).storeFailedEvent(
             anyString(),
@@ -181,6 +206,55 @@ class ExternalEventConsumerTest {
         assertEquals("PENDING", savedEntity.getStatus().toString());
     }
 
+    @Test
+    void consumeExternalEvent_HandlerThrowsThenRedelivered_ProcessesEventOnRedelivery() {
+        // Given - a real tracker, and a handler that fails the first delivery only
+        useTracker(new InMemoryProcessedEventTracker(Duration.ofMinutes(5)));
+        String payload = givenEvent();
+        when(handlerRegistry.dispatch(any()))
+            .thenThrow(new RuntimeException("Processing failed"))
+            .thenReturn(true);
+        consumer.consumeExternalEvent(payload, "key", "topic", 1L, acknowledgment);
+        verify(acknowledgment, never()).acknowledge();
+
+        // When - Kafka redelivers the unacknowledged message
+        consumer.consumeExternalEvent(payload, "key", "topic", 1L, acknowledgment);
+
+        // Then
+        verify(handlerRegistry, times(2)).dispatch(any());
+        verify(acknowledgment).acknowledge();
+        verify(metrics).recordExternalEventProcessed();
+    }
+
+    @Test
+    void consumeExternalEvent_ClaimHolderCrashed_RedeliveryWaitsForLeaseThenProcesses() {
+        // Given - a consumer claimed the event and died inside the handler
+        InMemoryProcessedEventTracker tracker = new InMemoryProcessedEventTracker(Duration.ofMinutes(5));
+        useTracker(tracker);
+        String payload = givenEvent();
+        tracker.tryMarkProcessing(EVENT_ID, "Test.Event");
+
+        // When - redelivered while the crashed consumer's lease is still live
+        consumer.consumeExternalEvent(payload, "key", "topic", 1L, acknowledgment);
+
+        // Then - neither acknowledged nor dead-lettered, so Kafka redelivers it
+        verify(handlerRegistry, never()).dispatch(any());
+        verify(acknowledgment, never()).acknowledge();
+        verifyNoInteractions(deadLetterService);
+
+        // When - redelivered after the lease has expired
+        InMemoryProcessedEventTracker expired = new InMemoryProcessedEventTracker(Duration.ZERO);
+        expired.tryMarkProcessing(EVENT_ID, "Test.Event");
+        useTracker(expired);
+        when(handlerRegistry.dispatch(any())).thenReturn(true);
+        consumer.consumeExternalEvent(payload, "key", "topic", 1L, acknowledgment);
+
+        // Then - processed instead of being skipped as a duplicate
+        verify(handlerRegistry).dispatch(any());
+        verify(acknowledgment).acknowledge();
+        assertTrue(expired.isProcessed(EVENT_ID));
+    }
+
     @Test
     void consumeExternalEvent_InvalidPayload_DoesNotAcknowledge() {
         // Given
@@ -206,7 +280,7 @@ class ExternalEventConsumerTest {
         when(eventSerializer.deserializeExternalEvent(payload)).thenReturn(Optional.of(event));
 
         when(inboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(processedEventTracker.isProcessed(eventId)).thenReturn(false);
+        when(processedEventTracker.tryMarkProcessing(eventId, "Test.Event")).thenReturn(true);
         when(handlerRegistry.dispatch(event)).thenReturn(true);
 
         try (MockedStatic<CorrelationIdContext> correlationMock = mockStatic(CorrelationIdContext.class)) {
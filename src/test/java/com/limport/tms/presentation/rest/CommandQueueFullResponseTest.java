@@ -0,0 +1,86 @@
+package com.limport.tms.presentation.rest;
+
+import com.limport.tms.application.command.AssignProviderCommand;
+import com.limport.tms.application.command.CompleteTransportRequestCommand;
+import com.limport.tms.application.cqrs.ICommandBus;
+import com.limport.tms.application.cqrs.IQueryBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@ExtendWith(MockitoExtension.class)
+class CommandQueueFullResponseTest {
+
+    private static final UUID ID = UUID.randomUUID();
+
+    @Mock
+    private ICommandBus commandBus;
+
+    @Mock
+    private IQueryBus queryBus;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(
+                new TransportRequestController(commandBus, queryBus, null, null, null),
+                new AssignmentController(commandBus, queryBus, null, null))
+            .build();
+    }
+
+    @Test
+    void complete_StripeQueueFull_Returns503WithRetryAfter() throws Exception {
+        // Given
+        when(commandBus.dispatchAsync(any(CompleteTransportRequestCommand.class)))
+            .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("stripe full")));
+
+        // When
+        MvcResult started = mockMvc.perform(post("/api/transport-requests/{id}/complete", ID)).andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+
+        // Then
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void assignProvider_StripeQueueFull_Returns503WithRetryAfter() throws Exception {
+        // Given
+        when(commandBus.dispatchAsync(any(AssignProviderCommand.class)))
+            .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("stripe full")));
+        String body = """
+            {"providerId":"%s","vehicleId":"%s",
+             "scheduledPickup":"2026-01-01T08:00:00","scheduledDelivery":"2026-01-02T08:00:00"}
+            """.formatted(UUID.randomUUID(), UUID.randomUUID());
+
+        // When
+        MvcResult started = mockMvc.perform(post("/api/assignments/transport-requests/{id}/assign", ID)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body)).andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+
+        // Then
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+}
@@ -0,0 +1,121 @@
+package com.limport.tms.presentation.rest;
+
+import com.limport.tms.application.cqrs.ICommandBus;
+import com.limport.tms.application.cqrs.IQueryBus;
+import com.limport.tms.application.service.interfaces.IExportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@ExtendWith(MockitoExtension.class)
+class ExportResponsesTest {
+
+    @Mock
+    private ICommandBus commandBus;
+
+    @Mock
+    private IQueryBus queryBus;
+
+    @Mock
+    private IExportService exportService;
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.initialize();
+        ExportResponses exportResponses = new ExportResponses(executor, Duration.ofMinutes(1), 1);
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(new AssignmentController(commandBus, queryBus, exportService, exportResponses))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void export_Ndjson_StreamsBodyOnExportExecutorWithDownloadHeaders() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportAssignments(eq(IExportService.Format.NDJSON), any());
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/assignments/export")).andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals("application/x-ndjson", response.getContentType());
+        assertEquals("attachment; filename=\"assignments.ndjson\"",
+            response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+        assertEquals("{\"id\":1}\n", response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(60_000L, started.getRequest().getAsyncContext().getTimeout());
+    }
+
+    @Test
+    void export_UnknownFormat_Answers400WithoutStartingExport() throws Exception {
+        // When
+        MockHttpServletResponse response = mockMvc.perform(get("/api/assignments/export?format=xml"))
+            .andReturn().getResponse();
+
+        // Then
+        assertEquals(400, response.getStatus());
+        verifyNoInteractions(exportService);
+    }
+
+    @Test
+    void export_LimitReached_Answers429UntilRunningExportFinishes() throws Exception {
+        // Given - one export holds the only slot
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(exportService).exportAssignments(any(), any());
+        MvcResult first = mockMvc.perform(get("/api/assignments/export")).andReturn();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // When
+        MockHttpServletResponse rejected = mockMvc.perform(get("/api/assignments/export?format=csv"))
+            .andReturn().getResponse();
+
+        // Then
+        assertEquals(429, rejected.getStatus());
+        release.countDown();
+        assertEquals(200, mockMvc.perform(asyncDispatch(first)).andReturn().getResponse().getStatus());
+        MvcResult next = mockMvc.perform(get("/api/assignments/export")).andReturn();
+        assertTrue(next.getRequest().isAsyncStarted());
+    }
+}
@@ -0,0 +1,140 @@
+package com.limport.tms.presentation.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limport.tms.application.cqrs.ICommandBus;
+import com.limport.tms.application.cqrs.IQueryBus;
+import com.limport.tms.application.dto.response.TransportRequestResponse;
+import com.limport.tms.application.query.GetResourceVersionQuery;
+import com.limport.tms.application.query.GetTransportRequestQuery;
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.port.repository.EntityVersion;
+import com.limport.tms.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@ExtendWith(MockitoExtension.class)
+class TransportRequestControllerConditionalGetTest {
+
+    private static final UUID ID = UUID.randomUUID();
+    private static final int POLLS = 100;
+
+    @Mock
+    private ICommandBus commandBus;
+
+    @Mock
+    private IQueryBus queryBus;
+
+    private MockMvc mockMvc;
+    private Instant lastUpdatedAt = Instant.parse("2026-01-01T08:00:00.123456Z");
+    private Instant bodyUpdatedAt;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new JacksonConfig().eventObjectMapper();
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(new TransportRequestController(commandBus, queryBus, null, null, null))
+            .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+            .build();
+        lenient().when(queryBus.dispatch(any(GetResourceVersionQuery.class)))
+            .thenAnswer(invocation -> new EntityVersion(ID, lastUpdatedAt));
+        lenient().when(queryBus.dispatch(any(GetTransportRequestQuery.class)))
+            .thenAnswer(invocation -> response());
+    }
+
+    @Test
+    void getById_PollingWithETag_Answers304WithoutLoadingAndSavesBytes() throws Exception {
+        // Given - the first poll fetches the body and its ETag
+        MockHttpServletResponse first = mockMvc.perform(get("/api/transport-requests/{id}", ID))
+            .andReturn().getResponse();
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertEquals(200, first.getStatus());
+        assertNotNull(etag);
+        assertEquals("no-cache, private", first.getHeader(HttpHeaders.CACHE_CONTROL));
+
+        // When - the UI keeps polling an unchanged request, conditionally and unconditionally
+        long conditionalBytes = 0;
+        long unconditionalBytes = 0;
+        for (int i = 0; i < POLLS; i++) {
+            MockHttpServletResponse polled = mockMvc.perform(get("/api/transport-requests/{id}", ID)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)).andReturn().getResponse();
+            assertEquals(304, polled.getStatus());
+            conditionalBytes += polled.getContentAsByteArray().length;
+            unconditionalBytes += first.getContentAsByteArray().length;
+        }
+
+        // Then - the body was loaded only for the first poll, and no poll re-sent it
+        verify(queryBus, times(1)).dispatch(any(GetTransportRequestQuery.class));
+        assertEquals(0, conditionalBytes);
+        assertTrue(unconditionalBytes >= POLLS * 100L, "saved " + unconditionalBytes + " body bytes");
+    }
+
+    @Test
+    void getById_ResourceChangedSinceETag_Returns200WithNewETag() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/transport-requests/{id}", ID))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When - the request is updated, then polled with the old ETag
+        lastUpdatedAt = lastUpdatedAt.plusNanos(1_000);
+        MockHttpServletResponse polled = mockMvc.perform(get("/api/transport-requests/{id}", ID)
+            .header(HttpHeaders.IF_NONE_MATCH, etag)).andReturn().getResponse();
+
+        // Then
+        assertEquals(200, polled.getStatus());
+        assertNotEquals(etag, polled.getHeader(HttpHeaders.ETAG));
+        assertTrue(polled.getContentAsString().contains(ID.toString()));
+    }
+
+    @Test
+    void getById_CachedBodyOlderThanLookup_Returns200WithBodyVersionHeaders() throws Exception {
+        // Given - the lookup sees 08:00:02 while the query cache still holds the 08:00:01 body
+        lastUpdatedAt = Instant.parse("2026-01-01T08:00:02Z");
+        bodyUpdatedAt = Instant.parse("2026-01-01T08:00:01Z");
+
+        // When
+        MockHttpServletResponse polled = mockMvc.perform(get("/api/transport-requests/{id}", ID))
+            .andReturn().getResponse();
+
+        // Then - the validators describe the stale body, not the newer lookup
+        assertEquals(200, polled.getStatus());
+        assertEquals(ConditionalResponses.etag(new EntityVersion(ID, bodyUpdatedAt)), polled.getHeader(HttpHeaders.ETAG));
+        assertEquals(bodyUpdatedAt.toEpochMilli(), polled.getDateHeader(HttpHeaders.LAST_MODIFIED));
+        assertEquals(1, polled.getHeaders(HttpHeaders.ETAG).size());
+
+        // And once the cache entry is refreshed, the stale ETag no longer matches
+        bodyUpdatedAt = null;
+        MockHttpServletResponse next = mockMvc.perform(get("/api/transport-requests/{id}", ID)
+            .header(HttpHeaders.IF_NONE_MATCH, polled.getHeader(HttpHeaders.ETAG))).andReturn().getResponse();
+        assertEquals(200, next.getStatus());
+        assertEquals(ConditionalResponses.etag(new EntityVersion(ID, lastUpdatedAt)), next.getHeader(HttpHeaders.ETAG));
+    }
+
+    private TransportRequestResponse response() {
+        TransportRequestResponse response = new TransportRequestResponse();
+        response.setId(ID);
+        response.setReference("TR-1");
+        response.setCustomerId("customer-1");
+        response.setOriginLocationCode("JNB");
+        response.setDestinationLocationCode("CPT");
+        response.setStatus(TransportRequestStatus.REQUESTED);
+        response.setCreatedAt(Instant.parse("2026-01-01T07:00:00Z"));
+        response.setLastUpdatedAt(bodyUpdatedAt != null ? bodyUpdatedAt : lastUpdatedAt);
+        return response;
+    }
+}
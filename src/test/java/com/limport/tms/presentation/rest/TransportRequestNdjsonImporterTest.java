@@ -0,0 +1,125 @@
+package com.limport.tms.presentation.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limport.tms.application.command.CreateTransportRequestsBatchCommand;
+import com.limport.tms.application.cqrs.ICommandBus;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse;
+import com.limport.tms.application.dto.response.BatchCreateTransportRequestsResponse.ItemResult;
+import com.limport.tms.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransportRequestNdjsonImporterTest {
+
+    private static final String ITEM = "{\"customerId\":\"c-1\",\"originLocationCode\":\"JNB\","
+        + "\"destinationLocationCode\":\"CPT\",\"totalWeight\":10,\"totalPackages\":1}";
+
+    @Mock
+    private ICommandBus commandBus;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().eventObjectMapper();
+    private TransportRequestNdjsonImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importer = new TransportRequestNdjsonImporter(commandBus, objectMapper, Runnable::run, 2, 200);
+    }
+
+    @Test
+    void importStream_MixedLines_WritesOneResultPerLineInOrderAndSummary() throws Exception {
+        // Given - five non-blank lines, one malformed, one blank; chunks of two
+        when(commandBus.dispatch(any(CreateTransportRequestsBatchCommand.class))).thenAnswer(invocation -> {
+            CreateTransportRequestsBatchCommand command = invocation.getArgument(0);
+            List<ItemResult> results = new ArrayList<>();
+            for (int i = 0; i < command.getItems().size(); i++) {
+                results.add(ItemResult.created(i, UUID.randomUUID(), "TR-" + i));
+            }
+            return new BatchCreateTransportRequestsResponse(results);
+        });
+        String body = String.join("\n", ITEM, "{not json", ITEM, "", ITEM, ITEM) + "\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        importer.importStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out);
+
+        // Then
+        List<JsonNode> lines = readLines(out);
+        assertEquals(6, lines.size());
+        assertEquals(List.of(1, 2, 3, 5, 6), lines.subList(0, 5).stream().map(n -> n.get("line").asInt()).toList());
+        assertEquals("REJECTED", lines.get(1).get("status").asText());
+        assertTrue(lines.get(1).get("errors").get(0).asText().startsWith("malformed JSON"));
+        assertEquals("CREATED", lines.get(4).get("status").asText());
+
+        JsonNode summary = lines.get(5).get("summary");
+        assertEquals(6, summary.get("lines").asInt());
+        assertEquals(4, summary.get("created").asInt());
+        assertEquals(1, summary.get("rejected").asInt());
+        verify(commandBus, times(3)).dispatch(any(CreateTransportRequestsBatchCommand.class));
+    }
+
+    @Test
+    void importStream_ChunkDispatchFails_MarksChunkFailedAndContinues() throws Exception {
+        // Given - the first chunk fails, the second succeeds
+        when(commandBus.dispatch(any(CreateTransportRequestsBatchCommand.class)))
+            .thenThrow(new IllegalStateException("database unavailable"))
+            .thenReturn(new BatchCreateTransportRequestsResponse(
+                List.of(ItemResult.created(0, UUID.randomUUID(), "TR-0"))));
+        String body = String.join("\n", ITEM, ITEM, ITEM);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        importer.importStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out);
+
+        // Then
+        List<JsonNode> lines = readLines(out);
+        assertEquals("FAILED", lines.get(0).get("status").asText());
+        assertEquals("FAILED", lines.get(1).get("status").asText());
+        assertEquals("CREATED", lines.get(2).get("status").asText());
+        assertEquals(2, lines.get(3).get("summary").get("failed").asInt());
+    }
+
+    @Test
+    void importStream_LineOverLengthLimit_RejectsOnlyThatLine() throws Exception {
+        // Given - a 1000-character line between two valid ones, with a limit of 200
+        UUID id = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        when(commandBus.dispatch(any(CreateTransportRequestsBatchCommand.class))).thenReturn(
+            new BatchCreateTransportRequestsResponse(List.of(ItemResult.created(0, id, "TR-0"))));
+        String body = String.join("\r\n", ITEM, "x".repeat(1000), ITEM);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        importer.importStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out);
+
+        // Then - exact bytes: one object per line, nothing between lines
+        String created = "\"status\":\"CREATED\",\"id\":\"" + id + "\",\"reference\":\"TR-0\"}\n";
+        assertEquals("{\"line\":1," + created
+                + "{\"line\":2,\"status\":\"REJECTED\",\"errors\":[\"line longer than 200 characters\"]}\n"
+                + "{\"line\":3," + created
+                + "{\"summary\":{\"lines\":3,\"created\":2,\"rejected\":1,\"failed\":0}}\n",
+            out.toString(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> readLines(ByteArrayOutputStream out) throws Exception {
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            nodes.add(objectMapper.readTree(line));
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,195 @@
+package com.limport.tms.presentation.rest;
+
+import com.limport.tms.domain.event.EventTypes;
+import com.limport.tms.domain.model.enums.TransportRequestStatus;
+import com.limport.tms.domain.port.repository.IDashboardReadModelRepository.Summary;
+import com.limport.tms.infrastructure.adapter.LocalTransportRequestUpdateRelay;
+import com.limport.tms.infrastructure.config.JacksonConfig;
+import com.limport.tms.presentation.rest.TransportRequestUpdateHub.Topic;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransportRequestUpdateHubTest {
+
+    private static final UUID REQUEST_ID = UUID.randomUUID();
+    private static final UUID PROVIDER_ID = UUID.randomUUID();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LocalTransportRequestUpdateRelay relay = new LocalTransportRequestUpdateRelay();
+
+    @Test
+    void publish_MatchingTopics_DeliversToRequestCustomerAndProviderSubscribersOnly() {
+        // Given - sends run inline
+        TransportRequestUpdateHub hub = hub(Runnable::run, 8);
+        RecordingEmitter request = register(hub, Topic.REQUEST, REQUEST_ID.toString());
+        RecordingEmitter customer = register(hub, Topic.CUSTOMER, "customer-1");
+        RecordingEmitter provider = register(hub, Topic.PROVIDER, PROVIDER_ID.toString());
+        RecordingEmitter otherCustomer = register(hub, Topic.CUSTOMER, "customer-2");
+
+        // When
+        hub.publish(EventTypes.Transport.Request.ASSIGNED, summary(), null);
+
+        // Then
+        assertEquals(1, request.sent);
+        assertEquals(1, customer.sent);
+        assertEquals(1, provider.sent);
+        assertEquals(0, otherCustomer.sent);
+    }
+
+    @Test
+    void publish_ReassignedAwayFromProvider_AlsoDeliversToPreviousProvider() {
+        // Given
+        TransportRequestUpdateHub hub = hub(Runnable::run, 8);
+        UUID previousProviderId = UUID.randomUUID();
+        RecordingEmitter previous = register(hub, Topic.PROVIDER, previousProviderId.toString());
+        RecordingEmitter current = register(hub, Topic.PROVIDER, PROVIDER_ID.toString());
+
+        // When
+        hub.publish(EventTypes.Transport.Request.ASSIGNED, summary(), previousProviderId);
+
+        // Then
+        assertEquals(1, previous.sent);
+        assertEquals(1, current.sent);
+    }
+
+    @Test
+    void publish_SubscriberOnOtherNode_DeliversThroughRelayOncePerSubscriber() {
+        // Given - two hubs sharing one relay stand in for two nodes
+        TransportRequestUpdateHub publishing = hub(Runnable::run, 8);
+        TransportRequestUpdateHub other = hub(Runnable::run, 8);
+        RecordingEmitter local = register(publishing, Topic.REQUEST, REQUEST_ID.toString());
+        RecordingEmitter remote = register(other, Topic.CUSTOMER, "customer-1");
+        RecordingEmitter unrelated = register(other, Topic.CUSTOMER, "customer-2");
+
+        // When
+        publishing.publish(EventTypes.Transport.Request.UPDATED, summary(), null);
+
+        // Then - the publishing node does not deliver its own relayed update a second time
+        assertEquals(1, local.sent);
+        assertEquals(1, remote.sent);
+        assertEquals(0, unrelated.sent);
+    }
+
+    @Test
+    void publish_SubscriberBufferFull_DisconnectsOnlyThatSubscriber() {
+        // Given - the sender never runs, so nothing leaves the buffer of two
+        List<Runnable> pendingSends = new ArrayList<>();
+        TransportRequestUpdateHub hub = hub(pendingSends::add, 2);
+        RecordingEmitter slow = register(hub, Topic.REQUEST, REQUEST_ID.toString());
+        RecordingEmitter other = register(hub, Topic.CUSTOMER, "customer-2");
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            hub.publish(EventTypes.Transport.Request.UPDATED, summary(), null);
+        }
+
+        // Then - dropped at once, completed later by its own sender without sending the backlog
+        assertFalse(slow.completed);
+        assertFalse(other.completed);
+        assertEquals(1, hub.subscriberCount());
+        assertEquals(1.0, meterRegistry.get("tms.sse.dropped").counter().count());
+        assertEquals(1, pendingSends.size());
+
+        pendingSends.forEach(Runnable::run);
+        assertTrue(slow.completed);
+        assertEquals(0, slow.sent);
+    }
+
+    @Test
+    void publish_SubscriberStuckInSend_DropsWithoutBlockingPublisher() throws Exception {
+        // Given - the first send holds the emitter's monitor until released
+        ExecutorService sender = Executors.newSingleThreadExecutor();
+        try {
+            TransportRequestUpdateHub hub = hub(sender, 1);
+            StalledEmitter stalled = new StalledEmitter();
+            hub.register(Topic.REQUEST, REQUEST_ID.toString(), stalled);
+            hub.publish(EventTypes.Transport.Request.UPDATED, summary(), null);
+            assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+
+            // When - the second update fills the buffer, the third overflows it
+            assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+                hub.publish(EventTypes.Transport.Request.UPDATED, summary(), null);
+                hub.publish(EventTypes.Transport.Request.UPDATED, summary(), null);
+                hub.heartbeat();
+            });
+
+            // Then - dropped straight away and completed once the stuck write returns
+            assertEquals(0, hub.subscriberCount());
+            assertEquals(1.0, meterRegistry.get("tms.sse.dropped").counter().count());
+            stalled.release.countDown();
+            assertTrue(stalled.completed.await(5, TimeUnit.SECONDS));
+        } finally {
+            sender.shutdownNow();
+        }
+    }
+
+    private TransportRequestUpdateHub hub(Executor executor, int bufferSize) {
+        return new TransportRequestUpdateHub(new JacksonConfig().eventObjectMapper(), meterRegistry, relay,
+            executor, bufferSize, Duration.ofMinutes(1));
+    }
+
+    private static RecordingEmitter register(TransportRequestUpdateHub hub, Topic topic, String key) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.register(topic, key, emitter);
+        return emitter;
+    }
+
+    private static Summary summary() {
+        Instant now = Instant.parse("2026-01-01T08:00:00Z");
+        return new Summary(REQUEST_ID, "customer-1", "JNB", "CPT", TransportRequestStatus.PLANNED,
+            PROVIDER_ID, UUID.randomUUID(), now, now, now);
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private int sent;
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent++;
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Blocks in send while holding the emitter's monitor, like a write to a full socket.
+     */
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+    }
+}